@@ -145,6 +145,9 @@ public interface Interceptor {
 
 	/**
 	 * Called before a flush.
+	 * <p/>
+	 * With {@link org.hibernate.cfg.AvailableSettings#AUTO_FLUSH_CHECK_QUERY_SPACES} enabled, it is not called for
+	 * the automatic flushes which are skipped because the changes of the Session cannot affect the query.
 	 *
 	 * @param entities The entities to be flushed.
 	 *
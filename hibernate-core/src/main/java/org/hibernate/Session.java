@@ -8,6 +8,8 @@ package org.hibernate;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.Collection;
+import java.util.List;
 import javax.persistence.EntityManager;
 import javax.persistence.FlushModeType;
 import javax.persistence.criteria.CriteriaDelete;
@@ -502,6 +504,47 @@ public interface Session extends SharedSessionContract, EntityManager, Hibernate
 	 */
 	Object merge(String entityName, Object object);
 
+	/**
+	 * Merge each of the given detached instances, as {@link #merge(Object)} would, returning the persistent
+	 * instances in the same order.  The persistent instances of the given detached instances which are not yet
+	 * associated with the session are first loaded together, in batches, by entity, instead of one by one
+	 * as each instance is merged.
+	 * <p/>
+	 * Each instance is then merged on its own, with the same semantics as {@link #merge(Object)}.  Only the given
+	 * instances are loaded in batches: the persistent instances of the associated instances the merges cascade
+	 * to are loaded as usual.
+	 *
+	 * @param objects the detached or transient instances with state to be copied
+	 * @param <T> The type of the instances
+	 *
+	 * @return the updated persistent instances, in the order of the given instances
+	 */
+	<T> List<T> mergeAll(Collection<? extends T> objects);
+
+	/**
+	 * Insert the row of the given instance, or update it when a row with the same identifier already exists, with
+	 * a single statement, instead of first selecting the row as {@link #saveOrUpdate} or {@link #merge} would.
+	 * The identifier of the instance has to be assigned, and versioned entities are not supported.
+	 * <p/>
+	 * The instance does not become associated with the session, and the operation does not cascade.  The upsert
+	 * is executed when the session is flushed, in order with the insertions, and it evicts the second-level cache
+	 * regions of the entity.
+	 *
+	 * @param object a new or detached instance
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsUpsert()
+	 */
+	void upsert(Object object);
+
+	/**
+	 * Insert the row of the given instance, or update it when a row with the same identifier already exists, with
+	 * a single statement.  See {@link #upsert(Object)}.
+	 *
+	 * @param entityName The entity name
+	 * @param object a new or detached instance
+	 */
+	void upsert(String entityName, Object object);
+
 	/**
 	 * Make a transient instance persistent. This operation cascades to associated
 	 * instances if the association is mapped with {@code cascade="persist"}
@@ -80,6 +80,35 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable {
 	 */
 	void delete(String entityName, Object entity);
 
+	/**
+	 * Insert a row, or update it when a row with the same identifier already exists, with a single statement.
+	 * The identifier of the entity has to be assigned, and versioned entities are not supported.
+	 *
+	 * @param entity a new or detached instance
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsUpsert()
+	 */
+	void upsert(Object entity);
+
+	/**
+	 * Insert a row, or update it when a row with the same identifier already exists, with a single statement.
+	 * The identifier of the entity has to be assigned, and versioned entities are not supported.
+	 *
+	 * @param entityName The entityName for the entity to be upserted
+	 * @param entity a new or detached instance
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsUpsert()
+	 */
+	void upsert(String entityName, Object entity);
+
+	/**
+	 * Execute the inserts, updates and deletes this StatelessSession queued, when it queues its writes to execute
+	 * them as JDBC batches, as well as the pending JDBC batch.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATELESS_WRITE_QUEUE_SIZE
+	 */
+	void flush();
+
 	/**
 	 * Retrieve a row.
 	 *
@@ -156,7 +156,10 @@ public abstract class AbstractEntityInsertAction extends EntityAction {
 		// guard against NullPointerException
 		if ( session != null ) {
 			final EntityEntry entityEntry = session.getPersistenceContext().getEntry( getInstance() );
-			this.state = entityEntry.getLoadedState();
+			// an upserted instance is not managed
+			if ( entityEntry != null ) {
+				this.state = entityEntry.getLoadedState();
+			}
 		}
 	}
 
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.action.internal;
+
+import java.io.Serializable;
+
+import org.hibernate.HibernateException;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.Queryable;
+
+/**
+ * The action for performing an entity upsert, which inserts the row of the entity or updates the existing one.
+ * <p/>
+ * The upserted instance does not become managed.  As the row it replaces is unknown, the cache regions of the
+ * entity, of its natural id and of the collections it participates in are invalidated as for a bulk operation,
+ * while the query spaces of the entity are invalidated along with the other insertions.
+ *
+ * @see org.hibernate.Session#upsert(Object)
+ */
+public final class EntityUpsertAction extends AbstractEntityInsertAction {
+	// the upserted instance is not managed, so that it is not found again after deserialization
+	private final Object entity;
+	private final Object[] values;
+
+	private transient BulkOperationCleanupAction cacheCleanup;
+
+	/**
+	 * Constructs an EntityUpsertAction.
+	 *
+	 * @param id The entity identifier
+	 * @param state The current (extracted) entity state
+	 * @param instance The entity instance
+	 * @param persister The entity persister
+	 * @param session The session
+	 */
+	public EntityUpsertAction(
+			Serializable id,
+			Object[] state,
+			Object instance,
+			EntityPersister persister,
+			SharedSessionContractImplementor session) {
+		super( id, state, instance, false, persister, session );
+		this.entity = instance;
+		this.values = state;
+	}
+
+	@Override
+	public Object[] getState() {
+		return values;
+	}
+
+	@Override
+	public boolean isEarlyInsert() {
+		return false;
+	}
+
+	@Override
+	protected EntityKey getEntityKey() {
+		return getSession().generateEntityKey( getId(), getPersister() );
+	}
+
+	@Override
+	protected void handleNaturalIdPreSaveNotifications() {
+		// the instance does not become managed, there is no natural id cross reference to add
+	}
+
+	@Override
+	public void execute() throws HibernateException {
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+
+		if ( persister instanceof Queryable ) {
+			// locks the cache regions and removes their content until the transaction completes
+			cacheCleanup = new BulkOperationCleanupAction( session, (Queryable) persister );
+		}
+
+		persister.upsert( getId(), values, entity, session );
+
+		final SessionFactoryImplementor factory = session.getFactory();
+		if ( factory.getStatistics().isStatisticsEnabled() ) {
+			factory.getStatistics().insertEntity( persister.getEntityName() );
+		}
+
+		markExecuted();
+	}
+
+	@Override
+	public AfterTransactionCompletionProcess getAfterTransactionCompletionProcess() {
+		return cacheCleanup == null ? null : cacheCleanup.getAfterTransactionCompletionProcess();
+	}
+
+	@Override
+	protected boolean hasPostCommitEventListeners() {
+		return false;
+	}
+
+	@Override
+	public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+		// the cache regions are released by the process of the cleanup
+	}
+}
@@ -138,6 +138,16 @@ public class ExplodedArchiveDescriptor extends AbstractArchiveDescriptor {
 				public InputStreamAccess getStreamAccess() {
 					return inputStreamAccess;
 				}
+
+				@Override
+				public long getSize() {
+					return localFile.length();
+				}
+
+				@Override
+				public long getLastModified() {
+					return localFile.lastModified();
+				}
 			};
 
 			context.obtainArchiveEntryHandler( entry ).handleEntry( entry, context );
@@ -184,6 +194,21 @@ public class ExplodedArchiveDescriptor extends AbstractArchiveDescriptor {
 					public InputStreamAccess getStreamAccess() {
 						return inputStreamAccess;
 					}
+
+					@Override
+					public long getSize() {
+						return zipEntry.getSize();
+					}
+
+					@Override
+					public long getLastModified() {
+						return zipEntry.getTime();
+					}
+
+					@Override
+					public long getChecksum() {
+						return zipEntry.getCrc();
+					}
 				};
 				context.obtainArchiveEntryHandler( entry ).handleEntry( entry, context );
 			}
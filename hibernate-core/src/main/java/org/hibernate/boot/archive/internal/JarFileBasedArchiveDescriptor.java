@@ -141,6 +141,21 @@ public class JarFileBasedArchiveDescriptor extends AbstractArchiveDescriptor {
 						public InputStreamAccess getStreamAccess() {
 							return inputStreamAccess;
 						}
+
+						@Override
+						public long getSize() {
+							return zipEntry.getSize();
+						}
+
+						@Override
+						public long getLastModified() {
+							return zipEntry.getTime();
+						}
+
+						@Override
+						public long getChecksum() {
+							return zipEntry.getCrc();
+						}
 					};
 
 					final ArchiveEntryHandler entryHandler = context.obtainArchiveEntryHandler( entry );
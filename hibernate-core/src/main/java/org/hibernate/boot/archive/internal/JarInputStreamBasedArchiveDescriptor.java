@@ -118,6 +118,8 @@ public class JarInputStreamBasedArchiveDescriptor extends AbstractArchiveDescrip
 							= buildByteBasedInputStreamAccess( entryName, jarInputStream );
 
 					final String relativeName = extractRelativeName( jarEntry );
+					// read to its end above, so its size and checksum are known
+					final ZipEntry zipEntry = jarEntry;
 
 					final ArchiveEntry entry = new ArchiveEntry() {
 						@Override
@@ -134,6 +136,21 @@ public class JarInputStreamBasedArchiveDescriptor extends AbstractArchiveDescrip
 						public InputStreamAccess getStreamAccess() {
 							return inputStreamAccess;
 						}
+
+						@Override
+						public long getSize() {
+							return zipEntry.getSize();
+						}
+
+						@Override
+						public long getLastModified() {
+							return zipEntry.getTime();
+						}
+
+						@Override
+						public long getChecksum() {
+							return zipEntry.getCrc();
+						}
 					};
 
 					context.obtainArchiveEntryHandler( entry ).handleEntry( entry, context );
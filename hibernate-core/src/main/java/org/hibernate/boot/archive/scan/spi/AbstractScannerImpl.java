@@ -34,15 +34,19 @@ public abstract class AbstractScannerImpl implements Scanner {
 		final ScanResultCollector collector = new ScanResultCollector( environment, options, parameters );
 
 		if ( environment.getNonRootUrls() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( false, collector );
 			for ( URL url : environment.getNonRootUrls() ) {
+				final ArchiveContext context = new ArchiveContextImpl( false, collector, ScanIndex.locate( url ) );
 				final ArchiveDescriptor descriptor = buildArchiveDescriptor( url, environment, false );
 				descriptor.visitArchive( context );
 			}
 		}
 
 		if ( environment.getRootUrl() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( true, collector );
+			final ArchiveContext context = new ArchiveContextImpl(
+					true,
+					collector,
+					ScanIndex.locate( environment.getRootUrl() )
+			);
 			final ArchiveDescriptor descriptor = buildArchiveDescriptor( environment.getRootUrl(), environment, true );
 			descriptor.visitArchive( context );
 		}
@@ -113,9 +117,19 @@ public abstract class AbstractScannerImpl implements Scanner {
 		private final ArchiveEntryHandler fileEntryHandler;
 
 		public ArchiveContextImpl(boolean isRootUrl, ScanResultCollector scanResultCollector) {
+			this( isRootUrl, scanResultCollector, null );
+		}
+
+		/**
+		 * @param scanIndex The index of the archive, if any; when non-null class files are
+		 * categorized through the index rather than read.
+		 */
+		public ArchiveContextImpl(boolean isRootUrl, ScanResultCollector scanResultCollector, ScanIndex scanIndex) {
 			this.isRootUrl = isRootUrl;
 
-			this.classEntryHandler = new ClassFileArchiveEntryHandler( scanResultCollector );
+			this.classEntryHandler = scanIndex == null
+					? new ClassFileArchiveEntryHandler( scanResultCollector )
+					: new IndexedClassFileArchiveEntryHandler( scanResultCollector, scanIndex );
 			this.packageEntryHandler = new PackageInfoArchiveEntryHandler( scanResultCollector );
 			this.fileEntryHandler = new NonClassFileArchiveEntryHandler( scanResultCollector );
 		}
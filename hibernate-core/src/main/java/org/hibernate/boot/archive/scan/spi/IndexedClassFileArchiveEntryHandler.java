@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.spi;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.hibernate.boot.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.ScanResultCollector;
+import org.hibernate.boot.archive.spi.ArchiveContext;
+import org.hibernate.boot.archive.spi.ArchiveEntry;
+import org.hibernate.boot.archive.spi.ArchiveException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Handling for class file entries within an archive having a {@link ScanIndex}.  Unlike
+ * {@link ClassFileArchiveEntryHandler}, the class files are not parsed; they are categorized
+ * through the index instead.  Class files which are not part of the index or have changed
+ * since the index was written are parsed as usual.
+ * <p/>
+ * Whether a class file changed is determined from the metadata of its archive entry, the
+ * checksum recorded by jar files or the size and modification time of files; the class file
+ * is only read to compute its checksum when the metadata differs from the index.
+ */
+public class IndexedClassFileArchiveEntryHandler extends ClassFileArchiveEntryHandler {
+	private static final Logger log = Logger.getLogger( IndexedClassFileArchiveEntryHandler.class );
+
+	private final ScanResultCollector resultCollector;
+	private final ScanIndex scanIndex;
+
+	public IndexedClassFileArchiveEntryHandler(ScanResultCollector resultCollector, ScanIndex scanIndex) {
+		super( resultCollector );
+		this.resultCollector = resultCollector;
+		this.scanIndex = scanIndex;
+	}
+
+	@Override
+	public void handleEntry(ArchiveEntry entry, ArchiveContext context) {
+		String nameWithinArchive = entry.getNameWithinArchive();
+		if ( nameWithinArchive.startsWith( "/" ) ) {
+			nameWithinArchive = nameWithinArchive.substring( 1 );
+		}
+		final String className = nameWithinArchive.substring( 0, nameWithinArchive.length() - ".class".length() )
+				.replace( '/', '.' );
+
+		final ScanIndex.IndexedClass indexedClass = scanIndex.getIndexedClass( className );
+		if ( indexedClass == null || !isUnchanged( entry, indexedClass ) ) {
+			log.debugf( "Class [%s] is missing from or changed since the scan index, reading it", className );
+			super.handleEntry( entry, context );
+			return;
+		}
+
+		final ClassDescriptor.Categorization categorization = indexedClass.getCategorization();
+		if ( categorization == ClassDescriptor.Categorization.OTHER ) {
+			return;
+		}
+
+		resultCollector.handleClass(
+				new ClassDescriptorImpl( className, categorization, entry.getStreamAccess() ),
+				context.isRootUrl()
+		);
+	}
+
+	private boolean isUnchanged(ArchiveEntry entry, ScanIndex.IndexedClass indexedClass) {
+		final long archivedChecksum = entry.getChecksum();
+		if ( archivedChecksum != -1 ) {
+			// zip files record the same CRC-32 checksum as the index
+			return archivedChecksum == indexedClass.getChecksum();
+		}
+		if ( entry.getSize() != -1 && entry.getSize() == indexedClass.getSize()
+				&& entry.getLastModified() > 0 && entry.getLastModified() == indexedClass.getLastModified() ) {
+			return true;
+		}
+		return checksum( entry ) == indexedClass.getChecksum();
+	}
+
+	private long checksum(ArchiveEntry entry) {
+		final InputStream inputStream = entry.getStreamAccess().accessInputStream();
+		try {
+			return ScanIndex.checksum( inputStream );
+		}
+		catch (IOException e) {
+			throw new ArchiveException( "Could not read class file " + entry.getNameWithinArchive(), e );
+		}
+		finally {
+			try {
+				inputStream.close();
+			}
+			catch (IOException ignore) {
+			}
+		}
+	}
+}
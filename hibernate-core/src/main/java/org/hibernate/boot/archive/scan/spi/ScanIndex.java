@@ -0,0 +1,288 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.spi;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.hibernate.Version;
+import org.hibernate.boot.archive.spi.ArchiveException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A build-time index of the classes of an archive along with their {@link ClassDescriptor.Categorization},
+ * stored in the archive as {@link #INDEX_RESOURCE_NAME}.
+ * <p/>
+ * When an archive contains such an index, scanning uses it instead of parsing every class file of the
+ * archive.  Each class is recorded with a CRC-32 checksum, the size and the last modification time of its
+ * class file.  A class file is taken as unchanged when the archive records the same checksum, as jar files
+ * do, or otherwise when it has the same size and modification time; only when these differ is the class
+ * file read to compare its checksum.  A class file which is not part of the index or whose checksum does
+ * not match (e.g. recompiled after the index was written) is parsed as usual.  An index written by a
+ * different Hibernate version is ignored altogether.
+ */
+public class ScanIndex {
+	private static final Logger log = Logger.getLogger( ScanIndex.class );
+
+	/**
+	 * The name of the index resource, relative to the archive root.
+	 */
+	public static final String INDEX_RESOURCE_NAME = "META-INF/hibernate-scan.idx";
+
+	private static final String HEADER_PREFIX = "#hibernate-scan-index ";
+
+	private final Map<String, IndexedClass> indexedClassesByName = new HashMap<>();
+
+	/**
+	 * Add a class to this index, whose class file size and modification time are unknown.
+	 *
+	 * @param className The class name
+	 * @param categorization The categorization of the class
+	 * @param checksum The checksum of the class file, see {@link #checksum}
+	 */
+	public void addClass(String className, ClassDescriptor.Categorization categorization, long checksum) {
+		addClass( className, categorization, checksum, -1, -1 );
+	}
+
+	/**
+	 * Add a class to this index.  Used at build time.
+	 *
+	 * @param className The class name
+	 * @param categorization The categorization of the class
+	 * @param checksum The checksum of the class file, see {@link #checksum}
+	 * @param size The size of the class file, or {@code -1} if unknown
+	 * @param lastModified The modification time of the class file, or {@code -1} if unknown
+	 */
+	public void addClass(
+			String className,
+			ClassDescriptor.Categorization categorization,
+			long checksum,
+			long size,
+			long lastModified) {
+		indexedClassesByName.put( className, new IndexedClass( categorization, checksum, size, lastModified ) );
+	}
+
+	/**
+	 * Get the index entry of the named class.
+	 *
+	 * @param className The class name
+	 *
+	 * @return The index entry, or {@code null} if the class is not part of the index.
+	 */
+	public IndexedClass getIndexedClass(String className) {
+		return indexedClassesByName.get( className );
+	}
+
+	public Map<String, IndexedClass> getIndexedClassesByName() {
+		return Collections.unmodifiableMap( indexedClassesByName );
+	}
+
+	/**
+	 * Compute the checksum of a class file as recorded in the index.
+	 *
+	 * @param stream The content of the class file; not closed
+	 *
+	 * @return The CRC-32 checksum of the content
+	 *
+	 * @throws IOException Indicates a problem reading the stream
+	 */
+	public static long checksum(InputStream stream) throws IOException {
+		final CRC32 crc = new CRC32();
+		final byte[] buffer = new byte[8192];
+		int read;
+		while ( ( read = stream.read( buffer ) ) != -1 ) {
+			crc.update( buffer, 0, read );
+		}
+		return crc.getValue();
+	}
+
+	/**
+	 * The categorization and class file checksum, size and modification time of an indexed class.
+	 */
+	public static class IndexedClass {
+		private final ClassDescriptor.Categorization categorization;
+		private final long checksum;
+		private final long size;
+		private final long lastModified;
+
+		public IndexedClass(ClassDescriptor.Categorization categorization, long checksum, long size, long lastModified) {
+			this.categorization = categorization;
+			this.checksum = checksum;
+			this.size = size;
+			this.lastModified = lastModified;
+		}
+
+		public ClassDescriptor.Categorization getCategorization() {
+			return categorization;
+		}
+
+		public long getChecksum() {
+			return checksum;
+		}
+
+		public long getSize() {
+			return size;
+		}
+
+		public long getLastModified() {
+			return lastModified;
+		}
+	}
+
+	/**
+	 * Locate and read the index of the archive identified by the given URL.
+	 *
+	 * @param archiveUrl The archive URL
+	 *
+	 * @return The index, or {@code null} if the archive has no usable index.
+	 */
+	public static ScanIndex locate(URL archiveUrl) {
+		final URL indexUrl = resolveIndexUrl( archiveUrl );
+		if ( indexUrl == null ) {
+			return null;
+		}
+
+		final InputStream stream;
+		try {
+			final URLConnection connection = indexUrl.openConnection();
+			// do not keep the archive open through the JarURLConnection cache
+			connection.setUseCaches( false );
+			stream = connection.getInputStream();
+		}
+		catch (IOException e) {
+			// no index
+			return null;
+		}
+
+		try {
+			return read( stream, archiveUrl );
+		}
+		finally {
+			try {
+				stream.close();
+			}
+			catch (IOException ignore) {
+			}
+		}
+	}
+
+	private static URL resolveIndexUrl(URL archiveUrl) {
+		try {
+			if ( "file".equals( archiveUrl.getProtocol() ) ) {
+				final File file = new File( archiveUrl.toURI().getSchemeSpecificPart() );
+				if ( file.isDirectory() ) {
+					return new File( file, INDEX_RESOURCE_NAME ).toURI().toURL();
+				}
+				return new URL( "jar:" + archiveUrl.toExternalForm() + "!/" + INDEX_RESOURCE_NAME );
+			}
+			else if ( "jar".equals( archiveUrl.getProtocol() ) ) {
+				final String externalForm = archiveUrl.toExternalForm();
+				final int separatorPosition = externalForm.indexOf( "!/" );
+				if ( separatorPosition == -1 ) {
+					return new URL( externalForm + "!/" + INDEX_RESOURCE_NAME );
+				}
+				if ( separatorPosition + 2 == externalForm.length() ) {
+					return new URL( externalForm + INDEX_RESOURCE_NAME );
+				}
+			}
+		}
+		catch (URISyntaxException | MalformedURLException e) {
+			log.debugf( "Unable to resolve scan index URL for archive [%s]", archiveUrl );
+		}
+
+		// nested archive entries, vfs, etc : no index support
+		return null;
+	}
+
+	private static ScanIndex read(InputStream stream, URL archiveUrl) {
+		final ScanIndex index = new ScanIndex();
+		try {
+			final BufferedReader reader = new BufferedReader( new InputStreamReader( stream, StandardCharsets.UTF_8 ) );
+			final String header = reader.readLine();
+			if ( header == null || !header.equals( HEADER_PREFIX + Version.getVersionString() ) ) {
+				log.debugf(
+						"Ignoring scan index of archive [%s] written by a different Hibernate version : %s",
+						archiveUrl,
+						header
+				);
+				return null;
+			}
+
+			String line;
+			while ( ( line = reader.readLine() ) != null ) {
+				if ( line.isEmpty() ) {
+					continue;
+				}
+				final String[] parts = line.split( " " );
+				if ( parts.length != 5 ) {
+					throw new ArchiveException( "Malformed scan index entry [" + line + "] in archive : " + archiveUrl );
+				}
+				try {
+					index.addClass(
+							parts[4],
+							ClassDescriptor.Categorization.valueOf( parts[0] ),
+							Long.parseLong( parts[1], 16 ),
+							Long.parseLong( parts[2] ),
+							Long.parseLong( parts[3] )
+					);
+				}
+				catch (IllegalArgumentException e) {
+					throw new ArchiveException( "Malformed scan index entry [" + line + "] in archive : " + archiveUrl, e );
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new ArchiveException( "Could not read scan index of archive : " + archiveUrl, e );
+		}
+
+		log.debugf( "Using scan index of archive [%s] : %s classes", archiveUrl, index.indexedClassesByName.size() );
+		return index;
+	}
+
+	/**
+	 * Write out this index.  Used at build time.
+	 *
+	 * @param stream The stream to write to; not closed
+	 *
+	 * @throws IOException Indicates a problem writing to the stream
+	 */
+	public void write(OutputStream stream) throws IOException {
+		final Writer writer = new BufferedWriter( new OutputStreamWriter( stream, StandardCharsets.UTF_8 ) );
+		writer.write( HEADER_PREFIX + Version.getVersionString() );
+		writer.write( '\n' );
+		for ( Map.Entry<String, IndexedClass> entry : indexedClassesByName.entrySet() ) {
+			writer.write( entry.getValue().getCategorization().name() );
+			writer.write( ' ' );
+			writer.write( Long.toHexString( entry.getValue().getChecksum() ) );
+			writer.write( ' ' );
+			writer.write( Long.toString( entry.getValue().getSize() ) );
+			writer.write( ' ' );
+			writer.write( Long.toString( entry.getValue().getLastModified() ) );
+			writer.write( ' ' );
+			writer.write( entry.getKey() );
+			writer.write( '\n' );
+		}
+		writer.flush();
+	}
+}
@@ -33,4 +33,31 @@ public interface ArchiveEntry {
 	 * @return Obtain stream access to the entry
 	 */
 	public InputStreamAccess getStreamAccess();
+
+	/**
+	 * Get the size of the entry's content, if known without reading it
+	 *
+	 * @return The size in bytes, or {@code -1} if unknown
+	 */
+	default long getSize() {
+		return -1;
+	}
+
+	/**
+	 * Get the last modification time of the entry, if known
+	 *
+	 * @return The modification time in milliseconds since the epoch, or {@code -1} if unknown
+	 */
+	default long getLastModified() {
+		return -1;
+	}
+
+	/**
+	 * Get the CRC-32 checksum of the entry's content recorded by the archive, as zip files do
+	 *
+	 * @return The checksum, or {@code -1} if unknown
+	 */
+	default long getChecksum() {
+		return -1;
+	}
 }
@@ -564,6 +564,12 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		private boolean wrapResultSetsEnabled;
 		private TimeZone jdbcTimeZone;
 		private boolean queryParametersValidationEnabled;
+		private int nPlusOneSelectThreshold;
+		private boolean incrementalFlushEnabled;
+		private boolean autoFlushQuerySpacesCheckEnabled;
+		private int statelessWriteQueueSize;
+		private boolean inPlaceBagUpdatesEnabled;
+		private int extraLazyPageSize;
 
 		private Map<String, SQLFunction> sqlFunctions;
 
@@ -776,6 +782,42 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 					configurationSettings,
 					true
 			);
+
+			this.nPlusOneSelectThreshold = ConfigurationHelper.getInt(
+					N_PLUS_ONE_SELECT_THRESHOLD,
+					configurationSettings,
+					0
+			);
+
+			this.incrementalFlushEnabled = ConfigurationHelper.getBoolean(
+					INCREMENTAL_FLUSH,
+					configurationSettings,
+					false
+			);
+
+			this.autoFlushQuerySpacesCheckEnabled = ConfigurationHelper.getBoolean(
+					AUTO_FLUSH_CHECK_QUERY_SPACES,
+					configurationSettings,
+					false
+			);
+
+			this.statelessWriteQueueSize = ConfigurationHelper.getInt(
+					STATELESS_WRITE_QUEUE_SIZE,
+					configurationSettings,
+					0
+			);
+
+			this.inPlaceBagUpdatesEnabled = ConfigurationHelper.getBoolean(
+					IN_PLACE_BAG_UPDATES,
+					configurationSettings,
+					false
+			);
+
+			this.extraLazyPageSize = ConfigurationHelper.getInt(
+					EXTRA_LAZY_PAGE_SIZE,
+					configurationSettings,
+					0
+			);
 		}
 
 		private static Interceptor determineInterceptor(Map configurationSettings, StrategySelector strategySelector) {
@@ -1216,6 +1258,36 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		public boolean isQueryParametersValidationEnabled() {
 			return this.queryParametersValidationEnabled;
 		}
+
+		@Override
+		public int getNPlusOneSelectThreshold() {
+			return this.nPlusOneSelectThreshold;
+		}
+
+		@Override
+		public boolean isIncrementalFlushEnabled() {
+			return this.incrementalFlushEnabled;
+		}
+
+		@Override
+		public boolean isAutoFlushQuerySpacesCheckEnabled() {
+			return this.autoFlushQuerySpacesCheckEnabled;
+		}
+
+		@Override
+		public int getStatelessWriteQueueSize() {
+			return this.statelessWriteQueueSize;
+		}
+
+		@Override
+		public boolean isInPlaceBagUpdatesEnabled() {
+			return this.inPlaceBagUpdatesEnabled;
+		}
+
+		@Override
+		public int getExtraLazyPageSize() {
+			return this.extraLazyPageSize;
+		}
 	}
 
 	@Override
@@ -1544,4 +1616,34 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 	public boolean isQueryParametersValidationEnabled() {
 		return options.isQueryParametersValidationEnabled();
 	}
+
+	@Override
+	public int getNPlusOneSelectThreshold() {
+		return options.getNPlusOneSelectThreshold();
+	}
+
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return options.isIncrementalFlushEnabled();
+	}
+
+	@Override
+	public boolean isAutoFlushQuerySpacesCheckEnabled() {
+		return options.isAutoFlushQuerySpacesCheckEnabled();
+	}
+
+	@Override
+	public int getStatelessWriteQueueSize() {
+		return options.getStatelessWriteQueueSize();
+	}
+
+	@Override
+	public boolean isInPlaceBagUpdatesEnabled() {
+		return options.isInPlaceBagUpdatesEnabled();
+	}
+
+	@Override
+	public int getExtraLazyPageSize() {
+		return options.getExtraLazyPageSize();
+	}
 }
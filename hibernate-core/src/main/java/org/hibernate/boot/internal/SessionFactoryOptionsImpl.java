@@ -127,6 +127,12 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 
 	private final Map<String, SQLFunction> sqlFunctions;
 	private boolean queryParametersValidationEnabled;
+	private final int nPlusOneSelectThreshold;
+	private final boolean incrementalFlushEnabled;
+	private final boolean autoFlushQuerySpacesCheckEnabled;
+	private final int statelessWriteQueueSize;
+	private final boolean inPlaceBagUpdatesEnabled;
+	private final int extraLazyPageSize;
 
 	public SessionFactoryOptionsImpl(SessionFactoryOptionsState state) {
 		this.serviceRegistry = state.getServiceRegistry();
@@ -207,6 +213,13 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		this.jdbcTimeZone = state.getJdbcTimeZone();
 
 		this.queryParametersValidationEnabled = state.isQueryParametersValidationEnabled();
+
+		this.nPlusOneSelectThreshold = state.getNPlusOneSelectThreshold();
+		this.incrementalFlushEnabled = state.isIncrementalFlushEnabled();
+		this.autoFlushQuerySpacesCheckEnabled = state.isAutoFlushQuerySpacesCheckEnabled();
+		this.statelessWriteQueueSize = state.getStatelessWriteQueueSize();
+		this.inPlaceBagUpdatesEnabled = state.isInPlaceBagUpdatesEnabled();
+		this.extraLazyPageSize = state.getExtraLazyPageSize();
 	}
 
 	@Override
@@ -542,4 +555,34 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 	public boolean isQueryParametersValidationEnabled() {
 		return queryParametersValidationEnabled;
 	}
+
+	@Override
+	public int getNPlusOneSelectThreshold() {
+		return nPlusOneSelectThreshold;
+	}
+
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return incrementalFlushEnabled;
+	}
+
+	@Override
+	public boolean isAutoFlushQuerySpacesCheckEnabled() {
+		return autoFlushQuerySpacesCheckEnabled;
+	}
+
+	@Override
+	public int getStatelessWriteQueueSize() {
+		return statelessWriteQueueSize;
+	}
+
+	@Override
+	public boolean isInPlaceBagUpdatesEnabled() {
+		return inPlaceBagUpdatesEnabled;
+	}
+
+	@Override
+	public int getExtraLazyPageSize() {
+		return extraLazyPageSize;
+	}
 }
@@ -178,4 +178,16 @@ public interface SessionFactoryOptionsState {
 	TimeZone getJdbcTimeZone();
 
 	boolean isQueryParametersValidationEnabled();
+
+	int getNPlusOneSelectThreshold();
+
+	boolean isIncrementalFlushEnabled();
+
+	boolean isAutoFlushQuerySpacesCheckEnabled();
+
+	int getStatelessWriteQueueSize();
+
+	boolean isInPlaceBagUpdatesEnabled();
+
+	int getExtraLazyPageSize();
 }
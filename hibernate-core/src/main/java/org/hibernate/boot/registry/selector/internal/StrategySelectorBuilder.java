@@ -67,6 +67,8 @@ import org.hibernate.dialect.SybaseASE15Dialect;
 import org.hibernate.dialect.SybaseAnywhereDialect;
 import org.hibernate.dialect.TeradataDialect;
 import org.hibernate.dialect.TimesTenDialect;
+import org.hibernate.engine.jdbc.internal.HistogramJdbcInstrumentation;
+import org.hibernate.engine.jdbc.spi.JdbcInstrumentation;
 import org.hibernate.engine.transaction.jta.platform.internal.BitronixJtaPlatform;
 import org.hibernate.engine.transaction.jta.platform.internal.BorlandEnterpriseServerJtaPlatform;
 import org.hibernate.engine.transaction.jta.platform.internal.JBossAppServerJtaPlatform;
@@ -163,6 +165,7 @@ public class StrategySelectorBuilder {
 		addEntityCopyObserverStrategies( strategySelector );
 		addImplicitNamingStrategies( strategySelector );
 		addCacheKeysFactories( strategySelector );
+		addJdbcInstrumentations( strategySelector );
 
 		// apply auto-discovered registrations
 		for ( StrategyRegistrationProvider provider : classLoaderService.loadJavaServices( StrategyRegistrationProvider.class ) ) {
@@ -463,4 +466,12 @@ public class StrategySelectorBuilder {
 			SimpleCacheKeysFactory.class
 		);
 	}
+
+	private void addJdbcInstrumentations(StrategySelectorImpl strategySelector) {
+		strategySelector.registerStrategyImplementor(
+				JdbcInstrumentation.class,
+				HistogramJdbcInstrumentation.SHORT_NAME,
+				HistogramJdbcInstrumentation.class
+		);
+	}
 }
@@ -379,4 +379,34 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 	public boolean isQueryParametersValidationEnabled() {
 		return delegate.isQueryParametersValidationEnabled();
 	}
+
+	@Override
+	public int getNPlusOneSelectThreshold() {
+		return delegate.getNPlusOneSelectThreshold();
+	}
+
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return delegate.isIncrementalFlushEnabled();
+	}
+
+	@Override
+	public boolean isAutoFlushQuerySpacesCheckEnabled() {
+		return delegate.isAutoFlushQuerySpacesCheckEnabled();
+	}
+
+	@Override
+	public int getStatelessWriteQueueSize() {
+		return delegate.getStatelessWriteQueueSize();
+	}
+
+	@Override
+	public boolean isInPlaceBagUpdatesEnabled() {
+		return delegate.isInPlaceBagUpdatesEnabled();
+	}
+
+	@Override
+	public int getExtraLazyPageSize() {
+		return delegate.getExtraLazyPageSize();
+	}
 }
@@ -223,4 +223,71 @@ public interface SessionFactoryOptions {
 	default boolean isQueryParametersValidationEnabled(){
 		return isJpaBootstrap();
 	}
+
+	/**
+	 * The number of lazy loads of the same entity or collection role from the same call site, within a Session,
+	 * from which an N+1 select is reported.
+	 *
+	 * @return The threshold, or {@code 0} if N+1 selects are not detected
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+	 */
+	default int getNPlusOneSelectThreshold() {
+		return 0;
+	}
+
+	/**
+	 * Should flushes skip the bytecode enhanced entities which were not changed since the previous flush?
+	 *
+	 * @return {@code true} if flushes are incremental
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#INCREMENTAL_FLUSH
+	 */
+	default boolean isIncrementalFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should automatic flushes be skipped when the changes of the Session cannot affect the tables of the query?
+	 *
+	 * @return {@code true} if automatic flushes first check the query spaces
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#AUTO_FLUSH_CHECK_QUERY_SPACES
+	 */
+	default boolean isAutoFlushQuerySpacesCheckEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of writes a StatelessSession queues before executing them.
+	 *
+	 * @return The size of the write queue of StatelessSessions, {@code 0} meaning writes are executed right away
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATELESS_WRITE_QUEUE_SIZE
+	 */
+	default int getStatelessWriteQueueSize() {
+		return 0;
+	}
+
+	/**
+	 * Should bags without an identifier be updated by diffing their elements, rather than recreated?
+	 *
+	 * @return {@code true} if bags are updated in place
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_PLACE_BAG_UPDATES
+	 */
+	default boolean isInPlaceBagUpdatesEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of rows an extra-lazy collection reads at a time when iterated.
+	 *
+	 * @return The page size, {@code 0} meaning iterating initializes the collection
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#EXTRA_LAZY_PAGE_SIZE
+	 */
+	default int getExtraLazyPageSize() {
+		return 0;
+	}
 }
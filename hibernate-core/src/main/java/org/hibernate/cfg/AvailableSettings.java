@@ -1678,4 +1678,228 @@ public interface AvailableSettings {
 	 *
 	 */
 	String VALIDATE_QUERY_PARAMETERS = "hibernate.query.validate_parameters";
+
+	/**
+	 * Setting which indicates whether the static SQL and loaders of the entity and collection persisters
+	 * ({@link org.hibernate.persister.entity.EntityPersister#postInstantiate()} and
+	 * {@link org.hibernate.persister.collection.CollectionPersister#postInstantiate()}) should be built
+	 * concurrently when the SessionFactory is built.  Entity persisters of the same hierarchy are still
+	 * initialized one after the other, and collection persisters only after all entity persisters.  Custom
+	 * persisters must then support being post-instantiated concurrently with the other persisters, only
+	 * writing to their own state.
+	 * <p/>
+	 * Default is {@code false}.
+	 *
+	 * @since 5.2.11
+	 */
+	String PARALLEL_PERSISTER_INITIALIZATION = "hibernate.persister.parallel_initialization";
+
+	/**
+	 * Setting which indicates whether entity persisters should build their static loaders (one per
+	 * {@link org.hibernate.LockMode}, internal fetch profile and unique key) on first use instead of
+	 * eagerly while the SessionFactory is built.  Large domain models typically only ever use a small
+	 * fraction of these loaders, so deferring them shortens bootstrap and reduces memory.  The number of
+	 * loaders built on first use is reported by {@link org.hibernate.stat.Statistics#getEntityLoaderCreationCount()}.
+	 * <p/>
+	 * Default is {@code false}.
+	 *
+	 * @since 5.2.11
+	 */
+	String LAZY_PERSISTER_LOADERS = "hibernate.persister.lazy_loaders";
+
+	/**
+	 * Maximum number of PreparedStatements each Session keeps open against its JDBC Connection for
+	 * reuse, keyed by SQL and result set type.  Cached statements are reset and kept when released
+	 * rather than closed, and are closed when the Connection is released.  Useful when neither the
+	 * connection pool nor the driver caches statements.  Callable statements are never cached.
+	 * <p/>
+	 * Default is {@code 0}, which disables the cache.
+	 *
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()
+	 * @since 5.2.11
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
+	/**
+	 * Setting which indicates whether full JDBC batches (see {@link #STATEMENT_BATCH_SIZE}) should be executed
+	 * on a separate I/O thread while the flushing thread carries on preparing the following entity actions.
+	 * The JDBC Connection is still never used by two threads at a time.  Failures of a batch are reported
+	 * when the flushing thread next needs the Connection, at the latest at the end of the flush.
+	 * <p/>
+	 * Not meant for JTA environments in which the Connection may only be used from the thread the
+	 * transaction is associated with.
+	 * <p/>
+	 * Default is {@code false}.
+	 *
+	 * @since 5.2.11
+	 */
+	String STATEMENT_BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * Setting which indicates whether the JDBC Connection of a read-only Session (see
+	 * {@link org.hibernate.Session#setDefaultReadOnly}) should be released after each statement, once its
+	 * ResultSet has been fully consumed, as long as no transaction is active.  The Connection is acquired again
+	 * when next needed.  This shortens how long Connections are held by read-only requests interleaving queries
+	 * with long computations, at the cost of more frequent acquisitions from the pool.
+	 * <p/>
+	 * Ignored when the Connections provided have auto-commit disabled (see {@link #CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT})
+	 * or are acquired immediately.
+	 * <p/>
+	 * Default is {@code false}.
+	 *
+	 * @since 5.2.11
+	 */
+	String RELEASE_CONNECTION_AFTER_READ_ONLY_STATEMENT = "hibernate.connection.release_after_read_only_statement";
+
+	/**
+	 * Names the {@link org.hibernate.engine.jdbc.spi.JdbcInstrumentation} receiving the timings of the JDBC
+	 * operations (Connection acquisition and hold, statement preparation and execution, batches and fetched rows).
+	 * Can be an instance, a class or a class name, or {@code histogram} for the bundled implementation recording
+	 * histograms, which is exposed through JMX when {@link #JMX_ENABLED} is set.
+	 * <p/>
+	 * Default is none.
+	 *
+	 * @since 5.2.11
+	 */
+	String JDBC_INSTRUMENTATION = "hibernate.jdbc.instrumentation";
+
+	/**
+	 * The execution time, in milliseconds, above which a JDBC statement is logged as slow under the
+	 * {@code org.hibernate.SQL_SLOW} category, along with the originating query, the types of its parameters
+	 * and the calling code.  Slow statements are also aggregated by SQL, see
+	 * {@link org.hibernate.engine.jdbc.spi.SlowQueryLogger#getSlowQueries()}.
+	 * <p/>
+	 * Default is {@code 0}, meaning slow statements are not detected.
+	 *
+	 * @since 5.2.11
+	 */
+	String LOG_SLOW_QUERY = "hibernate.jdbc.log_slow_query";
+
+	/**
+	 * For how many occurrences of each slow SQL statement (see {@link #LOG_SLOW_QUERY}) the query plan should be
+	 * captured, by running the {@link org.hibernate.dialect.Dialect#getQueryPlanString EXPLAIN statement} of the
+	 * Dialect on a separate Connection.
+	 * <p/>
+	 * Default is {@code 0}, meaning query plans are not captured.
+	 *
+	 * @since 5.2.11
+	 */
+	String LOG_SLOW_QUERY_EXPLAIN_COUNT = "hibernate.jdbc.log_slow_query.explain_count";
+
+	/**
+	 * The number of times the same entity or collection role may be lazily loaded, one row at a time, from the
+	 * same call site within a Session before an N+1 select is reported: a warning naming the association for
+	 * which batch or join fetching would help is logged, and the occurrence is counted in the
+	 * {@link org.hibernate.stat.Statistics}.  The loads of batch fetched entities and collections are not counted.
+	 * <p/>
+	 * Default is {@code 0}, meaning N+1 selects are not detected.
+	 *
+	 * @since 5.2.11
+	 */
+	String N_PLUS_ONE_SELECT_THRESHOLD = "hibernate.n_plus_one_select_threshold";
+
+	/**
+	 * Names a {@link org.hibernate.stat.spi.StatisticsReporter} periodically receiving the
+	 * {@link org.hibernate.stat.Statistics} of the SessionFactory, for example to publish them to a monitoring
+	 * system.  Can be a reporter instance, its class or its class name.
+	 * {@code org.hibernate.stat.internal.LoggingStatisticsReporter} logs the statistics of the most time
+	 * consuming queries.
+	 * <p/>
+	 * Default is no reporter.
+	 *
+	 * @see #STATISTICS_REPORT_INTERVAL
+	 * @since 5.2.11
+	 */
+	String STATISTICS_REPORTER = "hibernate.statistics.reporter";
+
+	/**
+	 * The interval, in seconds, at which the {@link #STATISTICS_REPORTER} receives the statistics.  The reporter
+	 * also receives them one last time when the SessionFactory is closed.
+	 * <p/>
+	 * Default is {@code 60}.  {@code 0} means the statistics are only reported when the SessionFactory is closed.
+	 *
+	 * @since 5.2.11
+	 */
+	String STATISTICS_REPORT_INTERVAL = "hibernate.statistics.report_interval";
+
+	/**
+	 * Enable incremental flushes: a flush only processes the entities which became managed or changed status since
+	 * the previous flush, those whose dirty tracker reports a change, and the owners of the collections which might
+	 * be dirty.  The other bytecode enhanced entities are neither cascaded to nor dirty checked, each flush only asking
+	 * their dirty tracker.  This benefits long Sessions executing many queries, each query
+	 * triggering an auto flush.  Entities which are not enhanced with dirty tracking are always flushed.
+	 * <p/>
+	 * Flushes process all the entities when an {@link org.hibernate.Interceptor}, a
+	 * {@link org.hibernate.CustomEntityDirtinessStrategy} or a {@link org.hibernate.event.spi.FlushEntityEventListener}
+	 * other than the default ones is registered, as these could find dirty an entity which was not written to.
+	 * <p/>
+	 * Default is {@code false}.
+	 *
+	 * @see org.hibernate.jpa.AvailableSettings#ENHANCER_ENABLE_DIRTY_TRACKING
+	 * @since 5.2.11
+	 */
+	String INCREMENTAL_FLUSH = "hibernate.flush.incremental";
+
+	/**
+	 * Before an automatic flush, check whether the changes of the Session could affect the tables the query is
+	 * about to read, and skip the flush, and its dirty checking, otherwise.  The changes are those of the queued
+	 * actions, and of the managed entities which might be dirty: for an entity, the tables of its properties and
+	 * collections, and of the entities its associations cascade to.  Queries whose tables are unknown, such as
+	 * native queries without synchronized query spaces, are always preceded by the automatic flush.
+	 * <p/>
+	 * When the flush is skipped, {@link org.hibernate.Interceptor#preFlush} is not called either.
+	 * <p/>
+	 * Default is {@code false}, meaning the dirty checking of an automatic flush covers the whole Session.
+	 *
+	 * @since 5.2.11
+	 */
+	String AUTO_FLUSH_CHECK_QUERY_SPACES = "hibernate.flush.auto.check_query_spaces";
+
+	/**
+	 * The number of inserts, updates and deletes a {@link org.hibernate.StatelessSession} queues before executing
+	 * them, so that the writes of each entity are executed together as JDBC batches even when the application
+	 * interleaves the writes of different entities.  The inserts are ordered as per {@link #ORDER_INSERTS}, and the
+	 * updates grouped by entity as per {@link #ORDER_UPDATES}.  The queued writes are also executed by
+	 * {@link org.hibernate.StatelessSession#flush()}, before the queries of the StatelessSession, and before the
+	 * transaction completes.
+	 * <p/>
+	 * Requires JDBC batching, see {@link #STATEMENT_BATCH_SIZE}.
+	 * <p/>
+	 * Default is {@code 0}, meaning each write is executed right away.
+	 *
+	 * @since 5.2.11
+	 */
+	String STATELESS_WRITE_QUEUE_SIZE = "hibernate.jdbc.stateless_write_queue_size";
+
+	/**
+	 * Should bags without an identifier column be updated in place, rather than deleting and inserting all their
+	 * rows again whenever they change?  The elements of the bag are compared with the snapshot taken when it was
+	 * loaded: the rows of each element occurring less often than before are deleted and the missing occurrences
+	 * inserted, so that adding an element to a large bag inserts a single row.
+	 * <p/>
+	 * Only applies to bags whose element columns locate their rows, that is bags of basic values, of entities,
+	 * and of embeddables mapped to non-nullable columns.  The rows of these bags are deleted by statements
+	 * listing the deleted elements, and inserted by multi-row inserts when the dialect
+	 * {@link org.hibernate.dialect.Dialect#supportsMultiRowInsert() supports them}.
+	 * <p/>
+	 * Default is {@code false}.
+	 *
+	 * @since 5.2.11
+	 */
+	String IN_PLACE_BAG_UPDATES = "hibernate.collection.in_place_bag_updates";
+
+	/**
+	 * The number of rows an uninitialized extra-lazy collection reads at a time when it is iterated, instead of
+	 * being initialized.  The iteration of sets, bags and lists, and of the entries of maps, then keeps a single
+	 * page of elements in memory.  Lists are paged by index, other collections by ordering their rows.
+	 * <p/>
+	 * Such iterators reflect the rows of the database as each page is read, and do not support
+	 * {@link java.util.Iterator#remove()}.  A collection with queued operations is initialized when iterated.
+	 * The entities read by the pages of one-to-many and many-to-many collections remain managed by the session.
+	 * <p/>
+	 * Default is {@code 0}, meaning iterating an extra-lazy collection initializes it.
+	 *
+	 * @since 5.2.11
+	 */
+	String EXTRA_LAZY_PAGE_SIZE = "hibernate.collection.extra_lazy_page_size";
 }
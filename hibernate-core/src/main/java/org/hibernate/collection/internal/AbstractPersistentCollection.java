@@ -15,6 +15,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.FlushMode;
@@ -375,6 +376,37 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 		return cachedSize;
 	}
 
+	/**
+	 * Called by the iterators of sets, bags, lists and maps.  A collection with queued operations is initialized
+	 * instead, as the pages would not reflect the operations.
+	 *
+	 * @return Whether iterating reads the rows page by page rather than initializing the collection
+	 */
+	protected boolean isPagedIterationEnabled() {
+		if ( initialized || hasQueuedOperations() || !isConnectedToSession() ) {
+			return false;
+		}
+		final CollectionEntry entry = session.getPersistenceContext().getCollectionEntry( this );
+		return entry != null
+				&& entry.getLoadedPersister() != null
+				&& entry.getLoadedPersister().getPageReader() != null;
+	}
+
+	private List readPage(final int firstRow) {
+		return withTemporarySessionIfNeeded(
+				new LazyInitializationWork<List>() {
+					@Override
+					public List doWork() {
+						final CollectionEntry entry = session.getPersistenceContext().getCollectionEntry( AbstractPersistentCollection.this );
+						if ( entry == null ) {
+							throwLazyInitializationExceptionIfNotConnected();
+						}
+						return entry.getLoadedPersister().getPageReader().readPage( entry.getLoadedKey(), firstRow, session, owner );
+					}
+				}
+		);
+	}
+
 	protected boolean isConnectedToSession() {
 		return session != null
 				&& session.isOpen()
@@ -842,6 +874,72 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 		}
 	}
 
+	/**
+	 * Iterates an uninitialized extra-lazy collection by reading its rows page by page, see
+	 * {@link CollectionPersister#getPageReader}.  Each page reflects the rows of the database when it is read, and
+	 * the collection is never initialized, so elements cannot be removed through the iterator.
+	 * <p/>
+	 * Only the current page is referenced by the iterator: the entities of the pages of a one-to-many or
+	 * many-to-many collection are nevertheless managed by the persistence context, where they accumulate until
+	 * they are evicted or the session is cleared.
+	 */
+	protected class PagedIterator implements Iterator {
+		private final int pageSize;
+		private int firstRow;
+		private List page = Collections.emptyList();
+		private int position;
+		private boolean lastPage;
+
+		public PagedIterator() {
+			this.pageSize = session.getPersistenceContext()
+					.getCollectionEntry( AbstractPersistentCollection.this )
+					.getLoadedPersister()
+					.getPageReader()
+					.getPageSize();
+		}
+
+		@Override
+		public boolean hasNext() {
+			if ( position == page.size() && !lastPage ) {
+				page = transformPage( readPage( firstRow ), firstRow );
+				firstRow += pageSize;
+				position = 0;
+				lastPage = page.size() < pageSize;
+			}
+			return position < page.size();
+		}
+
+		@Override
+		public Object next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			return page.get( position++ );
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException( "Cannot remove elements while reading a collection page by page" );
+		}
+
+		protected int getPageSize() {
+			return pageSize;
+		}
+
+		/**
+		 * Transform the rows of a page, as read by {@link CollectionPersister#getPageReader}, into the elements the
+		 * iterator returns.
+		 *
+		 * @param rows The rows of the page
+		 * @param firstRow The first row, or index, of the page
+		 *
+		 * @return The elements of the page
+		 */
+		protected List transformPage(List rows, int firstRow) {
+			return rows;
+		}
+	}
+
 	protected final class ListIteratorProxy implements ListIterator {
 		protected final ListIterator itr;
 
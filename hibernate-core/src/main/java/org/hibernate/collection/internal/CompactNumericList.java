@@ -0,0 +1,289 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.collection.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+
+/**
+ * A list of numbers of a single type, stored in an array of primitive {@code long}s rather than as boxed
+ * instances.  It is the underlying list of the bags and lists of numeric basic elements, and the snapshot of
+ * {@link PersistentBag} and {@link PersistentList} for such elements, so that each element costs 8 bytes of
+ * heap instead of a reference to a boxed number.
+ * <p/>
+ * The elements are boxed again by {@link #get}.  Null elements are supported, storing an element of another
+ * type fails with a {@link ClassCastException}.
+ */
+public class CompactNumericList extends AbstractList implements RandomAccess, Serializable {
+	private static final int DEFAULT_CAPACITY = 10;
+
+	/**
+	 * The types of numbers a CompactNumericList can store, along with their conversion from and to {@code long}.
+	 */
+	public enum NumericKind {
+		BYTE( Byte.class ) {
+			@Override
+			long toBits(Object value) {
+				return (Byte) value;
+			}
+
+			@Override
+			Object fromBits(long bits) {
+				return (byte) bits;
+			}
+		},
+		SHORT( Short.class ) {
+			@Override
+			long toBits(Object value) {
+				return (Short) value;
+			}
+
+			@Override
+			Object fromBits(long bits) {
+				return (short) bits;
+			}
+		},
+		INTEGER( Integer.class ) {
+			@Override
+			long toBits(Object value) {
+				return (Integer) value;
+			}
+
+			@Override
+			Object fromBits(long bits) {
+				return (int) bits;
+			}
+		},
+		LONG( Long.class ) {
+			@Override
+			long toBits(Object value) {
+				return (Long) value;
+			}
+
+			@Override
+			Object fromBits(long bits) {
+				return bits;
+			}
+		},
+		FLOAT( Float.class ) {
+			@Override
+			long toBits(Object value) {
+				return Float.floatToIntBits( (Float) value );
+			}
+
+			@Override
+			Object fromBits(long bits) {
+				return Float.intBitsToFloat( (int) bits );
+			}
+		},
+		DOUBLE( Double.class ) {
+			@Override
+			long toBits(Object value) {
+				return Double.doubleToLongBits( (Double) value );
+			}
+
+			@Override
+			Object fromBits(long bits) {
+				return Double.longBitsToDouble( bits );
+			}
+		};
+
+		private final Class javaType;
+
+		NumericKind(Class javaType) {
+			this.javaType = javaType;
+		}
+
+		abstract long toBits(Object value);
+
+		abstract Object fromBits(long bits);
+
+		boolean isInstance(Object value) {
+			return value.getClass() == javaType;
+		}
+
+		/**
+		 * Determine the kind of numbers of the given element type.
+		 *
+		 * @param elementType The element type of a collection
+		 *
+		 * @return The kind of numbers, or {@code null} if the elements are not numbers of a basic type
+		 */
+		public static NumericKind fromType(Type elementType) {
+			if ( elementType instanceof BasicType ) {
+				for ( NumericKind kind : values() ) {
+					if ( kind.javaType == elementType.getReturnedClass() ) {
+						return kind;
+					}
+				}
+			}
+			return null;
+		}
+	}
+
+	private final NumericKind kind;
+	private long[] values;
+	// allocated when the first null element is stored
+	private boolean[] nulls;
+	private int size;
+
+	/**
+	 * Constructs an empty CompactNumericList
+	 *
+	 * @param kind The kind of numbers of the list
+	 * @param anticipatedSize The anticipated number of elements, or a negative number if unknown
+	 */
+	public CompactNumericList(NumericKind kind, int anticipatedSize) {
+		this.kind = kind;
+		this.values = new long[anticipatedSize <= 0 ? DEFAULT_CAPACITY : anticipatedSize];
+	}
+
+	/**
+	 * Constructs a CompactNumericList holding the given elements
+	 *
+	 * @param kind The kind of numbers of the list
+	 * @param elements The elements
+	 */
+	@SuppressWarnings("unchecked")
+	public CompactNumericList(NumericKind kind, Collection elements) {
+		this.kind = kind;
+		if ( elements instanceof CompactNumericList && ( (CompactNumericList) elements ).kind == kind ) {
+			final CompactNumericList other = (CompactNumericList) elements;
+			this.values = Arrays.copyOf( other.values, Math.max( other.size, 1 ) );
+			this.nulls = other.nulls == null ? null : Arrays.copyOf( other.nulls, values.length );
+			this.size = other.size;
+		}
+		else {
+			this.values = new long[Math.max( elements.size(), 1 )];
+			addAll( elements );
+		}
+	}
+
+	public NumericKind getKind() {
+		return kind;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Object get(int index) {
+		checkIndex( index );
+		return isNull( index ) ? null : kind.fromBits( values[index] );
+	}
+
+	@Override
+	public Object set(int index, Object element) {
+		checkIndex( index );
+		final long bits = toBits( element );
+		final Object old = get( index );
+		store( index, element == null, bits );
+		return old;
+	}
+
+	@Override
+	public void add(int index, Object element) {
+		if ( index < 0 || index > size ) {
+			throw new IndexOutOfBoundsException( "Index: " + index + ", Size: " + size );
+		}
+		final long bits = toBits( element );
+		if ( size == values.length ) {
+			grow();
+		}
+		System.arraycopy( values, index, values, index + 1, size - index );
+		if ( nulls != null ) {
+			System.arraycopy( nulls, index, nulls, index + 1, size - index );
+		}
+		size++;
+		store( index, element == null, bits );
+		modCount++;
+	}
+
+	@Override
+	public Object remove(int index) {
+		checkIndex( index );
+		final Object old = get( index );
+		removeRange( index, index + 1 );
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		nulls = null;
+		modCount++;
+	}
+
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		System.arraycopy( values, toIndex, values, fromIndex, size - toIndex );
+		if ( nulls != null ) {
+			System.arraycopy( nulls, toIndex, nulls, fromIndex, size - toIndex );
+			Arrays.fill( nulls, size - ( toIndex - fromIndex ), size, false );
+		}
+		size -= toIndex - fromIndex;
+		modCount++;
+	}
+
+	@Override
+	public int indexOf(Object element) {
+		if ( element != null && !kind.isInstance( element ) ) {
+			return -1;
+		}
+		final long bits = toBits( element );
+		for ( int i = 0; i < size; i++ ) {
+			if ( isNull( i ) ? element == null : element != null && values[i] == bits ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean contains(Object element) {
+		return indexOf( element ) >= 0;
+	}
+
+	private boolean isNull(int index) {
+		return nulls != null && nulls[index];
+	}
+
+	private long toBits(Object element) {
+		return element == null ? 0L : kind.toBits( element );
+	}
+
+	private void store(int index, boolean isNull, long bits) {
+		if ( isNull && nulls == null ) {
+			nulls = new boolean[values.length];
+		}
+		if ( nulls != null ) {
+			nulls[index] = isNull;
+		}
+		values[index] = bits;
+	}
+
+	private void grow() {
+		values = Arrays.copyOf( values, values.length + ( values.length >> 1 ) + 1 );
+		if ( nulls != null ) {
+			nulls = Arrays.copyOf( nulls, values.length );
+		}
+	}
+
+	private void checkIndex(int index) {
+		if ( index < 0 || index >= size ) {
+			throw new IndexOutOfBoundsException( "Index: " + index + ", Size: " + size );
+		}
+	}
+}
@@ -0,0 +1,294 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.collection.internal;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.hibernate.collection.internal.CompactNumericList.NumericKind;
+
+/**
+ * A set of numbers of a single type, stored in an open-addressing hash table of primitive {@code long}s rather
+ * than as boxed instances.  It is the underlying set of the sets of numeric basic elements, and the snapshot of
+ * {@link PersistentSet} for such elements, in place of a {@code HashSet} and of a {@code HashMap} from each
+ * element to itself.
+ * <p/>
+ * The elements are boxed again by the iterator, in no particular order.  The null element is supported, storing
+ * an element of another type fails with a {@link ClassCastException}.
+ */
+public class CompactNumericSet extends AbstractSet implements Serializable {
+	private static final int MIN_CAPACITY = 8;
+
+	private static final byte FREE = 0;
+	private static final byte FULL = 1;
+	private static final byte REMOVED = 2;
+
+	private final NumericKind kind;
+	private long[] values;
+	private byte[] states;
+	// the number of non-null elements
+	private int size;
+	// the number of slots which are not free, used to keep at least a quarter of the table free
+	private int used;
+	private boolean containsNull;
+	private transient int modCount;
+
+	/**
+	 * Constructs an empty CompactNumericSet
+	 *
+	 * @param kind The kind of numbers of the set
+	 * @param anticipatedSize The anticipated number of elements, or a negative number if unknown
+	 */
+	public CompactNumericSet(NumericKind kind, int anticipatedSize) {
+		this.kind = kind;
+		allocate( capacityFor( anticipatedSize ) );
+	}
+
+	/**
+	 * Constructs a CompactNumericSet holding the given elements
+	 *
+	 * @param kind The kind of numbers of the set
+	 * @param elements The elements
+	 */
+	@SuppressWarnings("unchecked")
+	public CompactNumericSet(NumericKind kind, Collection elements) {
+		this.kind = kind;
+		if ( elements instanceof CompactNumericSet && ( (CompactNumericSet) elements ).kind == kind ) {
+			final CompactNumericSet other = (CompactNumericSet) elements;
+			this.values = other.values.clone();
+			this.states = other.states.clone();
+			this.size = other.size;
+			this.used = other.used;
+			this.containsNull = other.containsNull;
+		}
+		else {
+			allocate( capacityFor( elements.size() ) );
+			addAll( elements );
+		}
+	}
+
+	public NumericKind getKind() {
+		return kind;
+	}
+
+	@Override
+	public int size() {
+		return containsNull ? size + 1 : size;
+	}
+
+	@Override
+	public boolean contains(Object element) {
+		if ( element == null ) {
+			return containsNull;
+		}
+		return kind.isInstance( element ) && indexOf( kind.toBits( element ) ) >= 0;
+	}
+
+	@Override
+	public boolean add(Object element) {
+		if ( element == null ) {
+			if ( containsNull ) {
+				return false;
+			}
+			containsNull = true;
+			modCount++;
+			return true;
+		}
+
+		final long bits = kind.toBits( element );
+		final int mask = values.length - 1;
+		int index = hash( bits ) & mask;
+		int firstRemoved = -1;
+		while ( states[index] != FREE ) {
+			if ( states[index] == FULL ) {
+				if ( values[index] == bits ) {
+					return false;
+				}
+			}
+			else if ( firstRemoved < 0 ) {
+				firstRemoved = index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+
+		if ( firstRemoved >= 0 ) {
+			index = firstRemoved;
+		}
+		else {
+			used++;
+		}
+		values[index] = bits;
+		states[index] = FULL;
+		size++;
+		modCount++;
+
+		if ( used > threshold() ) {
+			// doubles the table once half full, otherwise only gets rid of the removed slots
+			rehash( size >= values.length / 2 ? values.length * 2 : values.length );
+		}
+		return true;
+	}
+
+	@Override
+	public boolean remove(Object element) {
+		if ( element == null ) {
+			if ( !containsNull ) {
+				return false;
+			}
+			containsNull = false;
+			modCount++;
+			return true;
+		}
+		if ( !kind.isInstance( element ) ) {
+			return false;
+		}
+		final int index = indexOf( kind.toBits( element ) );
+		if ( index < 0 ) {
+			return false;
+		}
+		removeAt( index );
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill( states, FREE );
+		size = 0;
+		used = 0;
+		containsNull = false;
+		modCount++;
+	}
+
+	@Override
+	public Iterator iterator() {
+		return new Iterator() {
+			private int expectedModCount = modCount;
+			// -1 stands for the null element, which is returned first
+			private int next = containsNull ? -1 : nextFull( 0 );
+			private int current = Integer.MIN_VALUE;
+
+			@Override
+			public boolean hasNext() {
+				return next < values.length;
+			}
+
+			@Override
+			public Object next() {
+				if ( expectedModCount != modCount ) {
+					throw new ConcurrentModificationException();
+				}
+				if ( !hasNext() ) {
+					throw new NoSuchElementException();
+				}
+				current = next;
+				next = nextFull( current + 1 );
+				return current < 0 ? null : kind.fromBits( values[current] );
+			}
+
+			@Override
+			public void remove() {
+				if ( current == Integer.MIN_VALUE ) {
+					throw new IllegalStateException();
+				}
+				if ( expectedModCount != modCount ) {
+					throw new ConcurrentModificationException();
+				}
+				if ( current < 0 ) {
+					containsNull = false;
+					modCount++;
+				}
+				else {
+					// marks the slot as removed without moving the other elements, which keeps the iteration valid
+					states[current] = REMOVED;
+					size--;
+					modCount++;
+				}
+				expectedModCount = modCount;
+				current = Integer.MIN_VALUE;
+			}
+		};
+	}
+
+	private int nextFull(int from) {
+		int index = from;
+		while ( index < states.length && states[index] != FULL ) {
+			index++;
+		}
+		return index;
+	}
+
+	private int indexOf(long bits) {
+		final int mask = values.length - 1;
+		int index = hash( bits ) & mask;
+		// terminates as a quarter of the table at least is free
+		while ( states[index] != FREE ) {
+			if ( states[index] == FULL && values[index] == bits ) {
+				return index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return -1;
+	}
+
+	private void removeAt(int index) {
+		states[index] = REMOVED;
+		size--;
+		modCount++;
+		if ( size == 0 ) {
+			Arrays.fill( states, FREE );
+			used = 0;
+		}
+	}
+
+	private void rehash(int capacity) {
+		final long[] oldValues = values;
+		final byte[] oldStates = states;
+		allocate( capacity );
+		final int mask = capacity - 1;
+		for ( int i = 0; i < oldValues.length; i++ ) {
+			if ( oldStates[i] == FULL ) {
+				int index = hash( oldValues[i] ) & mask;
+				while ( states[index] != FREE ) {
+					index = ( index + 1 ) & mask;
+				}
+				values[index] = oldValues[i];
+				states[index] = FULL;
+			}
+		}
+		used = size;
+	}
+
+	private void allocate(int capacity) {
+		values = new long[capacity];
+		states = new byte[capacity];
+	}
+
+	private int threshold() {
+		return values.length - ( values.length >> 2 );
+	}
+
+	private static int capacityFor(int anticipatedSize) {
+		// the smallest power of two keeping the anticipated elements under three quarters of the table
+		final int minimum = anticipatedSize <= 0 ? 0 : anticipatedSize + anticipatedSize / 3 + 1;
+		int capacity = MIN_CAPACITY;
+		while ( capacity < minimum ) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private static int hash(long bits) {
+		// spreads consecutive identifiers over the table
+		final long hash = bits * 0x9E3779B97F4A7C15L;
+		return (int) ( hash ^ ( hash >>> 32 ) );
+	}
+}
@@ -12,8 +12,11 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -33,6 +36,11 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	protected List bag;
 
+	// the positions of the elements to insert when updating the bag in place, see #preInsert
+	private transient boolean[] inPlaceInserts;
+	// the occurrences of the elements counted by #getDeletes when updating the bag in place, for #preInsert
+	private transient Map<ElementOccurrences, ElementOccurrences> occurrences;
+
 	/**
 	 * Constructs a PersistentBag.  Needed for SOAP libraries, etc
 	 */
@@ -101,7 +109,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public void beforeInitialize(CollectionPersister persister, int anticipatedSize) {
-		this.bag = (List) persister.getCollectionType().instantiate( anticipatedSize );
+		this.bag = (List) persister.getCollectionType().instantiate( persister, anticipatedSize );
 	}
 
 	@Override
@@ -141,6 +149,11 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public Serializable getSnapshot(CollectionPersister persister)
 			throws HibernateException {
+		final CompactNumericList.NumericKind numericKind = CompactNumericList.NumericKind.fromType( persister.getElementType() );
+		if ( numericKind != null ) {
+			// numbers are immutable, no need to copy them
+			return new CompactNumericList( numericKind, bag );
+		}
 		final ArrayList clonedList = new ArrayList( bag.size() );
 		for ( Object item : bag ) {
 			clonedList.add( persister.getElementType().deepCopy( item, persister.getFactory() ) );
@@ -182,7 +195,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public boolean needsRecreate(CollectionPersister persister) {
-		return !persister.isOneToMany();
+		return !persister.isOneToMany() && !persister.isInPlaceBagUpdatePossible();
 	}
 
 
@@ -200,6 +213,16 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		final Type elementType = persister.getElementType();
 		final ArrayList deletes = new ArrayList();
 		final List sn = (List) getSnapshot();
+		if ( persister.isInPlaceBagUpdatePossible() ) {
+			// the rows of an element cannot be told apart: they are all deleted when the element occurs less often
+			occurrences = countElementOccurrences( elementType );
+			for ( ElementOccurrences element : occurrences.values() ) {
+				if ( element.count < element.snapshotCount ) {
+					deletes.add( element.element );
+				}
+			}
+			return deletes.iterator();
+		}
 		final Iterator olditer = sn.iterator();
 		int i=0;
 		while ( olditer.hasNext() ) {
@@ -229,6 +252,9 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
+		if ( inPlaceInserts != null ) {
+			return inPlaceInserts[i];
+		}
 		final List sn = (List) getSnapshot();
 		if ( sn.size() > i && elemType.isSame( sn.get( i ), entry ) ) {
 			//a shortcut if its location didn't change!
@@ -246,6 +272,66 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		}
 	}
 
+	@Override
+	public void preInsert(CollectionPersister persister) throws HibernateException {
+		if ( persister.isInPlaceBagUpdatePossible() && getSnapshot() != null ) {
+			final Type elementType = persister.getElementType();
+			inPlaceInserts = determineInPlaceInserts(
+					occurrences == null ? countElementOccurrences( elementType ) : occurrences,
+					elementType
+			);
+		}
+		else {
+			inPlaceInserts = null;
+		}
+		occurrences = null;
+	}
+
+	private boolean[] determineInPlaceInserts(Map<ElementOccurrences, ElementOccurrences> occurrences, Type elementType) {
+		final boolean[] inserts = new boolean[bag.size()];
+		for ( int i = 0; i < inserts.length; i++ ) {
+			final Object element = bag.get( i );
+			if ( element == null ) {
+				continue;
+			}
+			final ElementOccurrences counts = occurrences.get( new ElementOccurrences( element, elementType ) );
+			if ( counts.count < counts.snapshotCount ) {
+				// the rows of the element were all deleted
+				inserts[i] = true;
+			}
+			else {
+				// only the occurrences beyond those of the snapshot are new
+				inserts[i] = ++counts.inserted > counts.snapshotCount;
+			}
+		}
+		return inserts;
+	}
+
+	/**
+	 * Count the occurrences of each element in the snapshot and in the bag
+	 */
+	private Map<ElementOccurrences, ElementOccurrences> countElementOccurrences(Type elementType) {
+		final Map<ElementOccurrences, ElementOccurrences> occurrences = new LinkedHashMap<>();
+		for ( Object element : (List) getSnapshot() ) {
+			if ( element != null ) {
+				ElementOccurrences.of( occurrences, element, elementType ).snapshotCount++;
+			}
+		}
+		for ( Object element : bag ) {
+			if ( element != null ) {
+				ElementOccurrences.of( occurrences, element, elementType ).count++;
+			}
+		}
+		return occurrences;
+	}
+
+	@Override
+	public void postAction() {
+		super.postAction();
+		inPlaceInserts = null;
+		occurrences = null;
+	}
+
 	@Override
 	public boolean isRowUpdatePossible() {
 		return false;
@@ -274,6 +360,9 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public Iterator iterator() {
+		if ( isPagedIterationEnabled() ) {
+			return new PagedIterator();
+		}
 		read();
 		return new IteratorProxy( bag.iterator() );
 	}
@@ -358,6 +447,19 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		}
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean removeIf(Predicate filter) {
+		initialize( true );
+		if ( bag.removeIf( filter ) ) {
+			dirty();
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean retainAll(Collection c) {
@@ -558,4 +660,44 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 			bag.add( getAddedInstance() );
 		}
 	}
+
+	/**
+	 * The numbers of occurrences of an element, which is the key of the occurrences of the elements the
+	 * {@link Type} of the elements considers the same
+	 */
+	private static final class ElementOccurrences {
+		private final Object element;
+		private final Type elementType;
+		private final int hashCode;
+		private int snapshotCount;
+		private int count;
+		// the occurrences met while determining the rows to insert
+		private int inserted;
+
+		private ElementOccurrences(Object element, Type elementType) {
+			this.element = element;
+			this.elementType = elementType;
+			this.hashCode = elementType.getHashCode( element );
+		}
+
+		private static ElementOccurrences of(
+				Map<ElementOccurrences, ElementOccurrences> occurrences,
+				Object element,
+				Type elementType) {
+			final ElementOccurrences key = new ElementOccurrences( element, elementType );
+			final ElementOccurrences existing = occurrences.putIfAbsent( key, key );
+			return existing == null ? key : existing;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof ElementOccurrences
+					&& elementType.isSame( element, ( (ElementOccurrences) other ).element );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
 }
@@ -10,10 +10,12 @@ import java.io.Serializable;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.function.Predicate;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -62,6 +64,11 @@ public class PersistentList extends AbstractPersistentCollection implements List
 	@Override
 	@SuppressWarnings( {"unchecked"})
 	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		final CompactNumericList.NumericKind numericKind = CompactNumericList.NumericKind.fromType( persister.getElementType() );
+		if ( numericKind != null ) {
+			// numbers are immutable, no need to copy them
+			return new CompactNumericList( numericKind, list );
+		}
 		final ArrayList clonedList = new ArrayList( list.size() );
 		for ( Object element : list ) {
 			final Object deepCopy = persister.getElementType().deepCopy( element, persister.getFactory() );
@@ -100,7 +107,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 
 	@Override
 	public void beforeInitialize(CollectionPersister persister, int anticipatedSize) {
-		this.list = (List) persister.getCollectionType().instantiate( anticipatedSize );
+		this.list = (List) persister.getCollectionType().instantiate( persister, anticipatedSize );
 	}
 
 	@Override
@@ -128,10 +135,37 @@ public class PersistentList extends AbstractPersistentCollection implements List
 
 	@Override
 	public Iterator iterator() {
+		if ( isPagedIterationEnabled() ) {
+			return new PagedListIterator( size() );
+		}
 		read();
 		return new IteratorProxy( list.iterator() );
 	}
 
+	/**
+	 * Places the elements of each page at their index, the missing indexes being null elements.
+	 */
+	private class PagedListIterator extends PagedIterator {
+		private final int size;
+
+		PagedListIterator(int size) {
+			this.size = size;
+		}
+
+		@Override
+		protected List transformPage(List rows, int firstRow) {
+			final Object[] elements = new Object[Math.max( 0, Math.min( getPageSize(), size - firstRow ) )];
+			for ( Object row : rows ) {
+				final Object[] indexAndElement = (Object[]) row;
+				final int position = (Integer) indexAndElement[0] - firstRow;
+				if ( position < elements.length ) {
+					elements[position] = indexAndElement[1];
+				}
+			}
+			return Arrays.asList( elements );
+		}
+	}
+
 	@Override
 	public Object[] toArray() {
 		read();
@@ -234,6 +268,19 @@ public class PersistentList extends AbstractPersistentCollection implements List
 		}
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean removeIf(Predicate filter) {
+		initialize( true );
+		if ( list.removeIf( filter ) ) {
+			dirty();
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean retainAll(Collection coll) {
@@ -9,6 +9,8 @@ package org.hibernate.collection.internal;
 import java.io.Serializable;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -16,6 +18,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -234,10 +237,80 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 	@Override
 	@SuppressWarnings("unchecked")
 	public Set entrySet() {
+		if ( isPagedIterationEnabled() ) {
+			return new PagedEntrySet();
+		}
 		read();
 		return new EntrySetProxy( map.entrySet() );
 	}
 
+	/**
+	 * The entries of an uninitialized extra-lazy map, read page by page when iterated.
+	 */
+	private class PagedEntrySet extends AbstractSet {
+		@Override
+		public Iterator iterator() {
+			if ( !isPagedIterationEnabled() ) {
+				return initializedEntrySet().iterator();
+			}
+			return new PagedIterator() {
+				@Override
+				@SuppressWarnings("unchecked")
+				protected List transformPage(List rows, int firstRow) {
+					final List entries = new ArrayList( rows.size() );
+					for ( Object row : rows ) {
+						final Object[] indexAndElement = (Object[]) row;
+						entries.add( new AbstractMap.SimpleImmutableEntry( indexAndElement[0], indexAndElement[1] ) );
+					}
+					return entries;
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return PersistentMap.this.size();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean remove(Object entry) {
+			return initializedEntrySet().remove( entry );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean removeAll(Collection entries) {
+			return initializedEntrySet().removeAll( entries );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean retainAll(Collection entries) {
+			return initializedEntrySet().retainAll( entries );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean removeIf(Predicate filter) {
+			return initializedEntrySet().removeIf( filter );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void clear() {
+			initializedEntrySet().clear();
+		}
+
+		/**
+		 * The entries are removed from the initialized map, as the paged iterator cannot remove them
+		 */
+		private Set initializedEntrySet() {
+			read();
+			return new EntrySetProxy( map.entrySet() );
+		}
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean empty() {
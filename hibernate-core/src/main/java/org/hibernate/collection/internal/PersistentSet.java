@@ -15,6 +15,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -75,6 +76,11 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings( {"unchecked"})
 	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		final CompactNumericList.NumericKind numericKind = CompactNumericList.NumericKind.fromType( persister.getElementType() );
+		if ( numericKind != null ) {
+			// numbers are immutable, no need to copy them nor to map them to themselves
+			return new CompactNumericSet( numericKind, set );
+		}
 		final HashMap clonedSet = new HashMap( set.size() );
 		for ( Object aSet : set ) {
 			final Object copied = persister.getElementType().deepCopy( aSet, persister.getFactory() );
@@ -85,6 +91,9 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 
 	@Override
 	public Collection getOrphans(Serializable snapshot, String entityName) throws HibernateException {
+		if ( snapshot instanceof CompactNumericSet ) {
+			return getOrphans( (CompactNumericSet) snapshot, set, entityName, getSession() );
+		}
 		final java.util.Map sn = (java.util.Map) snapshot;
 		return getOrphans( sn.keySet(), set, entityName, getSession() );
 	}
@@ -92,7 +101,12 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	public boolean equalsSnapshot(CollectionPersister persister) throws HibernateException {
 		final Type elementType = persister.getElementType();
-		final java.util.Map sn = (java.util.Map) getSnapshot();
+		final Serializable snapshot = getSnapshot();
+		if ( snapshot instanceof CompactNumericSet ) {
+			final CompactNumericSet sn = (CompactNumericSet) snapshot;
+			return sn.size() == set.size() && sn.containsAll( set );
+		}
+		final java.util.Map sn = (java.util.Map) snapshot;
 		if ( sn.size()!=set.size() ) {
 			return false;
 		}
@@ -109,12 +123,14 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 
 	@Override
 	public boolean isSnapshotEmpty(Serializable snapshot) {
-		return ( (java.util.Map) snapshot ).isEmpty();
+		return snapshot instanceof CompactNumericSet
+				? ( (CompactNumericSet) snapshot ).isEmpty()
+				: ( (java.util.Map) snapshot ).isEmpty();
 	}
 
 	@Override
 	public void beforeInitialize(CollectionPersister persister, int anticipatedSize) {
-		this.set = (Set) persister.getCollectionType().instantiate( anticipatedSize );
+		this.set = (Set) persister.getCollectionType().instantiate( persister, anticipatedSize );
 	}
 
 	@Override
@@ -160,6 +176,9 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings("unchecked")
 	public Iterator iterator() {
+		if ( isPagedIterationEnabled() ) {
+			return new PagedIterator();
+		}
 		read();
 		return new IteratorProxy( set.iterator() );
 	}
@@ -247,6 +266,19 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		}
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean removeIf(Predicate filter) {
+		initialize( true );
+		if ( set.removeIf( filter ) ) {
+			dirty();
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean retainAll(Collection coll) {
@@ -351,8 +383,20 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings("unchecked")
 	public Iterator getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
+		final Serializable snapshot = getSnapshot();
+		if ( snapshot instanceof CompactNumericSet ) {
+			// numbers do not change, the deleted elements are the ones removed from the set
+			final ArrayList deletes = new ArrayList();
+			for ( Object test : (CompactNumericSet) snapshot ) {
+				if ( !set.contains( test ) ) {
+					deletes.add( test );
+				}
+			}
+			return deletes.iterator();
+		}
+
 		final Type elementType = persister.getElementType();
-		final java.util.Map sn = (java.util.Map) getSnapshot();
+		final java.util.Map sn = (java.util.Map) snapshot;
 		final ArrayList deletes = new ArrayList( sn.size() );
 
 		Iterator itr = sn.keySet().iterator();
@@ -380,7 +424,11 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
-		final Object oldValue = ( (java.util.Map) getSnapshot() ).get( entry );
+		final Serializable snapshot = getSnapshot();
+		if ( snapshot instanceof CompactNumericSet ) {
+			return entry != null && !( (CompactNumericSet) snapshot ).contains( entry );
+		}
+		final Object oldValue = ( (java.util.Map) snapshot ).get( entry );
 		// note that it might be better to iterate the snapshot but this is safe,
 		// assuming the user implements equals() properly, as required by the Set
 		// contract!
@@ -1761,6 +1761,46 @@ public abstract class Dialect implements ConversionContext {
 		return "values ( )";
 	}
 
+	/**
+	 * Does this dialect support inserts of several rows in a single statement, listing the values of each row, as in
+	 * "insert into T (a, b) values (?, ?), (?, ?)"?
+	 *
+	 * @return True if multi-row inserts are supported
+	 */
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
+	/**
+	 * Does this dialect support upserts, inserting a row or updating it when a row with the same primary key
+	 * already exists, in a single statement?
+	 *
+	 * @return True if {@link #getUpsertString} is supported
+	 */
+	public boolean supportsUpsert() {
+		return false;
+	}
+
+	/**
+	 * Build the statement inserting a row into the given table, or updating its columns which are not part of the
+	 * primary key when a row with the same primary key already exists.  The JDBC parameters of the statement are
+	 * those of the value expressions, in the same order, each of them bound once.
+	 *
+	 * @param tableName The name of the table
+	 * @param columnNames The names of the columns, including the primary key columns
+	 * @param valueExpressions The expressions of the values of the columns, usually {@code ?}
+	 * @param primaryKeyColumnNames The names of the primary key columns
+	 *
+	 * @return The upsert statement
+	 */
+	public String getUpsertString(
+			String tableName,
+			String[] columnNames,
+			String[] valueExpressions,
+			String[] primaryKeyColumnNames) {
+		throw new UnsupportedOperationException( getClass().getName() + " does not support upserts" );
+	}
+
 	/**
 	 * The name of the SQL function that transforms a string to
 	 * lowercase
@@ -2800,6 +2840,18 @@ public abstract class Dialect implements ConversionContext {
 		return query;
 	}
 
+	/**
+	 * Build the statement showing the execution plan the database picks for the given statement, used when
+	 * logging slow queries.  The statement is executed with the same parameters as the given one; its
+	 * ResultSet is rendered row by row.  By default, query plans are not supported and {@code null} is returned.
+	 *
+	 * @param sql The SQL statement, possibly with JDBC parameters
+	 * @return The statement showing the query plan, or {@code null} if not supported
+	 */
+	public String getQueryPlanString(String sql) {
+		return null;
+	}
+
 	/**
 	 * Certain dialects support a subset of ScrollModes.  Provide a default to be used by Criteria and Query.
 	 *
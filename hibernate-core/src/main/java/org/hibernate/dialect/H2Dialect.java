@@ -35,6 +35,7 @@ import org.hibernate.hql.spi.id.local.LocalTemporaryTableBulkIdStrategy;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.JdbcExceptionHelper;
 import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.internal.util.StringHelper;
 import org.hibernate.tool.schema.extract.internal.SequenceInformationExtractorH2DatabaseImpl;
 import org.hibernate.tool.schema.extract.internal.SequenceInformationExtractorLegacyImpl;
 import org.hibernate.tool.schema.extract.spi.SequenceInformationExtractor;
@@ -225,6 +226,11 @@ public class H2Dialect extends Dialect {
 		return "add column";
 	}
 
+	@Override
+	public String getQueryPlanString(String sql) {
+		return "explain " + sql;
+	}
+
 	@Override
 	public String getForUpdateString() {
 		return " for update";
@@ -441,4 +447,26 @@ public class H2Dialect extends Dialect {
 	public IdentityColumnSupport getIdentityColumnSupport() {
 		return new H2IdentityColumnSupport();
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsUpsert() {
+		return true;
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] columnNames,
+			String[] valueExpressions,
+			String[] primaryKeyColumnNames) {
+		return "merge into " + tableName
+				+ " (" + StringHelper.join( ", ", columnNames ) + ")"
+				+ " key (" + StringHelper.join( ", ", primaryKeyColumnNames ) + ")"
+				+ " values (" + StringHelper.join( ", ", valueExpressions ) + ")";
+	}
 }
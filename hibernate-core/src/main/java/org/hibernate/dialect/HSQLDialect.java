@@ -263,6 +263,11 @@ public class HSQLDialect extends Dialect {
 		return "add column";
 	}
 
+	@Override
+	public String getQueryPlanString(String sql) {
+		return "explain plan for " + sql;
+	}
+
 	@Override
 	public boolean supportsLockTimeouts() {
 		return false;
@@ -34,6 +34,7 @@ import org.hibernate.hql.spi.id.local.AfterUseAction;
 import org.hibernate.hql.spi.id.local.LocalTemporaryTableBulkIdStrategy;
 import org.hibernate.internal.util.JdbcExceptionHelper;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.mapping.Column;
 import org.hibernate.type.StandardBasicTypes;
 
@@ -236,6 +237,11 @@ public class MySQLDialect extends Dialect {
 		return "add column";
 	}
 
+	@Override
+	public String getQueryPlanString(String sql) {
+		return "explain " + sql;
+	}
+
 	@Override
 	public boolean qualifyIndexName() {
 		return false;
@@ -583,4 +589,46 @@ public class MySQLDialect extends Dialect {
 	protected MySQLStorageEngine getDefaultMySQLStorageEngine() {
 		return MyISAMStorageEngine.INSTANCE;
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsUpsert() {
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p/>
+	 * MySQL updates the existing row when the row conflicts with any unique key, not only with the primary key.
+	 */
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] columnNames,
+			String[] valueExpressions,
+			String[] primaryKeyColumnNames) {
+		final StringBuilder buf = new StringBuilder( "insert into " ).append( tableName )
+				.append( " (" ).append( StringHelper.join( ", ", columnNames ) )
+				.append( ") values (" ).append( StringHelper.join( ", ", valueExpressions ) )
+				.append( ") on duplicate key update " );
+		boolean first = true;
+		for ( String columnName : columnNames ) {
+			if ( !ArrayHelper.contains( primaryKeyColumnNames, columnName ) ) {
+				if ( !first ) {
+					buf.append( ", " );
+				}
+				buf.append( columnName ).append( " = values(" ).append( columnName ).append( ')' );
+				first = false;
+			}
+		}
+		if ( first ) {
+			// nothing to update
+			buf.append( primaryKeyColumnNames[0] ).append( " = " ).append( primaryKeyColumnNames[0] );
+		}
+		return buf.toString();
+	}
 }
@@ -90,4 +90,14 @@ public class Oracle10gDialect extends Oracle9iDialect {
 	public boolean supportsSkipLocked() {
 		return true;
 	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] columnNames,
+			String[] valueExpressions,
+			String[] primaryKeyColumnNames) {
+		// the when matched clause is optional, so that a table made of primary key columns only is supported
+		return getMergeString( tableName, columnNames, valueExpressions, primaryKeyColumnNames );
+	}
 }
@@ -9,11 +9,14 @@ package org.hibernate.dialect;
 import java.sql.Types;
 import java.util.Locale;
 
+import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
 import org.hibernate.dialect.pagination.AbstractLimitHandler;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.LimitHelper;
 import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.sql.ANSICaseFragment;
 import org.hibernate.sql.CaseFragment;
 
@@ -199,5 +202,65 @@ public class Oracle9iDialect extends Oracle8iDialect {
 	@Override
 	public boolean supportsTupleDistinctCounts() {
 		return false;
-	}	
+	}
+
+	@Override
+	public boolean supportsUpsert() {
+		return true;
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] columnNames,
+			String[] valueExpressions,
+			String[] primaryKeyColumnNames) {
+		for ( String columnName : columnNames ) {
+			if ( !ArrayHelper.contains( primaryKeyColumnNames, columnName ) ) {
+				return getMergeString( tableName, columnNames, valueExpressions, primaryKeyColumnNames );
+			}
+		}
+		// the when matched clause is only optional as of Oracle 10g, and it cannot update the columns of the on clause
+		throw new HibernateException(
+				"Upserting into a table made of primary key columns only requires Oracle 10g: " + tableName
+		);
+	}
+
+	/**
+	 * Render a merge statement inserting the row, or updating the columns which are not primary key columns.  The
+	 * when matched clause is omitted when every column is a primary key column.
+	 */
+	String getMergeString(
+			String tableName,
+			String[] columnNames,
+			String[] valueExpressions,
+			String[] primaryKeyColumnNames) {
+		final StringBuilder buf = new StringBuilder( "merge into " ).append( tableName ).append( " t using (select " );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( i > 0 ) {
+				buf.append( ", " );
+			}
+			buf.append( valueExpressions[i] ).append( " as " ).append( columnNames[i] );
+		}
+		buf.append( " from dual) s on (" );
+		for ( int i = 0; i < primaryKeyColumnNames.length; i++ ) {
+			if ( i > 0 ) {
+				buf.append( " and " );
+			}
+			buf.append( "t." ).append( primaryKeyColumnNames[i] ).append( " = s." ).append( primaryKeyColumnNames[i] );
+		}
+		buf.append( ')' );
+		boolean first = true;
+		for ( String columnName : columnNames ) {
+			if ( !ArrayHelper.contains( primaryKeyColumnNames, columnName ) ) {
+				buf.append( first ? " when matched then update set " : ", " )
+						.append( "t." ).append( columnName ).append( " = s." ).append( columnName );
+				first = false;
+			}
+		}
+		return buf.append( " when not matched then insert (" ).append( StringHelper.join( ", ", columnNames ) )
+				.append( ") values (" ).append( StringHelper.join( ", ", StringHelper.qualify( "s", columnNames ) ) )
+				.append( ')' )
+				.toString();
+	}
 }
@@ -204,6 +204,11 @@ public class PostgreSQL81Dialect extends Dialect {
 		return "add column";
 	}
 
+	@Override
+	public String getQueryPlanString(String sql) {
+		return "explain " + sql;
+	}
+
 	@Override
 	public String getSequenceNextValString(String sequenceName) {
 		return "select " + getSelectSequenceNextValString( sequenceName );
@@ -57,6 +57,11 @@ public class PostgreSQL82Dialect extends PostgreSQL81Dialect {
 		return "drop sequence if exists " + sequenceName;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsValuesList() {
 		return true;
@@ -7,9 +7,11 @@
 package org.hibernate.dialect;
 
 import org.hibernate.LockOptions;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
 
 /**
- * An SQL dialect for Postgres 9.5 and later. Adds support for SKIP LOCKED.
+ * An SQL dialect for Postgres 9.5 and later. Adds support for SKIP LOCKED and for upserts with ON CONFLICT.
  */
 public class PostgreSQL95Dialect extends PostgreSQL94Dialect {
 
@@ -67,4 +69,34 @@ public class PostgreSQL95Dialect extends PostgreSQL94Dialect {
 	public boolean supportsSkipLocked() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsUpsert() {
+		return true;
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] columnNames,
+			String[] valueExpressions,
+			String[] primaryKeyColumnNames) {
+		final StringBuilder buf = new StringBuilder( "insert into " ).append( tableName )
+				.append( " (" ).append( StringHelper.join( ", ", columnNames ) )
+				.append( ") values (" ).append( StringHelper.join( ", ", valueExpressions ) )
+				.append( ") on conflict (" ).append( StringHelper.join( ", ", primaryKeyColumnNames ) )
+				.append( ") do " );
+		boolean first = true;
+		for ( String columnName : columnNames ) {
+			if ( !ArrayHelper.contains( primaryKeyColumnNames, columnName ) ) {
+				buf.append( first ? "update set " : ", " )
+						.append( columnName ).append( " = excluded." ).append( columnName );
+				first = false;
+			}
+		}
+		if ( first ) {
+			buf.append( "nothing" );
+		}
+		return buf.toString();
+	}
 }
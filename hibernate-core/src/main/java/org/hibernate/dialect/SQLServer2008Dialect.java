@@ -10,6 +10,8 @@ import java.sql.Types;
 
 import org.hibernate.NullPrecedence;
 import org.hibernate.dialect.function.NoArgSQLFunction;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.type.StandardBasicTypes;
 
 /**
@@ -61,4 +63,46 @@ public class SQLServer2008Dialect extends SQLServer2005Dialect {
 	public boolean supportsValuesList() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsUpsert() {
+		return true;
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] columnNames,
+			String[] valueExpressions,
+			String[] primaryKeyColumnNames) {
+		// holdlock keeps concurrent merges of the same key from both inserting it
+		final StringBuilder buf = new StringBuilder( "merge into " ).append( tableName )
+				.append( " with (holdlock) as t using (values (" ).append( StringHelper.join( ", ", valueExpressions ) )
+				.append( ")) as s (" ).append( StringHelper.join( ", ", columnNames ) )
+				.append( ") on " );
+		for ( int i = 0; i < primaryKeyColumnNames.length; i++ ) {
+			if ( i > 0 ) {
+				buf.append( " and " );
+			}
+			buf.append( "t." ).append( primaryKeyColumnNames[i] ).append( " = s." ).append( primaryKeyColumnNames[i] );
+		}
+		boolean first = true;
+		for ( String columnName : columnNames ) {
+			if ( !ArrayHelper.contains( primaryKeyColumnNames, columnName ) ) {
+				buf.append( first ? " when matched then update set " : ", " )
+						.append( "t." ).append( columnName ).append( " = s." ).append( columnName );
+				first = false;
+			}
+		}
+		// a MERGE statement has to be terminated by a semicolon
+		return buf.append( " when not matched then insert (" ).append( StringHelper.join( ", ", columnNames ) )
+				.append( ") values (" ).append( StringHelper.join( ", ", StringHelper.qualify( "s", columnNames ) ) )
+				.append( ");" )
+				.toString();
+	}
 }
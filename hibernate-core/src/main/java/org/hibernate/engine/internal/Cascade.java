@@ -77,6 +77,12 @@ public final class Cascade {
 			throws HibernateException {
 
 		if ( persister.hasCascades() || action.requiresNoCascadeChecking() ) { // performance opt
+			// only visit the properties the action has something to do with
+			final int[] cascadingPropertyIndexes = persister.getEntityMetamodel().getCascadingPropertyIndexes( action );
+			if ( cascadingPropertyIndexes.length == 0 ) {
+				return;
+			}
+
 			final boolean traceEnabled = LOG.isTraceEnabled();
 			if ( traceEnabled ) {
 				LOG.tracev( "Processing cascade {0} for: {1}", action, persister.getEntityName() );
@@ -87,7 +93,7 @@ public final class Cascade {
 			final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
 			final boolean hasUninitializedLazyProperties = persister.hasUninitializedLazyProperties( parent );
 			final int componentPathStackDepth = 0;
-			for ( int i = 0; i < types.length; i++) {
+			for ( int i : cascadingPropertyIndexes ) {
 				final CascadeStyle style = cascadeStyles[ i ];
 				final String propertyName = propertyNames[ i ];
 				final boolean isUninitializedProperty =
@@ -44,7 +44,9 @@ import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.EntityUniqueKey;
+import org.hibernate.engine.spi.FlushCandidates;
 import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.NPlusOneSelectDetector;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
@@ -139,6 +141,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
+	private NPlusOneSelectDetector nPlusOneSelectDetector;
+	private FlushCandidates flushCandidates;
 
 
 	/**
@@ -172,6 +176,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		nullifiableEntityKeys = new HashSet<>();
 
+		if ( session instanceof SessionImplementor
+				&& session.getFactory().getSessionFactoryOptions().isIncrementalFlushEnabled() ) {
+			flushCandidates = new FlushCandidates();
+		}
+
 		initTransientState();
 	}
 
@@ -219,6 +228,22 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return batchFetchQueue;
 	}
 
+	@Override
+	public NPlusOneSelectDetector getNPlusOneSelectDetector() {
+		if ( nPlusOneSelectDetector == null ) {
+			final int threshold = session.getFactory().getSessionFactoryOptions().getNPlusOneSelectThreshold();
+			if ( threshold > 0 ) {
+				nPlusOneSelectDetector = new NPlusOneSelectDetector( session, threshold );
+			}
+		}
+		return nPlusOneSelectDetector;
+	}
+
+	@Override
+	public FlushCandidates getFlushCandidates() {
+		return flushCandidates;
+	}
+
 	@Override
 	public void clear() {
 		for ( Object o : proxiesByKey.values() ) {
@@ -257,8 +282,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		}
 		proxiesByKey.clear();
 		nullifiableEntityKeys.clear();
+		if ( flushCandidates != null ) {
+			flushCandidates.clear();
+		}
 		if ( batchFetchQueue != null ) {
 			batchFetchQueue.clear();
+			batchFetchQueue.clearLazyAttributeKeys();
 		}
 		// defaultReadOnly is unaffected by clear()
 		hasNonReadOnlyEntities = false;
@@ -285,8 +314,20 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void setEntryStatus(EntityEntry entry, Status status) {
+		final Status previousStatus = entry.getStatus();
 		entry.setStatus( status );
 		setHasNonReadOnlyEnties( status );
+		if ( flushCandidates != null ) {
+			final Object entity = entitiesByKey.get( entry.getEntityKey() );
+			if ( entity != null ) {
+				if ( previousStatus == Status.LOADING ) {
+					flushCandidates.entityLoaded( entity );
+				}
+				else {
+					flushCandidates.entityChanged( entity );
+				}
+			}
+		}
 	}
 
 	private void setHasNonReadOnlyEnties(Status status) {
@@ -421,6 +462,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		nullifiableEntityKeys.remove( key );
 		if( batchFetchQueue != null ) {
 			getBatchFetchQueue().removeBatchLoadableEntityKey(key);
+			getBatchFetchQueue().removeBatchLoadableLazyAttributes( key );
 			getBatchFetchQueue().removeSubselect(key);
 		}
 		return entity;
@@ -443,6 +485,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public EntityEntry removeEntry(Object entity) {
+		if ( flushCandidates != null ) {
+			flushCandidates.entityRemoved( entity );
+		}
 		return entityEntryContext.removeEntityEntry( entity );
 	}
 
@@ -544,6 +589,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entityEntryContext.addEntityEntry( entity, e );
 
 		setHasNonReadOnlyEnties( status );
+		if ( flushCandidates != null ) {
+			flushCandidates.entityManaged( entity, status );
+		}
 		return e;
 	}
 
@@ -555,6 +603,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entityEntryContext.addEntityEntry( entity, ((ManagedEntity)entity).$$_hibernate_getEntityEntry() );
 
 		setHasNonReadOnlyEnties( status );
+		if ( flushCandidates != null ) {
+			flushCandidates.entityManaged( entity, status );
+		}
 		return ((ManagedEntity)entity).$$_hibernate_getEntityEntry();
 	}
 
@@ -1403,6 +1454,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		}
 		entry.setReadOnly( readOnly, entity );
 		hasNonReadOnlyEntities = hasNonReadOnlyEntities || ! readOnly;
+		if ( flushCandidates != null ) {
+			flushCandidates.entityChanged( entity );
+		}
 	}
 
 	@Override
@@ -1604,6 +1658,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			}
 
 			rtn.entityEntryContext = EntityEntryContext.deserialize( ois, rtn );
+			if ( rtn.flushCandidates != null ) {
+				// the flush candidates are not serialized
+				for ( Entry<Object, EntityEntry> entry : rtn.entityEntryContext.reentrantSafeEntityEntries() ) {
+					rtn.flushCandidates.entityManaged( entry.getKey(), Status.MANAGED );
+				}
+			}
 
 			count = ois.readInt();
 			if ( tracing ) {
@@ -33,6 +33,8 @@ public class StatisticalLoggingSessionEventListener extends BaseSessionEventList
 	private int jdbcConnectionReleaseCount;
 	private long jdbcConnectionReleaseTime;
 
+	private long jdbcConnectionHoldTime;
+
 	private int jdbcPrepareStatementCount;
 	private long jdbcPrepareStatementTime;
 
@@ -77,12 +79,19 @@ public class StatisticalLoggingSessionEventListener extends BaseSessionEventList
 		assert jdbcConnectionAcquisitionStart > 0:
 				"Unexpected call to jdbcConnectionAcquisitionEnd; expecting jdbcConnectionAcquisitionStart";
 
+		final long now = System.nanoTime();
 		jdbcConnectionAcquisitionCount++;
-		jdbcConnectionAcquisitionTime += ( System.nanoTime() - jdbcConnectionAcquisitionStart );
+		jdbcConnectionAcquisitionTime += ( now - jdbcConnectionAcquisitionStart );
 		jdbcConnectionAcquisitionStart = -1;
+		jdbcConnectionHoldStart = now;
 	}
 
 
+	// JDBC Connection hold ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	private long jdbcConnectionHoldStart = -1;
+
+
 	// JDBC Connection release ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	private long jdbcConnectionReleaseStart = -1;
@@ -91,6 +100,10 @@ public class StatisticalLoggingSessionEventListener extends BaseSessionEventList
 	public void jdbcConnectionReleaseStart() {
 		assert jdbcConnectionReleaseStart < 0 : "Nested calls to jdbcConnectionReleaseStart";
 		jdbcConnectionReleaseStart = System.nanoTime();
+		if ( jdbcConnectionHoldStart > 0 ) {
+			jdbcConnectionHoldTime += ( jdbcConnectionReleaseStart - jdbcConnectionHoldStart );
+			jdbcConnectionHoldStart = -1;
+		}
 	}
 
 	@Override
@@ -259,6 +272,7 @@ public class StatisticalLoggingSessionEventListener extends BaseSessionEventList
 				"Session Metrics {\n" +
 						"    %s nanoseconds spent acquiring %s JDBC connections;\n" +
 						"    %s nanoseconds spent releasing %s JDBC connections;\n" +
+						"    %s nanoseconds spent holding JDBC connections;\n" +
 						"    %s nanoseconds spent preparing %s JDBC statements;\n" +
 						"    %s nanoseconds spent executing %s JDBC statements;\n" +
 						"    %s nanoseconds spent executing %s JDBC batches;\n" +
@@ -272,6 +286,7 @@ public class StatisticalLoggingSessionEventListener extends BaseSessionEventList
 				jdbcConnectionAcquisitionCount,
 				jdbcConnectionReleaseTime,
 				jdbcConnectionReleaseCount,
+				jdbcConnectionHoldTime,
 				jdbcPrepareStatementTime,
 				jdbcPrepareStatementCount,
 				jdbcExecuteStatementTime,
@@ -17,6 +17,7 @@ import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcInstrumentation;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
@@ -39,6 +40,7 @@ public abstract class AbstractBatchImpl implements Batch {
 
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
+	private final JdbcInstrumentation jdbcInstrumentation;
 
 	private LinkedHashMap<String,PreparedStatement> statements = new LinkedHashMap<String,PreparedStatement>();
 	private LinkedHashSet<BatchObserver> observers = new LinkedHashSet<BatchObserver>();
@@ -60,6 +62,7 @@ public abstract class AbstractBatchImpl implements Batch {
 
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+		this.jdbcInstrumentation = jdbcServices.getJdbcInstrumentation();
 	}
 
 	protected JdbcCoordinator getJdbcCoordinator(){
@@ -92,6 +95,15 @@ public abstract class AbstractBatchImpl implements Batch {
 		return sqlStatementLogger;
 	}
 
+	/**
+	 * Convenience access to the JDBC instrumentation.
+	 *
+	 * @return The JDBC instrumentation, or {@code null} if none is configured.
+	 */
+	protected JdbcInstrumentation jdbcInstrumentation() {
+		return jdbcInstrumentation;
+	}
+
 	protected void abortBatch() {
 		jdbcCoordinator.abortBatch();
 	}
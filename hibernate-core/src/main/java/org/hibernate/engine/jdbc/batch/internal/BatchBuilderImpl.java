@@ -7,7 +7,11 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Environment;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
@@ -18,16 +22,19 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.Manageable;
+import org.hibernate.service.spi.Stoppable;
 
 /**
  * A builder for {@link Batch} instances.
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable, BatchBuilderMXBean {
+public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable, Stoppable, BatchBuilderMXBean {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BatchBuilderImpl.class );
 
 	private int jdbcBatchSize;
+	private boolean pipelined;
+	private ExecutorService pipelineExecutorService;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -47,6 +54,7 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 	@Override
 	public void configure(Map configurationValues) {
 		jdbcBatchSize = ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, jdbcBatchSize );
+		pipelined = ConfigurationHelper.getBoolean( AvailableSettings.STATEMENT_BATCH_PIPELINING, configurationValues, false );
 	}
 
 	@Override
@@ -66,9 +74,34 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 		final int jdbcBatchSizeToUse = sessionJdbcBatchSize == null ?
 				this.jdbcBatchSize :
 				sessionJdbcBatchSize;
-		return jdbcBatchSizeToUse > 1
-				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
-				: new NonBatchingBatch( key, jdbcCoordinator );
+		if ( jdbcBatchSizeToUse <= 1 ) {
+			return new NonBatchingBatch( key, jdbcCoordinator );
+		}
+		return pipelined
+				? new PipelinedBatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse, pipelineExecutorService() )
+				: new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse );
+	}
+
+	private synchronized ExecutorService pipelineExecutorService() {
+		if ( pipelineExecutorService == null ) {
+			final AtomicInteger threadCount = new AtomicInteger();
+			pipelineExecutorService = Executors.newCachedThreadPool(
+					runnable -> {
+						final Thread thread = new Thread( runnable, "hibernate-batch-" + threadCount.incrementAndGet() );
+						thread.setDaemon( true );
+						return thread;
+					}
+			);
+		}
+		return pipelineExecutorService;
+	}
+
+	@Override
+	public synchronized void stop() {
+		if ( pipelineExecutorService != null ) {
+			pipelineExecutorService.shutdown();
+			pipelineExecutorService = null;
+		}
 	}
 
 	@Override
@@ -108,7 +108,11 @@ public class BatchingBatch extends AbstractBatchImpl {
 					final int[] rowCounts;
 					try {
 						getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
+						final long executionStart = jdbcInstrumentation() == null ? 0 : System.nanoTime();
 						rowCounts = statement.executeBatch();
+						if ( jdbcInstrumentation() != null ) {
+							jdbcInstrumentation().batchExecuted( getKey(), sql, batchPosition, System.nanoTime() - executionStart );
+						}
 					}
 					finally {
 						getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
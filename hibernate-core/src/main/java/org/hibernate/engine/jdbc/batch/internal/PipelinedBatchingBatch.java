@@ -0,0 +1,227 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcInstrumentation;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} implementation which, like {@link BatchingBatch}, executes
+ * the batch once the batch size is reached, but does so on an I/O thread: the flushing thread carries on with
+ * the following actions while the database works.
+ * <p/>
+ * The Connection is never used by both threads at a time: every subsequent use of the Connection by the flushing
+ * thread, starting with the next {@link #getBatchStatement} call, first waits for the pending execution to
+ * complete (see {@link #awaitPendingExecution()}).  A failure of the pending execution is reported to the
+ * flushing thread at that point, possibly while handling a later action than the failing one.
+ */
+public class PipelinedBatchingBatch extends AbstractBatchImpl {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( PipelinedBatchingBatch.class );
+
+	private final int batchSize;
+	private final ExecutorService executorService;
+	private int batchPosition;
+	private boolean batchExecuted;
+	private int statementPosition;
+
+	private String currentStatementSql;
+	private PreparedStatement currentStatement;
+
+	private Future<Void> pendingExecution;
+	// written by the I/O thread, read once the pending execution has completed
+	private volatile String executingSql;
+
+	/**
+	 * Constructs a PipelinedBatchingBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The batch size.
+	 * @param executorService The executor running the batch executions
+	 */
+	public PipelinedBatchingBatch(
+			BatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			int batchSize,
+			ExecutorService executorService) {
+		super( key, jdbcCoordinator );
+		if ( ! key.getExpectation().canBeBatched() ) {
+			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
+		}
+		this.batchSize = batchSize;
+		this.executorService = executorService;
+	}
+
+	@Override
+	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		awaitPendingExecution();
+		currentStatementSql = sql;
+		currentStatement = super.getBatchStatement( sql, callable );
+		return currentStatement;
+	}
+
+	@Override
+	public void addToBatch() {
+		try {
+			currentStatement.addBatch();
+		}
+		catch ( SQLException e ) {
+			LOG.debugf( "SQLException escaped proxy", e );
+			throw sqlExceptionHelper().convert( e, "could not perform addBatch", currentStatementSql );
+		}
+		statementPosition++;
+		if ( statementPosition >= getKey().getBatchedStatementCount() ) {
+			batchPosition++;
+			if ( batchPosition == batchSize ) {
+				notifyObserversImplicitExecution();
+				submitExecution();
+				batchPosition = 0;
+				batchExecuted = true;
+			}
+			statementPosition = 0;
+		}
+	}
+
+	@Override
+	protected void doExecuteBatch() {
+		awaitPendingExecution();
+		if ( batchPosition == 0 ) {
+			if ( !batchExecuted ) {
+				LOG.debug( "No batched statements to execute" );
+			}
+		}
+		else {
+			submitExecution();
+			awaitPendingExecution();
+		}
+	}
+
+	/**
+	 * Does this batch currently have an execution running on the I/O thread?
+	 *
+	 * @return {@code true} if an execution is pending
+	 */
+	public boolean hasPendingExecution() {
+		return pendingExecution != null;
+	}
+
+	/**
+	 * Wait for the pending execution, if any, to complete, so that the Connection can be used again.
+	 *
+	 * @throws org.hibernate.JDBCException if the pending execution failed
+	 */
+	public void awaitPendingExecution() {
+		final Throwable failure = waitForPendingExecution();
+		if ( failure == null ) {
+			return;
+		}
+
+		final String sql = executingSql;
+		abortBatch();
+		if ( failure instanceof SQLException ) {
+			LOG.unableToExecuteBatch( (SQLException) failure, sql );
+			throw sqlExceptionHelper().convert( (SQLException) failure, "could not execute batch", sql );
+		}
+		else if ( failure instanceof RuntimeException ) {
+			LOG.unableToExecuteBatch( (RuntimeException) failure, sql );
+			throw (RuntimeException) failure;
+		}
+		else if ( failure instanceof Error ) {
+			throw (Error) failure;
+		}
+		throw new HibernateException( "could not execute batch", failure );
+	}
+
+	private void submitExecution() {
+		LOG.debugf( "Submitting execution of batch size: %s", batchPosition );
+		final int rowCount = batchPosition;
+		final List<Map.Entry<String, PreparedStatement>> statements =
+				new ArrayList<Map.Entry<String, PreparedStatement>>( getStatements().entrySet() );
+		final JdbcInstrumentation jdbcInstrumentation = jdbcInstrumentation();
+		observer().jdbcExecuteBatchStart();
+		pendingExecution = executorService.submit( () -> {
+			for ( Map.Entry<String, PreparedStatement> entry : statements ) {
+				executingSql = entry.getKey();
+				final long executionStart = jdbcInstrumentation == null ? 0 : System.nanoTime();
+				final int[] rowCounts = entry.getValue().executeBatch();
+				if ( jdbcInstrumentation != null ) {
+					jdbcInstrumentation.batchExecuted( getKey(), entry.getKey(), rowCount, System.nanoTime() - executionStart );
+				}
+				checkRowCounts( rowCounts, rowCount, entry.getValue() );
+			}
+			return null;
+		} );
+	}
+
+	private Throwable waitForPendingExecution() {
+		if ( pendingExecution == null ) {
+			return null;
+		}
+
+		final Future<Void> execution = pendingExecution;
+		pendingExecution = null;
+		boolean interrupted = false;
+		try {
+			while ( true ) {
+				try {
+					execution.get();
+					return null;
+				}
+				catch (InterruptedException e) {
+					// the statements cannot be touched before the execution completes, keep waiting
+					interrupted = true;
+				}
+				catch (ExecutionException e) {
+					return e.getCause();
+				}
+			}
+		}
+		finally {
+			observer().jdbcExecuteBatchEnd();
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void checkRowCounts(int[] rowCounts, int rowCount, PreparedStatement ps) throws SQLException, HibernateException {
+		final int numberOfRowCounts = rowCounts.length;
+		if ( numberOfRowCounts != rowCount ) {
+			LOG.unexpectedRowCounts();
+		}
+		for ( int i = 0; i < numberOfRowCounts; i++ ) {
+			getKey().getExpectation().verifyOutcome( rowCounts[i], ps, i );
+		}
+	}
+
+	private JdbcObserver observer() {
+		return getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+	}
+
+	@Override
+	public void release() {
+		final Throwable failure = waitForPendingExecution();
+		if ( failure instanceof Exception ) {
+			LOG.unableToExecuteBatch( (Exception) failure, executingSql );
+		}
+		super.release();
+	}
+}
@@ -156,7 +156,9 @@ public class ConnectionProviderInitiator implements StandardServiceInitiator<Con
 
 		if ( connectionProvider == null ) {
 			if ( configurationValues.get( AvailableSettings.URL ) != null ) {
-				connectionProvider = new DriverManagerConnectionProviderImpl();
+				connectionProvider = configurationValues.get( ReadReplicaConnectionProviderImpl.REPLICA_URLS ) != null
+						? new ReadReplicaConnectionProviderImpl()
+						: new DriverManagerConnectionProviderImpl();
 			}
 		}
 
@@ -317,6 +319,10 @@ public class ConnectionProviderInitiator implements StandardServiceInitiator<Con
 		SPECIAL_PROPERTIES.add( AvailableSettings.ISOLATION );
 		SPECIAL_PROPERTIES.add( AvailableSettings.DRIVER );
 		SPECIAL_PROPERTIES.add( AvailableSettings.USER );
+		SPECIAL_PROPERTIES.add( ReadReplicaConnectionProviderImpl.REPLICA_URLS );
+		SPECIAL_PROPERTIES.add( ReadReplicaConnectionProviderImpl.LAG_QUERY );
+		SPECIAL_PROPERTIES.add( ReadReplicaConnectionProviderImpl.MAX_LAG );
+		SPECIAL_PROPERTIES.add( ReadReplicaConnectionProviderImpl.HEALTH_CHECK_INTERVAL );
 
 		ISOLATION_VALUE_MAP = new ConcurrentHashMap<String, Integer>();
 		ISOLATION_VALUE_MAP.put( "TRANSACTION_NONE", Connection.TRANSACTION_NONE );
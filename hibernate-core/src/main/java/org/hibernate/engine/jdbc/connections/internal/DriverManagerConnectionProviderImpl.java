@@ -29,10 +29,11 @@ import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.Stoppable;
 
 /**
- * A connection provider that uses the {@link java.sql.DriverManager} directly to open connections and provides
- * a very rudimentary connection pool.
+ * A connection provider that uses the {@link java.sql.DriverManager} directly to open connections and pools
+ * them (see {@link PooledConnections}).
  * <p/>
- * IMPL NOTE : not intended for production use!
+ * Besides its size, the pool is tuned by {@link #MAX_WAIT}, {@link #IDLE_TIMEOUT}, {@link #VALIDATION_TIMEOUT}
+ * and {@link #LEAK_DETECTION_THRESHOLD}; its metrics are exposed by {@link #getPool()}.
  * <p/>
  * Thanks to Oleg Varaksin and his article on object pooling using the {@link java.util.concurrent} package, from
  * which much of the pooling code here is derived.  See http://ovaraksin.blogspot.com/2013/08/simple-and-lightweight-pool.html
@@ -49,6 +50,14 @@ public class DriverManagerConnectionProviderImpl
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS
+	public static final String MAX_WAIT = "hibernate.connection.pool_max_wait";
+	// in TimeUnit.SECONDS
+	public static final String IDLE_TIMEOUT = "hibernate.connection.pool_idle_timeout";
+	// in TimeUnit.SECONDS
+	public static final String VALIDATION_TIMEOUT = "hibernate.connection.pool_validation_timeout";
+	// in TimeUnit.MILLISECONDS
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.pool_leak_detection_threshold";
 
 	private boolean active = true;
 
@@ -67,8 +76,6 @@ public class DriverManagerConnectionProviderImpl
 
 	@Override
 	public void configure(Map configurationValues) {
-		log.usingHibernateBuiltInConnectionPool();
-
 		pool = buildPool( configurationValues );
 
 		final long validationInterval = ConfigurationHelper.getLong( VALIDATION_INTERVAL, configurationValues, 30 );
@@ -96,6 +103,7 @@ public class DriverManagerConnectionProviderImpl
 		final int minSize = ConfigurationHelper.getInt( MIN_SIZE, configurationValues, 1 );
 		final int maxSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 );
 		final int initialSize = ConfigurationHelper.getInt( INITIAL_SIZE, configurationValues, minSize );
+		log.usingHibernateConnectionPool( minSize, maxSize );
 
 		ConnectionCreator connectionCreator = buildCreator( configurationValues );
 		PooledConnections.Builder pooledConnectionBuilder = new PooledConnections.Builder(
@@ -105,6 +113,12 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.initialSize( initialSize );
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
+		pooledConnectionBuilder.maxWait( ConfigurationHelper.getLong( MAX_WAIT, configurationValues, 30000 ) );
+		pooledConnectionBuilder.idleTimeout( ConfigurationHelper.getLong( IDLE_TIMEOUT, configurationValues, 0 ) );
+		pooledConnectionBuilder.validationTimeout( ConfigurationHelper.getInt( VALIDATION_TIMEOUT, configurationValues, 5 ) );
+		pooledConnectionBuilder.leakDetectionThreshold(
+				ConfigurationHelper.getLong( LEAK_DETECTION_THRESHOLD, configurationValues, 0 )
+		);
 
 		return pooledConnectionBuilder.build();
 	}
@@ -195,6 +209,15 @@ public class DriverManagerConnectionProviderImpl
 		pool.add( conn );
 	}
 
+	/**
+	 * The underlying pool, exposing its metrics.
+	 *
+	 * @return The pool, or {@code null} if this provider was not configured yet
+	 */
+	public PooledConnections getPool() {
+		return pool;
+	}
+
 	@Override
 	public boolean supportsAggressiveRelease() {
 		return false;
@@ -6,30 +6,73 @@
  */
 package org.hibernate.engine.jdbc.connections.internal;
 
+import java.lang.ref.WeakReference;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 import org.hibernate.HibernateException;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 
 /**
+ * The pool of Connections behind {@link DriverManagerConnectionProviderImpl}.
+ * <p/>
+ * Borrowing a Connection does not lock: a thread first tries the Connections it returned itself most
+ * recently, then all pooled Connections, claiming one by a compare-and-set of its state.  Only once the
+ * pool has reached its maximum size does a thread block, for at most the configured max wait, until a
+ * Connection is handed off to it by a thread returning one.
+ * <p/>
+ * Connections idle for a while are validated through {@link Connection#isValid} when borrowed, and
+ * discarded if no longer valid.  The periodic {@link #validate()} evicts Connections which have been
+ * idle for longer than the idle timeout (while keeping the minimum size) and reports Connections held
+ * for longer than the leak detection threshold.
+ *
  * @author Andrea Boriero
  */
 public class PooledConnections {
 
-	private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<Connection>();
-	private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<Connection>();
-
 	private static final CoreMessageLogger log = CoreLogging.messageLogger( DriverManagerConnectionProviderImpl.class );
 
+	// number of recently returned Connections remembered by each thread
+	private static final int RECENT_CONNECTIONS = 16;
+	// Connections used more recently than this are not validated when borrowed
+	private static final long VALIDATION_BYPASS_NANOS = TimeUnit.MILLISECONDS.toNanos( 500 );
+	// how often a waiting thread checks whether Connections were discarded, leaving room to grow the pool
+	private static final long RECHECK_NANOS = TimeUnit.MILLISECONDS.toNanos( 100 );
+
+	private final CopyOnWriteArrayList<PooledConnection> allConnections = new CopyOnWriteArrayList<PooledConnection>();
+	private final ThreadLocal<List<WeakReference<PooledConnection>>> recentConnections =
+			ThreadLocal.withInitial( () -> new ArrayList<WeakReference<PooledConnection>>( RECENT_CONNECTIONS ) );
+	private final SynchronousQueue<PooledConnection> handoffQueue = new SynchronousQueue<PooledConnection>( true );
+	private final AtomicInteger totalConnections = new AtomicInteger();
+	private final AtomicInteger waiters = new AtomicInteger();
+
 	private final ConnectionCreator connectionCreator;
 	private final boolean autoCommit;
 	private final int minSize;
 	private final int maxSize;
+	private final long maxWaitNanos;
+	private final long idleTimeoutNanos;
+	private final int validationTimeout;
+	private final long leakDetectionThresholdNanos;
+
+	private final LongAdder borrowCount = new LongAdder();
+	private final LongAdder timeoutCount = new LongAdder();
+	private final LongAdder leakCount = new LongAdder();
+	private final LongAdder totalWaitNanos = new LongAdder();
+	private final AtomicLong maxWaitTimeNanos = new AtomicLong();
 
-	private boolean primed;
+	private volatile boolean primed;
+	private volatile boolean closed;
 
 	private PooledConnections(
 			Builder builder) {
@@ -38,13 +81,27 @@ public class PooledConnections {
 		autoCommit = builder.autoCommit;
 		maxSize = builder.maxSize;
 		minSize = builder.minSize;
+		maxWaitNanos = TimeUnit.MILLISECONDS.toNanos( builder.maxWait );
+		idleTimeoutNanos = TimeUnit.SECONDS.toNanos( builder.idleTimeout );
+		validationTimeout = builder.validationTimeout;
+		leakDetectionThresholdNanos = TimeUnit.MILLISECONDS.toNanos( builder.leakDetectionThreshold );
 		log.hibernateConnectionPoolSize( maxSize, minSize );
-		addConnections( builder.initialSize );
+		addConnections( Math.min( builder.initialSize, maxSize ) );
 	}
 
+	/**
+	 * Periodic maintenance: evict idle Connections, maintain the minimum size and report leaks.
+	 */
 	public void validate() {
-		final int size = size();
+		if ( closed ) {
+			return;
+		}
+
+		if ( idleTimeoutNanos > 0 ) {
+			evictIdleConnections();
+		}
 
+		final int size = totalConnections.get();
 		if ( !primed && size >= minSize ) {
 			// IMPL NOTE : the purpose of primed is to allow the pool to lazily reach its
 			// defined min-size.
@@ -57,72 +114,197 @@ public class PooledConnections {
 			log.debugf( "Adding %s Connections to the pool", numberToBeAdded );
 			addConnections( numberToBeAdded );
 		}
-		else if ( size > maxSize ) {
-			int numberToBeRemoved = size - maxSize;
-			log.debugf( "Removing %s Connections from the pool", numberToBeRemoved );
-			removeConnections( numberToBeRemoved );
+
+		if ( leakDetectionThresholdNanos > 0 ) {
+			detectLeaks();
 		}
 	}
 
+	/**
+	 * Return a Connection to the pool.
+	 */
 	public void add(Connection conn) throws SQLException {
-		conn.setAutoCommit( true );
-		conn.clearWarnings();
-		availableConnections.offer( conn );
+		final PooledConnection pooled = locate( conn );
+		if ( pooled == null ) {
+			log.debug( "Connection returned to the pool was not obtained from it, closing it" );
+			conn.close();
+			return;
+		}
+
+		try {
+			if ( !pooled.connection.getAutoCommit() ) {
+				pooled.connection.setAutoCommit( true );
+			}
+			pooled.connection.clearWarnings();
+		}
+		catch (SQLException e) {
+			discard( pooled );
+			throw e;
+		}
+
+		if ( closed ) {
+			return;
+		}
+		release( pooled );
 	}
 
+	/**
+	 * Borrow a Connection from the pool, waiting for at most the configured max wait if the pool
+	 * is exhausted.
+	 */
 	public Connection poll() throws SQLException {
-		Connection conn = availableConnections.poll();
-		if ( conn == null ) {
-			synchronized (allConnections) {
-				if(allConnections.size() < maxSize) {
-					addConnections( 1 );
-					return poll();
+		final long start = System.nanoTime();
+		while ( true ) {
+			final PooledConnection pooled = borrow( start + maxWaitNanos );
+			if ( pooled == null ) {
+				timeoutCount.increment();
+				throw new HibernateException(
+						"The internal connection pool has reached its maximum size of " + maxSize +
+								" and no connection became available within " +
+								TimeUnit.NANOSECONDS.toMillis( maxWaitNanos ) + "ms!"
+				);
+			}
+
+			if ( !isValid( pooled ) ) {
+				log.debug( "Discarding invalid pooled Connection" );
+				discard( pooled );
+				continue;
+			}
+
+			try {
+				if ( pooled.connection.getAutoCommit() != autoCommit ) {
+					pooled.connection.setAutoCommit( autoCommit );
 				}
 			}
-			throw new HibernateException( "The internal connection pool has reached its maximum size and no connection is currently available!" );
+			catch (SQLException e) {
+				discard( pooled );
+				throw e;
+			}
+
+			final long waited = System.nanoTime() - start;
+			borrowCount.increment();
+			totalWaitNanos.add( waited );
+			long max;
+			while ( waited > ( max = maxWaitTimeNanos.get() ) && !maxWaitTimeNanos.compareAndSet( max, waited ) ) {
+				// retry
+			}
+
+			if ( leakDetectionThresholdNanos > 0 ) {
+				pooled.borrowed = System.nanoTime();
+				pooled.borrowTrace = new Exception( "Connection acquisition stack trace" );
+				pooled.leakReported = false;
+			}
+			return pooled.connection;
 		}
-		conn.setAutoCommit( autoCommit );
-		return conn;
 	}
 
 	public void close() throws SQLException {
+		closed = true;
 		try {
-			int allocationCount = allConnections.size() - availableConnections.size();
+			int allocationCount = getActiveConnections();
 			if(allocationCount > 0) {
 				log.error( "Connection leak detected: there are " + allocationCount + " unclosed connections upon shutting down pool " + getUrl());
 			}
 		}
 		finally {
-			for ( Connection connection : allConnections ) {
-				connection.close();
+			for ( PooledConnection pooled : allConnections ) {
+				pooled.state.set( PooledConnection.REMOVED );
+				pooled.connection.close();
 			}
 		}
 	}
 
+	/**
+	 * The number of idle Connections.
+	 */
 	public int size() {
-		return availableConnections.size();
+		return count( PooledConnection.AVAILABLE );
+	}
+
+	/**
+	 * The number of Connections currently held by the pool, whether idle or in use.
+	 */
+	public int getTotalConnections() {
+		return totalConnections.get();
+	}
+
+	/**
+	 * The number of idle Connections.
+	 */
+	public int getIdleConnections() {
+		return size();
+	}
+
+	/**
+	 * The number of Connections currently borrowed from the pool.
+	 */
+	public int getActiveConnections() {
+		return count( PooledConnection.IN_USE );
+	}
+
+	/**
+	 * The number of threads currently waiting for a Connection.
+	 */
+	public int getThreadsAwaitingConnection() {
+		return waiters.get();
+	}
+
+	/**
+	 * The number of Connections successfully borrowed from the pool.
+	 */
+	public long getBorrowCount() {
+		return borrowCount.sum();
+	}
+
+	/**
+	 * The number of times a thread gave up waiting for a Connection.
+	 */
+	public long getTimeoutCount() {
+		return timeoutCount.sum();
+	}
+
+	/**
+	 * The number of Connections reported as potential leaks.
+	 */
+	public long getLeakCount() {
+		return leakCount.sum();
+	}
+
+	/**
+	 * The total time spent by threads obtaining a Connection, in milliseconds.
+	 */
+	public long getTotalWaitTime() {
+		return TimeUnit.NANOSECONDS.toMillis( totalWaitNanos.sum() );
+	}
+
+	/**
+	 * The longest time a thread spent obtaining a Connection, in milliseconds.
+	 */
+	public long getMaxWaitTime() {
+		return TimeUnit.NANOSECONDS.toMillis( maxWaitTimeNanos.get() );
 	}
 
 	protected void removeConnections(int numberToBeRemoved) {
-		for ( int i = 0; i < numberToBeRemoved; i++ ) {
-			Connection connection = availableConnections.poll();
-			try {
-				if ( connection != null ) {
-					connection.close();
-				}
-				allConnections.remove( connection );
+		int removed = 0;
+		for ( PooledConnection pooled : allConnections ) {
+			if ( removed >= numberToBeRemoved ) {
+				break;
 			}
-			catch (SQLException e) {
-				log.unableToCloseConnection( e );
+			if ( pooled.claim() ) {
+				discard( pooled );
+				removed++;
 			}
 		}
 	}
 
 	protected void addConnections(int numberOfConnections) {
 		for ( int i = 0; i < numberOfConnections; i++ ) {
-			Connection connection = connectionCreator.createConnection();
-			allConnections.add( connection );
-			availableConnections.add( connection );
+			final PooledConnection pooled = create();
+			if ( pooled == null ) {
+				// reached the maximum size
+				return;
+			}
+			release( pooled );
 		}
 	}
 
@@ -130,12 +312,221 @@ public class PooledConnections {
 		return connectionCreator.getUrl();
 	}
 
+	private PooledConnection borrow(long deadline) {
+		// fast path : the Connections this thread returned most recently
+		final List<WeakReference<PooledConnection>> recent = recentConnections.get();
+		for ( int i = recent.size() - 1; i >= 0; i-- ) {
+			final PooledConnection pooled = recent.remove( i ).get();
+			if ( pooled != null && pooled.claim() ) {
+				return pooled;
+			}
+		}
+
+		waiters.incrementAndGet();
+		try {
+			long remaining = deadline - System.nanoTime();
+			while ( true ) {
+				for ( PooledConnection pooled : allConnections ) {
+					if ( pooled.claim() ) {
+						return pooled;
+					}
+				}
+
+				final PooledConnection created = create();
+				if ( created != null ) {
+					return created;
+				}
+
+				if ( remaining <= 0 ) {
+					return null;
+				}
+				final PooledConnection handedOff = handoffQueue.poll(
+						Math.min( remaining, RECHECK_NANOS ),
+						TimeUnit.NANOSECONDS
+				);
+				if ( handedOff != null && handedOff.claim() ) {
+					return handedOff;
+				}
+				remaining = deadline - System.nanoTime();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for a Connection from the internal connection pool", e );
+		}
+		finally {
+			waiters.decrementAndGet();
+		}
+	}
+
+	private void release(PooledConnection pooled) {
+		pooled.borrowTrace = null;
+		pooled.lastReturned = System.nanoTime();
+		pooled.state.set( PooledConnection.AVAILABLE );
+
+		// hand the Connection off to a waiting thread, unless one of them claimed it already
+		for ( int i = 0; waiters.get() > 0; i++ ) {
+			if ( pooled.state.get() != PooledConnection.AVAILABLE || handoffQueue.offer( pooled ) ) {
+				return;
+			}
+			if ( ( i & 0xff ) == 0xff ) {
+				LockSupport.parkNanos( TimeUnit.MICROSECONDS.toNanos( 10 ) );
+			}
+			else {
+				Thread.yield();
+			}
+		}
+
+		final List<WeakReference<PooledConnection>> recent = recentConnections.get();
+		if ( recent.size() < RECENT_CONNECTIONS ) {
+			recent.add( new WeakReference<PooledConnection>( pooled ) );
+		}
+	}
+
+	private PooledConnection create() {
+		while ( true ) {
+			final int current = totalConnections.get();
+			if ( current >= maxSize ) {
+				return null;
+			}
+			if ( totalConnections.compareAndSet( current, current + 1 ) ) {
+				break;
+			}
+		}
+
+		try {
+			final PooledConnection pooled = new PooledConnection( connectionCreator.createConnection() );
+			allConnections.add( pooled );
+			return pooled;
+		}
+		catch (RuntimeException e) {
+			totalConnections.decrementAndGet();
+			throw e;
+		}
+	}
+
+	private void discard(PooledConnection pooled) {
+		if ( pooled.state.getAndSet( PooledConnection.REMOVED ) == PooledConnection.REMOVED ) {
+			return;
+		}
+		allConnections.remove( pooled );
+		totalConnections.decrementAndGet();
+		try {
+			pooled.connection.close();
+		}
+		catch (SQLException e) {
+			log.unableToCloseConnection( e );
+		}
+	}
+
+	private boolean isValid(PooledConnection pooled) {
+		if ( System.nanoTime() - pooled.lastReturned < VALIDATION_BYPASS_NANOS ) {
+			return true;
+		}
+		try {
+			return pooled.connection.isValid( validationTimeout );
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to validate pooled Connection [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	private void evictIdleConnections() {
+		final long now = System.nanoTime();
+		for ( PooledConnection pooled : allConnections ) {
+			if ( totalConnections.get() <= minSize ) {
+				return;
+			}
+			if ( now - pooled.lastReturned > idleTimeoutNanos && pooled.claim() ) {
+				log.debug( "Evicting idle pooled Connection" );
+				discard( pooled );
+			}
+		}
+	}
+
+	private void detectLeaks() {
+		final long now = System.nanoTime();
+		for ( PooledConnection pooled : allConnections ) {
+			final Throwable borrowTrace = pooled.borrowTrace;
+			if ( pooled.state.get() == PooledConnection.IN_USE
+					&& borrowTrace != null
+					&& !pooled.leakReported
+					&& now - pooled.borrowed > leakDetectionThresholdNanos ) {
+				pooled.leakReported = true;
+				leakCount.increment();
+				log.warnf(
+						borrowTrace,
+						"Connection leak detection triggered: Connection obtained from pool %s has been in use for more than %s ms",
+						getUrl(),
+						TimeUnit.NANOSECONDS.toMillis( leakDetectionThresholdNanos )
+				);
+			}
+		}
+	}
+
+	private PooledConnection locate(Connection conn) throws SQLException {
+		for ( PooledConnection pooled : allConnections ) {
+			if ( pooled.connection == conn ) {
+				return pooled;
+			}
+		}
+		// the Connection may have been wrapped by a subclass of the provider
+		if ( conn.isWrapperFor( Connection.class ) ) {
+			final Connection unwrapped = conn.unwrap( Connection.class );
+			if ( unwrapped != conn ) {
+				for ( PooledConnection pooled : allConnections ) {
+					if ( pooled.connection == unwrapped ) {
+						return pooled;
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	private int count(int state) {
+		int count = 0;
+		for ( PooledConnection pooled : allConnections ) {
+			if ( pooled.state.get() == state ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static final class PooledConnection {
+		private static final int REMOVED = -1;
+		private static final int AVAILABLE = 0;
+		private static final int IN_USE = 1;
+
+		private final Connection connection;
+		private final AtomicInteger state = new AtomicInteger( IN_USE );
+
+		private volatile long lastReturned = System.nanoTime();
+		private volatile long borrowed;
+		private volatile Throwable borrowTrace;
+		private volatile boolean leakReported;
+
+		private PooledConnection(Connection connection) {
+			this.connection = connection;
+		}
+
+		private boolean claim() {
+			return state.compareAndSet( AVAILABLE, IN_USE );
+		}
+	}
+
 	public static class Builder {
 		private final ConnectionCreator connectionCreator;
 		private boolean autoCommit;
 		private int initialSize = 1;
 		private int minSize = 1;
 		private int maxSize = 20;
+		private long maxWait = 30000;
+		private long idleTimeout;
+		private int validationTimeout = 5;
+		private long leakDetectionThreshold;
 
 		public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 			this.connectionCreator = connectionCreator;
@@ -157,6 +548,39 @@ public class PooledConnections {
 			return this;
 		}
 
+		/**
+		 * @param maxWait The maximum time to wait for a Connection, in milliseconds
+		 */
+		public Builder maxWait(long maxWait) {
+			this.maxWait = maxWait;
+			return this;
+		}
+
+		/**
+		 * @param idleTimeout The time after which an idle Connection may be evicted, in seconds; 0 disables eviction
+		 */
+		public Builder idleTimeout(long idleTimeout) {
+			this.idleTimeout = idleTimeout;
+			return this;
+		}
+
+		/**
+		 * @param validationTimeout The timeout passed to {@link Connection#isValid}, in seconds
+		 */
+		public Builder validationTimeout(int validationTimeout) {
+			this.validationTimeout = validationTimeout;
+			return this;
+		}
+
+		/**
+		 * @param leakDetectionThreshold The time after which a borrowed Connection is reported as a potential leak,
+		 * in milliseconds; 0 disables leak detection
+		 */
+		public Builder leakDetectionThreshold(long leakDetectionThreshold) {
+			this.leakDetectionThreshold = leakDetectionThreshold;
+			return this;
+		}
+
 		public PooledConnections build() {
 			return new PooledConnections( this );
 		}
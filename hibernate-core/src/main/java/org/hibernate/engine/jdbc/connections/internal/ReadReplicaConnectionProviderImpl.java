@@ -0,0 +1,266 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ReadOnlyRoutingConnectionProvider;
+import org.hibernate.internal.log.ConnectionPoolingLogger;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * A connection provider pooling Connections to a primary database and to any number of read replicas,
+ * each through a {@link DriverManagerConnectionProviderImpl}.
+ * <p/>
+ * Read-only Connections are obtained from the replicas in a round-robin fashion.  A background task
+ * checks the health of each replica every {@link #HEALTH_CHECK_INTERVAL} seconds: a replica whose
+ * Connections are not valid, or which lags behind the primary by more than {@link #MAX_LAG} seconds
+ * according to {@link #LAG_QUERY}, is skipped until it recovers.  When no replica is available,
+ * read-only Connections are obtained from the primary.
+ */
+public class ReadReplicaConnectionProviderImpl
+		implements ReadOnlyRoutingConnectionProvider, Configurable, Stoppable, ServiceRegistryAwareService {
+
+	private static final ConnectionPoolingLogger log = ConnectionPoolingLogger.CONNECTIONS_LOGGER;
+
+	/**
+	 * Comma-separated JDBC URLs of the read replicas.  All other connection settings are shared with the primary.
+	 */
+	public static final String REPLICA_URLS = "hibernate.connection.replica_urls";
+	// in TimeUnit.SECONDS
+	public static final String HEALTH_CHECK_INTERVAL = "hibernate.connection.replica_health_check_interval";
+	/**
+	 * A query returning the replication lag of a replica, in seconds, e.g. on PostgreSQL
+	 * {@code select coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)}
+	 */
+	public static final String LAG_QUERY = "hibernate.connection.replica_lag_query";
+	// in TimeUnit.SECONDS
+	public static final String MAX_LAG = "hibernate.connection.replica_max_lag";
+
+	private ServiceRegistryImplementor serviceRegistry;
+
+	private DriverManagerConnectionProviderImpl primary;
+	private final List<Replica> replicas = new ArrayList<Replica>();
+	private final AtomicInteger nextReplica = new AtomicInteger();
+	private final Map<Connection, DriverManagerConnectionProviderImpl> readOnlyConnections =
+			new ConcurrentHashMap<Connection, DriverManagerConnectionProviderImpl>();
+
+	private String lagQuery;
+	private double maxLag;
+	private ScheduledExecutorService executorService;
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void configure(Map configurationValues) {
+		primary = buildProvider( configurationValues );
+
+		final String[] urls = StringHelper.split( ", ", ConfigurationHelper.getString( REPLICA_URLS, configurationValues, "" ) );
+		for ( String url : urls ) {
+			final Map replicaConfigurationValues = new HashMap( configurationValues );
+			replicaConfigurationValues.put( AvailableSettings.URL, url );
+			replicas.add( new Replica( url, buildProvider( replicaConfigurationValues ) ) );
+		}
+
+		lagQuery = ConfigurationHelper.getString( LAG_QUERY, configurationValues );
+		maxLag = ConfigurationHelper.getDouble( MAX_LAG, configurationValues, 30 );
+
+		final long healthCheckInterval = ConfigurationHelper.getLong( HEALTH_CHECK_INTERVAL, configurationValues, 10 );
+		if ( !replicas.isEmpty() && healthCheckInterval > 0 ) {
+			executorService = Executors.newSingleThreadScheduledExecutor();
+			executorService.scheduleWithFixedDelay(
+					this::checkReplicas,
+					healthCheckInterval,
+					healthCheckInterval,
+					TimeUnit.SECONDS
+			);
+		}
+	}
+
+	private DriverManagerConnectionProviderImpl buildProvider(Map configurationValues) {
+		final DriverManagerConnectionProviderImpl provider = new DriverManagerConnectionProviderImpl();
+		provider.injectServices( serviceRegistry );
+		provider.configure( configurationValues );
+		return provider;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return primary.getConnection();
+	}
+
+	@Override
+	public Connection getReadOnlyConnection() throws SQLException {
+		final int size = replicas.size();
+		final int start = size == 0 ? 0 : Math.floorMod( nextReplica.getAndIncrement(), size );
+		for ( int i = 0; i < size; i++ ) {
+			final Replica replica = replicas.get( ( start + i ) % size );
+			if ( !replica.healthy ) {
+				continue;
+			}
+			try {
+				final Connection connection = replica.provider.getConnection();
+				readOnlyConnections.put( connection, replica.provider );
+				return connection;
+			}
+			catch (SQLException | HibernateException e) {
+				markUnhealthy( replica, e.getMessage() );
+			}
+		}
+
+		log.debug( "No read replica available, using a Connection to the primary database" );
+		return primary.getConnection();
+	}
+
+	@Override
+	public void closeConnection(Connection conn) throws SQLException {
+		if ( conn == null ) {
+			return;
+		}
+		final DriverManagerConnectionProviderImpl provider = readOnlyConnections.remove( conn );
+		( provider == null ? primary : provider ).closeConnection( conn );
+	}
+
+	/**
+	 * Is the given replica currently used for read-only Connections?
+	 *
+	 * @param url The JDBC URL of the replica
+	 */
+	public boolean isReplicaAvailable(String url) {
+		for ( Replica replica : replicas ) {
+			if ( replica.url.equals( url ) ) {
+				return replica.healthy;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check the health and replication lag of each replica.  Called periodically.
+	 */
+	public void checkReplicas() {
+		for ( Replica replica : replicas ) {
+			final String problem = checkReplica( replica );
+			if ( problem == null ) {
+				if ( !replica.healthy ) {
+					log.infof( "Read replica [%s] is available again", replica.url );
+					replica.healthy = true;
+				}
+			}
+			else {
+				markUnhealthy( replica, problem );
+			}
+		}
+	}
+
+	private String checkReplica(Replica replica) {
+		try {
+			final Connection connection = replica.provider.getConnection();
+			try {
+				if ( !connection.isValid( 5 ) ) {
+					return "Connection is not valid";
+				}
+				if ( lagQuery != null ) {
+					try ( Statement statement = connection.createStatement();
+							ResultSet resultSet = statement.executeQuery( lagQuery ) ) {
+						final double lag = resultSet.next() ? resultSet.getDouble( 1 ) : 0;
+						if ( lag > maxLag ) {
+							return "replication lag of " + lag + "s exceeds " + maxLag + "s";
+						}
+					}
+				}
+				return null;
+			}
+			finally {
+				replica.provider.closeConnection( connection );
+			}
+		}
+		catch (SQLException | HibernateException e) {
+			return e.getMessage();
+		}
+	}
+
+	private void markUnhealthy(Replica replica, String problem) {
+		if ( replica.healthy ) {
+			log.warnf( "Read replica [%s] is not available, no longer using it: %s", replica.url, problem );
+			replica.healthy = false;
+		}
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return false;
+	}
+
+	@Override
+	public boolean isUnwrappableAs(Class unwrapType) {
+		return ConnectionProvider.class.equals( unwrapType )
+				|| ReadOnlyRoutingConnectionProvider.class.equals( unwrapType )
+				|| ReadReplicaConnectionProviderImpl.class.isAssignableFrom( unwrapType );
+	}
+
+	@Override
+	@SuppressWarnings( {"unchecked"})
+	public <T> T unwrap(Class<T> unwrapType) {
+		if ( isUnwrappableAs( unwrapType ) ) {
+			return (T) this;
+		}
+		else {
+			throw new UnknownUnwrapTypeException( unwrapType );
+		}
+	}
+
+	@Override
+	public void stop() {
+		if ( executorService != null ) {
+			executorService.shutdown();
+			executorService = null;
+		}
+		for ( Replica replica : replicas ) {
+			replica.provider.stop();
+		}
+		if ( primary != null ) {
+			primary.stop();
+		}
+	}
+
+	private static class Replica {
+		private final String url;
+		private final DriverManagerConnectionProviderImpl provider;
+		private volatile boolean healthy = true;
+
+		private Replica(String url, DriverManagerConnectionProviderImpl provider) {
+			this.url = url;
+			this.provider = provider;
+		}
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A {@link ConnectionProvider} able to hand out Connections for read-only work separately, typically
+ * to a read replica of the database.
+ * <p/>
+ * Hibernate asks for such a Connection when a Session which is {@link org.hibernate.Session#isDefaultReadOnly()
+ * read-only by default} acquires its JDBC Connection, or when a query marked read-only executes outside of a
+ * transaction; all other Connections are obtained through {@link #getConnection()}.  Once a Session writes or
+ * locks, it only obtains Connections through {@link #getConnection()}.  Whichever way it was obtained, a
+ * Connection is released through {@link #closeConnection}.
+ */
+public interface ReadOnlyRoutingConnectionProvider extends ConnectionProvider {
+	/**
+	 * Obtains a Connection for read-only work.  Implementations are free to fall back to a Connection
+	 * of the primary database, for example when no replica is available.
+	 *
+	 * @return The obtained JDBC connection
+	 *
+	 * @throws SQLException Indicates a problem opening a connection
+	 * @throws org.hibernate.HibernateException Indicates a problem otherwise obtaining a connection.
+	 */
+	Connection getReadOnlyConnection() throws SQLException;
+}
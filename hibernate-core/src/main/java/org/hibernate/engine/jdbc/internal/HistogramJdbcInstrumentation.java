@@ -0,0 +1,224 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcInstrumentation;
+import org.hibernate.service.spi.Manageable;
+import org.hibernate.stat.internal.LatencyHistogram;
+
+/**
+ * A {@link JdbcInstrumentation} recording JDBC timings in histograms, exposed through JMX when
+ * {@link org.hibernate.cfg.AvailableSettings#JMX_ENABLED JMX is enabled}.
+ * <p/>
+ * Besides the overall histograms, execution times and fetched rows are tracked per SQL statement for the first
+ * {@value #MAX_STATEMENTS} distinct statements, which keeps the memory bounded when SQL is generated dynamically.
+ */
+public class HistogramJdbcInstrumentation implements JdbcInstrumentation, Manageable, HistogramJdbcInstrumentationMXBean {
+	/**
+	 * Short name of this implementation, usable as value of
+	 * {@link org.hibernate.cfg.AvailableSettings#JDBC_INSTRUMENTATION}
+	 */
+	public static final String SHORT_NAME = "histogram";
+
+	private static final int MAX_STATEMENTS = 1000;
+
+	private final LatencyHistogram connectionAcquisition = new LatencyHistogram();
+	private final LatencyHistogram connectionHold = new LatencyHistogram();
+	private final LatencyHistogram statementPrepare = new LatencyHistogram();
+	private final LatencyHistogram statementExecution = new LatencyHistogram();
+	private final LatencyHistogram rowsFetched = new LatencyHistogram();
+	private final LatencyHistogram batchExecution = new LatencyHistogram();
+	private final LatencyHistogram batchSize = new LatencyHistogram();
+
+	private final Map<String, StatementHistogram> statements = new ConcurrentHashMap<String, StatementHistogram>();
+
+	@Override
+	public void connectionAcquired(long acquisitionNanos) {
+		connectionAcquisition.record( acquisitionNanos );
+	}
+
+	@Override
+	public void connectionReleased(long holdNanos) {
+		connectionHold.record( holdNanos );
+	}
+
+	@Override
+	public void statementPrepared(String sql, long prepareNanos) {
+		statementPrepare.record( prepareNanos );
+	}
+
+	@Override
+	public void statementExecuted(String sql, long executionNanos) {
+		statementExecution.record( executionNanos );
+		final StatementHistogram statement = statement( sql );
+		if ( statement != null ) {
+			statement.executionTime.record( executionNanos );
+		}
+	}
+
+	@Override
+	public void rowsFetched(String sql, int rowCount) {
+		rowsFetched.record( rowCount );
+		final StatementHistogram statement = statement( sql );
+		if ( statement != null ) {
+			statement.rowsFetched.add( rowCount );
+		}
+	}
+
+	@Override
+	public void batchExecuted(BatchKey key, String sql, int batchSize, long executionNanos) {
+		batchExecution.record( executionNanos );
+		this.batchSize.record( batchSize );
+		final StatementHistogram statement = statement( sql );
+		if ( statement != null ) {
+			statement.executionTime.record( executionNanos );
+		}
+	}
+
+	private StatementHistogram statement(String sql) {
+		if ( sql == null ) {
+			return null;
+		}
+		StatementHistogram statement = statements.get( sql );
+		if ( statement == null && statements.size() < MAX_STATEMENTS ) {
+			statement = statements.computeIfAbsent( sql, s -> new StatementHistogram() );
+		}
+		return statement;
+	}
+
+	@Override
+	public long getConnectionAcquisitionCount() {
+		return connectionAcquisition.getCount();
+	}
+
+	@Override
+	public long getConnectionAcquisitionTimePercentile(double percentile) {
+		return connectionAcquisition.getPercentile( percentile );
+	}
+
+	@Override
+	public long getConnectionHoldTimePercentile(double percentile) {
+		return connectionHold.getPercentile( percentile );
+	}
+
+	@Override
+	public long getStatementPrepareCount() {
+		return statementPrepare.getCount();
+	}
+
+	@Override
+	public long getStatementPrepareTimePercentile(double percentile) {
+		return statementPrepare.getPercentile( percentile );
+	}
+
+	@Override
+	public long getStatementExecutionCount() {
+		return statementExecution.getCount();
+	}
+
+	@Override
+	public long getStatementExecutionTimePercentile(double percentile) {
+		return statementExecution.getPercentile( percentile );
+	}
+
+	@Override
+	public long getRowsFetchedPercentile(double percentile) {
+		return rowsFetched.getPercentile( percentile );
+	}
+
+	@Override
+	public long getBatchExecutionCount() {
+		return batchExecution.getCount();
+	}
+
+	@Override
+	public long getBatchExecutionTimePercentile(double percentile) {
+		return batchExecution.getPercentile( percentile );
+	}
+
+	@Override
+	public long getBatchSizePercentile(double percentile) {
+		return batchSize.getPercentile( percentile );
+	}
+
+	@Override
+	public String[] getStatements() {
+		final List<Map.Entry<String, StatementHistogram>> entries =
+				new ArrayList<Map.Entry<String, StatementHistogram>>( statements.entrySet() );
+		entries.sort( (e1, e2) -> Long.compare( e2.getValue().executionTime.getCount(), e1.getValue().executionTime.getCount() ) );
+		final String[] sql = new String[entries.size()];
+		for ( int i = 0; i < sql.length; i++ ) {
+			sql[i] = entries.get( i ).getKey();
+		}
+		return sql;
+	}
+
+	@Override
+	public long getStatementExecutionCount(String sql) {
+		final StatementHistogram statement = statements.get( sql );
+		return statement == null ? 0 : statement.executionTime.getCount();
+	}
+
+	@Override
+	public long getStatementExecutionTimePercentile(String sql, double percentile) {
+		final StatementHistogram statement = statements.get( sql );
+		return statement == null ? 0 : statement.executionTime.getPercentile( percentile );
+	}
+
+	@Override
+	public long getStatementMaxExecutionTime(String sql) {
+		final StatementHistogram statement = statements.get( sql );
+		return statement == null ? 0 : statement.executionTime.getMax();
+	}
+
+	@Override
+	public long getStatementRowsFetched(String sql) {
+		final StatementHistogram statement = statements.get( sql );
+		return statement == null ? 0 : statement.rowsFetched.sum();
+	}
+
+	@Override
+	public void clear() {
+		connectionAcquisition.clear();
+		connectionHold.clear();
+		statementPrepare.clear();
+		statementExecution.clear();
+		rowsFetched.clear();
+		batchExecution.clear();
+		batchSize.clear();
+		statements.clear();
+	}
+
+	@Override
+	public String getManagementDomain() {
+		// use Hibernate default domain
+		return null;
+	}
+
+	@Override
+	public String getManagementServiceType() {
+		// use Hibernate default scheme
+		return null;
+	}
+
+	@Override
+	public Object getManagementBean() {
+		return this;
+	}
+
+	private static class StatementHistogram {
+		private final LatencyHistogram executionTime = new LatencyHistogram();
+		private final LongAdder rowsFetched = new LongAdder();
+	}
+}
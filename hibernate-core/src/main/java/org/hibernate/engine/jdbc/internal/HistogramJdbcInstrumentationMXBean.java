@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+/**
+ * The HistogramJdbcInstrumentation JMX management interface.  All times are in nanoseconds, percentiles
+ * are given between 0 and 100.
+ */
+public interface HistogramJdbcInstrumentationMXBean {
+	long getConnectionAcquisitionCount();
+	long getConnectionAcquisitionTimePercentile(double percentile);
+	long getConnectionHoldTimePercentile(double percentile);
+
+	long getStatementPrepareCount();
+	long getStatementPrepareTimePercentile(double percentile);
+
+	long getStatementExecutionCount();
+	long getStatementExecutionTimePercentile(double percentile);
+	long getRowsFetchedPercentile(double percentile);
+
+	long getBatchExecutionCount();
+	long getBatchExecutionTimePercentile(double percentile);
+	long getBatchSizePercentile(double percentile);
+
+	/**
+	 * @return The SQL of the statements with their own histograms, most executed first
+	 */
+	String[] getStatements();
+	long getStatementExecutionCount(String sql);
+	long getStatementExecutionTimePercentile(String sql, double percentile);
+	long getStatementMaxExecutionTime(String sql);
+	long getStatementRowsFetched(String sql);
+
+	void clear();
+}
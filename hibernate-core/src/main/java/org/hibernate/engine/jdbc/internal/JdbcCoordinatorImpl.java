@@ -16,12 +16,14 @@ import java.sql.Statement;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
+import org.hibernate.engine.jdbc.batch.internal.PipelinedBatchingBatch;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -31,9 +33,11 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.JdbcWrapper;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
+import org.hibernate.engine.jdbc.spi.SlowQueryLogger;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.jdbc.WorkExecutor;
@@ -125,9 +129,21 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public LogicalConnectionImplementor getLogicalConnection() {
+		awaitPendingBatchExecution();
 		return logicalConnection;
 	}
 
+	/**
+	 * The JDBC Connection is not meant to be used concurrently: wait until a batch being executed
+	 * by a {@link PipelinedBatchingBatch} is done before handing it out again.
+	 */
+	private void awaitPendingBatchExecution() {
+		if ( currentBatch instanceof PipelinedBatchingBatch
+				&& ( (PipelinedBatchingBatch) currentBatch ).hasPendingExecution() ) {
+			( (PipelinedBatchingBatch) currentBatch ).awaitPendingExecution();
+		}
+	}
+
 	protected SessionFactoryImplementor sessionFactory() {
 		return this.owner.getJdbcSessionContext().getSessionFactory();
 	}
@@ -220,6 +236,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public StatementPreparer getStatementPreparer() {
+		awaitPendingBatchExecution();
 		if ( statementPreparer == null ) {
 			statementPreparer = new StatementPreparerImpl( this );
 		}
@@ -228,8 +245,46 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient ResultSetReturn resultSetExtractor;
 
+	// the SQL of the statements prepared through the StatementPreparer, only tracked for the JdbcInstrumentation
+	// and the SlowQueryLogger
+	private transient IdentityHashMap<Statement, String> trackedStatementSql;
+	private transient IdentityHashMap<Statement, SlowQueryLogger.QuerySource> statementQuerySources;
+
+	void registerStatementSql(Statement statement, String sql) {
+		if ( trackedStatementSql == null ) {
+			trackedStatementSql = new IdentityHashMap<>();
+		}
+		trackedStatementSql.put( statement, sql );
+	}
+
+	String getStatementSql(Statement statement) {
+		return trackedStatementSql == null ? null : trackedStatementSql.get( statement );
+	}
+
+	@Override
+	public void registerQuerySource(Statement statement, SlowQueryLogger.QuerySource source) {
+		if ( statementQuerySources == null ) {
+			statementQuerySources = new IdentityHashMap<>();
+		}
+		statementQuerySources.put( statement, source );
+	}
+
+	SlowQueryLogger.QuerySource getQuerySource(Statement statement) {
+		return statementQuerySources == null ? null : statementQuerySources.get( statement );
+	}
+
+	private void clearTrackedStatements() {
+		if ( trackedStatementSql != null ) {
+			trackedStatementSql.clear();
+		}
+		if ( statementQuerySources != null ) {
+			statementQuerySources.clear();
+		}
+	}
+
 	@Override
 	public ResultSetReturn getResultSetReturn() {
+		awaitPendingBatchExecution();
 		if ( resultSetExtractor == null ) {
 			resultSetExtractor = new ResultSetReturnImpl( this );
 		}
@@ -261,6 +316,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	@Override
 	public void afterStatementExecution() {
 		LOG.tracev( "Starting after statement execution processing [{0}]", getConnectionReleaseMode() );
+		if ( ( trackedStatementSql != null || statementQuerySources != null ) && !hasRegisteredResources() ) {
+			clearTrackedStatements();
+		}
 		if ( getConnectionReleaseMode() == ConnectionReleaseMode.AFTER_STATEMENT ) {
 			if ( ! releasesEnabled ) {
 				LOG.debug( "Skipping aggressive release due to manual disabling" );
@@ -272,10 +330,26 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			}
 			getLogicalConnection().afterStatement();
 		}
+		else if ( logicalConnection instanceof LogicalConnectionManagedImpl
+				&& ( (LogicalConnectionManagedImpl) logicalConnection ).isReleasingAfterReadOnlyStatement()
+				&& isReadOnlyOutsideOfTransaction() ) {
+			if ( ! releasesEnabled ) {
+				LOG.debug( "Skipping early release due to manual disabling" );
+				return;
+			}
+			( (LogicalConnectionManagedImpl) getLogicalConnection() ).releaseIdleConnection();
+		}
+	}
+
+	private boolean isReadOnlyOutsideOfTransaction() {
+		return owner instanceof SessionImplementor
+				&& ( (SessionImplementor) owner ).isDefaultReadOnly()
+				&& !owner.getTransactionCoordinator().isTransactionActive();
 	}
 
 	@Override
 	public void afterTransaction() {
+		awaitPendingBatchExecution();
 		transactionTimeOutInstant = -1;
 		if ( getConnectionReleaseMode() == ConnectionReleaseMode.AFTER_STATEMENT ||
 				getConnectionReleaseMode() == ConnectionReleaseMode.AFTER_TRANSACTION ) {
@@ -372,6 +446,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		xref.clear();
 
 		closeAll( unassociatedResultSets );
+
+		clearTrackedStatements();
 	}
 
 	protected void closeAll(Set<ResultSet> resultSets) {
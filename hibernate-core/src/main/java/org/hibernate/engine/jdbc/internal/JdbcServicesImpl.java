@@ -9,6 +9,8 @@ package org.hibernate.engine.jdbc.internal;
 import java.util.Map;
 
 import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Environment;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.LobCreationContext;
@@ -17,12 +19,16 @@ import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.env.internal.JdbcEnvironmentInitiator;
 import org.hibernate.engine.jdbc.env.spi.ExtractedDatabaseMetaData;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.spi.JdbcInstrumentation;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetWrapper;
+import org.hibernate.engine.jdbc.spi.SlowQueryLogger;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.jmx.spi.JmxService;
 import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Manageable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
@@ -41,6 +47,10 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 
 	private ResultSetWrapperImpl resultSetWrapper;
 
+	private JdbcInstrumentation jdbcInstrumentation;
+
+	private SlowQueryLogger slowQueryLogger;
+
 	@Override
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.serviceRegistry = serviceRegistry;
@@ -59,6 +69,24 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 		this.sqlStatementLogger =  new SqlStatementLogger( showSQL, formatSQL );
 
 		resultSetWrapper = new ResultSetWrapperImpl( serviceRegistry );
+
+		this.jdbcInstrumentation = serviceRegistry.getService( StrategySelector.class ).resolveStrategy(
+				JdbcInstrumentation.class,
+				configValues.get( AvailableSettings.JDBC_INSTRUMENTATION )
+		);
+		if ( jdbcInstrumentation instanceof Manageable ) {
+			serviceRegistry.getService( JmxService.class ).registerService( (Manageable) jdbcInstrumentation, JdbcServices.class );
+		}
+
+		final long slowQueryThreshold = ConfigurationHelper.getLong( AvailableSettings.LOG_SLOW_QUERY, configValues, 0 );
+		if ( slowQueryThreshold > 0 ) {
+			this.slowQueryLogger = new SlowQueryLogger(
+					slowQueryThreshold,
+					ConfigurationHelper.getInt( AvailableSettings.LOG_SLOW_QUERY_EXPLAIN_COUNT, configValues, 0 ),
+					jdbcEnvironment.getDialect(),
+					getBootstrapJdbcConnectionAccess()
+			);
+		}
 	}
 
 	@Override
@@ -112,4 +140,14 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 	public ResultSetWrapper getResultSetWrapper() {
 		return resultSetWrapper;
 	}
+
+	@Override
+	public JdbcInstrumentation getJdbcInstrumentation() {
+		return jdbcInstrumentation;
+	}
+
+	@Override
+	public SlowQueryLogger getSlowQueryLogger() {
+		return slowQueryLogger;
+	}
 }
@@ -14,8 +14,10 @@ import java.sql.Statement;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcInstrumentation;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
+import org.hibernate.engine.jdbc.spi.SlowQueryLogger;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 
@@ -30,6 +32,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	private final Dialect dialect;
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
+	private final JdbcInstrumentation jdbcInstrumentation;
+	private final SlowQueryLogger slowQueryLogger;
 
 	/**
 	 * Constructs a ResultSetReturnImpl
@@ -48,6 +52,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+		this.jdbcInstrumentation = jdbcServices.getJdbcInstrumentation();
+		this.slowQueryLogger = jdbcServices.getSlowQueryLogger();
 	}
 
 	@Override
@@ -55,12 +61,12 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		// IMPL NOTE : SQL logged by caller
 		try {
 			final ResultSet rs;
+			final long executionStart = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				rs = statement.executeQuery();
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( statement, null, executionStart );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -70,12 +76,34 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 	}
 
-	private void jdbcExecuteStatementEnd() {
+	private void jdbcExecuteStatementEnd(Statement statement, String sql, long executionStart) {
 		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteStatementEnd();
+		if ( jdbcInstrumentation == null && slowQueryLogger == null ) {
+			return;
+		}
+
+		final long executionNanos = System.nanoTime() - executionStart;
+		final JdbcCoordinatorImpl jdbcCoordinatorImpl = jdbcCoordinator instanceof JdbcCoordinatorImpl
+				? (JdbcCoordinatorImpl) jdbcCoordinator
+				: null;
+		if ( sql == null && jdbcCoordinatorImpl != null ) {
+			sql = jdbcCoordinatorImpl.getStatementSql( statement );
+		}
+		if ( jdbcInstrumentation != null ) {
+			jdbcInstrumentation.statementExecuted( sql, executionNanos );
+		}
+		if ( slowQueryLogger != null ) {
+			slowQueryLogger.statementExecuted(
+					sql,
+					jdbcCoordinatorImpl == null ? null : jdbcCoordinatorImpl.getQuerySource( statement ),
+					executionNanos
+			);
+		}
 	}
 
-	private void jdbcExecuteStatementStart() {
+	private long jdbcExecuteStatementStart() {
 		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteStatementStart();
+		return jdbcInstrumentation == null && slowQueryLogger == null ? 0 : System.nanoTime();
 	}
 
 	@Override
@@ -83,12 +111,12 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		// IMPL NOTE : SQL logged by caller
 		try {
 			final ResultSet rs;
+			final long executionStart = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				rs = dialect.getResultSet( callableStatement );
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( callableStatement, null, executionStart );
 			}
 			postExtract( rs, callableStatement );
 			return rs;
@@ -103,12 +131,12 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		sqlStatementLogger.logStatement( sql );
 		try {
 			final ResultSet rs;
+			final long executionStart = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				rs = statement.executeQuery( sql );
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( statement, sql, executionStart );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -123,8 +151,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		// sql logged by StatementPreparerImpl
 		try {
 			final ResultSet rs;
+			final long executionStart = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				if ( !statement.execute() ) {
 					while ( !statement.getMoreResults() && statement.getUpdateCount() != -1 ) {
 						// do nothing until we hit the resultset
@@ -133,7 +161,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 				rs = statement.getResultSet();
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( statement, null, executionStart );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -148,8 +176,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		sqlStatementLogger.logStatement( sql );
 		try {
 			final ResultSet rs;
+			final long executionStart = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				if ( !statement.execute( sql ) ) {
 					while ( !statement.getMoreResults() && statement.getUpdateCount() != -1 ) {
 						// do nothing until we hit the resultset
@@ -158,7 +186,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 				rs = statement.getResultSet();
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( statement, sql, executionStart );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -170,30 +198,30 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 	@Override
 	public int executeUpdate(PreparedStatement statement) {
+		final long executionStart = jdbcExecuteStatementStart();
 		try {
-			jdbcExecuteStatementStart();
 			return statement.executeUpdate();
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement" );
 		}
 		finally {
-			jdbcExecuteStatementEnd();
+			jdbcExecuteStatementEnd( statement, null, executionStart );
 		}
 	}
 
 	@Override
 	public int executeUpdate(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
+		final long executionStart = jdbcExecuteStatementStart();
 		try {
-			jdbcExecuteStatementStart();
 			return statement.executeUpdate( sql );
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement" );
 		}
 		finally {
-			jdbcExecuteStatementEnd();
+			jdbcExecuteStatementEnd( statement, sql, executionStart );
 		}
 	}
 
@@ -15,10 +15,16 @@ import java.sql.Statement;
 import org.hibernate.AssertionFailure;
 import org.hibernate.ScrollMode;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.jdbc.spi.JdbcInstrumentation;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.resource.jdbc.ResourceRegistry;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache.StatementKey;
+import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Standard implementation of StatementPreparer
@@ -54,6 +60,13 @@ class StatementPreparerImpl implements StatementPreparer {
 	protected final SqlExceptionHelper sqlExceptionHelper() {
 		return getJdbcService().getSqlExceptionHelper();
 	}
+
+	private PreparedStatementCache statementCache() {
+		final ResourceRegistry resourceRegistry = jdbcCoordinator.getResourceRegistry();
+		return resourceRegistry instanceof ResourceRegistryStandardImpl
+				? ( (ResourceRegistryStandardImpl) resourceRegistry ).getStatementCache()
+				: null;
+	}
 	
 	@Override
 	public Statement createStatement() {
@@ -86,6 +99,11 @@ class StatementPreparerImpl implements StatementPreparer {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected StatementKey cacheKey() {
+				return isCallable ? null : new StatementKey( sql, ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS, null );
+			}
 		};
 	}
 
@@ -105,6 +123,11 @@ class StatementPreparerImpl implements StatementPreparer {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
+
+			@Override
+			protected StatementKey cacheKey() {
+				return new StatementKey( sql, ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys, null );
+			}
 		}.prepareStatement();
 	}
 
@@ -116,6 +139,11 @@ class StatementPreparerImpl implements StatementPreparer {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, columnNames );
 			}
+
+			@Override
+			protected StatementKey cacheKey() {
+				return new StatementKey( sql, ResultSet.TYPE_FORWARD_ONLY, Statement.RETURN_GENERATED_KEYS, columnNames );
+			}
 		}.prepareStatement();
 	}
 
@@ -134,6 +162,13 @@ class StatementPreparerImpl implements StatementPreparer {
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
 								: connection().prepareStatement( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY );
 				}
+
+				@Override
+				protected StatementKey cacheKey() {
+					return isCallable
+							? null
+							: new StatementKey( sql, scrollMode.toResultSetType(), Statement.NO_GENERATED_KEYS, null );
+				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
 			return ps;
@@ -145,6 +180,13 @@ class StatementPreparerImpl implements StatementPreparer {
 								? connection().prepareCall( sql )
 								: connection().prepareStatement( sql );
 				}
+
+				@Override
+				protected StatementKey cacheKey() {
+					return isCallable
+							? null
+							: new StatementKey( sql, ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS, null );
+				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
 			return ps;
@@ -164,12 +206,47 @@ class StatementPreparerImpl implements StatementPreparer {
 
 		public PreparedStatement prepareStatement() {
 			try {
-				getJdbcService().getSqlStatementLogger().logStatement( sql );
+				final JdbcServices jdbcServices = getJdbcService();
+				jdbcServices.getSqlStatementLogger().logStatement( sql );
+				final JdbcInstrumentation jdbcInstrumentation = jdbcServices.getJdbcInstrumentation();
+				final boolean trackSql = jdbcInstrumentation != null || jdbcServices.getSlowQueryLogger() != null;
+
+				final PreparedStatementCache statementCache = statementCache();
+				final StatementKey cacheKey = statementCache == null ? null : cacheKey();
+				if ( cacheKey != null ) {
+					final PreparedStatement cachedStatement = statementCache.checkOut( cacheKey );
+					final StatisticsImplementor statistics = jdbcCoordinator.sessionFactory().getStatisticsImplementor();
+					final boolean stats = statistics.isStatisticsEnabled();
+					if ( cachedStatement != null ) {
+						if ( stats ) {
+							statistics.preparedStatementCacheHit();
+						}
+						setStatementTimeout( cachedStatement );
+						postProcess( cachedStatement );
+						if ( trackSql ) {
+							jdbcCoordinator.registerStatementSql( cachedStatement, sql );
+						}
+						return cachedStatement;
+					}
+					if ( stats ) {
+						statistics.preparedStatementCacheMiss();
+					}
+				}
 
 				final PreparedStatement preparedStatement;
 				try {
 					jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcPrepareStatementStart();
+					final long prepareStart = jdbcInstrumentation == null ? 0 : System.nanoTime();
 					preparedStatement = doPrepare();
+					if ( jdbcInstrumentation != null ) {
+						jdbcInstrumentation.statementPrepared( sql, System.nanoTime() - prepareStart );
+					}
+					if ( trackSql ) {
+						jdbcCoordinator.registerStatementSql( preparedStatement, sql );
+					}
+					if ( cacheKey != null ) {
+						statementCache.register( cacheKey, preparedStatement );
+					}
 					setStatementTimeout( preparedStatement );
 				}
 				finally {
@@ -185,6 +262,14 @@ class StatementPreparerImpl implements StatementPreparer {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * The key under which the prepared statement may be kept in the
+		 * {@link PreparedStatementCache}, or {@code null} if it must not be cached.
+		 */
+		protected StatementKey cacheKey() {
+			return null;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
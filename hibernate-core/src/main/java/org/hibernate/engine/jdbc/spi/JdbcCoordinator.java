@@ -193,6 +193,16 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 		return getLogicalConnection().getResourceRegistry();
 	}
 
+	/**
+	 * Describe the query the given statement was prepared for, which is reported if its execution is slow.  Only
+	 * worth calling when slow statements are detected, see {@link JdbcServices#getSlowQueryLogger()}.
+	 *
+	 * @param statement The statement
+	 * @param source The query the statement was prepared for
+	 */
+	default void registerQuerySource(Statement statement, SlowQueryLogger.QuerySource source) {
+	}
+
 	void serialize(ObjectOutputStream objectOutputStream) throws IOException;
 
 }
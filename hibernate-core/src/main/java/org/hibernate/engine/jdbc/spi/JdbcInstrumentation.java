@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+
+/**
+ * Receives the timings of the JDBC operations performed by Hibernate, e.g. to export them to a metrics
+ * system.  Configured through {@link org.hibernate.cfg.AvailableSettings#JDBC_INSTRUMENTATION}.
+ * <p/>
+ * A single instance is shared by all the Sessions of a SessionFactory: implementations must be thread-safe,
+ * and should be cheap as they are called on the JDBC hot path.  When no instrumentation is configured, the call
+ * sites do not even read the clock.
+ * <p/>
+ * The SQL passed is the SQL sent to the database, which is the natural "shape" of a statement as its parameters
+ * are bound separately.  It is {@code null} when unknown, for instance for Statements which were not prepared
+ * through the {@link StatementPreparer}.
+ *
+ * @since 5.2.11
+ */
+public interface JdbcInstrumentation {
+	/**
+	 * A physical JDBC Connection was obtained.
+	 *
+	 * @param acquisitionNanos The time spent waiting for the Connection, in nanoseconds
+	 */
+	void connectionAcquired(long acquisitionNanos);
+
+	/**
+	 * A physical JDBC Connection was released.
+	 *
+	 * @param holdNanos The time the Connection was held, in nanoseconds
+	 */
+	void connectionReleased(long holdNanos);
+
+	/**
+	 * A PreparedStatement was prepared.  Not called when a statement is taken from the PreparedStatement cache.
+	 *
+	 * @param sql The SQL of the statement
+	 * @param prepareNanos The time spent preparing the statement, in nanoseconds
+	 */
+	void statementPrepared(String sql, long prepareNanos);
+
+	/**
+	 * A query or an update was executed.
+	 *
+	 * @param sql The SQL of the statement, or {@code null} if unknown
+	 * @param executionNanos The time spent executing the statement, in nanoseconds
+	 */
+	void statementExecuted(String sql, long executionNanos);
+
+	/**
+	 * The rows of a query were processed.
+	 *
+	 * @param sql The SQL of the query, or {@code null} if unknown
+	 * @param rowCount The number of rows fetched
+	 */
+	void rowsFetched(String sql, int rowCount);
+
+	/**
+	 * A JDBC batch was executed.
+	 *
+	 * @param key The key of the batch, usually naming the entity or collection role and the operation
+	 * @param sql The SQL of the batched statement
+	 * @param batchSize The number of statements in the batch
+	 * @param executionNanos The time spent executing the batch, in nanoseconds
+	 */
+	void batchExecuted(BatchKey key, String sql, int batchSize, long executionNanos);
+}
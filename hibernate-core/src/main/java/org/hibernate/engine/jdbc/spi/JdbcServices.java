@@ -75,4 +75,22 @@ public interface JdbcServices extends Service {
 	 * @return The ResultSet wrapper.
 	 */
 	ResultSetWrapper getResultSetWrapper();
+
+	/**
+	 * Obtain the instrumentation receiving the timings of JDBC operations, if any.
+	 *
+	 * @return The JDBC instrumentation, or {@code null} if none is configured
+	 */
+	default JdbcInstrumentation getJdbcInstrumentation() {
+		return null;
+	}
+
+	/**
+	 * Obtain the logger of slow JDBC statements, if enabled.
+	 *
+	 * @return The slow query logger, or {@code null} if slow statements are not detected
+	 */
+	default SlowQueryLogger getSlowQueryLogger() {
+		return null;
+	}
 }
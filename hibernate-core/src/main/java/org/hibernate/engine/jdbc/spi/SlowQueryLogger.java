@@ -0,0 +1,252 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.CallSiteHelper;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Logs the JDBC statements whose execution exceeds a threshold, see
+ * {@link org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY}.
+ * <p/>
+ * Slow statements are aggregated by SQL, which is the natural "shape" of a statement as its parameters are bound
+ * separately.  For the first occurrences of each SQL, the query plan is captured by running the
+ * {@link Dialect#getQueryPlanString EXPLAIN statement} of the Dialect on a separate Connection.
+ *
+ * @since 5.2.11
+ */
+public class SlowQueryLogger {
+	private static final Logger LOG = CoreLogging.logger( "org.hibernate.SQL_SLOW" );
+
+	private static final int MAX_SLOW_QUERIES = 1000;
+
+	private final long thresholdNanos;
+	private final int explainCount;
+	private final Dialect dialect;
+	private final JdbcConnectionAccess connectionAccess;
+
+	private final Map<String, SlowQuery> slowQueries = new ConcurrentHashMap<String, SlowQuery>();
+
+	/**
+	 * Constructs a SlowQueryLogger
+	 *
+	 * @param thresholdMillis The execution time above which a statement is slow, in milliseconds
+	 * @param explainCount For how many occurrences of each slow statement the query plan is captured
+	 * @param dialect The Dialect, providing the EXPLAIN statement
+	 * @param connectionAccess Gives access to the Connections used to capture query plans
+	 */
+	public SlowQueryLogger(long thresholdMillis, int explainCount, Dialect dialect, JdbcConnectionAccess connectionAccess) {
+		this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos( thresholdMillis );
+		this.explainCount = explainCount;
+		this.dialect = dialect;
+		this.connectionAccess = connectionAccess;
+	}
+
+	/**
+	 * Log the given execution if it is slow.
+	 *
+	 * @param sql The executed SQL, or {@code null} if unknown
+	 * @param source The query the statement was executed for, or {@code null} if unknown
+	 * @param executionNanos The execution time, in nanoseconds
+	 */
+	public void statementExecuted(String sql, QuerySource source, long executionNanos) {
+		if ( executionNanos < thresholdNanos || sql == null ) {
+			return;
+		}
+
+		SlowQuery slowQuery = slowQueries.get( sql );
+		if ( slowQuery == null && slowQueries.size() < MAX_SLOW_QUERIES ) {
+			slowQuery = slowQueries.computeIfAbsent( sql, SlowQuery::new );
+		}
+		final long occurrence;
+		String queryPlan = null;
+		if ( slowQuery == null ) {
+			occurrence = 0;
+		}
+		else {
+			occurrence = slowQuery.executed( executionNanos );
+			if ( slowQuery.explains.get() < explainCount && slowQuery.explains.incrementAndGet() <= explainCount ) {
+				queryPlan = explain( sql, source );
+				if ( queryPlan != null ) {
+					slowQuery.queryPlan = queryPlan;
+				}
+			}
+		}
+
+		LOG.warnf(
+				"Slow query (%s ms, occurrence %s): %s%n\tquery: %s%n\tparameter types: %s%n\tcalled from: %s%s",
+				TimeUnit.NANOSECONDS.toMillis( executionNanos ),
+				occurrence == 0 ? "untracked" : occurrence,
+				sql,
+				source == null ? "unknown" : source.getQuery(),
+				source == null ? "unknown" : source.getParameterTypes(),
+				CallSiteHelper.determineCallSite(),
+				queryPlan == null ? "" : String.format( "%n\tquery plan:%n%s", queryPlan )
+		);
+	}
+
+	/**
+	 * The slow statements seen so far, the ones which took the most time overall first.
+	 *
+	 * @return The slow statements
+	 */
+	public List<SlowQuery> getSlowQueries() {
+		final List<SlowQuery> result = new ArrayList<SlowQuery>( slowQueries.values() );
+		result.sort( (q1, q2) -> Long.compare( q2.getTotalExecutionTime(), q1.getTotalExecutionTime() ) );
+		return result;
+	}
+
+	/**
+	 * Forget the slow statements seen so far.
+	 */
+	public void clear() {
+		slowQueries.clear();
+	}
+
+	private String explain(String sql, QuerySource source) {
+		final String explainSql = dialect.getQueryPlanString( sql );
+		if ( explainSql == null || ( source == null && sql.indexOf( '?' ) >= 0 ) ) {
+			// no way to bind the parameters
+			return null;
+		}
+
+		try {
+			final Connection connection = connectionAccess.obtainConnection();
+			try {
+				try ( PreparedStatement statement = connection.prepareStatement( explainSql ) ) {
+					if ( source != null ) {
+						source.bindParameters( statement );
+					}
+					try ( ResultSet resultSet = statement.executeQuery() ) {
+						final int columnCount = resultSet.getMetaData().getColumnCount();
+						final StringBuilder plan = new StringBuilder();
+						while ( resultSet.next() ) {
+							plan.append( "\t\t" );
+							for ( int i = 1; i <= columnCount; i++ ) {
+								if ( i > 1 ) {
+									plan.append( ' ' );
+								}
+								plan.append( resultSet.getString( i ) );
+							}
+							plan.append( System.lineSeparator() );
+						}
+						return plan.toString();
+					}
+				}
+			}
+			finally {
+				connectionAccess.releaseConnection( connection );
+			}
+		}
+		catch (SQLException | RuntimeException e) {
+			LOG.debugf( e, "Unable to capture the query plan of [%s]", sql );
+			return null;
+		}
+	}
+
+	/**
+	 * Describes the query a statement was executed for, so that it can be reported, and explained with the
+	 * same parameters.
+	 */
+	public interface QuerySource {
+		/**
+		 * @return The query, typically the HQL or native query string
+		 */
+		String getQuery();
+
+		/**
+		 * @return The types of the parameters of the query
+		 */
+		String getParameterTypes();
+
+		/**
+		 * Bind the parameters of the query to another statement having the same parameters.
+		 *
+		 * @param statement The statement to which the parameters should be bound
+		 *
+		 * @throws SQLException Indicates problems binding the parameters
+		 */
+		void bindParameters(PreparedStatement statement) throws SQLException;
+	}
+
+	/**
+	 * The aggregated executions of a slow SQL statement.
+	 */
+	public static class SlowQuery {
+		private final String sql;
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalExecutionTime = new LongAdder();
+		private final AtomicLong maxExecutionTime = new AtomicLong();
+		private final AtomicInteger explains = new AtomicInteger();
+		private volatile String queryPlan;
+
+		private SlowQuery(String sql) {
+			this.sql = sql;
+		}
+
+		private long executed(long executionNanos) {
+			count.increment();
+			totalExecutionTime.add( executionNanos );
+			long currentMax = maxExecutionTime.get();
+			while ( executionNanos > currentMax && !maxExecutionTime.compareAndSet( currentMax, executionNanos ) ) {
+				currentMax = maxExecutionTime.get();
+			}
+			return count.sum();
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		/**
+		 * @return The cumulated execution time of the slow executions, in nanoseconds
+		 */
+		public long getTotalExecutionTime() {
+			return totalExecutionTime.sum();
+		}
+
+		/**
+		 * @return The longest execution time, in nanoseconds
+		 */
+		public long getMaxExecutionTime() {
+			return maxExecutionTime.get();
+		}
+
+		/**
+		 * @return The last query plan captured, or {@code null} if none
+		 */
+		public String getQueryPlan() {
+			return queryPlan;
+		}
+
+		@Override
+		public String toString() {
+			return "SlowQuery(" + sql + ')';
+		}
+	}
+}
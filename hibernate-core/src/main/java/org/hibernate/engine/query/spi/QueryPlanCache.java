@@ -150,11 +150,17 @@ public class QueryPlanCache implements Serializable {
 		HQLQueryPlan value = (HQLQueryPlan) queryPlanCache.get( key );
 		if ( value == null ) {
 			LOG.tracev( "Unable to locate HQL query plan in cache; generating ({0})", queryString );
+			if ( factory.getStatistics().isStatisticsEnabled() ) {
+				factory.getStatistics().queryPlanCacheMiss( queryString );
+			}
 			value = new HQLQueryPlan( queryString, shallow, enabledFilters, factory );
 			queryPlanCache.putIfAbsent( key, value );
 		}
 		else {
 			LOG.tracev( "Located HQL query plan in cache ({0})", queryString );
+			if ( factory.getStatistics().isStatisticsEnabled() ) {
+				factory.getStatistics().queryPlanCacheHit( queryString );
+			}
 		}
 		return value;
 	}
@@ -186,11 +192,17 @@ public class QueryPlanCache implements Serializable {
 					collectionRole,
 					filterString
 			);
+			if ( factory.getStatistics().isStatisticsEnabled() ) {
+				factory.getStatistics().queryPlanCacheMiss( filterString );
+			}
 			value = new FilterQueryPlan( filterString, collectionRole, shallow, enabledFilters,factory );
 			queryPlanCache.putIfAbsent( key, value );
 		}
 		else {
 			LOG.tracev( "Located collection-filter query plan in cache ({0} : {1})", collectionRole, filterString );
+			if ( factory.getStatistics().isStatisticsEnabled() ) {
+				factory.getStatistics().queryPlanCacheHit( filterString );
+			}
 		}
 		return value;
 	}
@@ -210,11 +222,17 @@ public class QueryPlanCache implements Serializable {
 		NativeSQLQueryPlan value = (NativeSQLQueryPlan) queryPlanCache.get( spec );
 		if ( value == null ) {
 			LOG.tracev( "Unable to locate native-sql query plan in cache; generating ({0})", spec.getQueryString() );
+			if ( factory.getStatistics().isStatisticsEnabled() ) {
+				factory.getStatistics().queryPlanCacheMiss( spec.getQueryString() );
+			}
 			value = nativeQueryInterpreterService.createQueryPlan( spec, factory );
 			queryPlanCache.putIfAbsent( spec, value );
 		}
 		else {
 			LOG.tracev( "Located native-sql query plan in cache ({0})", spec.getQueryString() );
+			if ( factory.getStatistics().isStatisticsEnabled() ) {
+				factory.getStatistics().queryPlanCacheHit( spec.getQueryString() );
+			}
 		}
 		return value;
 	}
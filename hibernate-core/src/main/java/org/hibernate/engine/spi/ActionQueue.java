@@ -11,13 +11,13 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -34,6 +34,7 @@ import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
 import org.hibernate.action.internal.EntityInsertAction;
 import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.action.internal.EntityUpsertAction;
 import org.hibernate.action.internal.OrphanRemovalAction;
 import org.hibernate.action.internal.QueuedOperationCollectionAction;
 import org.hibernate.action.internal.UnresolvedEntityInsertActions;
@@ -44,10 +45,9 @@ import org.hibernate.cache.CacheException;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
-import org.hibernate.metadata.ClassMetadata;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
-import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.ForeignKeyDirection;
 import org.hibernate.type.OneToOneType;
@@ -306,6 +306,17 @@ public class ActionQueue {
 		addInsertAction( action );
 	}
 
+	/**
+	 * Adds an entity upsert action.  It is executed with the insertions, in the same order, but the upserted instance
+	 * does not become managed and its references are not checked for transient entities.
+	 *
+	 * @param action The action representing the entity upsert
+	 */
+	public void addAction(EntityUpsertAction action) {
+		LOG.tracev( "Adding an EntityUpsertAction for [{0}] object", action.getEntityName() );
+		addAction( AbstractEntityInsertAction.class, action );
+	}
+
 	/**
 	 * Adds an entity delete action
 	 *
@@ -583,6 +594,7 @@ public class ActionQueue {
 		// todo : consider ways to improve the double iteration of Executables here:
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
+		session.requirePrimaryConnection( "flush changes" );
 		try {
 			for ( E e : list ) {
 				try {
@@ -622,6 +634,7 @@ public class ActionQueue {
 	 * @param executable The action to execute
 	 */
 	public <E extends Executable & Comparable<?>> void execute(E executable) {
+		session.requirePrimaryConnection( "flush changes" );
 		try {
 			executable.execute();
 		}
@@ -1003,7 +1016,11 @@ public class ActionQueue {
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * Sorts the insert actions using more hashes.
+	 * The inserts of each entity are grouped in a single batch, in their original order, and the batches are ordered
+	 * by the {@link EntityInsertOrdering} computed once from the mapping: grouping is linear in the number of
+	 * inserts, only the batches are sorted.  The entities taking part in a dependency cycle are further split in
+	 * levels, from the references between the inserted instances, each level being inserted after the levels it
+	 * references.
 	 * </p>
 	 * NOTE: this class is not thread-safe.
 	 * 
@@ -1015,71 +1032,24 @@ public class ActionQueue {
 		 */
 		public static final InsertActionSorter INSTANCE = new InsertActionSorter();
 
-		private static class BatchIdentifier {
-
+		private static class InsertBatch {
 			private final String entityName;
-			private final String rootEntityName;
-
-			private Set<String> parentEntityNames = new HashSet<>( );
-
-			private Set<String> childEntityNames = new HashSet<>( );
+			private final int rank;
+			private final int level;
+			private final int position;
+			private final List<AbstractEntityInsertAction> actions = new ArrayList<>();
 
-			BatchIdentifier(String entityName, String rootEntityName) {
+			InsertBatch(String entityName, int rank, int level, int position) {
 				this.entityName = entityName;
-				this.rootEntityName = rootEntityName;
-			}
-
-			@Override
-			public boolean equals(Object o) {
-				if ( this == o ) {
-					return true;
-				}
-				if ( !( o instanceof BatchIdentifier ) ) {
-					return false;
-				}
-				BatchIdentifier that = (BatchIdentifier) o;
-				return Objects.equals( entityName, that.entityName );
-			}
-
-			@Override
-			public int hashCode() {
-				return Objects.hash( entityName );
-			}
-
-			String getEntityName() {
-				return entityName;
-			}
-
-			String getRootEntityName() {
-				return rootEntityName;
-			}
-
-			Set<String> getParentEntityNames() {
-				return parentEntityNames;
-			}
-
-			Set<String> getChildEntityNames() {
-				return childEntityNames;
-			}
-
-			boolean hasAnyParentEntityNames(BatchIdentifier batchIdentifier) {
-				return parentEntityNames.contains( batchIdentifier.getEntityName() ) ||
-						parentEntityNames.contains( batchIdentifier.getRootEntityName() );
-			}
-
-			boolean hasAnyChildEntityNames(BatchIdentifier batchIdentifier) {
-				return childEntityNames.contains( batchIdentifier.getEntityName() ) ||
-						parentEntityNames.contains( batchIdentifier.getRootEntityName() );
+				this.rank = rank;
+				this.level = level;
+				this.position = position;
 			}
 		}
 
-		// the mapping of entity names to their latest batch numbers.
-		private List<BatchIdentifier> latestBatches;
-
-		private Map<Object, BatchIdentifier> entityBatchIdentifier;
-
-		// the map of batch numbers to EntityInsertAction lists
-		private Map<BatchIdentifier, List<AbstractEntityInsertAction>> actionBatches;
+		private static final Comparator<InsertBatch> BATCH_ORDER = Comparator.<InsertBatch>comparingInt( batch -> batch.rank )
+				.thenComparingInt( batch -> batch.level )
+				.thenComparingInt( batch -> batch.position );
 
 		public InsertActionSorter() {
 		}
@@ -1088,136 +1058,115 @@ public class ActionQueue {
 		 * Sort the insert actions.
 		 */
 		public void sort(List<AbstractEntityInsertAction> insertions) {
-			// optimize the hash size to eliminate a rehash.
-			this.latestBatches = new ArrayList<>( );
-			this.entityBatchIdentifier = new HashMap<>( insertions.size() + 1, 1.0f );
-			this.actionBatches = new HashMap<>();
-
-			for ( AbstractEntityInsertAction action : insertions ) {
-				BatchIdentifier batchIdentifier = new BatchIdentifier(
-						action.getEntityName(),
-						action.getSession().getFactory().getMetamodel().entityPersister( action.getEntityName() ).getRootEntityName()
-				);
+			if ( insertions.isEmpty() ) {
+				return;
+			}
+			final SharedSessionContractImplementor session = insertions.get( 0 ).getSession();
+			final boolean stats = session.getFactory().getStatistics().isStatisticsEnabled();
+			final long startTime = stats ? System.nanoTime() : 0;
 
-				// the entity associated with the current action.
-				Object currentEntity = action.getInstance();
-				int index = latestBatches.indexOf( batchIdentifier );
+			final EntityInsertOrdering ordering = session.getFactory().getMetamodel().getEntityInsertOrdering();
+			final Map<String, InsertBatch> batchesByKey = new HashMap<>();
+			final List<InsertBatch> batches = new ArrayList<>();
+			// the batch of the instances of the entities taking part in a dependency cycle
+			final Map<Object, InsertBatch> cyclicBatchesByInstance = new IdentityHashMap<>();
 
-				if ( index != -1 )  {
-					batchIdentifier = latestBatches.get( index );
+			for ( AbstractEntityInsertAction action : insertions ) {
+				final String entityName = action.getEntityName();
+				final int rank = ordering.getRank( entityName );
+				final boolean cyclic = ordering.isInCycle( entityName );
+				final int level = cyclic ? determineLevel( action, rank, cyclicBatchesByInstance ) : 0;
+
+				final String key = level == 0 ? entityName : entityName + '#' + level;
+				InsertBatch batch = batchesByKey.get( key );
+				if ( batch == null ) {
+					batch = new InsertBatch( entityName, rank, level, batches.size() );
+					batchesByKey.put( key, batch );
+					batches.add( batch );
 				}
-				else {
-					latestBatches.add( batchIdentifier );
+				batch.actions.add( action );
+				if ( cyclic ) {
+					cyclicBatchesByInstance.put( action.getInstance(), batch );
 				}
-				addParentChildEntityNames( action, batchIdentifier );
-				entityBatchIdentifier.put( currentEntity, batchIdentifier );
-				addToBatch( batchIdentifier, action );
 			}
-			insertions.clear();
 
-			// Examine each entry in the batch list, sorting them based on parent/child associations.
-			for ( int i = 0; i < latestBatches.size(); i++ ) {
-				BatchIdentifier batchIdentifier = latestBatches.get( i );
-
-				// Iterate previous batches and make sure that parent types are before children
-				// Since the outer loop looks at each batch entry individually, we need to verify that any
-				// prior batches in the list are not considered children (or have a parent) of the current
-				// batch.  If so, we reordered them.
-				for ( int j = i - 1; j >= 0; j-- ) {
-					BatchIdentifier prevBatchIdentifier = latestBatches.get( j );
-					if ( prevBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						latestBatches.remove( batchIdentifier );
-						latestBatches.add( j, batchIdentifier );
-					}
-				}
-
-				// Iterate next batches and make sure that children types are after parents.
-				// Since the outer loop looks at each batch entry individually and the prior loop will reorder
-				// entries as well, we need to look and verify if the current batch is a child of the next
-				// batch or if the current batch is seen as a parent or child of the next batch.
-				for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-					BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
-
-					final boolean nextBatchHasChild = nextBatchIdentifier.hasAnyChildEntityNames( batchIdentifier );
-					final boolean batchHasChild = batchIdentifier.hasAnyChildEntityNames( nextBatchIdentifier );
-					final boolean batchHasParent = batchIdentifier.hasAnyParentEntityNames( nextBatchIdentifier );
-
-					// Take care of unidirectional @OneToOne associations but exclude bidirectional @ManyToMany
-					if ( ( nextBatchHasChild && !batchHasChild ) || batchHasParent ) {
-						latestBatches.remove( batchIdentifier );
-						latestBatches.add( j, batchIdentifier );
-					}
-				}
+			batches.sort( BATCH_ORDER );
+			insertions.clear();
+			for ( InsertBatch batch : batches ) {
+				insertions.addAll( batch.actions );
 			}
 
-			// now rebuild the insertions list. There is a batch for each entry in the name list.
-			for ( BatchIdentifier rootIdentifier : latestBatches ) {
-				List<AbstractEntityInsertAction> batch = actionBatches.get( rootIdentifier );
-				insertions.addAll( batch );
+			if ( stats ) {
+				session.getFactory().getStatistics().insertsOrdered( System.nanoTime() - startTime );
 			}
 		}
 
 		/**
-		 * Add parent and child entity names so that we know how to rearrange dependencies
-		 * 
-		 * @param action The action being sorted
-		 * @param batchIdentifier The batch identifier of the entity affected by the action
+		 * The level of an insert within a dependency cycle is the lowest one following the levels of the inserts,
+		 * of other entities of the cycle, it references.  An insert shares the level of the inserts of its own entity
+		 * it references, as inserts of a batch are executed in order.  References to not yet inserted instances are
+		 * ignored: these are resolved by later updates.  The elements of a one-to-many collection reference their
+		 * owner, not the other way around, so collections are not considered, and neither are one-to-one
+		 * associations whose foreign key is on the other side, as {@link EntityInsertOrdering} does.
 		 */
-		private void addParentChildEntityNames(AbstractEntityInsertAction action, BatchIdentifier batchIdentifier) {
-			Object[] propertyValues = action.getState();
-			ClassMetadata classMetadata = action.getPersister().getClassMetadata();
-			if ( classMetadata != null ) {
-				Type[] propertyTypes = classMetadata.getPropertyTypes();
-
-				for ( int i = 0; i < propertyValues.length; i++ ) {
-					Object value = propertyValues[i];
-					Type type = propertyTypes[i];
-					if ( type.isEntityType() && value != null ) {
-						EntityType entityType = (EntityType) type;
-						String entityName = entityType.getName();
-						String rootEntityName = action.getSession().getFactory().getMetamodel().entityPersister( entityName ).getRootEntityName();
-
-						if ( entityType.isOneToOne() &&
-								OneToOneType.class.cast( entityType ).getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
-							batchIdentifier.getChildEntityNames().add( entityName );
-							if ( !rootEntityName.equals( entityName ) ) {
-								batchIdentifier.getChildEntityNames().add( rootEntityName );
-							}
-						}
-						else {
-							batchIdentifier.getParentEntityNames().add( entityName );
-							if ( !rootEntityName.equals( entityName ) ) {
-								batchIdentifier.getParentEntityNames().add( rootEntityName );
-							}
-						}
-					}
-					else if ( type.isCollectionType() && value != null ) {
-						CollectionType collectionType = (CollectionType) type;
-						final SessionFactoryImplementor sessionFactory = ( (SessionImplementor) action.getSession() )
-								.getSessionFactory();
-						if ( collectionType.getElementType( sessionFactory ).isEntityType() ) {
-							String entityName = collectionType.getAssociatedEntityName( sessionFactory );
-							String rootEntityName = action.getSession().getFactory().getMetamodel().entityPersister( entityName ).getRootEntityName();
-							batchIdentifier.getChildEntityNames().add( entityName );
-							if ( !rootEntityName.equals( entityName ) ) {
-								batchIdentifier.getChildEntityNames().add( rootEntityName );
-							}
-						}
-					}
-				}
+		private int determineLevel(
+				AbstractEntityInsertAction action,
+				int rank,
+				Map<Object, InsertBatch> cyclicBatchesByInstance) {
+			final Object[] state = action.getState();
+			final Type[] types = action.getPersister().getPropertyTypes();
+			int level = 0;
+			for ( int i = 0; i < types.length; i++ ) {
+				level = Math.max(
+						level,
+						determineLevel( types[i], state[i], action, rank, cyclicBatchesByInstance )
+				);
 			}
+			return level;
 		}
 
-		private void addToBatch(BatchIdentifier batchIdentifier, AbstractEntityInsertAction action) {
-			List<AbstractEntityInsertAction> actions = actionBatches.get( batchIdentifier );
+		private int determineLevel(
+				Type type,
+				Object value,
+				AbstractEntityInsertAction action,
+				int rank,
+				Map<Object, InsertBatch> cyclicBatchesByInstance) {
+			if ( value == null ) {
+				return 0;
+			}
 
-			if ( actions == null ) {
-				actions = new LinkedList<>();
-				actionBatches.put( batchIdentifier, actions );
+			if ( type.isEntityType() ) {
+				final EntityType entityType = (EntityType) type;
+				if ( entityType.isOneToOne()
+						&& ( (OneToOneType) entityType ).getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+					return 0;
+				}
+				return levelAfter( cyclicBatchesByInstance.get( value ), action, rank );
+			}
+			else if ( type.isComponentType() ) {
+				final CompositeType compositeType = (CompositeType) type;
+				final Type[] subtypes = compositeType.getSubtypes();
+				final Object[] values = compositeType.getPropertyValues( value, action.getSession() );
+				int level = 0;
+				for ( int i = 0; i < subtypes.length; i++ ) {
+					level = Math.max(
+							level,
+							determineLevel( subtypes[i], values[i], action, rank, cyclicBatchesByInstance )
+					);
+				}
+				return level;
 			}
-			actions.add( action );
+			return 0;
 		}
 
+		private int levelAfter(InsertBatch referencedBatch, AbstractEntityInsertAction action, int rank) {
+			if ( referencedBatch == null || referencedBatch.rank != rank ) {
+				return 0;
+			}
+			return referencedBatch.entityName.equals( action.getEntityName() )
+					? referencedBatch.level
+					: referencedBatch.level + 1;
+		}
 	}
 
 	private abstract static class ListProvider<T extends Executable & Comparable & Serializable> {
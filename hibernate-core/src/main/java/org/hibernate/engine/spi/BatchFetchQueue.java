@@ -8,12 +8,14 @@ package org.hibernate.engine.spi;
 
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.hibernate.EntityMode;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -52,6 +54,15 @@ public class BatchFetchQueue {
 	 * type at a time.
 	 */
 	private final Map <String,LinkedHashSet<EntityKey>> batchLoadableEntityKeys = new HashMap<>( 8 );
+
+	/**
+	 * Used to hold information about the managed, bytecode-enhanced entities whose lazy fetch groups have not
+	 * been initialized yet.  Ultimately used by {@link #getLazyAttributeBatch} to build lazy attribute load batches.
+	 * <p/>
+	 * The keys are segmented by entity type and then by fetch group name.  Unlike the other queues, this one is
+	 * not cleared after flushing since the entities stay managed and their fetch groups stay unfetched.
+	 */
+	private final Map<String, Map<String, LinkedHashSet<EntityKey>>> batchLoadableLazyAttributeKeys = new HashMap<>( 8 );
 	
 	/**
 	 * Used to hold information about the collections that are currently eligible for batch-fetching.  Ultimately
@@ -79,6 +90,15 @@ public class BatchFetchQueue {
 		subselectsByEntityKey.clear();
 	}
 
+	/**
+	 * Clears the lazy attribute entries from this fetch queue.
+	 * <p/>
+	 * Called after clearing the session.
+	 */
+	public void clearLazyAttributeKeys() {
+		batchLoadableLazyAttributeKeys.clear();
+	}
+
 
 	// sub-select support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -229,6 +249,116 @@ public class BatchFetchQueue {
 	}
 	
 
+	// lazy attribute batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Register the unfetched lazy fetch groups of a managed, bytecode-enhanced entity so that they can be
+	 * initialized together with the same fetch group of other entities.
+	 *
+	 * @param key The key of the entity
+	 * @param fetchGroupNames The names of the fetch groups of the entity which have not been initialized yet
+	 */
+	public void addBatchLoadableLazyAttributes(EntityKey key, Iterable<String> fetchGroupNames) {
+		Map<String, LinkedHashSet<EntityKey>> keysByFetchGroup = batchLoadableLazyAttributeKeys.get( key.getEntityName() );
+		if ( keysByFetchGroup == null ) {
+			keysByFetchGroup = new HashMap<>( 8 );
+			batchLoadableLazyAttributeKeys.put( key.getEntityName(), keysByFetchGroup );
+		}
+		for ( String fetchGroupName : fetchGroupNames ) {
+			LinkedHashSet<EntityKey> set = keysByFetchGroup.get( fetchGroupName );
+			if ( set == null ) {
+				set = new LinkedHashSet<>( 8 );
+				keysByFetchGroup.put( fetchGroupName, set );
+			}
+			set.add( key );
+		}
+	}
+
+	/**
+	 * After evicting or deleting an entity, we don't need to batch
+	 * initialize its lazy attributes anymore, remove it from the queue
+	 * if necessary
+	 */
+	public void removeBatchLoadableLazyAttributes(EntityKey key) {
+		final Map<String, LinkedHashSet<EntityKey>> keysByFetchGroup = batchLoadableLazyAttributeKeys.get( key.getEntityName() );
+		if ( keysByFetchGroup != null ) {
+			for ( LinkedHashSet<EntityKey> set : keysByFetchGroup.values() ) {
+				set.remove( key );
+			}
+		}
+	}
+
+	/**
+	 * Get a batch of identifiers of managed, bytecode-enhanced entities of the given persister
+	 * for which the fetch group of the given lazy attribute has not been initialized yet.
+	 * <p/>
+	 * Entries which no longer qualify (evicted, deleted, already initialized or of another persister) are
+	 * removed from the queue while building the batch, so that each entry is visited at most once after its
+	 * fetch group was initialized.
+	 *
+	 * @param persister The persister for the entities being initialized.
+	 * @param id The identifier of the entity currently demanding the lazy attribute.
+	 * @param attributeName The name of the lazy attribute being initialized.
+	 * @param batchSize The maximum number of identifiers to return
+	 * @return an array of identifiers, of length batchSize (possibly padded with nulls)
+	 */
+	public Serializable[] getLazyAttributeBatch(
+			final EntityPersister persister,
+			final Serializable id,
+			final String attributeName,
+			final int batchSize) {
+		Serializable[] ids = new Serializable[batchSize];
+		ids[0] = id; //first element of array is reserved for the actual instance we are initializing!
+		int i = 1;
+
+		final Map<String, LinkedHashSet<EntityKey>> keysByFetchGroup = batchLoadableLazyAttributeKeys.get( persister.getEntityName() );
+		if ( keysByFetchGroup == null ) {
+			return ids;
+		}
+		final String fetchGroupName = persister.getEntityMetamodel()
+				.getBytecodeEnhancementMetadata()
+				.getLazyAttributesMetadata()
+				.getFetchGroupName( attributeName );
+		final LinkedHashSet<EntityKey> set = keysByFetchGroup.get( fetchGroupName );
+		if ( set == null ) {
+			return ids;
+		}
+
+		final Iterator<EntityKey> itr = set.iterator();
+		while ( itr.hasNext() && i < batchSize ) {
+			final EntityKey key = itr.next();
+			final Object entity = context.getEntity( key );
+			final EntityEntry entry = entity == null ? null : context.getEntry( entity );
+			if ( entry == null
+					|| ( entry.getStatus() != Status.MANAGED && entry.getStatus() != Status.READ_ONLY )
+					|| !( entity instanceof PersistentAttributeInterceptable ) ) {
+				itr.remove();
+				continue;
+			}
+			final PersistentAttributeInterceptor interceptor = ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
+			if ( !( interceptor instanceof LazyAttributeLoadingInterceptor )
+					|| ( (LazyAttributeLoadingInterceptor) interceptor ).isAttributeLoaded( attributeName ) ) {
+				itr.remove();
+				continue;
+			}
+			if ( persister.getIdentifierType().isEqual( id, key.getIdentifier() ) ) {
+				// the demanding entity gets initialized now
+				itr.remove();
+				continue;
+			}
+			if ( entry.getPersister() != persister ) {
+				// an entity of another class of the hierarchy, whose lazy attributes are loaded by its own persister
+				itr.remove();
+				continue;
+			}
+			if ( !isCached( key, persister ) ) {
+				ids[i++] = key.getIdentifier();
+			}
+		}
+		return ids;
+	}
+
+
 	// collection batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * The tables a flush of a changed entity may write to, computed once per SessionFactory from the mapping, and used
+ * to skip automatic flushes which cannot affect a query when
+ * {@link org.hibernate.cfg.AvailableSettings#AUTO_FLUSH_CHECK_QUERY_SPACES} is enabled.
+ * <p/>
+ * These are the tables of the entity properties and collections, and, as new or orphaned entities are saved or
+ * deleted by cascade, the tables the entities its associations cascade to may write to, whatever their subclass.
+ */
+public class EntityFlushSpaces {
+	private final Map<String, Set<Serializable>> spacesByEntityName = new HashMap<>();
+
+	/**
+	 * Constructs a EntityFlushSpaces
+	 *
+	 * @param metamodel The metamodel, whose persisters are initialized
+	 */
+	public EntityFlushSpaces(MetamodelImplementor metamodel) {
+		for ( EntityPersister persister : metamodel.entityPersisters().values() ) {
+			final Set<Serializable> spaces = new HashSet<>();
+			addSpaces( persister.getEntityName(), metamodel, spaces, new HashSet<>() );
+			spacesByEntityName.put( persister.getEntityName(), spaces );
+		}
+	}
+
+	private static void addSpaces(
+			String entityName,
+			MetamodelImplementor metamodel,
+			Set<Serializable> spaces,
+			Set<String> visitedEntityNames) {
+		if ( !visitedEntityNames.add( entityName ) ) {
+			return;
+		}
+		final EntityPersister persister = metamodel.entityPersister( entityName );
+		spaces.addAll( Arrays.asList( persister.getPropertySpaces() ) );
+		final Type[] types = persister.getPropertyTypes();
+		final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+		for ( int i = 0; i < types.length; i++ ) {
+			addSpaces( types[i], cascadeStyles[i], metamodel, spaces, visitedEntityNames );
+		}
+	}
+
+	private static void addSpaces(
+			Type type,
+			CascadeStyle cascadeStyle,
+			MetamodelImplementor metamodel,
+			Set<Serializable> spaces,
+			Set<String> visitedEntityNames) {
+		if ( type.isCollectionType() ) {
+			final CollectionPersister collectionPersister =
+					metamodel.collectionPersister( ( (CollectionType) type ).getRole() );
+			spaces.addAll( Arrays.asList( collectionPersister.getCollectionSpaces() ) );
+			if ( cascadeStyle != CascadeStyles.NONE && collectionPersister.getElementType().isEntityType() ) {
+				addHierarchySpaces(
+						( (EntityType) collectionPersister.getElementType() ).getAssociatedEntityName(),
+						metamodel,
+						spaces,
+						visitedEntityNames
+				);
+			}
+		}
+		else if ( type.isEntityType() ) {
+			if ( cascadeStyle != CascadeStyles.NONE ) {
+				addHierarchySpaces( ( (EntityType) type ).getAssociatedEntityName(), metamodel, spaces, visitedEntityNames );
+			}
+		}
+		else if ( type.isComponentType() ) {
+			final CompositeType compositeType = (CompositeType) type;
+			final Type[] subtypes = compositeType.getSubtypes();
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				addSpaces( subtypes[i], compositeType.getCascadeStyle( i ), metamodel, spaces, visitedEntityNames );
+			}
+		}
+	}
+
+	private static void addHierarchySpaces(
+			String entityName,
+			MetamodelImplementor metamodel,
+			Set<Serializable> spaces,
+			Set<String> visitedEntityNames) {
+		addSpaces( entityName, metamodel, spaces, visitedEntityNames );
+		for ( Object subclassEntityName : metamodel.entityPersister( entityName ).getEntityMetamodel().getSubclassEntityNames() ) {
+			addSpaces( (String) subclassEntityName, metamodel, spaces, visitedEntityNames );
+		}
+	}
+
+	/**
+	 * Could the flush of a changed entity of the given name write to any of the given tables?
+	 *
+	 * @param entityName The entity name
+	 * @param querySpaces The tables, typically those a query reads
+	 *
+	 * @return {@code true} if flushing the entity could affect these tables, or if the entity is unknown
+	 */
+	public boolean mayAffect(String entityName, Set<? extends Serializable> querySpaces) {
+		final Set<Serializable> spaces = spacesByEntityName.get( entityName );
+		if ( spaces == null ) {
+			return true;
+		}
+		for ( Serializable querySpace : querySpaces ) {
+			if ( spaces.contains( querySpace ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
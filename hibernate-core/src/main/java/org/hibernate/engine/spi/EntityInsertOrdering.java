@@ -0,0 +1,208 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.OneToOneType;
+import org.hibernate.type.Type;
+
+/**
+ * The order in which the inserts of the different entities have to be executed for the rows they reference to
+ * exist, computed once per SessionFactory from the mapping, and used to order inserts when
+ * {@link org.hibernate.cfg.AvailableSettings#ORDER_INSERTS} is enabled.
+ * <p/>
+ * An entity has to be inserted after the entities it references through a foreign key: the targets of its
+ * many-to-one and owning one-to-one associations, including in its identifier and embeddables, and the owners of
+ * the one-to-many collections it belongs to.  A reference to an entity is a reference to its whole inheritance
+ * hierarchy, as the referenced row may be inserted by any of its entities.
+ * <p/>
+ * The entities are ranked by a topological sort of this dependency graph.  The entities of a dependency cycle
+ * share the same rank, and are reported by {@link #isInCycle}: their inserts have to be ordered from the actual
+ * references between the entity instances.
+ */
+public class EntityInsertOrdering {
+	private final Map<String, Integer> ranks = new HashMap<>();
+	private final Set<String> cyclicEntityNames = new HashSet<>();
+
+	/**
+	 * Constructs a EntityInsertOrdering
+	 *
+	 * @param metamodel The metamodel, whose persisters are initialized
+	 */
+	public EntityInsertOrdering(MetamodelImplementor metamodel) {
+		final Map<String, List<String>> entityNamesByRoot = new HashMap<>();
+		for ( EntityPersister persister : metamodel.entityPersisters().values() ) {
+			entityNamesByRoot.computeIfAbsent( persister.getRootEntityName(), k -> new ArrayList<>() )
+					.add( persister.getEntityName() );
+		}
+
+		// the entities inserted after each entity
+		final Map<String, Set<String>> successors = new HashMap<>();
+		for ( EntityPersister persister : metamodel.entityPersisters().values() ) {
+			final String entityName = persister.getEntityName();
+			successors.computeIfAbsent( entityName, k -> new LinkedHashSet<>() );
+			final Set<String> predecessors = new HashSet<>();
+			final Set<String> followers = new HashSet<>();
+			addDependencies( persister.getIdentifierType(), metamodel, predecessors, followers );
+			for ( Type type : persister.getPropertyTypes() ) {
+				addDependencies( type, metamodel, predecessors, followers );
+			}
+
+			for ( String predecessor : predecessors ) {
+				final String root = metamodel.entityPersister( predecessor ).getRootEntityName();
+				for ( String hierarchyEntityName : entityNamesByRoot.get( root ) ) {
+					if ( !hierarchyEntityName.equals( entityName ) ) {
+						successors.computeIfAbsent( hierarchyEntityName, k -> new LinkedHashSet<>() ).add( entityName );
+					}
+				}
+			}
+			for ( String follower : followers ) {
+				final String root = metamodel.entityPersister( follower ).getRootEntityName();
+				for ( String hierarchyEntityName : entityNamesByRoot.get( root ) ) {
+					if ( !hierarchyEntityName.equals( entityName ) ) {
+						successors.get( entityName ).add( hierarchyEntityName );
+					}
+				}
+			}
+		}
+
+		rank( successors );
+	}
+
+	private static void addDependencies(
+			Type type,
+			MetamodelImplementor metamodel,
+			Set<String> predecessors,
+			Set<String> followers) {
+		if ( type.isEntityType() ) {
+			final EntityType entityType = (EntityType) type;
+			final String associatedEntityName = entityType.getName();
+			if ( entityType.isOneToOne()
+					&& ( (OneToOneType) entityType ).getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+				// the foreign key is on the other side
+				followers.add( associatedEntityName );
+			}
+			else {
+				predecessors.add( associatedEntityName );
+			}
+		}
+		else if ( type.isCollectionType() ) {
+			// many-to-many rows are inserted by the collection actions, after all the entities
+			final CollectionPersister collectionPersister =
+					metamodel.collectionPersister( ( (CollectionType) type ).getRole() );
+			if ( collectionPersister.isOneToMany() ) {
+				followers.add( ( (EntityType) collectionPersister.getElementType() ).getAssociatedEntityName() );
+			}
+		}
+		else if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				addDependencies( subtype, metamodel, predecessors, followers );
+			}
+		}
+	}
+
+	/**
+	 * Ranks the strongly connected components of the graph in topological order, using Tarjan's algorithm, which
+	 * finds them in reverse topological order.
+	 */
+	private void rank(Map<String, Set<String>> successors) {
+		final Map<String, int[]> indexAndLowLink = new HashMap<>();
+		final Deque<String> stack = new ArrayDeque<>();
+		final Set<String> onStack = new HashSet<>();
+		final List<List<String>> components = new ArrayList<>();
+		for ( String entityName : successors.keySet() ) {
+			if ( !indexAndLowLink.containsKey( entityName ) ) {
+				connect( entityName, successors, indexAndLowLink, stack, onStack, components );
+			}
+		}
+
+		for ( int i = 0; i < components.size(); i++ ) {
+			final List<String> component = components.get( i );
+			for ( String entityName : component ) {
+				ranks.put( entityName, components.size() - 1 - i );
+			}
+			if ( component.size() > 1 ) {
+				cyclicEntityNames.addAll( component );
+			}
+		}
+	}
+
+	private static void connect(
+			String entityName,
+			Map<String, Set<String>> successors,
+			Map<String, int[]> indexAndLowLink,
+			Deque<String> stack,
+			Set<String> onStack,
+			List<List<String>> components) {
+		final int[] node = new int[] { indexAndLowLink.size(), indexAndLowLink.size() };
+		indexAndLowLink.put( entityName, node );
+		stack.push( entityName );
+		onStack.add( entityName );
+
+		for ( String successor : successors.get( entityName ) ) {
+			final int[] successorNode = indexAndLowLink.get( successor );
+			if ( successorNode == null ) {
+				connect( successor, successors, indexAndLowLink, stack, onStack, components );
+				node[1] = Math.min( node[1], indexAndLowLink.get( successor )[1] );
+			}
+			else if ( onStack.contains( successor ) ) {
+				node[1] = Math.min( node[1], successorNode[0] );
+			}
+		}
+
+		if ( node[1] == node[0] ) {
+			final List<String> component = new ArrayList<>();
+			String member;
+			do {
+				member = stack.pop();
+				onStack.remove( member );
+				component.add( member );
+			}
+			while ( !member.equals( entityName ) );
+			components.add( component );
+		}
+	}
+
+	/**
+	 * The position of the inserts of the given entity: inserts with a lower rank have to be executed first.
+	 *
+	 * @param entityName The entity name
+	 *
+	 * @return The rank of the entity
+	 */
+	public int getRank(String entityName) {
+		final Integer rank = ranks.get( entityName );
+		return rank == null ? Integer.MAX_VALUE : rank;
+	}
+
+	/**
+	 * Is the given entity part of a dependency cycle, with other entities of the same rank?
+	 *
+	 * @param entityName The entity name
+	 *
+	 * @return {@code true} if the inserts of the entity have to be ordered from the actual references
+	 */
+	public boolean isInCycle(String entityName) {
+		return cyclicEntityNames.contains( entityName );
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.internal.util.collections.IdentitySet;
+
+/**
+ * The session-level set of the entities an incremental flush has to process: those which became managed or changed
+ * status since the previous flush, or whose dirty tracker reports a change, along with the entities whose changes cannot be tracked.
+ * <p/>
+ * The enhanced code records the writes in the entity's own dirty tracker and has no callback into the session, so
+ * the {@link SelfDirtinessTracker bytecode enhanced} entities are only asked for their dirty attributes when a flush
+ * determines its candidates.  Entities which are not enhanced with dirty tracking are flushed every time.
+ * <p/>
+ * The changes of the collections are not reported here: a flush determines them from the flags of the collections.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#INCREMENTAL_FLUSH
+ */
+public final class FlushCandidates {
+	private final Set<Object> changedEntities = new IdentitySet();
+	private final Set<Object> trackedEntities = new IdentitySet();
+	private final Set<Object> untrackedEntities = new IdentitySet();
+	// the changed entities processed by the flush in progress, until its changes are executed
+	private final Set<Object> flushingEntities = new IdentitySet();
+
+	/**
+	 * Register an entity which became managed.  It is a candidate of the next flush, unless it is being loaded:
+	 * loading does not change the entity, which only needs to be flushed once written to.
+	 *
+	 * @param entity The managed entity
+	 * @param status The status it is managed with
+	 */
+	public void entityManaged(Object entity, Status status) {
+		if ( entity instanceof SelfDirtinessTracker ) {
+			trackedEntities.add( entity );
+			if ( status != Status.LOADING ) {
+				changedEntities.add( entity );
+			}
+		}
+		else {
+			untrackedEntities.add( entity );
+		}
+	}
+
+	/**
+	 * Register a change of an entity, to its status or otherwise not recorded by its dirty tracker
+	 *
+	 * @param entity The changed entity
+	 */
+	public void entityChanged(Object entity) {
+		changedEntities.add( entity );
+	}
+
+	/**
+	 * Register the end of the loading of an entity: the writes which initialized its state are not changes.
+	 *
+	 * @param entity The loaded entity
+	 */
+	public void entityLoaded(Object entity) {
+		changedEntities.remove( entity );
+	}
+
+	/**
+	 * Register an entity which is not managed anymore
+	 *
+	 * @param entity The entity
+	 */
+	public void entityRemoved(Object entity) {
+		changedEntities.remove( entity );
+		trackedEntities.remove( entity );
+		untrackedEntities.remove( entity );
+		flushingEntities.remove( entity );
+	}
+
+	/**
+	 * Does the next flush have to process all the managed entities?  It does after a flush which failed
+	 * before its changes were executed, as the changes of the entities it processed were not executed either.
+	 *
+	 * @return {@code true} if all the entities have to be flushed
+	 */
+	public boolean isFullFlushRequired() {
+		return !flushingEntities.isEmpty();
+	}
+
+	/**
+	 * The entities the next flush has to process, besides the owners of the collections which might be dirty
+	 *
+	 * @return The changed and untracked entities, and those whose dirty tracker reports a change
+	 */
+	@SuppressWarnings("unchecked")
+	public List<Object> getEntities() {
+		final List<Object> entities = new ArrayList<>( changedEntities.size() + untrackedEntities.size() );
+		entities.addAll( changedEntities );
+		entities.addAll( untrackedEntities );
+		for ( Object entity : trackedEntities ) {
+			if ( ( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes()
+					&& !changedEntities.contains( entity ) ) {
+				entities.add( entity );
+			}
+		}
+		return entities;
+	}
+
+	/**
+	 * Called when a flush starts processing the entities: the following writes are changes for the next flush
+	 */
+	@SuppressWarnings("unchecked")
+	public void flushStarted() {
+		flushingEntities.addAll( changedEntities );
+		changedEntities.clear();
+	}
+
+	/**
+	 * Called once the changes found by a flush were executed
+	 */
+	public void flushCompleted() {
+		flushingEntities.clear();
+	}
+
+	/**
+	 * Called when the changes found by a flush are discarded rather than executed, for the next flush
+	 * to find them again
+	 */
+	@SuppressWarnings("unchecked")
+	public void flushCancelled() {
+		changedEntities.addAll( flushingEntities );
+		flushingEntities.clear();
+	}
+
+	/**
+	 * Called when the persistence context is cleared
+	 */
+	public void clear() {
+		changedEntities.clear();
+		trackedEntities.clear();
+		untrackedEntities.clear();
+		flushingEntities.clear();
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.CallSiteHelper;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Detects N+1 selects within a Session: the same entity or collection role being lazily loaded, one owner at a
+ * time, from the same call site, typically while iterating over the results of a query.
+ * <p/>
+ * Once the {@link org.hibernate.boot.spi.SessionFactoryOptions#getNPlusOneSelectThreshold() threshold} is
+ * reached for a given role and call site, a warning suggesting batch or join fetching is logged and the
+ * occurrence is counted in the {@link org.hibernate.stat.Statistics}, once per Session.
+ * <p/>
+ * The loads of the entities and collections which are batch fetched are not counted: each of them loads the
+ * pending instances of the role along with the requested one.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+ */
+public class NPlusOneSelectDetector {
+	private static final Logger LOG = CoreLogging.logger( NPlusOneSelectDetector.class );
+
+	// keeps the memory bounded in long-running Sessions loading many distinct roles from many call sites
+	private static final int MAX_TRACKED_FETCHES = 1000;
+
+	private final SharedSessionContractImplementor session;
+	private final int threshold;
+
+	private final Map<String, int[]> fetchCounts = new HashMap<>();
+
+	/**
+	 * Constructs a NPlusOneSelectDetector
+	 *
+	 * @param session The Session whose lazy loads are tracked
+	 * @param threshold The number of lazy loads of a role from a call site from which an N+1 select is reported
+	 */
+	public NPlusOneSelectDetector(SharedSessionContractImplementor session, int threshold) {
+		this.session = session;
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Callback about an entity being loaded from the database on behalf of an association or a proxy.
+	 *
+	 * @param persister The persister of the entity loaded
+	 */
+	public void entityFetched(EntityPersister persister) {
+		if ( persister.isBatchLoadable() ) {
+			return;
+		}
+		final String entityName = persister.getEntityName();
+		final String callSite = CallSiteHelper.determineCallSite();
+		if ( fetched( entityName, callSite ) ) {
+			LOG.warnf(
+					"N+1 select: %s instances were loaded one at a time %s times from %s; consider batch fetching (@BatchSize) for this entity, or join fetching %s",
+					entityName,
+					threshold,
+					callSite,
+					describeAssociationsTo( entityName )
+			);
+			if ( session.getFactory().getStatistics().isStatisticsEnabled() ) {
+				session.getFactory().getStatisticsImplementor().entityNPlusOneSelect( entityName );
+			}
+		}
+	}
+
+	/**
+	 * Callback about a collection being initialized from the database.
+	 *
+	 * @param persister The persister of the collection initialized
+	 */
+	public void collectionFetched(CollectionPersister persister) {
+		if ( persister.getBatchSize() > 1 ) {
+			return;
+		}
+		final String role = persister.getRole();
+		final String callSite = CallSiteHelper.determineCallSite();
+		if ( fetched( role, callSite ) ) {
+			LOG.warnf(
+					"N+1 select: %s was initialized one owner at a time %s times from %s; consider batch fetching (@BatchSize), subselect fetching or join fetching this collection",
+					role,
+					threshold,
+					callSite
+			);
+			if ( session.getFactory().getStatistics().isStatisticsEnabled() ) {
+				session.getFactory().getStatisticsImplementor().collectionNPlusOneSelect( role );
+			}
+		}
+	}
+
+	/**
+	 * @return {@code true} if the threshold was just reached
+	 */
+	private boolean fetched(String role, String callSite) {
+		final String key = role + " from " + callSite;
+		int[] count = fetchCounts.get( key );
+		if ( count == null ) {
+			if ( fetchCounts.size() >= MAX_TRACKED_FETCHES ) {
+				return false;
+			}
+			count = new int[1];
+			fetchCounts.put( key, count );
+		}
+		return ++count[0] == threshold;
+	}
+
+	private String describeAssociationsTo(String entityName) {
+		final List<String> associations = new ArrayList<>();
+		for ( EntityPersister persister : session.getFactory().getMetamodel().entityPersisters().values() ) {
+			final String[] propertyNames = persister.getPropertyNames();
+			final Type[] propertyTypes = persister.getPropertyTypes();
+			for ( int i = 0; i < propertyTypes.length; i++ ) {
+				if ( propertyTypes[i].isEntityType()
+						&& entityName.equals( ( (EntityType) propertyTypes[i] ).getAssociatedEntityName() ) ) {
+					associations.add( persister.getEntityName() + '.' + propertyNames[i] );
+				}
+			}
+		}
+		return associations.isEmpty() ? "the association to it" : String.join( " or ", associations );
+	}
+}
@@ -84,6 +84,28 @@ public interface PersistenceContext {
 	 * @return The batch fetch queue in effect for this persistence context
 	 */
 	public BatchFetchQueue getBatchFetchQueue();
+
+	/**
+	 * Get the {@link NPlusOneSelectDetector}, instantiating one if necessary.
+	 *
+	 * @return The detector, or {@code null} if N+1 selects are not detected
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+	 */
+	public default NPlusOneSelectDetector getNPlusOneSelectDetector() {
+		return null;
+	}
+
+	/**
+	 * Get the entities an incremental flush has to process.
+	 *
+	 * @return The flush candidates, or {@code null} if flushes are not incremental
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#INCREMENTAL_FLUSH
+	 */
+	public default FlushCandidates getFlushCandidates() {
+		return null;
+	}
 	
 	/**
 	 * Clear the state of the persistence context
@@ -8,6 +8,7 @@ package org.hibernate.engine.spi;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -443,6 +444,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.getExceptionConverter();
 	}
 
+	@Override
+	public void requirePrimaryConnection(String operation) {
+		delegate.requirePrimaryConnection( operation );
+	}
+
 	@Override
 	public SessionEventListenerManager getEventListenerManager() {
 		return delegate.getEventListenerManager();
@@ -823,6 +829,21 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.merge( entityName, object );
 	}
 
+	@Override
+	public <T> List<T> mergeAll(Collection<? extends T> objects) {
+		return delegate.mergeAll( objects );
+	}
+
+	@Override
+	public void upsert(Object object) {
+		delegate.upsert( object );
+	}
+
+	@Override
+	public void upsert(String entityName, Object object) {
+		delegate.upsert( entityName, object );
+	}
+
 	@Override
 	public void persist(Object object) {
 		delegate.persist( object );
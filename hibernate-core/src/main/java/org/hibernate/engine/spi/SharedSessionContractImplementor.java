@@ -421,4 +421,17 @@ public interface SharedSessionContractImplementor
 	LoadQueryInfluencers getLoadQueryInfluencers();
 
 	ExceptionConverter getExceptionConverter();
+
+	/**
+	 * Signals that the upcoming JDBC work writes to the database or takes locks, so that it must use a
+	 * Connection to the primary database when the Connections of read-only Sessions are routed to read
+	 * replicas (see {@link org.hibernate.engine.jdbc.connections.spi.ReadOnlyRoutingConnectionProvider}).
+	 *
+	 * @param operation A description of the work, used in error messages
+	 *
+	 * @throws HibernateException If the Session holds a read-only Connection it cannot release, typically
+	 * because a transaction is active
+	 */
+	default void requirePrimaryConnection(String operation) {
+	}
 }
@@ -8,12 +8,15 @@ package org.hibernate.event.internal;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.Set;
 
+import org.hibernate.EmptyInterceptor;
 import org.hibernate.HibernateException;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
 import org.hibernate.action.internal.QueuedOperationCollectionAction;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
@@ -24,6 +27,7 @@ import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.FlushCandidates;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
@@ -36,7 +40,9 @@ import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.EntityPrinter;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.internal.util.collections.LazyIterator;
+import org.hibernate.jpa.event.internal.core.JpaFlushEntityEventListener;
 import org.hibernate.persister.entity.EntityPersister;
 
 import org.jboss.logging.Logger;
@@ -71,18 +77,19 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		session.getInterceptor().preFlush( new LazyIterator( persistenceContext.getEntitiesByKey() ) );
 
-		prepareEntityFlushes( session, persistenceContext );
+		// the entities processed by an incremental flush, null when all of them are flushed
+		final Set<Object> flushedEntities = prepareEntityFlushes( session, persistenceContext );
 		// we could move this inside if we wanted to
 		// tolerate collection initializations during
 		// collection dirty checking:
-		prepareCollectionFlushes( persistenceContext );
+		prepareCollectionFlushes( persistenceContext, flushedEntities );
 		// now, any collections that are initialized
 		// inside this block do not get updated - they
 		// are ignored until the next flush
 
 		persistenceContext.setFlushing( true );
 		try {
-			int entityCount = flushEntities( event, persistenceContext );
+			int entityCount = flushEntities( event, persistenceContext, flushedEntities );
 			int collectionCount = flushCollections( session, persistenceContext );
 
 			event.setNumberOfEntitiesProcessed( entityCount );
@@ -126,21 +133,109 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 	 * process cascade save/update at the start of a flush to discover
 	 * any newly referenced entity that must be passed to saveOrUpdate(),
 	 * and also apply orphan delete
+	 * <p/>
+	 * For an incremental flush, only the entities changed since the previous
+	 * flush are cascaded to
+	 *
+	 * @return The entities to flush, or {@code null} if all of them have to be flushed
 	 */
-	private void prepareEntityFlushes(EventSource session, PersistenceContext persistenceContext) throws HibernateException {
+	private Set<Object> prepareEntityFlushes(EventSource session, PersistenceContext persistenceContext)
+			throws HibernateException {
 
 		LOG.debug( "Processing flush-time cascades" );
 
 		final Object anything = getAnything();
-		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
-		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
-//		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
-			EntityEntry entry = (EntityEntry) me.getValue();
-			Status status = entry.getStatus();
-			if ( status == Status.MANAGED || status == Status.SAVING || status == Status.READ_ONLY ) {
-				cascadeOnFlush( session, entry.getPersister(), me.getKey(), anything );
+
+		final FlushCandidates flushCandidates = getIncrementalFlushCandidates( session );
+		final Set<Object> flushedEntities = flushCandidates == null
+				? null
+				: determineIncrementalFlushEntities( persistenceContext, flushCandidates );
+
+		if ( flushedEntities == null ) {
+			//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
+			for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+	//		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
+				EntityEntry entry = (EntityEntry) me.getValue();
+				Status status = entry.getStatus();
+				if ( status == Status.MANAGED || status == Status.SAVING || status == Status.READ_ONLY ) {
+					cascadeOnFlush( session, entry.getPersister(), me.getKey(), anything );
+				}
+			}
+			return null;
+		}
+
+		for ( Object entity : flushedEntities.toArray() ) {
+			final EntityEntry entry = persistenceContext.getEntry( entity );
+			if ( entry != null ) {
+				final Status status = entry.getStatus();
+				if ( status == Status.MANAGED || status == Status.SAVING || status == Status.READ_ONLY ) {
+					cascadeOnFlush( session, entry.getPersister(), entity, anything );
+				}
+			}
+		}
+		// the entities the cascades saved or deleted
+		flushedEntities.addAll( flushCandidates.getEntities() );
+		return flushedEntities;
+	}
+
+	/**
+	 * The candidates of an incremental flush, if flushes are incremental and the Interceptor and
+	 * FlushEntityEventListeners are the default ones: others could find entities dirty that were not
+	 * written to
+	 */
+	private FlushCandidates getIncrementalFlushCandidates(EventSource session) {
+		final FlushCandidates flushCandidates = session.getPersistenceContext().getFlushCandidates();
+		if ( flushCandidates == null
+				|| flushCandidates.isFullFlushRequired()
+				|| session.getInterceptor().getClass() != EmptyInterceptor.class
+				|| session.getFactory().getCustomEntityDirtinessStrategy().getClass() != DefaultCustomEntityDirtinessStrategy.class ) {
+			return null;
+		}
+		for ( FlushEntityEventListener listener : getFlushEntityEventListeners( session ) ) {
+			if ( listener.getClass() != DefaultFlushEntityEventListener.class
+					&& listener.getClass() != JpaFlushEntityEventListener.class ) {
+				return null;
 			}
 		}
+		return flushCandidates;
+	}
+
+	/**
+	 * The entities changed since the previous flush, those whose changes are not tracked, and the owners
+	 * of the collections which might have changed, or {@code null} if a collection does not know its owner,
+	 * in which case all the entities have to be flushed
+	 */
+	@SuppressWarnings("unchecked")
+	private Set<Object> determineIncrementalFlushEntities(
+			PersistenceContext persistenceContext,
+			FlushCandidates flushCandidates) {
+		final Set<Object> entities = new IdentitySet();
+		for ( Map.Entry<PersistentCollection,CollectionEntry> me :
+				IdentityMap.concurrentEntries( (Map<PersistentCollection,CollectionEntry>) persistenceContext.getCollectionEntries() ) ) {
+			final PersistentCollection collection = me.getKey();
+			if ( collection.getOwner() == null ) {
+				return null;
+			}
+			if ( mightBeDirty( collection, me.getValue() ) ) {
+				entities.add( collection.getOwner() );
+			}
+		}
+		entities.addAll( flushCandidates.getEntities() );
+		return entities;
+	}
+
+	/**
+	 * Could the collection have changed since the previous flush?  Mirrors CollectionEntry.dirty():
+	 * collections whose elements could have been changed in place are only known to be clean once
+	 * compared to their snapshot, which this check avoids
+	 */
+	protected static boolean mightBeDirty(PersistentCollection collection, CollectionEntry entry) {
+		return collection.isDirty()
+				|| collection.hasQueuedOperations()
+				|| entry.getLoadedPersister() == null
+				|| ( collection.wasInitialized()
+						&& entry.getLoadedPersister().isMutable()
+						&& ( collection.isDirectlyAccessible() || entry.getLoadedPersister().getElementType().isMutable() ) );
 	}
 
 	private void cascadeOnFlush(EventSource session, EntityPersister persister, Object object, Object anything)
@@ -165,8 +260,12 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 	/**
 	 * Initialize the flags of the CollectionEntry, including the
 	 * dirty check.
+	 * <p/>
+	 * For an incremental flush, the collections of the managed entities which are not flushed are
+	 * unchanged: they are neither dirty checked nor processed as unreachable
 	 */
-	private void prepareCollectionFlushes(PersistenceContext persistenceContext) throws HibernateException {
+	private void prepareCollectionFlushes(PersistenceContext persistenceContext, Set<Object> flushedEntities)
+			throws HibernateException {
 
 		// Initialize dirty flags for arrays + collections with composite elements
 		// and reset reached, doupdate, etc.
@@ -175,24 +274,49 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 
 		for ( Map.Entry<PersistentCollection,CollectionEntry> entry :
 				IdentityMap.concurrentEntries( (Map<PersistentCollection,CollectionEntry>) persistenceContext.getCollectionEntries() )) {
-			entry.getValue().preFlush( entry.getKey() );
+			if ( flushedEntities != null && isUnchanged( entry.getKey(), persistenceContext, flushedEntities ) ) {
+				final CollectionEntry ce = entry.getValue();
+				ce.setReached( true );
+				ce.setProcessed( true );
+				ce.setCurrentPersister( ce.getLoadedPersister() );
+				ce.setCurrentKey( ce.getLoadedKey() );
+				ce.setDoupdate( false );
+				ce.setDoremove( false );
+				ce.setDorecreate( false );
+			}
+			else {
+				entry.getValue().preFlush( entry.getKey() );
+			}
 		}
 	}
 
+	private boolean isUnchanged(
+			PersistentCollection collection,
+			PersistenceContext persistenceContext,
+			Set<Object> flushedEntities) {
+		final Object owner = collection.getOwner();
+		if ( owner == null || flushedEntities.contains( owner ) ) {
+			return false;
+		}
+		final EntityEntry ownerEntry = persistenceContext.getEntry( owner );
+		return ownerEntry != null
+				&& ( ownerEntry.getStatus() == Status.MANAGED || ownerEntry.getStatus() == Status.READ_ONLY );
+	}
+
 	/**
 	 * 1. detect any dirty entities
 	 * 2. schedule any entity updates
 	 * 3. search out any reachable collections
 	 */
-	private int flushEntities(final FlushEvent event, final PersistenceContext persistenceContext) throws HibernateException {
+	private int flushEntities(
+			final FlushEvent event,
+			final PersistenceContext persistenceContext,
+			final Set<Object> flushedEntities) throws HibernateException {
 
 		LOG.trace( "Flushing entities and processing referenced collections" );
 
 		final EventSource source = event.getSession();
-		final Iterable<FlushEntityEventListener> flushListeners = source.getFactory().getServiceRegistry()
-				.getService( EventListenerRegistry.class )
-				.getEventListenerGroup( EventType.FLUSH_ENTITY )
-				.listeners();
+		final Iterable<FlushEntityEventListener> flushListeners = getFlushEntityEventListeners( source );
 
 		// Among other things, updateReachables() will recursively load all
 		// collections that are moving roles. This might cause entities to
@@ -200,20 +324,29 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 
 		// So this needs to be safe from concurrent modification problems.
 
-		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
-		final int count = entityEntries.length;
-
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		final Map.Entry<Object,EntityEntry>[] entityEntries = flushedEntities == null
+				? persistenceContext.reentrantSafeEntityEntries()
+				: null;
+		final Object[] entities = flushedEntities == null ? null : flushedEntities.toArray();
 
-			// Update the status of the object and if necessary, schedule an update
-
-			EntityEntry entry = me.getValue();
-			Status status = entry.getStatus();
+		// the changes made from now on are for the next flush
+		if ( persistenceContext.getFlushCandidates() != null ) {
+			persistenceContext.getFlushCandidates().flushStarted();
+		}
 
-			if ( status != Status.LOADING && status != Status.GONE ) {
-				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
-				for ( FlushEntityEventListener listener : flushListeners ) {
-					listener.onFlushEntity( entityEvent );
+		int count = 0;
+		if ( entityEntries != null ) {
+			count = entityEntries.length;
+			for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+				flushEntity( source, flushListeners, me.getKey(), me.getValue() );
+			}
+		}
+		else {
+			for ( Object entity : entities ) {
+				final EntityEntry entry = persistenceContext.getEntry( entity );
+				if ( entry != null ) {
+					count++;
+					flushEntity( source, flushListeners, entity, entry );
 				}
 			}
 		}
@@ -223,12 +356,37 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 		return count;
 	}
 
+	private void flushEntity(
+			EventSource source,
+			Iterable<FlushEntityEventListener> flushListeners,
+			Object entity,
+			EntityEntry entry) {
+		// Update the status of the object and if necessary, schedule an update
+
+		Status status = entry.getStatus();
+
+		if ( status != Status.LOADING && status != Status.GONE ) {
+			final FlushEntityEvent entityEvent = new FlushEntityEvent( source, entity, entry );
+			for ( FlushEntityEventListener listener : flushListeners ) {
+				listener.onFlushEntity( entityEvent );
+			}
+		}
+	}
+
+	private Iterable<FlushEntityEventListener> getFlushEntityEventListeners(EventSource source) {
+		return source.getFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.getEventListenerGroup( EventType.FLUSH_ENTITY )
+				.listeners();
+	}
+
 	/**
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
 	 */
 	@SuppressWarnings("unchecked")
-	private int flushCollections(final EventSource session, final PersistenceContext persistenceContext) throws HibernateException {
+	private int flushCollections(final EventSource session, final PersistenceContext persistenceContext)
+			throws HibernateException {
 		LOG.trace( "Processing unreferenced collections" );
 
 		final Map.Entry<PersistentCollection,CollectionEntry>[] entries = IdentityMap.concurrentEntries(
@@ -358,6 +516,9 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		persistenceContext.getCollectionsByKey().clear();
+		if ( persistenceContext.getFlushCandidates() != null ) {
+			persistenceContext.getFlushCandidates().flushCompleted();
+		}
 		
 		// the database has changed now, so the subselect results need to be invalidated
 		// the batch fetching queues should also be cleared - especially the collection batch fetching one
@@ -6,12 +6,25 @@
  */
 package org.hibernate.event.internal;
 
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityFlushSpaces;
+import org.hibernate.engine.spi.FlushCandidates;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.spi.AutoFlushEventListener;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.IdentityMap;
 
 import org.jboss.logging.Logger;
 
@@ -37,7 +50,7 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 		try {
 			source.getEventListenerManager().partialFlushStart();
 
-			if ( flushMightBeNeeded(source) ) {
+			if ( flushMightBeNeeded(source) && changesMightAffectQuery( event, source ) ) {
 				// Need to get the number of collection removals before flushing to executions
 				// (because flushing to executions can add collection removal actions to the action queue).
 				final int oldSize = source.getActionQueue().numberOfCollectionRemovals();
@@ -59,6 +72,10 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 				else {
 					LOG.trace( "Don't need to execute flush" );
 					source.getActionQueue().clearFromFlushNeededCheck( oldSize );
+					if ( source.getPersistenceContext().getFlushCandidates() != null ) {
+						// the changes of the entities will be found again by the next flush
+						source.getPersistenceContext().getFlushCandidates().flushCancelled();
+					}
 				}
 
 				event.setFlushRequired( flushIsReallyNeeded( event, source ) );
@@ -77,10 +94,88 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 				|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() );
 	}
 
+	/**
+	 * When enabled, checks whether the changes of the session could affect the query spaces before
+	 * paying for the dirty checking of the whole session: those of the queued actions, and of the
+	 * entities and collections which might be dirty.  Queries without query spaces might read any
+	 * table, so the changes might always affect them.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#AUTO_FLUSH_CHECK_QUERY_SPACES
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean changesMightAffectQuery(AutoFlushEvent event, final EventSource source) {
+		if ( !source.getFactory().getSessionFactoryOptions().isAutoFlushQuerySpacesCheckEnabled()
+				|| source.getHibernateFlushMode() == FlushMode.ALWAYS ) {
+			return true;
+		}
+
+		final Set<Serializable> querySpaces = event.getQuerySpaces();
+		if ( querySpaces.isEmpty() || source.getActionQueue().areTablesToBeUpdated( querySpaces ) ) {
+			// the tables a query reads are unknown when it has no query spaces, e.g. a native query
+			return true;
+		}
+
+		final EntityFlushSpaces flushSpaces = source.getFactory().getMetamodel().getEntityFlushSpaces();
+		final PersistenceContext persistenceContext = source.getPersistenceContext();
+		final FlushCandidates flushCandidates = persistenceContext.getFlushCandidates();
+		if ( flushCandidates != null && !flushCandidates.isFullFlushRequired() ) {
+			// the entities which are not candidates were not changed since the previous flush
+			for ( Object entity : flushCandidates.getEntities() ) {
+				final EntityEntry entry = persistenceContext.getEntry( entity );
+				if ( entry != null
+						&& mightBeDirty( entity, entry )
+						&& flushSpaces.mayAffect( entry.getPersister().getEntityName(), querySpaces ) ) {
+					return true;
+				}
+			}
+		}
+		else {
+			for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+				final EntityEntry entry = me.getValue();
+				if ( mightBeDirty( me.getKey(), entry )
+						&& flushSpaces.mayAffect( entry.getPersister().getEntityName(), querySpaces ) ) {
+					return true;
+				}
+			}
+		}
+
+		for ( Map.Entry<PersistentCollection,CollectionEntry> me :
+				IdentityMap.concurrentEntries( (Map<PersistentCollection,CollectionEntry>) persistenceContext.getCollectionEntries() ) ) {
+			final PersistentCollection collection = me.getKey();
+			if ( mightBeDirty( collection, me.getValue() ) ) {
+				// the changes of a collection are flushed along with its owner
+				final EntityEntry ownerEntry = collection.getOwner() == null
+						? null
+						: persistenceContext.getEntry( collection.getOwner() );
+				if ( ownerEntry == null
+						|| flushSpaces.mayAffect( ownerEntry.getPersister().getEntityName(), querySpaces ) ) {
+					return true;
+				}
+			}
+		}
+
+		LOG.trace( "Changes cannot affect the query spaces, skipping flush" );
+		return false;
+	}
+
+	/**
+	 * Only bytecode enhanced entities tell whether they were changed, without a dirty check
+	 */
+	private boolean mightBeDirty(Object entity, EntityEntry entry) {
+		final Status status = entry.getStatus();
+		if ( status == Status.LOADING || status == Status.GONE ) {
+			return false;
+		}
+		return ( status != Status.MANAGED && status != Status.READ_ONLY )
+				|| !( entity instanceof SelfDirtinessTracker )
+				|| ( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
+	}
+
 	private boolean flushMightBeNeeded(final EventSource source) {
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
 				&& source.getDontFlushFromFind() == 0
 				&& ( source.getPersistenceContext().getNumberOfManagedEntities() > 0 ||
-						source.getPersistenceContext().getCollectionEntries().size() > 0 );
+						source.getPersistenceContext().getCollectionEntries().size() > 0 ||
+						source.getActionQueue().hasAnyQueuedActions() );
 	}
 }
@@ -29,8 +29,10 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 		final EventSource source = event.getSession();
 		final PersistenceContext persistenceContext = source.getPersistenceContext();
 
+		// the upserts are queued without a managed entity
 		if ( persistenceContext.getNumberOfManagedEntities() > 0 ||
-				persistenceContext.getCollectionEntries().size() > 0 ) {
+				persistenceContext.getCollectionEntries().size() > 0 ||
+				source.getActionQueue().hasAnyQueuedActions() ) {
 
 			try {
 				source.getEventListenerManager().flushStart();
@@ -14,6 +14,7 @@ import org.hibernate.cache.spi.entry.CollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.NPlusOneSelectDetector;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -72,6 +73,10 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				if ( traceEnabled ) {
 					LOG.trace( "Collection not cached" );
 				}
+				final NPlusOneSelectDetector nPlusOneSelectDetector = source.getPersistenceContext().getNPlusOneSelectDetector();
+				if ( nPlusOneSelectDetector != null ) {
+					nPlusOneSelectDetector.collectionFetched( ce.getLoadedPersister() );
+				}
 				ce.getLoadedPersister().initialize( ce.getLoadedKey(), source );
 				if ( traceEnabled ) {
 					LOG.trace( "Collection initialized" );
@@ -26,6 +26,7 @@ import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.NPlusOneSelectDetector;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -475,6 +476,14 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 						MessageHelper.infoString( persister, event.getEntityId(), event.getSession().getFactory() )
 				);
 			}
+			if ( options != LoadEventListener.LOAD && options != LoadEventListener.GET && options != LoadEventListener.RELOAD ) {
+				// loading on behalf of an association or of a proxy
+				final NPlusOneSelectDetector nPlusOneSelectDetector =
+						event.getSession().getPersistenceContext().getNPlusOneSelectDetector();
+				if ( nPlusOneSelectDetector != null ) {
+					nPlusOneSelectDetector.entityFetched( persister );
+				}
+			}
 			entity = loadFromDatasource( event, persister );
 		}
 
@@ -133,7 +133,7 @@ public class DefaultPersistEventListener extends AbstractSaveEventListener imple
 				break;
 			}
 			case DELETED: {
-				entityEntry.setStatus( Status.MANAGED );
+				source.getPersistenceContext().setEntryStatus( entityEntry, Status.MANAGED );
 				entityEntry.setDeletedState( null );
 				event.getSession().getActionQueue().unScheduleDeletion( entityEntry, event.getObject() );
 				entityIsDeleted( event, createCache );
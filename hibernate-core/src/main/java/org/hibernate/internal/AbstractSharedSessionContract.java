@@ -56,6 +56,7 @@ import org.hibernate.engine.spi.NamedSQLQueryDefinition;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.transaction.internal.TransactionImpl;
 import org.hibernate.engine.transaction.spi.TransactionImplementor;
@@ -449,7 +450,8 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 			if ( MultiTenancyStrategy.NONE == factory.getSettings().getMultiTenancyStrategy() ) {
 				jdbcConnectionAccess = new NonContextualJdbcConnectionAccess(
 						getEventListenerManager(),
-						factory.getServiceRegistry().getService( ConnectionProvider.class )
+						factory.getServiceRegistry().getService( ConnectionProvider.class ),
+						this instanceof SessionImplementor ? (SessionImplementor) this : null
 				);
 			}
 			else {
@@ -13,6 +13,8 @@ import java.sql.SQLException;
 import org.hibernate.SessionEventListener;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.ReadOnlyRoutingConnectionProvider;
+import org.hibernate.engine.spi.SessionImplementor;
 
 /**
  * @author Steve Ebersole
@@ -20,18 +22,44 @@ import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 public class NonContextualJdbcConnectionAccess implements JdbcConnectionAccess, Serializable {
 	private final SessionEventListener listener;
 	private final ConnectionProvider connectionProvider;
+	private final SessionImplementor session;
+
+	private boolean primaryRequired;
+	private boolean readOnlyQuery;
+	// the read-only Connection currently held by the session, if any
+	private transient Connection readOnlyConnection;
 
 	public NonContextualJdbcConnectionAccess(
 			SessionEventListener listener,
 			ConnectionProvider connectionProvider) {
+		this( listener, connectionProvider, null );
+	}
+
+	/**
+	 * @param session The session for which Connections are obtained; when it is read-only by default (or
+	 * executes a read-only query, see {@link #setReadOnlyQuery}) and the provider is a
+	 * {@link ReadOnlyRoutingConnectionProvider}, a read-only Connection is obtained unless the session
+	 * {@link #requirePrimaryConnection() required the primary database}.
+	 */
+	public NonContextualJdbcConnectionAccess(
+			SessionEventListener listener,
+			ConnectionProvider connectionProvider,
+			SessionImplementor session) {
 		this.listener = listener;
 		this.connectionProvider = connectionProvider;
+		this.session = session;
 	}
 
 	@Override
 	public Connection obtainConnection() throws SQLException {
 		try {
 			listener.jdbcConnectionAcquisitionStart();
+			if ( isRoutingReadOnlyConnections()
+					&& !primaryRequired
+					&& ( readOnlyQuery || session.isDefaultReadOnly() ) ) {
+				readOnlyConnection = ( (ReadOnlyRoutingConnectionProvider) connectionProvider ).getReadOnlyConnection();
+				return readOnlyConnection;
+			}
 			return connectionProvider.getConnection();
 		}
 		finally {
@@ -43,6 +71,9 @@ public class NonContextualJdbcConnectionAccess implements JdbcConnectionAccess,
 	public void releaseConnection(Connection connection) throws SQLException {
 		try {
 			listener.jdbcConnectionReleaseStart();
+			if ( connection == readOnlyConnection ) {
+				readOnlyConnection = null;
+			}
 			connectionProvider.closeConnection( connection );
 		}
 		finally {
@@ -50,6 +81,39 @@ public class NonContextualJdbcConnectionAccess implements JdbcConnectionAccess,
 		}
 	}
 
+	/**
+	 * Are Connections of the session possibly routed to read-only Connections?
+	 */
+	public boolean isRoutingReadOnlyConnections() {
+		return session != null && connectionProvider instanceof ReadOnlyRoutingConnectionProvider;
+	}
+
+	/**
+	 * Is the session currently holding a Connection obtained through
+	 * {@link ReadOnlyRoutingConnectionProvider#getReadOnlyConnection()}?
+	 */
+	public boolean isHoldingReadOnlyConnection() {
+		return readOnlyConnection != null;
+	}
+
+	/**
+	 * Obtain all further Connections of the session from the primary database, because the session writes or
+	 * locks.  Staying on the primary afterwards lets the session read its own writes.
+	 */
+	public void requirePrimaryConnection() {
+		primaryRequired = true;
+	}
+
+	/**
+	 * Obtain read-only Connections while a query which is read-only executes, even if the session is not
+	 * read-only by default.
+	 *
+	 * @param readOnlyQuery Whether a read-only query is executing
+	 */
+	public void setReadOnlyQuery(boolean readOnlyQuery) {
+		this.readOnlyQuery = readOnlyQuery;
+	}
+
 	@Override
 	public boolean supportsAggressiveRelease() {
 		return connectionProvider.supportsAggressiveRelease();
@@ -19,6 +19,7 @@ import java.sql.NClob;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -58,6 +59,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
 import org.hibernate.MultiIdentifierLoadAccess;
 import org.hibernate.NaturalIdLoadAccess;
+import org.hibernate.NonUniqueObjectException;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.ObjectNotFoundException;
 import org.hibernate.QueryException;
@@ -73,11 +75,13 @@ import org.hibernate.TypeHelper;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.UnknownProfileException;
 import org.hibernate.UnresolvableObjectException;
+import org.hibernate.action.internal.EntityUpsertAction;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.criterion.NaturalIdentifier;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.NonContextualLobCreator;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.query.spi.FilterQueryPlan;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
@@ -134,6 +138,7 @@ import org.hibernate.event.spi.ResolveNaturalIdEventListener;
 import org.hibernate.event.spi.SaveOrUpdateEvent;
 import org.hibernate.event.spi.SaveOrUpdateEventListener;
 import org.hibernate.graph.spi.EntityGraphImplementor;
+import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.internal.CriteriaImpl.CriterionEntry;
 import org.hibernate.internal.log.DeprecationLogger;
 import org.hibernate.jdbc.ReturningWork;
@@ -170,6 +175,8 @@ import org.hibernate.query.criteria.internal.expression.CompoundSelectionImpl;
 import org.hibernate.query.internal.CollectionFilterImpl;
 import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.TransactionRequiredForJoinException;
 import org.hibernate.resource.transaction.backend.jta.internal.JtaTransactionCoordinatorImpl;
 import org.hibernate.resource.transaction.backend.jta.internal.synchronization.AfterCompletionAction;
@@ -746,6 +753,7 @@ public final class SessionImpl
 	private void fireLock(LockEvent event) {
 		checkOpen();
 		checkTransactionSynchStatus();
+		requirePrimaryConnection( event.getLockOptions() );
 		for ( LockEventListener listener : listeners( EventType.LOCK ) ) {
 			listener.onLock( event );
 		}
@@ -869,6 +877,62 @@ public final class SessionImpl
 		return fireMerge( new MergeEvent( null, object, this ));
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> List<T> mergeAll(Collection<? extends T> objects) throws HibernateException {
+		checkOpen();
+		loadDetachedInstances( objects );
+		final List<T> results = new ArrayList<>( objects.size() );
+		for ( T object : objects ) {
+			results.add( (T) fireMerge( new MergeEvent( null, object, this ) ) );
+		}
+		return results;
+	}
+
+	/**
+	 * Loads, in batches by entity, the persistent instances of the given detached instances which are not
+	 * associated with the session yet, so that merging them does not load them one by one.
+	 */
+	private void loadDetachedInstances(Collection<?> objects) {
+		try {
+			checkTransactionSynchStatus();
+			final Map<EntityPersister, List<Serializable>> idsByPersister = new LinkedHashMap<>();
+			for ( Object object : objects ) {
+				if ( object == null
+						|| object instanceof HibernateProxy
+						|| persistenceContext.getEntry( object ) != null ) {
+					continue;
+				}
+				final EntityPersister persister = getEntityPersister( null, object );
+				final Serializable id = persister.getIdentifier( object, this );
+				if ( id == null
+						|| Boolean.TRUE.equals( persister.getEntityMetamodel().getIdentifierProperty().getUnsavedValue().isUnsaved( id ) )
+						|| persistenceContext.containsEntity( generateEntityKey( id, persister ) ) ) {
+					// transient, or already loaded
+					continue;
+				}
+				// an embedded composite identifier is the detached instance itself, which must not become managed
+				final Serializable clonedId = (Serializable) persister.getIdentifierType().deepCopy( id, getFactory() );
+				idsByPersister.computeIfAbsent( persister, k -> new ArrayList<>() ).add( clonedId );
+			}
+
+			for ( Map.Entry<EntityPersister, List<Serializable>> entry : idsByPersister.entrySet() ) {
+				if ( entry.getValue().size() > 1 ) {
+					byMultipleIds( entry.getKey().getEntityName() )
+							.enableSessionCheck( true )
+							.multiLoad( entry.getValue() );
+				}
+			}
+		}
+		catch ( MappingException e ) {
+			throw exceptionConverter.convert( new IllegalArgumentException( e.getMessage(), e ) );
+		}
+		catch ( RuntimeException e ) {
+			//including HibernateException
+			throw exceptionConverter.convert( e );
+		}
+	}
+
 	@Override
 	public void merge(String entityName, Object object, Map copiedAlready) throws HibernateException {
 		checkOpenOrWaitingForAutoClose();
@@ -921,6 +985,47 @@ public final class SessionImpl
 	}
 
 
+	// upsert() operations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void upsert(Object object) throws HibernateException {
+		upsert( null, object );
+	}
+
+	@Override
+	public void upsert(String entityName, Object object) throws HibernateException {
+		checkOpen();
+		checkTransactionSynchStatus();
+		try {
+			final EntityPersister persister = getEntityPersister( entityName, object );
+			final Serializable id = persister.getIdentifier( object, this );
+			if ( id == null ) {
+				throw new IdentifierGenerationException(
+						"ids for this class must be assigned before calling upsert(): " + persister.getEntityName()
+				);
+			}
+			if ( persistenceContext.containsEntity( generateEntityKey( id, persister ) ) ) {
+				throw new NonUniqueObjectException( id, persister.getEntityName() );
+			}
+
+			if ( persister.isVersioned() ) {
+				throw new HibernateException(
+						"Upserts are not supported for versioned entities: " + persister.getEntityName()
+				);
+			}
+
+			final Object[] state = persister.getPropertyValues( object );
+			actionQueue.addAction( new EntityUpsertAction( id, state, object, persister, this ) );
+		}
+		catch ( MappingException e ) {
+			throw exceptionConverter.convert( new IllegalArgumentException( e.getMessage(), e ) );
+		}
+		catch ( RuntimeException e ) {
+			throw exceptionConverter.convert( e );
+		}
+	}
+
+
 	// delete() operations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -1235,6 +1340,7 @@ public final class SessionImpl
 	private void fireLoad(LoadEvent event, LoadType loadType) {
 		checkOpenOrWaitingForAutoClose();
 		checkTransactionSynchStatus();
+		requirePrimaryConnection( event.getLockOptions() );
 		for ( LoadEventListener listener : listeners( EventType.LOAD ) ) {
 			listener.onLoad( event, loadType );
 		}
@@ -1304,6 +1410,7 @@ public final class SessionImpl
 				}
 			}
 			checkTransactionSynchStatus();
+			requirePrimaryConnection( event.getLockOptions() );
 			for ( RefreshEventListener listener : listeners( EventType.REFRESH ) ) {
 				listener.onRefresh( event );
 			}
@@ -1325,6 +1432,7 @@ public final class SessionImpl
 	private void fireRefresh(Map refreshedAlready, RefreshEvent event) {
 		try {
 			checkTransactionSynchStatus();
+			requirePrimaryConnection( event.getLockOptions() );
 			for ( RefreshEventListener listener : listeners( EventType.REFRESH ) ) {
 				listener.onRefresh( event, refreshedAlready );
 			}
@@ -1481,6 +1589,8 @@ public final class SessionImpl
 		}
 
 		autoFlushIfRequired( plan.getQuerySpaces() );
+		requirePrimaryConnection( queryParameters.getLockOptions() );
+		final boolean readOnlyQuery = beginReadOnlyQuery( queryParameters );
 
 		List results = Collections.EMPTY_LIST;
 		boolean success = false;
@@ -1492,6 +1602,9 @@ public final class SessionImpl
 		}
 		finally {
 			dontFlushFromFind--;
+			if ( readOnlyQuery ) {
+				endReadOnlyQuery();
+			}
 			afterOperation( success );
 			delayedAfterCompletion();
 		}
@@ -1505,6 +1618,7 @@ public final class SessionImpl
 		queryParameters.validateParameters();
 		HQLQueryPlan plan = getQueryPlan( query, false );
 		autoFlushIfRequired( plan.getQuerySpaces() );
+		requirePrimaryConnection( "execute an update query" );
 
 		boolean success = false;
 		int result = 0;
@@ -1530,6 +1644,7 @@ public final class SessionImpl
 
 
 		autoFlushIfRequired( plan.getCustomQuery().getQuerySpaces() );
+		requirePrimaryConnection( "execute an update query" );
 
 		boolean success = false;
 		int result = 0;
@@ -1556,6 +1671,7 @@ public final class SessionImpl
 		}
 
 		autoFlushIfRequired( plan.getQuerySpaces() );
+		requirePrimaryConnection( queryParameters.getLockOptions() );
 
 		dontFlushFromFind++; //stops flush being called multiple times if this method is recursively called
 		try {
@@ -1578,6 +1694,7 @@ public final class SessionImpl
 		}
 		
 		autoFlushIfRequired( plan.getQuerySpaces() );
+		requirePrimaryConnection( queryParameters.getLockOptions() );
 
 		dontFlushFromFind++;
 		try {
@@ -1841,6 +1958,7 @@ public final class SessionImpl
 				getLoadQueryInfluencers()
 		);
 		autoFlushIfRequired( loader.getQuerySpaces() );
+		requirePrimaryConnection( criteriaImpl );
 		dontFlushFromFind++;
 		try {
 			return loader.scroll( this, scrollMode );
@@ -1889,6 +2007,8 @@ public final class SessionImpl
 		}
 
 		autoFlushIfRequired( spaces );
+		requirePrimaryConnection( criteriaImpl );
+		final boolean readOnlyQuery = beginReadOnlyQuery( criteriaImpl.isReadOnlyInitialized() && criteriaImpl.isReadOnly() );
 
 		List results = Collections.EMPTY_LIST;
 		dontFlushFromFind++;
@@ -1903,6 +2023,9 @@ public final class SessionImpl
 		}
 		finally {
 			dontFlushFromFind--;
+			if ( readOnlyQuery ) {
+				endReadOnlyQuery();
+			}
 			afterOperation( success );
 			delayedAfterCompletion();
 		}
@@ -2131,6 +2254,7 @@ public final class SessionImpl
 		CustomLoader loader = new CustomLoader( customQuery, getFactory() );
 
 		autoFlushIfRequired( loader.getQuerySpaces() );
+		requirePrimaryConnection( queryParameters.getLockOptions() );
 
 		dontFlushFromFind++; //stops flush being called multiple times if this method is recursively called
 		try {
@@ -2155,6 +2279,8 @@ public final class SessionImpl
 		CustomLoader loader = new CustomLoader( customQuery, getFactory() );
 
 		autoFlushIfRequired( loader.getQuerySpaces() );
+		requirePrimaryConnection( queryParameters.getLockOptions() );
+		final boolean readOnlyQuery = beginReadOnlyQuery( queryParameters );
 
 		dontFlushFromFind++;
 		boolean success = false;
@@ -2165,11 +2291,101 @@ public final class SessionImpl
 		}
 		finally {
 			dontFlushFromFind--;
+			if ( readOnlyQuery ) {
+				endReadOnlyQuery();
+			}
 			delayedAfterCompletion();
 			afterOperation( success );
 		}
 	}
 
+	@Override
+	public void requirePrimaryConnection(String operation) {
+		final NonContextualJdbcConnectionAccess connectionAccess = getReadOnlyRoutingConnectionAccess();
+		if ( connectionAccess == null ) {
+			return;
+		}
+		connectionAccess.requirePrimaryConnection();
+		if ( connectionAccess.isHoldingReadOnlyConnection() ) {
+			// the Connection can only be swapped for one to the primary database while no work is in progress
+			final LogicalConnectionImplementor logicalConnection = getJdbcCoordinator().getLogicalConnection();
+			if ( getTransactionCoordinator().isTransactionActive()
+					|| !( logicalConnection instanceof LogicalConnectionManagedImpl )
+					|| logicalConnection.getResourceRegistry().hasRegisteredResources() ) {
+				throw new HibernateException(
+						"Cannot " + operation + " through the read-only JDBC Connection of this Session, which was " +
+								"read-only by default when it acquired the Connection; use a Session which is not " +
+								"read-only by default to write or lock within a transaction"
+				);
+			}
+			( (LogicalConnectionManagedImpl) logicalConnection ).releaseIdleConnection();
+		}
+	}
+
+	private void requirePrimaryConnection(LockOptions lockOptions) {
+		if ( lockOptions != null && lockOptions.findGreatestLockMode().greaterThan( LockMode.READ ) ) {
+			requirePrimaryConnection( "acquire a " + lockOptions.findGreatestLockMode() + " lock" );
+		}
+	}
+
+	private void requirePrimaryConnection(CriteriaImpl criteria) {
+		final List<LockMode> lockModes = new ArrayList<>( criteria.getLockModes().values() );
+		final Iterator<CriteriaImpl.Subcriteria> subcriteria = criteria.iterateSubcriteria();
+		while ( subcriteria.hasNext() ) {
+			lockModes.add( subcriteria.next().getLockMode() );
+		}
+		for ( LockMode lockMode : lockModes ) {
+			if ( lockMode != null && lockMode.greaterThan( LockMode.READ ) ) {
+				requirePrimaryConnection( "acquire a " + lockMode + " lock" );
+				return;
+			}
+		}
+	}
+
+	private boolean beginReadOnlyQuery(QueryParameters queryParameters) {
+		return beginReadOnlyQuery( queryParameters.isReadOnlyInitialized() && queryParameters.isReadOnly() );
+	}
+
+	/**
+	 * Route the Connection of a query marked read-only (Query#setReadOnly) to a read replica, when the Session
+	 * is not read-only by default and is not connected nor in a transaction, so that the Connection can be
+	 * released again once the results are read.
+	 */
+	private boolean beginReadOnlyQuery(boolean readOnly) {
+		if ( !readOnly
+				|| isDefaultReadOnly()
+				|| getTransactionCoordinator().isTransactionActive()
+				|| getJdbcCoordinator().getLogicalConnection().isPhysicallyConnected() ) {
+			return false;
+		}
+		final NonContextualJdbcConnectionAccess connectionAccess = getReadOnlyRoutingConnectionAccess();
+		if ( connectionAccess == null ) {
+			return false;
+		}
+		connectionAccess.setReadOnlyQuery( true );
+		return true;
+	}
+
+	private void endReadOnlyQuery() {
+		final NonContextualJdbcConnectionAccess connectionAccess = getReadOnlyRoutingConnectionAccess();
+		connectionAccess.setReadOnlyQuery( false );
+		final LogicalConnectionImplementor logicalConnection = getJdbcCoordinator().getLogicalConnection();
+		if ( connectionAccess.isHoldingReadOnlyConnection()
+				&& logicalConnection instanceof LogicalConnectionManagedImpl
+				&& !getTransactionCoordinator().isTransactionActive() ) {
+			( (LogicalConnectionManagedImpl) logicalConnection ).releaseIdleConnection();
+		}
+	}
+
+	private NonContextualJdbcConnectionAccess getReadOnlyRoutingConnectionAccess() {
+		final JdbcConnectionAccess connectionAccess = getJdbcConnectionAccess();
+		if ( connectionAccess instanceof NonContextualJdbcConnectionAccess
+				&& ( (NonContextualJdbcConnectionAccess) connectionAccess ).isRoutingReadOnlyConnections() ) {
+			return (NonContextualJdbcConnectionAccess) connectionAccess;
+		}
+		return null;
+	}
+
 	@Override
 	public SessionFactoryImplementor getSessionFactory() {
 //		checkTransactionSynchStatus();
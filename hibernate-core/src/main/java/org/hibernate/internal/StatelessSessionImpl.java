@@ -37,6 +37,7 @@ import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.transaction.internal.jta.JtaStatusHelper;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.loader.criteria.CriteriaLoader;
 import org.hibernate.loader.custom.CustomLoader;
@@ -67,8 +68,11 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 	private PersistenceContext temporaryPersistenceContext = new StatefulPersistenceContext( this );
 
+	private final StatelessWriteQueue writeQueue;
+
 	StatelessSessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 		super( factory, options );
+		this.writeQueue = new StatelessWriteQueue( factory.getSessionFactoryOptions().getStatelessWriteQueueSize() );
 	}
 
 	@Override
@@ -102,16 +106,56 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 			}
 		}
 		if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+			// the identifier is only known once inserted, which cannot be deferred
+			executeQueuedWrites();
 			id = persister.insert( state, entity, this );
 		}
+		else if ( writeQueue.isEnabled() ) {
+			writeQueue.queueInsert( persister, id, state, entity );
+		}
 		else {
 			persister.insert( id, state, entity, this );
 		}
 		persister.setIdentifier( entity, id, this );
+		executeQueuedWritesIfFull();
 		return id;
 	}
 
 
+	// upserts ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void upsert(Object entity) {
+		checkOpen();
+		upsert( null, entity );
+	}
+
+	@Override
+	public void upsert(String entityName, Object entity) {
+		checkOpen();
+		EntityPersister persister = getEntityPersister( entityName, entity );
+		Serializable id = persister.getIdentifier( entity, this );
+		if ( id == null ) {
+			throw new IdentifierGenerationException(
+					"ids for this class must be assigned before calling upsert(): " + persister.getEntityName()
+			);
+		}
+		if ( persister.isVersioned() ) {
+			throw new HibernateException(
+					"Upserts are not supported for versioned entities: " + persister.getEntityName()
+			);
+		}
+		Object[] state = persister.getPropertyValues( entity );
+		if ( writeQueue.isEnabled() ) {
+			writeQueue.queueUpsert( persister, id, state, entity );
+			executeQueuedWritesIfFull();
+		}
+		else {
+			persister.upsert( id, state, entity, this );
+		}
+	}
+
+
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -126,7 +170,13 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		EntityPersister persister = getEntityPersister( entityName, entity );
 		Serializable id = persister.getIdentifier( entity, this );
 		Object version = persister.getVersion( entity );
-		persister.delete( id, version, entity, this );
+		if ( writeQueue.isEnabled() ) {
+			writeQueue.queueDelete( persister, id, version, entity );
+			executeQueuedWritesIfFull();
+		}
+		else {
+			persister.delete( id, version, entity, this );
+		}
 	}
 
 
@@ -154,7 +204,26 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		else {
 			oldVersion = null;
 		}
-		persister.update( id, state, null, false, null, oldVersion, entity, null, this );
+		if ( writeQueue.isEnabled() ) {
+			writeQueue.queueUpdate( persister, id, state, oldVersion, entity );
+			executeQueuedWritesIfFull();
+		}
+		else {
+			persister.update( id, state, null, false, null, oldVersion, entity, null, this );
+		}
+	}
+
+	private void executeQueuedWritesIfFull() {
+		if ( writeQueue.isFull() ) {
+			writeQueue.execute( this );
+		}
+	}
+
+	/**
+	 * Execute the queued writes, before a statement which may read what they write.
+	 */
+	private void executeQueuedWrites() {
+		writeQueue.execute( this );
 	}
 
 
@@ -178,6 +247,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public Object get(String entityName, Serializable id, LockMode lockMode) {
 		checkOpen();
+		executeQueuedWrites();
 
 		Object result = getFactory().getMetamodel().entityPersister( entityName )
 				.load( id, null, getNullSafeLockMode( lockMode ), this );
@@ -206,6 +276,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	public void refresh(String entityName, Object entity, LockMode lockMode) {
 		final EntityPersister persister = this.getEntityPersister( entityName, entity );
 		final Serializable id = persister.getIdentifier( entity, this );
+		executeQueuedWrites();
 		if ( LOG.isTraceEnabled() ) {
 			LOG.tracev( "Refreshing transient {0}", MessageHelper.infoString( persister, id, this.getFactory() ) );
 		}
@@ -272,6 +343,8 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 			// containing eager fetches via join fetch
 			return loaded;
 		}
+		// the proxy, or the instance loaded right away, must reflect the queued writes
+		executeQueuedWrites();
 		if ( !eager && persister.hasProxy() ) {
 			// if the metadata allowed proxy creation and caller did not request forceful eager loading,
 			// generate a proxy
@@ -322,6 +395,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 	private void managedFlush() {
 		checkOpen();
+		executeQueuedWrites();
 		getJdbcCoordinator().executeBatch();
 	}
 
@@ -336,6 +410,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public Connection connection() {
 		checkOpen();
+		executeQueuedWrites();
 		return getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
 	}
 
@@ -343,6 +418,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	public int executeUpdate(String query, QueryParameters queryParameters) throws HibernateException {
 		checkOpen();
 		queryParameters.validateParameters();
+		executeQueuedWrites();
 		HQLQueryPlan plan = getQueryPlan( query, false );
 		boolean success = false;
 		int result = 0;
@@ -454,6 +530,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	public List list(String query, QueryParameters queryParameters) throws HibernateException {
 		checkOpen();
 		queryParameters.validateParameters();
+		executeQueuedWrites();
 		HQLQueryPlan plan = getQueryPlan( query, false );
 		boolean success = false;
 		List results = Collections.EMPTY_LIST;
@@ -504,6 +581,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		CriteriaImpl criteriaImpl = (CriteriaImpl) criteria;
 
 		checkOpen();
+		executeQueuedWrites();
 		String entityName = criteriaImpl.getEntityOrClassName();
 		CriteriaLoader loader = new CriteriaLoader(
 				getOuterJoinLoadable( entityName ),
@@ -522,6 +600,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		CriteriaImpl criteriaImpl = (CriteriaImpl) criteria;
 
 		checkOpen();
+		executeQueuedWrites();
 		String[] implementors = getFactory().getMetamodel().getImplementors( criteriaImpl.getEntityOrClassName() );
 		int size = implementors.length;
 
@@ -566,6 +645,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	public List listCustomQuery(CustomQuery customQuery, QueryParameters queryParameters)
 			throws HibernateException {
 		checkOpen();
+		executeQueuedWrites();
 		CustomLoader loader = new CustomLoader( customQuery, getFactory() );
 
 		boolean success = false;
@@ -585,6 +665,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	public ScrollableResultsImplementor scrollCustomQuery(CustomQuery customQuery, QueryParameters queryParameters)
 			throws HibernateException {
 		checkOpen();
+		executeQueuedWrites();
 		CustomLoader loader = new CustomLoader( customQuery, getFactory() );
 		return loader.scroll( queryParameters, this );
 	}
@@ -592,6 +673,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public ScrollableResultsImplementor scroll(String query, QueryParameters queryParameters) throws HibernateException {
 		checkOpen();
+		executeQueuedWrites();
 		HQLQueryPlan plan = getQueryPlan( query, false );
 		return plan.performScroll( queryParameters, this );
 	}
@@ -603,6 +685,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 	@Override
 	public void flush() {
+		managedFlush();
 	}
 
 	@Override
@@ -616,6 +699,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 			QueryParameters queryParameters) throws HibernateException {
 		checkOpen();
 		queryParameters.validateParameters();
+		executeQueuedWrites();
 		NativeSQLQueryPlan plan = getNativeQueryPlan( nativeSQLQuerySpecification );
 
 		boolean success = false;
@@ -643,6 +727,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 	@Override
 	public void afterTransactionCompletion(boolean successful, boolean delayed) {
+		writeQueue.clear();
 		if ( shouldAutoClose() && !isClosed() ) {
 			managedClose();
 		}
@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.EntityInsertOrdering;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * The inserts, upserts, updates and deletes a {@link StatelessSessionImpl} queues to execute them as JDBC batches,
+ * see {@link org.hibernate.cfg.AvailableSettings#STATELESS_WRITE_QUEUE_SIZE}.
+ * <p/>
+ * The writes are executed in the order they were queued, except within a run of consecutive writes of the same
+ * kind: inserts, as well as upserts, are ordered by entity as per the {@link EntityInsertOrdering} when ordering
+ * inserts is enabled, and updates are grouped by entity when ordering updates is enabled, so that the statements
+ * of an entity follow each other and share a JDBC batch.  Both orderings are stable, deletes are never reordered.
+ */
+class StatelessWriteQueue {
+	private enum WriteType {
+		INSERT,
+		UPSERT,
+		UPDATE,
+		DELETE
+	}
+
+	private static class QueuedWrite {
+		private final WriteType type;
+		private final EntityPersister persister;
+		private final Serializable id;
+		private final Object[] state;
+		private final Object version;
+		private final Object entity;
+
+		private QueuedWrite(
+				WriteType type,
+				EntityPersister persister,
+				Serializable id,
+				Object[] state,
+				Object version,
+				Object entity) {
+			this.type = type;
+			this.persister = persister;
+			this.id = id;
+			this.state = state;
+			this.version = version;
+			this.entity = entity;
+		}
+
+		private void execute(SharedSessionContractImplementor session) {
+			switch ( type ) {
+				case INSERT:
+					persister.insert( id, state, entity, session );
+					break;
+				case UPSERT:
+					persister.upsert( id, state, entity, session );
+					break;
+				case UPDATE:
+					persister.update( id, state, null, false, null, version, entity, null, session );
+					break;
+				default:
+					persister.delete( id, version, entity, session );
+			}
+		}
+	}
+
+	private final int maxSize;
+	private final List<QueuedWrite> writes = new ArrayList<>();
+
+	/**
+	 * Constructs a StatelessWriteQueue
+	 *
+	 * @param maxSize The number of writes queued before they are executed, {@code 0} disabling the queue
+	 */
+	StatelessWriteQueue(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	boolean isFull() {
+		return isEnabled() && writes.size() >= maxSize;
+	}
+
+	void queueInsert(EntityPersister persister, Serializable id, Object[] state, Object entity) {
+		writes.add( new QueuedWrite( WriteType.INSERT, persister, id, state, null, entity ) );
+	}
+
+	void queueUpsert(EntityPersister persister, Serializable id, Object[] state, Object entity) {
+		writes.add( new QueuedWrite( WriteType.UPSERT, persister, id, state, null, entity ) );
+	}
+
+	void queueUpdate(EntityPersister persister, Serializable id, Object[] state, Object oldVersion, Object entity) {
+		writes.add( new QueuedWrite( WriteType.UPDATE, persister, id, state, oldVersion, entity ) );
+	}
+
+	void queueDelete(EntityPersister persister, Serializable id, Object version, Object entity) {
+		writes.add( new QueuedWrite( WriteType.DELETE, persister, id, null, version, entity ) );
+	}
+
+	/**
+	 * Execute the queued writes, leaving the statements of the last JDBC batch pending.
+	 *
+	 * @param session The session
+	 */
+	void execute(SharedSessionContractImplementor session) {
+		if ( writes.isEmpty() ) {
+			return;
+		}
+
+		// the queue is emptied first, a failing write is not executed again
+		final List<QueuedWrite> queuedWrites = new ArrayList<>( writes );
+		writes.clear();
+
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		int start = 0;
+		while ( start < queuedWrites.size() ) {
+			final WriteType type = queuedWrites.get( start ).type;
+			int end = start + 1;
+			while ( end < queuedWrites.size() && queuedWrites.get( end ).type == type ) {
+				end++;
+			}
+
+			final List<QueuedWrite> run = queuedWrites.subList( start, end );
+			if ( ( type == WriteType.INSERT || type == WriteType.UPSERT ) && options.isOrderInsertsEnabled() ) {
+				final EntityInsertOrdering insertOrdering = session.getFactory().getMetamodel().getEntityInsertOrdering();
+				run.sort( Comparator.comparingInt(
+						(QueuedWrite write) -> insertOrdering.getRank( write.persister.getEntityName() )
+				) );
+			}
+			else if ( type == WriteType.UPDATE && options.isOrderUpdatesEnabled() ) {
+				run.sort( Comparator.comparing( (QueuedWrite write) -> write.persister.getEntityName() ) );
+			}
+			for ( QueuedWrite write : run ) {
+				write.execute( session );
+			}
+			start = end;
+		}
+	}
+
+	/**
+	 * Discard the queued writes.
+	 */
+	void clear() {
+		writes.clear();
+	}
+}
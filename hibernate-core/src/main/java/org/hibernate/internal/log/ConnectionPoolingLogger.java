@@ -70,4 +70,8 @@ public interface ConnectionPoolingLogger extends BasicLogger {
 	@LogMessage(level = WARN)
 	@Message(value = "Problem closing pooled connection", id = 10001009)
 	void unableToClosePooledConnection(@Cause SQLException e);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Using Hibernate built-in connection pool [min size: %s, max size: %s]", id = 10001010)
+	void usingHibernateConnectionPool(int minSize, int maxSize);
 }
@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util;
+
+/**
+ * Determines which application code called into Hibernate, for diagnostics.  Meant for rare events only, as it
+ * walks the stack.
+ */
+public final class CallSiteHelper {
+	private CallSiteHelper() {
+	}
+
+	/**
+	 * Determine the calling code: the innermost stack frame which belongs neither to Hibernate, to the JDK nor
+	 * to a proxy class generated by Hibernate.
+	 *
+	 * @return The calling stack frame, or {@code "unknown"}
+	 */
+	public static String determineCallSite() {
+		for ( StackTraceElement element : new Throwable().getStackTrace() ) {
+			if ( !isInternal( element.getClassName() ) ) {
+				return element.toString();
+			}
+		}
+		return "unknown";
+	}
+
+	private static boolean isInternal(String className) {
+		return className.startsWith( "org.hibernate." )
+				|| className.startsWith( "java." )
+				|| className.startsWith( "javax." )
+				|| className.startsWith( "sun." )
+				|| className.startsWith( "jdk." )
+				// the proxies generated by ByteBuddy and Javassist
+				|| className.contains( "$HibernateProxy$" )
+				|| className.contains( "_$$_" );
+	}
+}
@@ -222,6 +222,32 @@ public final class ConfigurationHelper {
 		);
 	}
 
+	/**
+	 * Get the config value as a double
+	 *
+	 * @param name The config setting name.
+	 * @param values The map of config values
+	 * @param defaultValue The default value to use if not found
+	 *
+	 * @return The value.
+	 */
+	public static double getDouble(String name, Map values, double defaultValue) {
+		Object value = values.get( name );
+		if ( value == null ) {
+			return defaultValue;
+		}
+		if ( Number.class.isInstance( value ) ) {
+			return ( (Number) value ).doubleValue();
+		}
+		if ( String.class.isInstance( value ) ) {
+			return Double.parseDouble( (String) value );
+		}
+		throw new ConfigurationException(
+				"Could not determine how to handle configuration value [name=" + name +
+						", value=" + value + "(" + value.getClass().getName() + ")] as double"
+		);
+	}
+
 	/**
 	 * Make a clone of the configuration values.
 	 *
@@ -45,7 +45,9 @@ import org.hibernate.dialect.pagination.NoopLimitHandler;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.internal.TwoPhaseLoad;
 import org.hibernate.engine.jdbc.ColumnNameCache;
+import org.hibernate.engine.jdbc.spi.JdbcInstrumentation;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SlowQueryLogger;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.EntityUniqueKey;
@@ -107,12 +109,16 @@ public abstract class Loader {
 	private volatile ColumnNameCache columnNameCache;
 
 	private final boolean referenceCachingEnabled;
+	private final JdbcInstrumentation jdbcInstrumentation;
+	private final SlowQueryLogger slowQueryLogger;
 
 	private boolean isJdbc4 = true;
 
 	public Loader(SessionFactoryImplementor factory) {
 		this.factory = factory;
 		this.referenceCachingEnabled = factory.getSessionFactoryOptions().isDirectReferenceCacheEntriesEnabled();
+		this.jdbcInstrumentation = factory.getJdbcServices().getJdbcInstrumentation();
+		this.slowQueryLogger = factory.getJdbcServices().getSlowQueryLogger();
 	}
 
 	/**
@@ -345,6 +351,9 @@ public abstract class Loader {
 			queryParameters.setReadOnly( persistenceContext.isDefaultReadOnly() );
 		}
 		persistenceContext.beforeLoad();
+		// queries having an identifier are reported by their callers, see doList()
+		final boolean stats = getQueryIdentifier() == null && getFactory().getStatistics().isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
 		List result;
 		try {
 			try {
@@ -353,6 +362,13 @@ public abstract class Loader {
 			finally {
 				persistenceContext.afterLoad();
 			}
+			if ( stats ) {
+				getFactory().getStatistics().loaderQueryExecuted(
+						getSQLString(),
+						result.size(),
+						TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTime )
+				);
+			}
 			persistenceContext.initializeNonLazyCollections();
 		}
 		finally {
@@ -1003,6 +1019,9 @@ public abstract class Loader {
 		}
 
 		LOG.tracev( "Done processing result set ({0} rows)", count );
+		if ( jdbcInstrumentation != null ) {
+			jdbcInstrumentation.rowsFetched( getSQLString(), count );
+		}
 
 		initializeEntitiesAndCollections(
 				hydratedObjects,
@@ -2030,6 +2049,13 @@ public abstract class Loader {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.tracev( "Bound [{0}] parameters total", col );
 			}
+
+			if ( slowQueryLogger != null && !callable ) {
+				session.getJdbcCoordinator().registerQuerySource(
+						st,
+						new LoaderQuerySource( queryParameters, limitHandler, session )
+				);
+			}
 		}
 		catch (SQLException | HibernateException e) {
 			session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( st );
@@ -2040,6 +2066,58 @@ public abstract class Loader {
 		return st;
 	}
 
+	/**
+	 * Describes a query of this Loader to the {@link SlowQueryLogger}, binding its parameters like
+	 * {@link #prepareQueryStatement} does.
+	 */
+	private class LoaderQuerySource implements SlowQueryLogger.QuerySource {
+		private final QueryParameters queryParameters;
+		private final LimitHandler limitHandler;
+		private final SharedSessionContractImplementor session;
+
+		private LoaderQuerySource(
+				QueryParameters queryParameters,
+				LimitHandler limitHandler,
+				SharedSessionContractImplementor session) {
+			this.queryParameters = queryParameters;
+			this.limitHandler = limitHandler;
+			this.session = session;
+		}
+
+		@Override
+		public String getQuery() {
+			final String queryIdentifier = getQueryIdentifier();
+			return queryIdentifier == null ? Loader.this.toString() : queryIdentifier;
+		}
+
+		@Override
+		public String getParameterTypes() {
+			final List<String> parameterTypes = new ArrayList<>();
+			final Type[] positionalParameterTypes = queryParameters.getPositionalParameterTypes();
+			if ( positionalParameterTypes != null ) {
+				for ( Type type : positionalParameterTypes ) {
+					parameterTypes.add( type.getName() );
+				}
+			}
+			final Map<String, TypedValue> namedParameters = queryParameters.getNamedParameters();
+			if ( namedParameters != null ) {
+				for ( Map.Entry<String, TypedValue> entry : namedParameters.entrySet() ) {
+					parameterTypes.add( entry.getKey() + ": " + entry.getValue().getType().getName() );
+				}
+			}
+			return parameterTypes.toString();
+		}
+
+		@Override
+		public void bindParameters(PreparedStatement statement) throws SQLException {
+			final RowSelection selection = queryParameters.getRowSelection();
+			int col = 1;
+			col += limitHandler.bindLimitParametersAtStartOfQuery( selection, statement, col );
+			col += bindParameterValues( statement, queryParameters, col, session );
+			limitHandler.bindLimitParametersAtEndOfQuery( selection, statement, col );
+		}
+	}
+
 	/**
 	 * Bind all parameter values into the prepared statement in preparation
 	 * for execution.
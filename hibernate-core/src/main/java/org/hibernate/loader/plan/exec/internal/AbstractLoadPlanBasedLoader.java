@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
@@ -116,6 +117,8 @@ public abstract class AbstractLoadPlanBasedLoader {
 		try {
 			List results = null;
 			final String sql = loadQueryDetails.getSqlStatement();
+			final boolean stats = getFactory().getStatistics().isStatisticsEnabled();
+			final long startTime = stats ? System.nanoTime() : 0;
 			SqlStatementWrapper wrapper = null;
 			try {
 				wrapper = executeQueryStatement( sql, queryParameters, false, afterLoadActions, session );
@@ -146,6 +149,13 @@ public abstract class AbstractLoadPlanBasedLoader {
 				}
 				persistenceContext.afterLoad();
 			}
+			if ( stats ) {
+				getFactory().getStatistics().loaderQueryExecuted(
+						sql,
+						results.size(),
+						TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTime )
+				);
+			}
 			persistenceContext.initializeNonLazyCollections();
 			return results;
 		}
@@ -8,6 +8,7 @@ package org.hibernate.metamodel.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -15,6 +16,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import javax.persistence.EntityGraph;
 import javax.persistence.NamedAttributeNode;
 import javax.persistence.NamedEntityGraph;
@@ -35,12 +39,16 @@ import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.annotations.NamedEntityGraphDefinition;
+import org.hibernate.engine.spi.EntityFlushSpaces;
+import org.hibernate.engine.spi.EntityInsertOrdering;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.graph.spi.EntityGraphImplementor;
 import org.hibernate.internal.EntityManagerMessageLogger;
 import org.hibernate.internal.HEMLogging;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.jpa.graph.internal.AbstractGraphNode;
@@ -88,6 +96,9 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 
 	private final transient Map<String,EntityGraph> entityGraphMap = new ConcurrentHashMap<>();
 
+	private volatile EntityInsertOrdering entityInsertOrdering;
+	private volatile EntityFlushSpaces entityFlushSpaces;
+
 	public MetamodelImpl(SessionFactoryImplementor sessionFactory) {
 		this.sessionFactory = sessionFactory;
 	}
@@ -116,6 +127,7 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 
 		final PersisterFactory persisterFactory = sessionFactory.getServiceRegistry().getService( PersisterFactory.class );
 
+		final long creationStart = System.nanoTime();
 		for ( final PersistentClass model : mappingMetadata.getEntityBindings() ) {
 			final EntityRegionAccessStrategy accessStrategy = sessionFactory.getCache().determineEntityRegionAccessStrategy(
 					model
@@ -196,14 +208,46 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 			}
 		}
 
+		final long creationEnd = System.nanoTime();
+
 		// after *all* persisters and named queries are registered
 		entityPersisterMap.values().forEach( EntityPersister::generateEntityDefinition );
 
+		final boolean parallel = ConfigurationHelper.getBoolean(
+				AvailableSettings.PARALLEL_PERSISTER_INITIALIZATION,
+				sessionFactory.getProperties(),
+				false
+		);
+		if ( log.isDebugEnabled() ) {
+			log.debugf(
+					"Built %s entity and %s collection persisters in %s ms",
+					entityPersisterMap.size(),
+					collectionPersisterMap.size(),
+					TimeUnit.NANOSECONDS.toMillis( creationEnd - creationStart )
+			);
+		}
+
+		if ( parallel ) {
+			postInstantiateConcurrently();
+		}
+		else {
+			final long start = System.nanoTime();
+			entityPersisterMap.values().forEach( EntityPersister::postInstantiate );
+			final long entitiesEnd = System.nanoTime();
+			collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+
+			if ( log.isDebugEnabled() ) {
+				log.debugf(
+						"Post-instantiated entity persisters in %s ms and collection persisters in %s ms",
+						TimeUnit.NANOSECONDS.toMillis( entitiesEnd - start ),
+						TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - entitiesEnd )
+				);
+			}
+		}
+
 		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
 			registerEntityNameResolvers( persister, entityNameResolvers );
 		}
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
 
 		if ( jpaMetaModelPopulationSetting != JpaMetaModelPopulationSetting.DISABLED ) {
 			MetadataContext context = new MetadataContext(
@@ -229,6 +273,69 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 
 	}
 
+	/**
+	 * Post-instantiates the persisters using a fork-join pool sized to the number of available processors.
+	 * The persisters of an entity hierarchy are handled by a single task, and the collection persisters
+	 * are only handled once all of the entity persisters are done.
+	 * <p/>
+	 * Each task only writes to the persisters it handles: their static SQL, loaders and, for single table
+	 * hierarchies, the sequential selects, which read the state of the subclass persisters handled by the
+	 * same task.  The state of the other persisters the loaders join to is only read, and was completed
+	 * before the pool started, by their constructors and {@link EntityPersister#generateEntityDefinition()}.
+	 * The shared factory state is either read only at this point (the dialect, the SQL function registry,
+	 * the named queries, the persister maps) or safe for concurrent use (the imports cache and the persisters
+	 * memoized by the entity types, which are concurrent maps and volatile fields).  Waiting for each phase
+	 * publishes what its tasks wrote to the following phase and to the thread building the SessionFactory.
+	 */
+	private void postInstantiateConcurrently() {
+		final Map<String, List<EntityPersister>> entityPersistersByHierarchy = new HashMap<>();
+		for ( EntityPersister persister : entityPersisterMap.values() ) {
+			List<EntityPersister> hierarchy = entityPersistersByHierarchy.get( persister.getRootEntityName() );
+			if ( hierarchy == null ) {
+				hierarchy = new ArrayList<>();
+				entityPersistersByHierarchy.put( persister.getRootEntityName(), hierarchy );
+			}
+			hierarchy.add( persister );
+		}
+
+		final ForkJoinPool pool = new ForkJoinPool();
+		try {
+			final long start = System.nanoTime();
+			pool.submit(
+					() -> entityPersistersByHierarchy.values().parallelStream().forEach(
+							hierarchy -> hierarchy.forEach( EntityPersister::postInstantiate )
+					)
+			).get();
+			final long entitiesEnd = System.nanoTime();
+			pool.submit(
+					() -> collectionPersisterMap.values().parallelStream().forEach( CollectionPersister::postInstantiate )
+			).get();
+
+			if ( log.isDebugEnabled() ) {
+				log.debugf(
+						"Post-instantiated entity persisters (%s hierarchies) in %s ms and collection persisters in %s ms using %s threads",
+						entityPersistersByHierarchy.size(),
+						TimeUnit.NANOSECONDS.toMillis( entitiesEnd - start ),
+						TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - entitiesEnd ),
+						pool.getParallelism()
+				);
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while initializing persisters", e );
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new HibernateException( "Unable to initialize persisters", e.getCause() );
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private void applyNamedEntityGraphs(java.util.Collection<NamedEntityGraphDefinition> namedEntityGraphs) {
 		for ( NamedEntityGraphDefinition definition : namedEntityGraphs ) {
@@ -705,6 +812,28 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 		return results;
 	}
 
+	@Override
+	public EntityInsertOrdering getEntityInsertOrdering() {
+		EntityInsertOrdering ordering = entityInsertOrdering;
+		if ( ordering == null ) {
+			// concurrent first flushes may each compute it, which is harmless
+			ordering = new EntityInsertOrdering( this );
+			entityInsertOrdering = ordering;
+		}
+		return ordering;
+	}
+
+	@Override
+	public EntityFlushSpaces getEntityFlushSpaces() {
+		EntityFlushSpaces flushSpaces = entityFlushSpaces;
+		if ( flushSpaces == null ) {
+			// concurrent first auto flushes may each compute it, which is harmless
+			flushSpaces = new EntityFlushSpaces( this );
+			entityFlushSpaces = flushSpaces;
+		}
+		return flushSpaces;
+	}
+
 	@Override
 	public void close() {
 		// anything to do ?
@@ -15,6 +15,8 @@ import javax.persistence.EntityGraph;
 import org.hibernate.EntityNameResolver;
 import org.hibernate.MappingException;
 import org.hibernate.Metamodel;
+import org.hibernate.engine.spi.EntityFlushSpaces;
+import org.hibernate.engine.spi.EntityInsertOrdering;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -129,5 +131,29 @@ public interface MetamodelImplementor extends Metamodel {
 
 	<T> List<EntityGraph<? super T>> findEntityGraphsByType(Class<T> entityClass);
 
+	/**
+	 * Get the order in which the inserts of the different entities have to be executed, computed from the mapping
+	 * on first use.  The default implementation computes it on every call, implementations should keep it.
+	 *
+	 * @return The insert ordering of the entities of this Metamodel
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ORDER_INSERTS
+	 */
+	default EntityInsertOrdering getEntityInsertOrdering() {
+		return new EntityInsertOrdering( this );
+	}
+
+	/**
+	 * Get the tables a flush of each changed entity may write to, computed from the mapping on first use.  The
+	 * default implementation computes them on every call, implementations should keep them.
+	 *
+	 * @return The flush spaces of the entities of this Metamodel
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#AUTO_FLUSH_CHECK_QUERY_SPACES
+	 */
+	default EntityFlushSpaces getEntityFlushSpaces() {
+		return new EntityFlushSpaces( this );
+	}
+
 	void close();
 }
@@ -10,6 +10,7 @@ import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -21,6 +22,8 @@ import org.hibernate.FetchMode;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.QueryException;
+import org.hibernate.Session;
+import org.hibernate.StaleStateException;
 import org.hibernate.TransientObjectException;
 import org.hibernate.boot.model.relational.Database;
 import org.hibernate.cache.CacheException;
@@ -31,6 +34,9 @@ import org.hibernate.cache.spi.entry.StructuredMapCacheEntry;
 import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.dialect.pagination.LimitHelper;
+import org.hibernate.dialect.pagination.NoopLimitHandler;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
@@ -38,6 +44,7 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
@@ -78,6 +85,8 @@ import org.hibernate.persister.walking.spi.CompositionDefinition;
 import org.hibernate.persister.walking.spi.EntityDefinition;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.sql.Alias;
+import org.hibernate.sql.Delete;
+import org.hibernate.sql.MultiRowInsert;
 import org.hibernate.sql.SelectFragment;
 import org.hibernate.sql.SimpleSelect;
 import org.hibernate.sql.Template;
@@ -89,9 +98,12 @@ import org.hibernate.sql.ordering.antlr.OrderByTranslation;
 import org.hibernate.sql.ordering.antlr.SqlValueReference;
 import org.hibernate.type.AnyType;
 import org.hibernate.type.AssociationType;
+import org.hibernate.type.BagType;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
+import org.hibernate.type.SortedMapType;
+import org.hibernate.type.SortedSetType;
 import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
@@ -109,6 +121,9 @@ public abstract class AbstractCollectionPersister
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class,
 			AbstractCollectionPersister.class.getName() );
 
+	// the maximum number of parameters of a statement writing several rows, below the limit of SQL Server
+	private static final int MAX_MULTI_ROW_PARAMETERS = 2000;
+
 	// TODO: encapsulate the protected instance variables!
 
 	private final String role;
@@ -122,6 +137,9 @@ public abstract class AbstractCollectionPersister
 	private final String sqlSelectRowByIndexString;
 	private final String sqlDetectRowByIndexString;
 	private final String sqlDetectRowByElementString;
+	private final String sqlSelectPageString;
+	private final boolean pagedByIndex;
+	private final CollectionPageReader pageReader;
 
 	protected final boolean hasWhere;
 	protected final String sqlWhereString;
@@ -139,6 +157,10 @@ public abstract class AbstractCollectionPersister
 
 	protected final boolean indexContainsFormula;
 	protected final boolean elementIsPureFormula;
+	private final boolean elementColumnsLocateRow;
+	// the rows of bags updated in place are written by statements handling several rows
+	private final boolean multiRowDeletesEnabled;
+	private final boolean multiRowInsertsEnabled;
 
 	// types
 	private final Type keyType;
@@ -333,7 +355,9 @@ public abstract class AbstractCollectionPersister
 		elementColumnIsSettable = new boolean[elementSpan];
 		elementColumnIsInPrimaryKey = new boolean[elementSpan];
 		boolean isPureFormula = true;
+		boolean hasFormulas = false;
 		boolean hasNotNullableColumns = false;
+		boolean hasNullableColumns = false;
 		int j = 0;
 		iter = collectionBinding.getElement().getColumnIterator();
 		while ( iter.hasNext() ) {
@@ -343,6 +367,7 @@ public abstract class AbstractCollectionPersister
 				Formula form = (Formula) selectable;
 				elementFormulaTemplates[j] = form.getTemplate( dialect, factory.getSqlFunctionRegistry() );
 				elementFormulas[j] = form.getFormula();
+				hasFormulas = true;
 			}
 			else {
 				Column col = (Column) selectable;
@@ -355,11 +380,16 @@ public abstract class AbstractCollectionPersister
 				if ( !col.isNullable() ) {
 					hasNotNullableColumns = true;
 				}
+				else {
+					hasNullableColumns = true;
+				}
 				isPureFormula = false;
 			}
 			j++;
 		}
 		elementIsPureFormula = isPureFormula;
+		// a null element is never written, so a single nullable column still locates the rows of an element
+		elementColumnsLocateRow = !hasFormulas && ( elementSpan == 1 || !hasNullableColumns );
 
 		// workaround, for backward compatibility of sets with no
 		// not-null columns, assume all columns are used in the
@@ -505,6 +535,8 @@ public abstract class AbstractCollectionPersister
 		sqlDetectRowByIndexString = generateDetectRowByIndexString();
 		sqlDetectRowByElementString = generateDetectRowByElementString();
 		sqlSelectRowByIndexString = generateSelectRowByIndexString();
+		pagedByIndex = collectionBinding.isIndexed() && !collectionBinding.isMap();
+		sqlSelectPageString = generateSelectPageString( pagedByIndex );
 
 		logStaticSQL();
 
@@ -513,6 +545,16 @@ public abstract class AbstractCollectionPersister
 
 		isInverse = collectionBinding.isInverse();
 
+		multiRowDeletesEnabled = factory.getSessionFactoryOptions().isInPlaceBagUpdatesEnabled()
+				&& !collectionBinding.isOneToMany()
+				&& !isInverse
+				&& collectionBinding.getCustomSQLInsert() == null
+				&& collectionBinding.getCustomSQLUpdate() == null
+				&& collectionBinding.getCustomSQLDelete() == null
+				&& collectionType instanceof BagType
+				&& elementColumnsLocateRow;
+		multiRowInsertsEnabled = multiRowDeletesEnabled && dialect.supportsMultiRowInsert();
+
 		if ( collectionBinding.isArray() ) {
 			elementClass = ( (org.hibernate.mapping.Array) collectionBinding ).getElementClass();
 		}
@@ -589,6 +631,16 @@ public abstract class AbstractCollectionPersister
 			manyToManyOrderByTranslation = null;
 		}
 
+		// the pages are read in the order of the rows, not in the order of sorted or ordered collections
+		final boolean ordered = hasOrder
+				|| hasManyToManyOrder
+				|| collectionType instanceof SortedSetType
+				|| collectionType instanceof SortedMapType;
+		final int pageSize = factory.getSessionFactoryOptions().getExtraLazyPageSize();
+		pageReader = isExtraLazy && sqlSelectPageString != null && !ordered && pageSize > 0
+				? new PageReader( pageSize )
+				: null;
+
 		initCollectionPropertyMap();
 	}
 
@@ -1052,6 +1104,50 @@ public abstract class AbstractCollectionPersister
 				.toStatementString();
 	}
 
+	/**
+	 * Generate the select of a page of rows, see {@link #readPage}.
+	 *
+	 * @param isIntegerIndexed Whether the rows are paged by index (lists and arrays)
+	 *
+	 * @return The select, or {@code null} if the rows cannot be paged
+	 */
+	protected String generateSelectPageString(boolean isIntegerIndexed) {
+		final String[] orderColumnNames;
+		if ( hasIdentifier ) {
+			orderColumnNames = new String[] { identifierColumnName };
+		}
+		else if ( hasIndex && !indexContainsFormula ) {
+			orderColumnNames = getIndexColumnNames();
+		}
+		else if ( ArrayHelper.countNonNull( elementColumnNames ) == elementColumnNames.length ) {
+			orderColumnNames = elementColumnNames;
+		}
+		else {
+			// the rows of elements mapped to formulas have no stable order
+			return null;
+		}
+		if ( isIntegerIndexed && indexContainsFormula ) {
+			return null;
+		}
+
+		final SimpleSelect select = new SimpleSelect( dialect )
+				.setTableName( getTableName() )
+				.addCondition( getKeyColumnNames(), "=?" );
+		if ( isIntegerIndexed ) {
+			select.addCondition( getIndexColumnNames()[0], ">=?" )
+					.addCondition( getIndexColumnNames()[0], "<?" );
+		}
+		select.addWhereToken( sqlWhereString )
+				.addColumns( getElementColumnNames(), elementColumnAliases )
+				.addColumns( elementFormulas, elementColumnAliases );
+		if ( hasIndex ) {
+			select.addColumns( getIndexColumnNames(), indexColumnAliases )
+					.addColumns( indexFormulas, indexColumnAliases );
+		}
+		return select.setOrderBy( " order by " + StringHelper.join( ", ", orderColumnNames ) )
+				.toStatementString();
+	}
+
 	protected String generateDetectRowByElementString() {
 		return new SimpleSelect( dialect )
 				.setTableName( getTableName() )
@@ -1267,6 +1363,12 @@ public abstract class AbstractCollectionPersister
 		}
 
 		try {
+			if ( multiRowInsertsEnabled ) {
+				final int count = insertRowsInSet( collection, true, id, session );
+				LOG.debugf( "Done inserting collection: %s rows inserted", count );
+				return;
+			}
+
 			// create all the new entries
 			Iterator entries = collection.entries( this );
 			if ( entries.hasNext() ) {
@@ -1391,6 +1493,12 @@ public abstract class AbstractCollectionPersister
 		boolean deleteByIndex = !isOneToMany() && hasIndex && !indexContainsFormula;
 		final Expectation expectation = Expectations.appropriateExpectation( getDeleteCheckStyle() );
 		try {
+			if ( multiRowDeletesEnabled ) {
+				final int count = deleteRowsInSet( collection.getDeletes( this, true ), id, session );
+				LOG.debugf( "Done deleting collection rows: %s deleted", count );
+				return;
+			}
+
 			// delete all the deleted entries
 			Iterator deletes = collection.getDeletes( this, !deleteByIndex );
 			if ( deletes.hasNext() ) {
@@ -1480,6 +1588,189 @@ public abstract class AbstractCollectionPersister
 		}
 	}
 
+	/**
+	 * Delete the rows of the given elements of a bag with statements each deleting the rows of several elements
+	 *
+	 * @return The number of deleted elements
+	 */
+	private int deleteRowsInSet(Iterator deletes, Serializable id, SharedSessionContractImplementor session)
+			throws SQLException {
+		final ArrayList<Object> rows = new ArrayList<>();
+		while ( deletes.hasNext() ) {
+			rows.add( deletes.next() );
+		}
+		if ( rows.isEmpty() ) {
+			LOG.debug( "No rows to delete" );
+			return 0;
+		}
+
+		final int columnsPerRow = ArrayHelper.countTrue( elementColumnIsInPrimaryKey );
+		final int rowsPerStatement = getRowsPerStatement( columnsPerRow, true );
+		for ( int start = 0; start < rows.size(); start += rowsPerStatement ) {
+			final int end = Math.min( rows.size(), start + rowsPerStatement );
+			final String sql = generateDeleteRowsString( end - start );
+			final PreparedStatement st = session
+					.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( sql, false );
+			try {
+				int loc = writeKey( st, id, 1, session );
+				for ( int j = start; j < end; j++ ) {
+					getElementType().nullSafeSet( st, rows.get( j ), loc, elementColumnIsInPrimaryKey, session );
+					loc += columnsPerRow;
+				}
+				// an element matches all its rows, whose number is unknown: like the single row deletes of
+				// collections, the row count is not checked
+				session.getJdbcCoordinator().getResultSetReturn().executeUpdate( st );
+			}
+			finally {
+				session.getJdbcCoordinator().getResourceRegistry().release( st );
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+		}
+		return rows.size();
+	}
+
+	/**
+	 * Generate the SQL DELETE that deletes the rows of several elements
+	 */
+	private String generateDeleteRowsString(int elementCount) {
+		final ArrayList<String> columns = new ArrayList<>();
+		final ArrayList<String> values = new ArrayList<>();
+		for ( int i = 0; i < elementColumnNames.length; i++ ) {
+			if ( elementColumnIsInPrimaryKey[i] ) {
+				columns.add( elementColumnNames[i] );
+				values.add( elementColumnWriters[i] );
+			}
+		}
+
+		final String condition;
+		if ( columns.size() == 1 ) {
+			condition = columns.get( 0 ) + " in (" + StringHelper.repeat( values.get( 0 ), elementCount, ", " ) + ')';
+		}
+		else {
+			final StringBuilder row = new StringBuilder( "(" );
+			for ( int i = 0; i < columns.size(); i++ ) {
+				if ( i > 0 ) {
+					row.append( " and " );
+				}
+				row.append( columns.get( i ) ).append( '=' ).append( values.get( i ) );
+			}
+			row.append( ')' );
+			condition = '(' + StringHelper.repeat( row.toString(), elementCount, " or " ) + ')';
+		}
+
+		final Delete delete = new Delete()
+				.setTableName( qualifiedTableName )
+				.addPrimaryKeyColumns( keyColumnNames )
+				.addWhereFragment( condition );
+
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			delete.setComment( "delete collection rows " + getRole() );
+		}
+
+		return delete.toStatementString();
+	}
+
+	/**
+	 * Insert all the rows of the collection, or those which need inserting, with statements each inserting several rows
+	 *
+	 * @return The number of inserted rows
+	 */
+	private int insertRowsInSet(
+			PersistentCollection collection,
+			boolean recreate,
+			Serializable id,
+			SharedSessionContractImplementor session) throws SQLException {
+		collection.preInsert( this );
+		final ArrayList<Object> entries = new ArrayList<>();
+		final ArrayList<Integer> positions = new ArrayList<>();
+		final Iterator iterator = collection.entries( this );
+		int i = 0;
+		while ( iterator.hasNext() ) {
+			final Object entry = iterator.next();
+			if ( recreate ? collection.entryExists( entry, i ) : collection.needsInserting( entry, i, elementType ) ) {
+				entries.add( entry );
+				positions.add( i );
+			}
+			i++;
+		}
+
+		final int columnsPerRow = keyColumnNames.length + ArrayHelper.countTrue( elementColumnIsSettable );
+		final int rowsPerStatement = getRowsPerStatement( columnsPerRow, false );
+		for ( int start = 0; start < entries.size(); start += rowsPerStatement ) {
+			final int end = Math.min( entries.size(), start + rowsPerStatement );
+			final String sql = generateMultiRowInsertString( end - start );
+			final PreparedStatement st = session
+					.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( sql, false );
+			try {
+				int offset = 1;
+				for ( int j = start; j < end; j++ ) {
+					offset = writeKey( st, id, offset, session );
+					offset = writeElement( st, collection.getElement( entries.get( j ) ), offset, session );
+				}
+				verifyRowCount(
+						getInsertCheckStyle(),
+						session.getJdbcCoordinator().getResultSetReturn().executeUpdate( st ),
+						end - start,
+						sql
+				);
+			}
+			finally {
+				session.getJdbcCoordinator().getResourceRegistry().release( st );
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+			for ( int j = start; j < end; j++ ) {
+				collection.afterRowInsert( this, entries.get( j ), positions.get( j ) );
+			}
+		}
+		return entries.size();
+	}
+
+	/**
+	 * Generate the SQL INSERT that creates several rows
+	 */
+	private String generateMultiRowInsertString(int rowCount) {
+		final MultiRowInsert insert = new MultiRowInsert( getDialect() ).setRowCount( rowCount );
+		insert.setTableName( qualifiedTableName ).addColumns( keyColumnNames );
+
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			insert.setComment( "insert collection rows " + getRole() );
+		}
+
+		insert.addColumns( elementColumnNames, elementColumnIsSettable, elementColumnWriters );
+
+		return insert.toStatementString();
+	}
+
+	/**
+	 * Verify the row count of a statement inserting several rows, as the expectation of the statement inserting
+	 * a single row would verify each of them
+	 */
+	private static void verifyRowCount(
+			ExecuteUpdateResultCheckStyle checkStyle,
+			int rowCount,
+			int expectedRowCount,
+			String sql) {
+		if ( checkStyle == ExecuteUpdateResultCheckStyle.COUNT && rowCount != expectedRowCount ) {
+			throw new StaleStateException(
+					"Statement writing several collection rows returned unexpected row count: " + rowCount
+							+ "; expected: " + expectedRowCount + "; statement: " + sql
+			);
+		}
+	}
+
+	private int getRowsPerStatement(int parametersPerRow, boolean inList) {
+		int rows = Math.max( 1, MAX_MULTI_ROW_PARAMETERS / Math.max( 1, parametersPerRow ) );
+		final int inListLimit = getDialect().getInExpressionCountLimit();
+		if ( inList && inListLimit > 0 ) {
+			rows = Math.min( rows, inListLimit );
+		}
+		return rows;
+	}
+
 	protected boolean isRowInsertEnabled() {
 		return true;
 	}
@@ -1506,6 +1797,12 @@ public abstract class AbstractCollectionPersister
 		}
 
 		try {
+			if ( multiRowInsertsEnabled ) {
+				final int count = insertRowsInSet( collection, false, id, session );
+				LOG.debugf( "Done inserting rows: %s inserted", count );
+				return;
+			}
+
 			// insert all the new entries
 			collection.preInsert( this );
 			Iterator entries = collection.entries( this );
@@ -2037,6 +2334,149 @@ public abstract class AbstractCollectionPersister
 		}
 	}
 
+	@Override
+	public CollectionPageReader getPageReader() {
+		return pageReader;
+	}
+
+	private class PageReader implements CollectionPageReader {
+		private final int pageSize;
+
+		private PageReader(int pageSize) {
+			this.pageSize = pageSize;
+		}
+
+		@Override
+		public int getPageSize() {
+			return pageSize;
+		}
+
+		@Override
+		public java.util.List readPage(
+				Serializable key,
+				int firstRow,
+				SharedSessionContractImplementor session,
+				Object owner) {
+			return AbstractCollectionPersister.this.readPage( key, firstRow, pageSize, session, owner );
+		}
+	}
+
+	/**
+	 * Read a page of the rows of the collection with the given key, see {@link CollectionPageReader#readPage}.
+	 *
+	 * @param key The collection key
+	 * @param firstRow The first row, or index, of the page
+	 * @param maxRows The size of the page
+	 * @param session The session
+	 * @param owner The owner of the collection
+	 *
+	 * @return The elements of the page, as pairs of index and element for lists and maps
+	 */
+	@SuppressWarnings("unchecked")
+	protected java.util.List readPage(
+			Serializable key,
+			int firstRow,
+			int maxRows,
+			SharedSessionContractImplementor session,
+			Object owner) {
+		// the entities of a page are loaded by a single select, rather than by a select per row
+		final boolean batchLoadEntities = getElementType().isEntityType()
+				&& ( (EntityType) getElementType() ).isReferenceToPrimaryKey()
+				&& session instanceof Session;
+		final java.util.List page = readPageRows( key, firstRow, maxRows, session, owner, batchLoadEntities );
+		if ( batchLoadEntities && !page.isEmpty() ) {
+			final ArrayList<Serializable> ids = new ArrayList<>( page.size() );
+			for ( Object row : page ) {
+				final Object id = hasIndex ? ( (Object[]) row )[1] : row;
+				if ( id != null ) {
+					ids.add( (Serializable) id );
+				}
+			}
+			( (Session) session ).byMultipleIds( ( (EntityType) getElementType() ).getAssociatedEntityName() )
+					.enableSessionCheck( true )
+					.multiLoad( ids );
+			for ( int i = 0; i < page.size(); i++ ) {
+				if ( hasIndex ) {
+					final Object[] indexAndElement = (Object[]) page.get( i );
+					indexAndElement[1] = getElementType().resolve( indexAndElement[1], session, owner );
+				}
+				else {
+					page.set( i, getElementType().resolve( page.get( i ), session, owner ) );
+				}
+			}
+		}
+		return page;
+	}
+
+	@SuppressWarnings("unchecked")
+	private java.util.List readPageRows(
+			Serializable key,
+			int firstRow,
+			int maxRows,
+			SharedSessionContractImplementor session,
+			Object owner,
+			boolean hydrateElements) {
+		final RowSelection selection = new RowSelection();
+		selection.setFirstRow( firstRow );
+		selection.setMaxRows( maxRows );
+		final LimitHandler limitHandler = !pagedByIndex && LimitHelper.useLimit( dialect.getLimitHandler(), selection )
+				? dialect.getLimitHandler()
+				: NoopLimitHandler.INSTANCE;
+		final String sql = limitHandler.processSql( sqlSelectPageString, selection );
+		try {
+			PreparedStatement st = session
+					.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( sql );
+			try {
+				int col = 1;
+				col += limitHandler.bindLimitParametersAtStartOfQuery( selection, st, col );
+				getKeyType().nullSafeSet( st, key, col, session );
+				col += keyColumnNames.length;
+				if ( pagedByIndex ) {
+					getIndexType().nullSafeSet( st, incrementIndexByBase( firstRow ), col++, session );
+					getIndexType().nullSafeSet( st, incrementIndexByBase( firstRow + maxRows ), col++, session );
+				}
+				limitHandler.bindLimitParametersAtEndOfQuery( selection, st, col );
+				limitHandler.setMaxRows( selection, st );
+				if ( !pagedByIndex && limitHandler == NoopLimitHandler.INSTANCE ) {
+					st.setMaxRows( firstRow + maxRows );
+				}
+				ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( st );
+				try {
+					// lists are paged by index, other rows are skipped unless the dialect applied the offset
+					int skippedRows = pagedByIndex || limitHandler.supportsLimitOffset() ? 0 : firstRow;
+					while ( skippedRows > 0 && rs.next() ) {
+						skippedRows--;
+					}
+					final java.util.List page = new ArrayList( maxRows );
+					while ( skippedRows == 0 && page.size() < maxRows && rs.next() ) {
+						final Object element = hydrateElements
+								? getElementType().hydrate( rs, elementColumnAliases, session, owner )
+								: getElementType().nullSafeGet( rs, elementColumnAliases, session, owner );
+						page.add( hasIndex ? new Object[] { readIndex( rs, indexColumnAliases, session ), element } : element );
+					}
+					return page;
+				}
+				finally {
+					session.getJdbcCoordinator().getResourceRegistry().release( rs, st );
+				}
+			}
+			finally {
+				session.getJdbcCoordinator().getResourceRegistry().release( st );
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+		}
+		catch ( SQLException sqle ) {
+			throw getSQLExceptionHelper().convert(
+					sqle,
+					"could not read page of collection: " +
+							MessageHelper.collectionInfoString( this, key, getFactory() ),
+					sql
+			);
+		}
+	}
+
 	@Override
 	public boolean isExtraLazy() {
 		return isExtraLazy;
@@ -2066,6 +2506,14 @@ public abstract class AbstractCollectionPersister
 		return mappedByProperty;
 	}
 
+	@Override
+	public boolean isInPlaceBagUpdatePossible() {
+		return collectionType instanceof BagType
+				&& elementColumnsLocateRow
+				&& !isOneToMany()
+				&& factory.getSessionFactoryOptions().isInPlaceBagUpdatesEnabled();
+	}
+
 	private class StandardOrderByAliasResolver implements OrderByAliasResolver {
 		private final String rootAlias;
 
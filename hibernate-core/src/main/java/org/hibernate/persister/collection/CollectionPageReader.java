@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.persister.collection;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Reads the rows of an uninitialized extra-lazy collection page by page, for iterating it without initializing it.
+ *
+ * @see CollectionPersister#getPageReader()
+ * @see org.hibernate.cfg.AvailableSettings#EXTRA_LAZY_PAGE_SIZE
+ */
+public interface CollectionPageReader {
+	/**
+	 * The number of rows of a page
+	 *
+	 * @return The page size
+	 */
+	int getPageSize();
+
+	/**
+	 * Read a page of the rows of the collection with the given key.  Lists are paged by index, the page holding
+	 * the rows whose index is at least {@code firstRow} and less than {@code firstRow + getPageSize()}; the rows
+	 * of other collections are ordered, the page holding at most {@link #getPageSize()} rows starting at
+	 * {@code firstRow}.
+	 *
+	 * @param key The collection key
+	 * @param firstRow The first row, or index, of the page
+	 * @param session The session
+	 * @param owner The owner of the collection
+	 *
+	 * @return The elements of the page, as pairs of index and element for lists and maps
+	 */
+	List readPage(Serializable key, int firstRow, SharedSessionContractImplementor session, Object owner);
+}
@@ -316,4 +316,28 @@ public interface CollectionPersister extends CollectionDefinition {
 	 * @return the name of the property this collection is mapped by
 	 */
 	String getMappedByProperty();
+
+	/**
+	 * Can a bag of this role be updated by deleting and inserting the rows of the elements whose number of
+	 * occurrences changed, rather than by recreating it?
+	 *
+	 * @return {@code true} if the bags are updated in place
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_PLACE_BAG_UPDATES
+	 */
+	default boolean isInPlaceBagUpdatePossible() {
+		return false;
+	}
+
+	/**
+	 * The reader of the pages of an uninitialized extra-lazy collection of this role, which is iterated page by
+	 * page rather than initialized when it has one.
+	 *
+	 * @return The page reader, or {@code null} if iterating the collection initializes it
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#EXTRA_LAZY_PAGE_SIZE
+	 */
+	default CollectionPageReader getPageReader() {
+		return null;
+	}
 }
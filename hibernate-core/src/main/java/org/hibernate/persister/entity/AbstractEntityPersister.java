@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -21,6 +22,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.EntityMode;
@@ -40,6 +42,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
@@ -68,10 +71,12 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistenceContext.NaturalIdHelper;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.ValueInclusion;
 import org.hibernate.id.IdentifierGenerator;
@@ -83,6 +88,7 @@ import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.FilterHelper;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
@@ -116,6 +122,7 @@ import org.hibernate.sql.SelectFragment;
 import org.hibernate.sql.SimpleSelect;
 import org.hibernate.sql.Template;
 import org.hibernate.sql.Update;
+import org.hibernate.sql.Upsert;
 import org.hibernate.tuple.GenerationTiming;
 import org.hibernate.tuple.InDatabaseValueGenerationStrategy;
 import org.hibernate.tuple.InMemoryValueGenerationStrategy;
@@ -165,6 +172,8 @@ public abstract class AbstractEntityPersister
 	private final String versionColumnName;
 	private final boolean hasFormulaProperties;
 	protected final int batchSize;
+	private final int[] lazyAttributeBatchSizes;
+	private final boolean lazyLoaderCreation;
 	private final boolean hasSubselectLoadableCollections;
 	protected final String rowIdName;
 
@@ -226,14 +235,40 @@ public abstract class AbstractEntityPersister
 
 	private final Set<String> affectingFetchProfileNames = new HashSet<String>();
 
-	private final Map uniqueKeyLoaders = new HashMap();
+	private static final Set<LockMode> STATIC_LOADER_LOCK_MODES = EnumSet.of(
+			LockMode.NONE,
+			LockMode.READ,
+			LockMode.UPGRADE,
+			LockMode.UPGRADE_NOWAIT,
+			LockMode.UPGRADE_SKIPLOCKED,
+			LockMode.FORCE,
+			LockMode.PESSIMISTIC_READ,
+			LockMode.PESSIMISTIC_WRITE,
+			LockMode.PESSIMISTIC_FORCE_INCREMENT,
+			LockMode.OPTIMISTIC,
+			LockMode.OPTIMISTIC_FORCE_INCREMENT
+	);
+
+	// lock modes which share the READ loader when the dialect cannot combine outer joins with for update
+	private static final Set<LockMode> FOR_UPDATE_LOCK_MODES = EnumSet.of(
+			LockMode.UPGRADE,
+			LockMode.UPGRADE_NOWAIT,
+			LockMode.UPGRADE_SKIPLOCKED,
+			LockMode.FORCE,
+			LockMode.PESSIMISTIC_READ,
+			LockMode.PESSIMISTIC_WRITE,
+			LockMode.PESSIMISTIC_FORCE_INCREMENT
+	);
+
+	private final Map uniqueKeyLoaders = new ConcurrentHashMap();
 	private final Map lockers = new HashMap();
-	private final Map loaders = new HashMap();
+	private final Map loaders = new ConcurrentHashMap();
 
 	// SQL strings
 	private String sqlVersionSelectString;
 	private String sqlSnapshotSelectString;
 	private Map<String,String> sqlLazySelectStringsByFetchGroup;
+	private Map<String,String[]> sqlLazyBatchSelectStringsByFetchGroup;
 
 	private String sqlIdentityInsertString;
 	private String sqlUpdateByRowIdString;
@@ -397,6 +432,10 @@ public abstract class AbstractEntityPersister
 		return sqlLazySelectStringsByFetchGroup.get( fetchGroup );
 	}
 
+	protected String[] getSQLLazyBatchSelectStrings(String fetchGroup) {
+		return sqlLazyBatchSelectStringsByFetchGroup.get( fetchGroup );
+	}
+
 	protected String[] getSQLDeleteStrings() {
 		return sqlDeleteStrings;
 	}
@@ -535,6 +574,12 @@ public abstract class AbstractEntityPersister
 			batch = factory.getSessionFactoryOptions().getDefaultBatchFetchSize();
 		}
 		batchSize = batch;
+		lazyAttributeBatchSizes = batch > 1 ? ArrayHelper.getBatchSizes( batch ) : null;
+		lazyLoaderCreation = ConfigurationHelper.getBoolean(
+				AvailableSettings.LAZY_PERSISTER_LOADERS,
+				factory.getProperties(),
+				false
+		);
 		hasSubselectLoadableCollections = persistentClass.hasSubselectLoadableCollections();
 
 		propertyMapping = new BasicEntityPropertyMapping( this );
@@ -868,53 +913,109 @@ public abstract class AbstractEntityPersister
 
 		final LazyAttributesMetadata lazyAttributesMetadata = enhancementMetadata.getLazyAttributesMetadata();
 		for ( String groupName : lazyAttributesMetadata.getFetchGroupNames() ) {
-			HashSet tableNumbers = new HashSet();
-			ArrayList columnNumbers = new ArrayList();
-			ArrayList formulaNumbers = new ArrayList();
-
-			for ( LazyAttributeDescriptor lazyAttributeDescriptor :
-					lazyAttributesMetadata.getFetchGroupAttributeDescriptors( groupName ) ) {
-				// all this only really needs to consider properties
-				// of this class, not its subclasses, but since we
-				// are reusing code used for sequential selects, we
-				// use the subclass closure
-				int propertyNumber = getSubclassPropertyIndex( lazyAttributeDescriptor.getName() );
-
-				int tableNumber = getSubclassPropertyTableNumber( propertyNumber );
-				tableNumbers.add( tableNumber );
-
-				int[] colNumbers = subclassPropertyColumnNumberClosure[propertyNumber];
-				for ( int colNumber : colNumbers ) {
-					if ( colNumber != -1 ) {
-						columnNumbers.add( colNumber );
-					}
-				}
-				int[] formNumbers = subclassPropertyFormulaNumberClosure[propertyNumber];
-				for ( int formNumber : formNumbers ) {
-					if ( formNumber != -1 ) {
-						formulaNumbers.add( formNumber );
-					}
-				}
-			}
-
-			if ( columnNumbers.size() == 0 && formulaNumbers.size() == 0 ) {
+			final int[][] fetchGroupNumbers = resolveLazyFetchGroupNumbers( lazyAttributesMetadata, groupName );
+			if ( fetchGroupNumbers == null ) {
 				// only one-to-one is lazy fetched
 				continue;
 			}
 
 			result.put(
 					groupName,
-					renderSelect(
-							ArrayHelper.toIntArray( tableNumbers ),
-							ArrayHelper.toIntArray( columnNumbers ),
-							ArrayHelper.toIntArray( formulaNumbers )
-					)
+					renderSelect( fetchGroupNumbers[0], fetchGroupNumbers[1], fetchGroupNumbers[2] )
 			);
 		}
 
 		return result;
 	}
 
+	/**
+	 * Generates, for each lazy fetch group, the selects used to initialize that group for multiple
+	 * entities at once.  The array of selects for a group is aligned with {@link #lazyAttributeBatchSizes}.
+	 *
+	 * @return The batch selects keyed by fetch group name, or an empty map if lazy attribute batch
+	 * loading does not apply to this entity
+	 */
+	protected Map<String,String[]> generateLazyBatchSelectStringsByFetchGroup() {
+		final BytecodeEnhancementMetadata enhancementMetadata = entityMetamodel.getBytecodeEnhancementMetadata();
+		if ( !enhancementMetadata.isEnhancedForLazyLoading()
+				|| !enhancementMetadata.getLazyAttributesMetadata().hasLazyAttributes()
+				|| !isBatchLoadable()
+				|| getIdentifierColumnSpan() != 1 ) {
+			return Collections.emptyMap();
+		}
+
+		Map<String,String[]> result = new HashMap<>();
+
+		final LazyAttributesMetadata lazyAttributesMetadata = enhancementMetadata.getLazyAttributesMetadata();
+		for ( String groupName : lazyAttributesMetadata.getFetchGroupNames() ) {
+			final int[][] fetchGroupNumbers = resolveLazyFetchGroupNumbers( lazyAttributesMetadata, groupName );
+			if ( fetchGroupNumbers == null ) {
+				continue;
+			}
+
+			final String[] selects = new String[lazyAttributeBatchSizes.length];
+			for ( int i = 0; i < lazyAttributeBatchSizes.length; i++ ) {
+				selects[i] = renderBatchSelect(
+						fetchGroupNumbers[0],
+						fetchGroupNumbers[1],
+						fetchGroupNumbers[2],
+						lazyAttributeBatchSizes[i]
+				);
+			}
+			result.put( groupName, selects );
+		}
+
+		return result;
+	}
+
+	/**
+	 * Collects the table, column and formula numbers needed to select the attributes of the given
+	 * fetch group.
+	 *
+	 * @return The table, column and formula numbers (in that order), or {@code null} if the fetch
+	 * group does not map any column or formula (only lazy one-to-one associations)
+	 */
+	private int[][] resolveLazyFetchGroupNumbers(LazyAttributesMetadata lazyAttributesMetadata, String groupName) {
+		HashSet tableNumbers = new HashSet();
+		ArrayList columnNumbers = new ArrayList();
+		ArrayList formulaNumbers = new ArrayList();
+
+		for ( LazyAttributeDescriptor lazyAttributeDescriptor :
+				lazyAttributesMetadata.getFetchGroupAttributeDescriptors( groupName ) ) {
+			// all this only really needs to consider properties
+			// of this class, not its subclasses, but since we
+			// are reusing code used for sequential selects, we
+			// use the subclass closure
+			int propertyNumber = getSubclassPropertyIndex( lazyAttributeDescriptor.getName() );
+
+			int tableNumber = getSubclassPropertyTableNumber( propertyNumber );
+			tableNumbers.add( tableNumber );
+
+			int[] colNumbers = subclassPropertyColumnNumberClosure[propertyNumber];
+			for ( int colNumber : colNumbers ) {
+				if ( colNumber != -1 ) {
+					columnNumbers.add( colNumber );
+				}
+			}
+			int[] formNumbers = subclassPropertyFormulaNumberClosure[propertyNumber];
+			for ( int formNumber : formNumbers ) {
+				if ( formNumber != -1 ) {
+					formulaNumbers.add( formNumber );
+				}
+			}
+		}
+
+		if ( columnNumbers.size() == 0 && formulaNumbers.size() == 0 ) {
+			return null;
+		}
+
+		return new int[][] {
+				ArrayHelper.toIntArray( tableNumbers ),
+				ArrayHelper.toIntArray( columnNumbers ),
+				ArrayHelper.toIntArray( formulaNumbers )
+		};
+	}
+
 	public Object initializeLazyProperty(String fieldName, Object entity, SharedSessionContractImplementor session) {
 		final EntityEntry entry = session.getPersistenceContext().getEntry( entity );
 		final InterceptorImplementor interceptor = ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
@@ -1035,9 +1136,6 @@ public abstract class AbstractEntityPersister
 			throw new AssertionFailure( "no lazy properties" );
 		}
 
-		final InterceptorImplementor interceptor = ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
-		assert interceptor != null : "Expecting bytecode interceptor to be non-null";
-
 		LOG.trace( "Initializing lazy properties from datastore" );
 
 		final String fetchGroup = getEntityMetamodel().getBytecodeEnhancementMetadata()
@@ -1047,7 +1145,26 @@ public abstract class AbstractEntityPersister
 				.getLazyAttributesMetadata()
 				.getFetchGroupAttributeDescriptors( fetchGroup );
 
-		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
+		final String[] lazyBatchSelects = getSQLLazyBatchSelectStrings( fetchGroup );
+		if ( lazyBatchSelects != null ) {
+			final Serializable[] batch = session.getPersistenceContext()
+					.getBatchFetchQueue()
+					.getLazyAttributeBatch( this, id, fieldName, batchSize );
+			final int numberOfIds = ArrayHelper.countNonNull( batch );
+			if ( numberOfIds > 1 ) {
+				return initializeLazyPropertiesFromDatastoreInBatch(
+						fieldName,
+						entity,
+						session,
+						id,
+						entry,
+						fetchGroupAttributeDescriptors,
+						lazyBatchSelects,
+						batch,
+						numberOfIds
+				);
+			}
+		}
 
 		final String lazySelect = getSQLLazySelectString( fetchGroup );
 
@@ -1068,47 +1185,14 @@ public abstract class AbstractEntityPersister
 						rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
 						rs.next();
 					}
-					final Object[] snapshot = entry.getLoadedState();
-					for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
-						final boolean previousInitialized = initializedLazyAttributeNames.contains( fetchGroupAttributeDescriptor.getName() );
-
-						if ( previousInitialized ) {
-							// todo : one thing we should consider here is potentially un-marking an attribute as dirty based on the selected value
-							// 		we know the current value - getPropertyValue( entity, fetchGroupAttributeDescriptor.getAttributeIndex() );
-							// 		we know the selected value (see selectedValue below)
-							//		we can use the attribute Type to tell us if they are the same
-							//
-							//		assuming entity is a SelfDirtinessTracker we can also know if the attribute is
-							//			currently considered dirty, and if really not dirty we would do the un-marking
-							//
-							//		of course that would mean a new method on SelfDirtinessTracker to allow un-marking
-
-							// its already been initialized (e.g. by a write) so we don't want to overwrite
-							continue;
-						}
-
-
-						final Object selectedValue = fetchGroupAttributeDescriptor.getType().nullSafeGet(
-								rs,
-								lazyPropertyColumnAliases[fetchGroupAttributeDescriptor.getLazyIndex()],
-								session,
-								entity
-						);
-
-						final boolean set = initializeLazyProperty(
-								fieldName,
-								entity,
-								session,
-								snapshot,
-								fetchGroupAttributeDescriptor.getLazyIndex(),
-								selectedValue
-						);
-						if ( set ) {
-							result = selectedValue;
-							interceptor.attributeInitialized( fetchGroupAttributeDescriptor.getName() );
-						}
-
-					}
+					result = initializeLazyFetchGroup(
+							fieldName,
+							entity,
+							session,
+							entry,
+							fetchGroupAttributeDescriptors,
+							rs
+					);
 				}
 				finally {
 					if ( rs != null ) {
@@ -1137,6 +1221,167 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * Initializes the fetch group of the demanding entity together with the same fetch group of the
+	 * other entities identified by {@code batch} using a single select.
+	 */
+	private Object initializeLazyPropertiesFromDatastoreInBatch(
+			final String fieldName,
+			final Object entity,
+			final SharedSessionContractImplementor session,
+			final Serializable id,
+			final EntityEntry entry,
+			final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			final String[] lazyBatchSelects,
+			final Serializable[] batch,
+			final int numberOfIds) {
+
+		// the batch sizes are ordered from largest to smallest; pick the smallest one
+		// able to hold all of the ids and pad the remaining parameters with the demanding id
+		int batchSizeIndex = 0;
+		for ( int i = lazyAttributeBatchSizes.length - 1; i >= 0; i-- ) {
+			if ( lazyAttributeBatchSizes[i] >= numberOfIds ) {
+				batchSizeIndex = i;
+				break;
+			}
+		}
+		final int smallBatchSize = lazyAttributeBatchSizes[batchSizeIndex];
+		final String lazySelect = lazyBatchSelects[batchSizeIndex];
+
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf(
+					"Batch initializing lazy properties of %s entities: %s",
+					numberOfIds,
+					MessageHelper.infoString( this, batch, getFactory() )
+			);
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		try {
+			Object result = null;
+			final PreparedStatement ps = session.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( lazySelect );
+			try {
+				for ( int i = 0; i < smallBatchSize; i++ ) {
+					getIdentifierType().nullSafeSet( ps, i < numberOfIds ? batch[i] : id, i + 1, session );
+				}
+				final ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
+				try {
+					while ( rs.next() ) {
+						final Serializable rowId = (Serializable) getIdentifierType().nullSafeGet(
+								rs,
+								getIdentifierAliases(),
+								session,
+								null
+						);
+						if ( getIdentifierType().isEqual( id, rowId ) ) {
+							result = initializeLazyFetchGroup(
+									fieldName,
+									entity,
+									session,
+									entry,
+									fetchGroupAttributeDescriptors,
+									rs
+							);
+						}
+						else {
+							final Object rowEntity = persistenceContext.getEntity( session.generateEntityKey( rowId, this ) );
+							final EntityEntry rowEntry = rowEntity == null ? null : persistenceContext.getEntry( rowEntity );
+							if ( rowEntry == null ) {
+								// evicted in the meantime
+								continue;
+							}
+							initializeLazyFetchGroup(
+									fieldName,
+									rowEntity,
+									session,
+									rowEntry,
+									fetchGroupAttributeDescriptors,
+									rs
+							);
+						}
+					}
+				}
+				finally {
+					session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( rs, ps );
+				}
+			}
+			finally {
+				session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( ps );
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+
+			LOG.trace( "Done batch initializing lazy properties" );
+
+			return result;
+		}
+		catch (SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not batch initialize lazy properties: " + MessageHelper.infoString( this, batch, getFactory() ),
+					lazySelect
+			);
+		}
+	}
+
+	private Object initializeLazyFetchGroup(
+			final String fieldName,
+			final Object entity,
+			final SharedSessionContractImplementor session,
+			final EntityEntry entry,
+			final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			final ResultSet rs) throws SQLException {
+		final InterceptorImplementor interceptor = ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
+		assert interceptor != null : "Expecting bytecode interceptor to be non-null";
+
+		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
+
+		Object result = null;
+		final Object[] snapshot = entry.getLoadedState();
+		for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+			final boolean previousInitialized = initializedLazyAttributeNames.contains( fetchGroupAttributeDescriptor.getName() );
+
+			if ( previousInitialized ) {
+				// todo : one thing we should consider here is potentially un-marking an attribute as dirty based on the selected value
+				// 		we know the current value - getPropertyValue( entity, fetchGroupAttributeDescriptor.getAttributeIndex() );
+				// 		we know the selected value (see selectedValue below)
+				//		we can use the attribute Type to tell us if they are the same
+				//
+				//		assuming entity is a SelfDirtinessTracker we can also know if the attribute is
+				//			currently considered dirty, and if really not dirty we would do the un-marking
+				//
+				//		of course that would mean a new method on SelfDirtinessTracker to allow un-marking
+
+				// its already been initialized (e.g. by a write) so we don't want to overwrite
+				continue;
+			}
+
+
+			final Object selectedValue = fetchGroupAttributeDescriptor.getType().nullSafeGet(
+					rs,
+					lazyPropertyColumnAliases[fetchGroupAttributeDescriptor.getLazyIndex()],
+					session,
+					entity
+			);
+
+			final boolean set = initializeLazyProperty(
+					fieldName,
+					entity,
+					session,
+					snapshot,
+					fetchGroupAttributeDescriptor.getLazyIndex(),
+					selectedValue
+			);
+			if ( set ) {
+				result = selectedValue;
+				interceptor.attributeInitialized( fetchGroupAttributeDescriptor.getName() );
+			}
+
+		}
+		return result;
+	}
+
 	private Object initializeLazyPropertiesFromCache(
 			final String fieldName,
 			final Object entity,
@@ -2234,7 +2479,7 @@ public abstract class AbstractEntityPersister
 				&& propertyName.indexOf( '.' ) < 0; //ugly little workaround for fact that createUniqueKeyLoaders() does not handle component properties
 
 		if ( useStaticLoader ) {
-			return (EntityLoader) uniqueKeyLoaders.get( propertyName );
+			return getUniqueKeyLoader( propertyName );
 		}
 		else {
 			return createUniqueKeyLoader(
@@ -2250,24 +2495,55 @@ public abstract class AbstractEntityPersister
 	}
 
 	protected void createUniqueKeyLoaders() throws MappingException {
-		Type[] propertyTypes = getPropertyTypes();
+		if ( lazyLoaderCreation ) {
+			// built on first use by #getUniqueKeyLoader
+			return;
+		}
 		String[] propertyNames = getPropertyNames();
 		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
 			if ( propertyUniqueness[i] ) {
-				//don't need filters for the static loaders
-				uniqueKeyLoaders.put(
-						propertyNames[i],
-						createUniqueKeyLoader(
-								propertyTypes[i],
-								getPropertyColumnNames( i ),
-								LoadQueryInfluencers.NONE
-						)
-				);
+				uniqueKeyLoaders.put( propertyNames[i], createStaticUniqueKeyLoader( i ) );
 				//TODO: create uk loaders for component properties
 			}
 		}
 	}
 
+	private EntityLoader getUniqueKeyLoader(String propertyName) {
+		EntityLoader loader = (EntityLoader) uniqueKeyLoaders.get( propertyName );
+		if ( loader == null && lazyLoaderCreation ) {
+			final Integer index = entityMetamodel.getPropertyIndexOrNull( propertyName );
+			if ( index != null && propertyUniqueness[index] ) {
+				loader = createStaticUniqueKeyLoader( index );
+				final EntityLoader existing = (EntityLoader) uniqueKeyLoaders.putIfAbsent( propertyName, loader );
+				if ( existing != null ) {
+					loader = existing;
+				}
+				else {
+					loaderCreated( "unique key " + propertyName );
+				}
+			}
+		}
+		return loader;
+	}
+
+	private void loaderCreated(Object key) {
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf( "Created %s loader for %s on first use", key, getEntityName() );
+		}
+		if ( getFactory().getStatistics().isStatisticsEnabled() ) {
+			getFactory().getStatisticsImplementor().entityLoaderCreated( getEntityName() );
+		}
+	}
+
+	private EntityLoader createStaticUniqueKeyLoader(int propertyIndex) {
+		//don't need filters for the static loaders
+		return createUniqueKeyLoader(
+				getPropertyTypes()[propertyIndex],
+				getPropertyColumnNames( propertyIndex ),
+				LoadQueryInfluencers.NONE
+		);
+	}
+
 	private EntityLoader createUniqueKeyLoader(
 			Type uniqueKeyType,
 			String[] columns,
@@ -2537,7 +2813,41 @@ public abstract class AbstractEntityPersister
 
 		Insert insert = new Insert( getFactory().getDialect() )
 				.setTableName( getTableName( j ) );
+		addInsertColumns( insert, identityInsert, includeProperty, j );
 
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			insert.setComment( "insert " + getEntityName() );
+		}
+
+		String result = insert.toStatementString();
+
+		// append the SQL to return the generated identifier
+		if ( j == 0 && identityInsert && useInsertSelectIdentity() ) { //TODO: suck into Insert
+			result = getFactory().getDialect().getIdentityColumnSupport().appendIdentitySelectToInsert( result );
+		}
+
+		return result;
+	}
+
+	/**
+	 * Generate the SQL inserting the row of the root table, or updating it when it already exists.
+	 *
+	 * @return The upsert statement string
+	 */
+	protected String generateUpsertString() {
+		final Upsert upsert = new Upsert( getFactory().getDialect() )
+				.setPrimaryKeyColumnNames( getKeyColumns( 0 ) );
+		upsert.setTableName( getTableName( 0 ) );
+		addInsertColumns( upsert, false, getPropertyInsertability(), 0 );
+
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			upsert.setComment( "upsert " + getEntityName() );
+		}
+
+		return upsert.toStatementString();
+	}
+
+	private void addInsertColumns(Insert insert, boolean identityInsert, boolean[] includeProperty, int j) {
 		// add normal properties
 		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
 			// the incoming 'includeProperty' array only accounts for insertable defined at the root level, it
@@ -2591,10 +2901,6 @@ public abstract class AbstractEntityPersister
 			insert.addColumns( getKeyColumns( j ) );
 		}
 
-		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
-			insert.setComment( "insert " + getEntityName() );
-		}
-
 		// HHH-4635
 		// Oracle expects all Lob properties to be last in inserts
 		// and updates.  Insert them at the end.
@@ -2608,15 +2914,6 @@ public abstract class AbstractEntityPersister
 				);
 			}
 		}
-
-		String result = insert.toStatementString();
-
-		// append the SQL to return the generated identifier
-		if ( j == 0 && identityInsert && useInsertSelectIdentity() ) { //TODO: suck into Insert
-			result = getFactory().getDialect().getIdentityColumnSupport().appendIdentitySelectToInsert( result );
-		}
-
-		return result;
 	}
 
 	/**
@@ -2938,6 +3235,8 @@ public abstract class AbstractEntityPersister
 	}
 
 	private BasicBatchKey inserBatchKey;
+	private BasicBatchKey upsertBatchKey;
+	private String sqlUpsertString;
 
 	/**
 	 * Perform an SQL INSERT.
@@ -3515,6 +3814,62 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	@Override
+	public void upsert(Serializable id, Object[] fields, Object object, SharedSessionContractImplementor session) {
+		if ( getTableSpan() > 1 || customSQLInsert[0] != null ) {
+			throw new HibernateException(
+					"Upserts are only supported for entities mapped to a single table without custom SQL insert: "
+							+ getEntityName()
+			);
+		}
+		if ( isVersioned() ) {
+			// the version of the existing row would be neither checked nor incremented
+			throw new HibernateException( "Upserts are not supported for versioned entities: " + getEntityName() );
+		}
+		if ( !getFactory().getDialect().supportsUpsert() ) {
+			throw new HibernateException( "The dialect does not support upserts" );
+		}
+
+		preInsertInMemoryValueGeneration( fields, object, session );
+
+		if ( sqlUpsertString == null ) {
+			sqlUpsertString = generateUpsertString();
+		}
+		final String sql = sqlUpsertString;
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Upserting entity: {0}", MessageHelper.infoString( this, id, getFactory() ) );
+		}
+
+		// the row count depends on the database, and on whether the row was inserted or updated
+		final Expectation expectation = Expectations.NONE;
+		if ( upsertBatchKey == null ) {
+			upsertBatchKey = new BasicBatchKey( getEntityName() + "#UPSERT", expectation );
+		}
+
+		try {
+			final PreparedStatement upsert = session
+					.getJdbcCoordinator()
+					.getBatch( upsertBatchKey )
+					.getBatchStatement( sql, false );
+			try {
+				dehydrate( id, fields, null, getPropertyInsertability(), propertyColumnInsertable, 0, upsert, session, 1, false );
+				session.getJdbcCoordinator().getBatch( upsertBatchKey ).addToBatch();
+			}
+			catch (SQLException e) {
+				session.getJdbcCoordinator().abortBatch();
+				throw e;
+			}
+		}
+		catch (SQLException e) {
+			throw getFactory().getSQLExceptionHelper().convert(
+					e,
+					"could not upsert: " + MessageHelper.infoString( this ),
+					sql
+			);
+		}
+	}
+
 	private void preInsertInMemoryValueGeneration(Object[] fields, Object object, SharedSessionContractImplementor session) {
 		if ( getEntityMetamodel().hasPreInsertGeneratedValues() ) {
 			final InMemoryValueGenerationStrategy[] strategies = getEntityMetamodel().getInMemoryValueGenerationStrategies();
@@ -3609,6 +3964,9 @@ public abstract class AbstractEntityPersister
 			for ( Map.Entry<String, String> entry : sqlLazySelectStringsByFetchGroup.entrySet() ) {
 				LOG.debugf( " Lazy select (%s) : %s", entry.getKey(), entry.getValue() );
 			}
+			for ( Map.Entry<String, String[]> entry : sqlLazyBatchSelectStringsByFetchGroup.entrySet() ) {
+				LOG.debugf( " Lazy batch select (%s) : %s", entry.getKey(), entry.getValue()[0] );
+			}
 			if ( sqlVersionSelectString != null ) {
 				LOG.debugf( " Version select: %s", sqlVersionSelectString );
 			}
@@ -3893,6 +4251,43 @@ public abstract class AbstractEntityPersister
 		return StringHelper.generateAlias( getEntityName() );
 	}
 
+	/**
+	 * Like {@link #renderSelect}, but restricts by a list of identifiers rather than a single one
+	 * and also selects the identifier so that each row can be matched with its entity.
+	 */
+	protected String renderBatchSelect(
+			final int[] tableNumbers,
+			final int[] columnNumbers,
+			final int[] formulaNumbers,
+			final int batchSize) {
+
+		Arrays.sort( tableNumbers );
+
+		int drivingTable = tableNumbers[0];
+		final String drivingAlias = generateTableAlias(
+				getRootAlias(),
+				drivingTable
+		);
+		final String[] keyColumns = StringHelper.qualify( drivingAlias, getSubclassTableKeyColumns( drivingTable ) );
+		final String where = keyColumns[0] + " in (" + StringHelper.repeat( "?", batchSize, ", " ) + ")";
+		final String from = createFrom( drivingTable, drivingAlias );
+
+		JoinFragment jf = createJoin( tableNumbers, drivingAlias );
+
+		SelectFragment selectFragment = createSelect( columnNumbers, formulaNumbers );
+		selectFragment.addColumns( drivingAlias, getSubclassTableKeyColumns( drivingTable ), getIdentifierAliases() );
+
+		Select select = new Select( getFactory().getDialect() );
+		select.setSelectClause( selectFragment.toFragmentString().substring( 2 ) );
+		select.setFromClause( from );
+		select.setWhereClause( where );
+		select.setOuterJoins( jf.toFromFragmentString(), jf.toWhereFragmentString() );
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			select.setComment( "batch sequential select " + getEntityName() );
+		}
+		return select.toStatementString();
+	}
+
 	/**
 	 * Post-construct is a callback for AbstractEntityPersister subclasses to call after they are all done with their
 	 * constructor processing.  It allows AbstractEntityPersister to extend its construction after all subclass-specific
@@ -3947,6 +4342,7 @@ public abstract class AbstractEntityPersister
 		//select SQL
 		sqlSnapshotSelectString = generateSnapshotSelectString();
 		sqlLazySelectStringsByFetchGroup = generateLazySelectStringsByFetchGroup();
+		sqlLazyBatchSelectStringsByFetchGroup = generateLazyBatchSelectStringsByFetchGroup();
 		sqlVersionSelectString = generateSelectVersionString();
 		if ( hasInsertGeneratedProperties() ) {
 			sqlInsertGeneratedValuesSelectString = generateInsertGeneratedValuesSelectString();
@@ -3988,70 +4384,65 @@ public abstract class AbstractEntityPersister
 
 	//Relational based Persisters should be content with this implementation
 	protected void createLoaders() {
+		if ( lazyLoaderCreation ) {
+			// built on first use by #getLoader
+			return;
+		}
 		final Map loaders = getLoaders();
-		loaders.put( LockMode.NONE, createEntityLoader( LockMode.NONE ) );
-
-		UniqueEntityLoader readLoader = createEntityLoader( LockMode.READ );
-		loaders.put( LockMode.READ, readLoader );
+		for ( LockMode lockMode : STATIC_LOADER_LOCK_MODES ) {
+			loaders.put( lockMode, createStaticLoader( lockMode ) );
+		}
+		loaders.put( "merge", createStaticLoader( "merge" ) );
+		loaders.put( "refresh", createStaticLoader( "refresh" ) );
+	}
 
-		//TODO: inexact, what we really need to know is: are any outer joins used?
-		boolean disableForUpdate = getSubclassTableSpan() > 1 &&
-				hasSubclasses() &&
-				!getFactory().getDialect().supportsOuterJoinForUpdate();
+	/**
+	 * Locate the static loader registered under the given key (a {@link LockMode} or the name of an
+	 * internal fetch profile), building and memoizing it first when
+	 * {@value AvailableSettings#LAZY_PERSISTER_LOADERS} is enabled.
+	 */
+	protected UniqueEntityLoader getLoader(Object key) {
+		UniqueEntityLoader loader = (UniqueEntityLoader) getLoaders().get( key );
+		if ( loader == null && lazyLoaderCreation ) {
+			loader = createStaticLoader( key );
+			if ( loader != null ) {
+				final UniqueEntityLoader existing = (UniqueEntityLoader) getLoaders().putIfAbsent( key, loader );
+				if ( existing != null ) {
+					loader = existing;
+				}
+				else {
+					loaderCreated( key );
+				}
+			}
+		}
+		return loader;
+	}
 
-		loaders.put(
-				LockMode.UPGRADE,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.UPGRADE )
-		);
-		loaders.put(
-				LockMode.UPGRADE_NOWAIT,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.UPGRADE_NOWAIT )
-		);
-		loaders.put(
-				LockMode.UPGRADE_SKIPLOCKED,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.UPGRADE_SKIPLOCKED )
-		);
-		loaders.put(
-				LockMode.FORCE,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.FORCE )
-		);
-		loaders.put(
-				LockMode.PESSIMISTIC_READ,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.PESSIMISTIC_READ )
-		);
-		loaders.put(
-				LockMode.PESSIMISTIC_WRITE,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.PESSIMISTIC_WRITE )
-		);
-		loaders.put(
-				LockMode.PESSIMISTIC_FORCE_INCREMENT,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.PESSIMISTIC_FORCE_INCREMENT )
-		);
-		loaders.put( LockMode.OPTIMISTIC, createEntityLoader( LockMode.OPTIMISTIC ) );
-		loaders.put( LockMode.OPTIMISTIC_FORCE_INCREMENT, createEntityLoader( LockMode.OPTIMISTIC_FORCE_INCREMENT ) );
+	private UniqueEntityLoader createStaticLoader(Object key) {
+		if ( "merge".equals( key ) ) {
+			return new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() );
+		}
+		else if ( "refresh".equals( key ) ) {
+			return new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() );
+		}
+		else if ( !( key instanceof LockMode ) ) {
+			return null;
+		}
 
-		loaders.put(
-				"merge",
-				new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() )
-		);
-		loaders.put(
-				"refresh",
-				new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() )
-		);
+		final LockMode lockMode = (LockMode) key;
+		if ( !STATIC_LOADER_LOCK_MODES.contains( lockMode ) ) {
+			return null;
+		}
+		if ( FOR_UPDATE_LOCK_MODES.contains( lockMode ) ) {
+			//TODO: inexact, what we really need to know is: are any outer joins used?
+			final boolean disableForUpdate = getSubclassTableSpan() > 1 &&
+					hasSubclasses() &&
+					!getFactory().getDialect().supportsOuterJoinForUpdate();
+			if ( disableForUpdate ) {
+				return getLoader( LockMode.READ );
+			}
+		}
+		return createEntityLoader( lockMode );
 	}
 
 	protected void createQueryLoader() {
@@ -4133,7 +4524,7 @@ public abstract class AbstractEntityPersister
 			// Next, we consider whether an 'internal' fetch profile has been set.
 			// This indicates a special fetch profile Hibernate needs applied
 			// (for its merge loading process e.g.).
-			return (UniqueEntityLoader) getLoaders().get( session.getLoadQueryInfluencers().getInternalFetchProfile() );
+			return getLoader( session.getLoadQueryInfluencers().getInternalFetchProfile() );
 		}
 		else if ( isAffectedByEnabledFetchProfiles( session ) ) {
 			// If the session has associated influencers we need to adjust the
@@ -4147,7 +4538,7 @@ public abstract class AbstractEntityPersister
 			return createEntityLoader( lockOptions, session.getLoadQueryInfluencers() );
 		}
 		else {
-			return (UniqueEntityLoader) getLoaders().get( lockOptions.getLockMode() );
+			return getLoader( lockOptions.getLockMode() );
 		}
 	}
 
@@ -4633,6 +5024,20 @@ public abstract class AbstractEntityPersister
 	@Override
 	public void afterInitialize(Object entity, SharedSessionContractImplementor session) {
 		getEntityTuplizer().afterInitialize( entity, session );
+
+		if ( !sqlLazyBatchSelectStringsByFetchGroup.isEmpty() && session instanceof SessionImplementor ) {
+			// the fetch groups of the entity just loaded are candidates for the batch initialization
+			// of the same fetch groups of other entities; not in the temporary persistence contexts
+			// of a StatelessSession, whose entities are not managed
+			final PersistenceContext persistenceContext = session.getPersistenceContext();
+			final EntityEntry entry = persistenceContext.getEntry( entity );
+			if ( entry != null && entry.getEntityKey() != null ) {
+				persistenceContext.getBatchFetchQueue().addBatchLoadableLazyAttributes(
+						entry.getEntityKey(),
+						sqlLazyBatchSelectStringsByFetchGroup.keySet()
+				);
+			}
+		}
 	}
 
 	public String[] getPropertyNames() {
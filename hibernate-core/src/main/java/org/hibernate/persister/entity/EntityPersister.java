@@ -400,6 +400,17 @@ public interface EntityPersister extends OptimisticCacheSource, EntityDefinition
 	Serializable insert(Object[] fields, Object object, SharedSessionContractImplementor session)
 	throws HibernateException;
 
+	/**
+	 * Insert the row of an instance, or update it when a row with the same identifier already exists, with a
+	 * single statement (optional operation)
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsUpsert()
+	 */
+	default void upsert(Serializable id, Object[] fields, Object object, SharedSessionContractImplementor session)
+	throws HibernateException {
+		throw new UnsupportedOperationException( getClass().getName() + " does not support upserts" );
+	}
+
 	/**
 	 * Delete a persistent instance
 	 */
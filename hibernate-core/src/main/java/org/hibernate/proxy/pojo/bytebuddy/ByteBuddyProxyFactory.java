@@ -31,6 +31,7 @@ import org.hibernate.type.CompositeType;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
 import net.bytebuddy.implementation.FieldAccessor;
@@ -46,6 +47,11 @@ import static org.hibernate.internal.CoreLogging.messageLogger;
 public class ByteBuddyProxyFactory implements ProxyFactory, Serializable {
 	private static final CoreMessageLogger LOG = messageLogger( ByteBuddyProxyFactory.class );
 
+	/**
+	 * Suffix appended to the entity class name to name proxy classes generated at build time.
+	 */
+	public static final String PREGENERATED_PROXY_SUFFIX = "$HibernateProxy$Pregenerated";
+
 	private static final TypeCache<TypeCache.SimpleKey> CACHE =
 			new TypeCache.WithInlineExpunction<TypeCache.SimpleKey>(TypeCache.Sort.SOFT);
 
@@ -98,18 +104,14 @@ public class ByteBuddyProxyFactory implements ProxyFactory, Serializable {
 		return CACHE.findOrInsert(persistentClass.getClassLoader(), new TypeCache.SimpleKey(key), new Callable<Class<?>>() {
 			@Override
 			public Class<?> call() throws Exception {
-				return new ByteBuddy()
-						.with(TypeValidation.DISABLED)
-						.with(new NamingStrategy.SuffixingRandom("HibernateProxy"))
-						.subclass(interfaces.length == 1 ? persistentClass : Object.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING)
-						.implement((Type[]) interfaces)
-						.method(ElementMatchers.isVirtual().and(ElementMatchers.not(ElementMatchers.isFinalizer())))
-						.intercept(MethodDelegation.to(ProxyConfiguration.InterceptorDispatcher.class))
-						.method(ElementMatchers.nameStartsWith("$$_hibernate_").and(ElementMatchers.isVirtual()))
-						.intercept(SuperMethodCall.INSTANCE)
-						.defineField(ProxyConfiguration.INTERCEPTOR_FIELD_NAME, ProxyConfiguration.Interceptor.class, Visibility.PRIVATE)
-						.implement(ProxyConfiguration.class)
-						.intercept(FieldAccessor.ofField(ProxyConfiguration.INTERCEPTOR_FIELD_NAME).withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC))
+				if ( isPregenerationCandidate( interfaces ) ) {
+					final Class pregeneratedProxyClass = locatePregeneratedProxy( persistentClass );
+					if ( pregeneratedProxyClass != null ) {
+						return pregeneratedProxyClass;
+					}
+				}
+
+				return proxyBuilder( persistentClass, interfaces )
 						.make()
 						.load(persistentClass.getClassLoader())
 						.getLoaded();
@@ -117,6 +119,74 @@ public class ByteBuddyProxyFactory implements ProxyFactory, Serializable {
 		}, CACHE);
 	}
 
+	/**
+	 * Generates, without loading it, the proxy class for an entity class which only needs to implement
+	 * {@link HibernateProxy}.  The class is named {@code <entity class name>$HibernateProxy$Pregenerated}
+	 * so that it can be emitted alongside the entity class at build time and picked up by
+	 * {@link #buildProxy} instead of generating the proxy class when the SessionFactory is built.
+	 * Either way, proxy classes are cached JVM-wide per entity class and interface set.
+	 *
+	 * @param persistentClass The (possibly enhanced) entity class
+	 *
+	 * @return The bytecode of the proxy class
+	 */
+	public static byte[] buildPregeneratedProxy(final Class persistentClass) {
+		return proxyBuilder( persistentClass, new Class[] { HibernateProxy.class } )
+				.name( getPregeneratedProxyClassName( persistentClass ) )
+				.make()
+				.getBytes();
+	}
+
+	public static String getPregeneratedProxyClassName(Class persistentClass) {
+		return persistentClass.getName() + PREGENERATED_PROXY_SUFFIX;
+	}
+
+	private static boolean isPregenerationCandidate(Class[] interfaces) {
+		return interfaces.length == 1 && interfaces[0] == HibernateProxy.class;
+	}
+
+	private static Class locatePregeneratedProxy(Class persistentClass) {
+		final Class proxyClass;
+		try {
+			proxyClass = Class.forName(
+					getPregeneratedProxyClassName( persistentClass ),
+					true,
+					persistentClass.getClassLoader()
+			);
+		}
+		catch (ClassNotFoundException e) {
+			return null;
+		}
+
+		if ( proxyClass.getSuperclass() != persistentClass
+				|| !HibernateProxy.class.isAssignableFrom( proxyClass )
+				|| !ProxyConfiguration.class.isAssignableFrom( proxyClass ) ) {
+			// e.g. a stale class left over from a previous build
+			LOG.debugf( "Ignoring incompatible pre-generated proxy class [%s]", proxyClass.getName() );
+			return null;
+		}
+
+		LOG.tracef( "Using pre-generated proxy class [%s]", proxyClass.getName() );
+		return proxyClass;
+	}
+
+	private static DynamicType.Builder<?> proxyBuilder(
+			Class persistentClass,
+			Class[] interfaces) {
+		return new ByteBuddy()
+				.with(TypeValidation.DISABLED)
+				.with(new NamingStrategy.SuffixingRandom("HibernateProxy"))
+				.subclass(interfaces.length == 1 ? persistentClass : Object.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING)
+				.implement((Type[]) interfaces)
+				.method(ElementMatchers.isVirtual().and(ElementMatchers.not(ElementMatchers.isFinalizer())))
+				.intercept(MethodDelegation.to(ProxyConfiguration.InterceptorDispatcher.class))
+				.method(ElementMatchers.nameStartsWith("$$_hibernate_").and(ElementMatchers.isVirtual()))
+				.intercept(SuperMethodCall.INSTANCE)
+				.defineField(ProxyConfiguration.INTERCEPTOR_FIELD_NAME, ProxyConfiguration.Interceptor.class, Visibility.PRIVATE)
+				.implement(ProxyConfiguration.class)
+				.intercept(FieldAccessor.ofField(ProxyConfiguration.INTERCEPTOR_FIELD_NAME).withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC));
+	}
+
 	@Override
 	public HibernateProxy getProxy(
 			Serializable id,
@@ -19,8 +19,10 @@ import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.JdbcInstrumentation;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
@@ -40,18 +42,35 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 	private final transient JdbcConnectionAccess jdbcConnectionAccess;
 	private final transient JdbcObserver observer;
 	private final transient SqlExceptionHelper sqlExceptionHelper;
+	private final transient JdbcInstrumentation jdbcInstrumentation;
 
 	private final transient PhysicalConnectionHandlingMode connectionHandlingMode;
 
 	private transient Connection physicalConnection;
+	private transient long physicalConnectionAcquiredAt;
 	private boolean closed;
 
 	private boolean providerDisablesAutoCommit;
 
+	private final transient boolean releaseAfterReadOnlyStatement;
+
 	public LogicalConnectionManagedImpl(
 			JdbcConnectionAccess jdbcConnectionAccess,
 			JdbcSessionContext jdbcSessionContext) {
-		this( jdbcConnectionAccess, jdbcSessionContext, new ResourceRegistryStandardImpl() );
+		this(
+				jdbcConnectionAccess,
+				jdbcSessionContext,
+				new ResourceRegistryStandardImpl( buildStatementCache( jdbcSessionContext ) )
+		);
+	}
+
+	private static PreparedStatementCache buildStatementCache(JdbcSessionContext jdbcSessionContext) {
+		final int statementCacheSize = ConfigurationHelper.getInt(
+				AvailableSettings.STATEMENT_CACHE_SIZE,
+				jdbcSessionContext.getServiceRegistry().getService( ConfigurationService.class ).getSettings(),
+				0
+		);
+		return statementCacheSize > 0 ? new PreparedStatementCache( statementCacheSize ) : null;
 	}
 
 	public LogicalConnectionManagedImpl(
@@ -68,15 +87,23 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 
 		);
 
-		this.sqlExceptionHelper = jdbcSessionContext.getServiceRegistry()
-				.getService( JdbcServices.class )
-				.getSqlExceptionHelper();
+		final JdbcServices jdbcServices = jdbcSessionContext.getServiceRegistry().getService( JdbcServices.class );
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+		this.jdbcInstrumentation = jdbcServices.getJdbcInstrumentation();
 
 		if ( connectionHandlingMode.getAcquisitionMode() == ConnectionAcquisitionMode.IMMEDIATELY ) {
 			acquireConnectionIfNeeded();
 		}
 
 		this.providerDisablesAutoCommit = jdbcSessionContext.doesConnectionProviderDisableAutoCommit();
+		// without auto-commit, a released Connection could carry an open transaction back to the pool
+		this.releaseAfterReadOnlyStatement = !providerDisablesAutoCommit
+				&& connectionHandlingMode.getAcquisitionMode() == ConnectionAcquisitionMode.AS_NEEDED
+				&& ConfigurationHelper.getBoolean(
+						AvailableSettings.RELEASE_CONNECTION_AFTER_READ_ONLY_STATEMENT,
+						jdbcSessionContext.getServiceRegistry().getService( ConfigurationService.class ).getSettings(),
+						false
+				);
 		if ( providerDisablesAutoCommit ) {
 			log.debug(
 					"`hibernate.connection.provider_disables_autocommit` was enabled.  This setting should only be " +
@@ -103,7 +130,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 			JdbcConnectionAccess jdbcConnectionAccess,
 			JdbcSessionContext jdbcSessionContext,
 			boolean closed) {
-		this( jdbcConnectionAccess, jdbcSessionContext, new ResourceRegistryStandardImpl() );
+		this( jdbcConnectionAccess, jdbcSessionContext );
 		this.closed = closed;
 	}
 
@@ -112,7 +139,12 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 			// todo : is this the right place for these observer calls?
 			observer.jdbcConnectionAcquisitionStart();
 			try {
+				final long acquisitionStart = jdbcInstrumentation == null ? 0 : System.nanoTime();
 				physicalConnection = jdbcConnectionAccess.obtainConnection();
+				if ( jdbcInstrumentation != null ) {
+					physicalConnectionAcquiredAt = System.nanoTime();
+					jdbcInstrumentation.connectionAcquired( physicalConnectionAcquiredAt - acquisitionStart );
+				}
 			}
 			catch (SQLException e) {
 				throw sqlExceptionHelper.convert( e, "Unable to acquire JDBC Connection" );
@@ -160,6 +192,30 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		}
 	}
 
+	/**
+	 * Should the Connection of a read-only Session be released after each statement when no transaction
+	 * is active, whatever the connection handling mode?
+	 *
+	 * @see AvailableSettings#RELEASE_CONNECTION_AFTER_READ_ONLY_STATEMENT
+	 */
+	public boolean isReleasingAfterReadOnlyStatement() {
+		return releaseAfterReadOnlyStatement;
+	}
+
+	/**
+	 * Release the physical Connection, unless JDBC resources (typically a ResultSet which is not fully
+	 * consumed yet) are still registered against it.  It is acquired again when next needed.
+	 */
+	public void releaseIdleConnection() {
+		if ( getResourceRegistry().hasRegisteredResources() ) {
+			log.debug( "Skipping early release of JDBC Connection due to held resources" );
+		}
+		else {
+			log.debug( "Initiating early JDBC connection release" );
+			releaseConnection();
+		}
+	}
+
 	@Override
 	public void afterTransaction() {
 		super.afterTransaction();
@@ -199,6 +255,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		// todo : is this the right place for these observer calls?
 		observer.jdbcConnectionReleaseStart();
 		try {
+			releaseCachedStatements();
 			if ( !physicalConnection.isClosed() ) {
 				sqlExceptionHelper.logAndClearWarnings( physicalConnection );
 			}
@@ -209,11 +266,25 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		}
 		finally {
 			observer.jdbcConnectionReleaseEnd();
+			if ( jdbcInstrumentation != null ) {
+				jdbcInstrumentation.connectionReleased( System.nanoTime() - physicalConnectionAcquiredAt );
+			}
 			physicalConnection = null;
 			getResourceRegistry().releaseResources();
 		}
 	}
 
+	private void releaseCachedStatements() {
+		// cached statements belong to the physical Connection, so they have to go before it does
+		if ( getResourceRegistry() instanceof ResourceRegistryStandardImpl ) {
+			final PreparedStatementCache statementCache =
+					( (ResourceRegistryStandardImpl) getResourceRegistry() ).getStatementCache();
+			if ( statementCache != null ) {
+				statementCache.clear();
+			}
+		}
+	}
+
 	@Override
 	public LogicalConnectionImplementor makeShareableCopy() {
 		errorIfClosed();
@@ -0,0 +1,235 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * A bounded, least-recently-used cache of the PreparedStatements prepared against the physical
+ * Connection currently held by a logical connection.
+ * <p/>
+ * A statement handed out by {@link #checkOut} (or registered through {@link #register}) is owned by
+ * the cache: when the {@link ResourceRegistryStandardImpl} releases it, it is reset and handed back
+ * through {@link #checkIn} instead of being closed.  All statements must be {@link #clear cleared}
+ * before the physical Connection is released, as they are only valid against that Connection.
+ * <p/>
+ * Not thread-safe; like the logical connection, it is confined to a single session.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+ */
+public class PreparedStatementCache {
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( PreparedStatementCache.class );
+
+	private final int maxSize;
+
+	private final LinkedHashMap<StatementKey, CachedStatement> idle;
+	private final Map<Statement, CachedStatement> inUse = new IdentityHashMap<Statement, CachedStatement>();
+
+	public PreparedStatementCache(int maxSize) {
+		if ( maxSize <= 0 ) {
+			throw new IllegalArgumentException( "PreparedStatement cache size must be positive : " + maxSize );
+		}
+		this.maxSize = maxSize;
+		this.idle = new LinkedHashMap<StatementKey, CachedStatement>( 16, 0.75f, true );
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * The number of statements currently held, idle or in use.
+	 */
+	public int size() {
+		return idle.size() + inUse.size();
+	}
+
+	/**
+	 * Obtain an idle statement previously prepared for the given key.
+	 *
+	 * @return The statement, or {@code null} if none is cached (a miss)
+	 */
+	public PreparedStatement checkOut(StatementKey key) {
+		final CachedStatement cached = idle.remove( key );
+		if ( cached == null ) {
+			return null;
+		}
+		if ( isClosed( cached.statement ) ) {
+			// closed behind our back, forget about it
+			return null;
+		}
+		inUse.put( cached.statement, cached );
+		return cached.statement;
+	}
+
+	/**
+	 * Make the cache the owner of a statement which has just been prepared for the given key.
+	 */
+	public void register(StatementKey key, PreparedStatement statement) {
+		int fetchSize;
+		try {
+			fetchSize = statement.getFetchSize();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to determine initial fetch size of JDBC statement, not caching it [%s]", e.getMessage() );
+			return;
+		}
+		inUse.put( statement, new CachedStatement( key, statement, fetchSize ) );
+	}
+
+	/**
+	 * Is the given statement owned by this cache?
+	 */
+	public boolean owns(Statement statement) {
+		return inUse.containsKey( statement );
+	}
+
+	/**
+	 * Hand a released statement back to the cache.
+	 *
+	 * @return {@code true} if the statement is now kept idle by the cache; {@code false} if it is not
+	 * owned by the cache or could not be reset, in which case the caller is responsible for closing it.
+	 */
+	public boolean checkIn(Statement statement) {
+		final CachedStatement cached = inUse.remove( statement );
+		if ( cached == null ) {
+			return false;
+		}
+		if ( idle.containsKey( cached.key ) || !reset( cached ) ) {
+			// another statement for the same SQL is already idle
+			return false;
+		}
+
+		idle.put( cached.key, cached );
+		if ( idle.size() > maxSize ) {
+			final Iterator<CachedStatement> eldest = idle.values().iterator();
+			final CachedStatement evicted = eldest.next();
+			eldest.remove();
+			ResourceRegistryStandardImpl.close( evicted.statement );
+		}
+		return true;
+	}
+
+	/**
+	 * Close all idle statements and give up ownership of those still in use, which will then be
+	 * closed as usual when released.
+	 */
+	public void clear() {
+		if ( idle.isEmpty() && inUse.isEmpty() ) {
+			return;
+		}
+		log.tracef( "Clearing PreparedStatement cache (%s idle statements)", idle.size() );
+		for ( CachedStatement cached : idle.values() ) {
+			ResourceRegistryStandardImpl.close( cached.statement );
+		}
+		idle.clear();
+		inUse.clear();
+	}
+
+	private static boolean reset(CachedStatement cached) {
+		final PreparedStatement statement = cached.statement;
+		try {
+			statement.clearParameters();
+			statement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != cached.fetchSize ) {
+				statement.setFetchSize( cached.fetchSize );
+			}
+			return true;
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset cached JDBC statement, closing it [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	private static boolean isClosed(Statement statement) {
+		try {
+			return statement.isClosed();
+		}
+		catch (SQLException e) {
+			return true;
+		}
+	}
+
+	private static class CachedStatement {
+		private final StatementKey key;
+		private final PreparedStatement statement;
+		private final int fetchSize;
+
+		private CachedStatement(StatementKey key, PreparedStatement statement, int fetchSize) {
+			this.key = key;
+			this.statement = statement;
+			this.fetchSize = fetchSize;
+		}
+	}
+
+	/**
+	 * Identifies a cached statement: its SQL and the arguments it was prepared with.
+	 */
+	public static final class StatementKey {
+		private final String sql;
+		private final int resultSetType;
+		private final int autoGeneratedKeys;
+		private final String[] columnNames;
+		private final int hashCode;
+
+		public StatementKey(String sql, int resultSetType, int autoGeneratedKeys, String[] columnNames) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+			this.autoGeneratedKeys = autoGeneratedKeys;
+			this.columnNames = columnNames;
+
+			int result = sql.hashCode();
+			result = 31 * result + resultSetType;
+			result = 31 * result + autoGeneratedKeys;
+			result = 31 * result + Arrays.hashCode( columnNames );
+			this.hashCode = result;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final StatementKey that = (StatementKey) o;
+			return hashCode == that.hashCode
+					&& resultSetType == that.resultSetType
+					&& autoGeneratedKeys == that.autoGeneratedKeys
+					&& sql.equals( that.sql )
+					&& Arrays.equals( columnNames, that.columnNames );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return "StatementKey(" + sql + ")";
+		}
+	}
+}
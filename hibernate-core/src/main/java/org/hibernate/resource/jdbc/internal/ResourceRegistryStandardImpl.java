@@ -13,11 +13,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
@@ -32,8 +30,17 @@ import org.hibernate.resource.jdbc.ResourceRegistry;
 public class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final CoreMessageLogger log = CoreLogging.messageLogger( ResourceRegistryStandardImpl.class );
 
-	private final Map<Statement, Set<ResultSet>> xref = new HashMap<Statement, Set<ResultSet>>();
-	private final Set<ResultSet> unassociatedResultSets = new HashSet<ResultSet>();
+	private static final int INITIAL_STATEMENT_CAPACITY = 4;
+
+	// Sessions typically hold one or two live statements at a time, so instead of a
+	// Map<Statement,Set<ResultSet>> the registered statements are kept in a small array, the slot
+	// of the same index in statementResultSets holding null (no result set), the single
+	// ResultSet of the statement or, seldom, a List<ResultSet> of them.
+	private Statement[] statements;
+	private Object[] statementResultSets;
+	private int statementCount;
+
+	private List<ResultSet> unassociatedResultSets;
 
 	private List<Blob> blobs;
 	private List<Clob> clobs;
@@ -41,9 +48,29 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	private final PreparedStatementCache statementCache;
+
+	public ResourceRegistryStandardImpl() {
+		this( null );
+	}
+
+	/**
+	 * Create a registry which hands statements owned by the given cache back to it on release,
+	 * rather than closing them.
+	 *
+	 * @param statementCache The PreparedStatement cache, may be {@code null}
+	 */
+	public ResourceRegistryStandardImpl(PreparedStatementCache statementCache) {
+		this.statementCache = statementCache;
+	}
+
+	public PreparedStatementCache getStatementCache() {
+		return statementCache;
+	}
+
 	@Override
 	public boolean hasRegisteredResources() {
-		return hasRegistered( xref )
+		return statementCount > 0
 				|| hasRegistered( unassociatedResultSets )
 				|| hasRegistered( blobs )
 				|| hasRegistered( clobs )
@@ -53,10 +80,10 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 	@Override
 	public void register(Statement statement, boolean cancelable) {
 		log.tracef( "Registering statement [%s]", statement );
-		if ( xref.containsKey( statement ) ) {
+		if ( indexOf( statement ) >= 0 ) {
 			throw new HibernateException( "JDBC Statement already registered" );
 		}
-		xref.put( statement, null );
+		addStatement( statement );
 
 		if ( cancelable ) {
 			lastQuery = statement;
@@ -69,17 +96,17 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 		// Keep this at DEBUG level, rather than warn.  Numerous connection pool implementations can return a
 		// proxy/wrapper around the JDBC Statement, causing excessive logging here.  See HHH-8210.
-		if ( log.isDebugEnabled() && !xref.containsKey( statement ) ) {
-			log.unregisteredStatement();
+		final int index = indexOf( statement );
+		if ( index < 0 ) {
+			if ( log.isDebugEnabled() ) {
+				log.unregisteredStatement();
+			}
 		}
 		else {
-			final Set<ResultSet> resultSets = xref.get( statement );
-			if ( resultSets != null ) {
-				closeAll( resultSets );
-			}
-			xref.remove( statement );
+			closeResultSets( statementResultSets[index] );
+			removeStatement( index );
 		}
-		close( statement );
+		closeOrCache( statement );
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -99,19 +126,16 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 			}
 		}
 		if ( statement != null ) {
-			final Set<ResultSet> resultSets = xref.get( statement );
-			if ( resultSets == null ) {
+			final int index = indexOf( statement );
+			if ( index < 0 || statementResultSets[index] == null ) {
 				log.unregisteredStatement();
 			}
-			else {
-				resultSets.remove( resultSet );
-				if ( resultSets.isEmpty() ) {
-					xref.remove( statement );
-				}
+			else if ( removeResultSet( index, resultSet ) ) {
+				removeStatement( index );
 			}
 		}
 		else {
-			final boolean removed = unassociatedResultSets.remove( resultSet );
+			final boolean removed = unassociatedResultSets != null && unassociatedResultSets.remove( resultSet );
 			if ( !removed ) {
 				log.unregisteredResultSetWithoutStatement();
 			}
@@ -127,6 +151,89 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 		resultSets.clear();
 	}
 
+	@SuppressWarnings("unchecked")
+	private static void closeResultSets(Object resultSets) {
+		if ( resultSets instanceof ResultSet ) {
+			close( (ResultSet) resultSets );
+		}
+		else if ( resultSets != null ) {
+			for ( ResultSet resultSet : (List<ResultSet>) resultSets ) {
+				close( resultSet );
+			}
+		}
+	}
+
+	private int indexOf(Statement statement) {
+		for ( int i = 0; i < statementCount; i++ ) {
+			if ( statements[i].equals( statement ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private int addStatement(Statement statement) {
+		if ( statements == null ) {
+			statements = new Statement[INITIAL_STATEMENT_CAPACITY];
+			statementResultSets = new Object[INITIAL_STATEMENT_CAPACITY];
+		}
+		else if ( statementCount == statements.length ) {
+			statements = Arrays.copyOf( statements, statementCount * 2 );
+			statementResultSets = Arrays.copyOf( statementResultSets, statementCount * 2 );
+		}
+		statements[statementCount] = statement;
+		statementResultSets[statementCount] = null;
+		return statementCount++;
+	}
+
+	private void removeStatement(int index) {
+		final int last = --statementCount;
+		statements[index] = statements[last];
+		statementResultSets[index] = statementResultSets[last];
+		statements[last] = null;
+		statementResultSets[last] = null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addResultSet(int index, ResultSet resultSet) {
+		final Object current = statementResultSets[index];
+		if ( current == null ) {
+			statementResultSets[index] = resultSet;
+		}
+		else if ( current instanceof ResultSet ) {
+			if ( !current.equals( resultSet ) ) {
+				final List<ResultSet> resultSets = new ArrayList<ResultSet>( 4 );
+				resultSets.add( (ResultSet) current );
+				resultSets.add( resultSet );
+				statementResultSets[index] = resultSets;
+			}
+		}
+		else {
+			final List<ResultSet> resultSets = (List<ResultSet>) current;
+			if ( !resultSets.contains( resultSet ) ) {
+				resultSets.add( resultSet );
+			}
+		}
+	}
+
+	/**
+	 * @return {@code true} if the statement has no result set left
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean removeResultSet(int index, ResultSet resultSet) {
+		final Object current = statementResultSets[index];
+		if ( current instanceof ResultSet ) {
+			if ( current.equals( resultSet ) ) {
+				statementResultSets[index] = null;
+				return true;
+			}
+			return false;
+		}
+		final List<ResultSet> resultSets = (List<ResultSet>) current;
+		resultSets.remove( resultSet );
+		return resultSets.isEmpty();
+	}
+
 	@SuppressWarnings({"unchecked"})
 	public static void close(ResultSet resultSet) {
 		log.tracef( "Closing result set [%s]", resultSet );
@@ -143,6 +250,12 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 		}
 	}
 
+	private void closeOrCache(Statement statement) {
+		if ( statementCache == null || !statementCache.checkIn( statement ) ) {
+			close( statement );
+		}
+	}
+
 	@SuppressWarnings({"unchecked"})
 	public static void close(Statement statement) {
 		log.tracef( "Closing prepared statement [%s]", statement );
@@ -192,18 +305,22 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 		if ( statement != null ) {
 			// Keep this at DEBUG level, rather than warn.  Numerous connection pool implementations can return a
 			// proxy/wrapper around the JDBC Statement, causing excessive logging here.  See HHH-8210.
-			if ( log.isDebugEnabled() && !xref.containsKey( statement ) ) {
-				log.debug( "ResultSet statement was not registered (on register)" );
-			}
-			Set<ResultSet> resultSets = xref.get( statement );
-			if ( resultSets == null ) {
-				resultSets = new HashSet<ResultSet>();
-				xref.put( statement, resultSets );
+			int index = indexOf( statement );
+			if ( index < 0 ) {
+				if ( log.isDebugEnabled() ) {
+					log.debug( "ResultSet statement was not registered (on register)" );
+				}
+				index = addStatement( statement );
 			}
-			resultSets.add( resultSet );
+			addResultSet( index, resultSet );
 		}
 		else {
-			unassociatedResultSets.add( resultSet );
+			if ( unassociatedResultSets == null ) {
+				unassociatedResultSets = new ArrayList<ResultSet>();
+			}
+			if ( !unassociatedResultSets.contains( resultSet ) ) {
+				unassociatedResultSets.add( resultSet );
+			}
 		}
 	}
 
@@ -285,15 +402,18 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 	public void releaseResources() {
 		log.trace( "Releasing JDBC resources" );
 
-		for ( Map.Entry<Statement, Set<ResultSet>> entry : xref.entrySet() ) {
-			if ( entry.getValue() != null ) {
-				closeAll( entry.getValue() );
-			}
-			close( entry.getKey() );
+		for ( int i = 0; i < statementCount; i++ ) {
+			closeResultSets( statementResultSets[i] );
+			closeOrCache( statements[i] );
+			statements[i] = null;
+			statementResultSets[i] = null;
 		}
-		xref.clear();
+		statementCount = 0;
 
-		closeAll( unassociatedResultSets );
+		if ( unassociatedResultSets != null ) {
+			closeResultSets( unassociatedResultSets );
+			unassociatedResultSets.clear();
+		}
 
 		if ( blobs != null ) {
 			for ( Blob blob : blobs ) {
@@ -333,10 +453,6 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	}
 
-	private boolean hasRegistered(Map resource) {
-		return resource != null && !resource.isEmpty();
-	}
-
 	private boolean hasRegistered(Collection resource) {
 		return resource != null && !resource.isEmpty();
 	}
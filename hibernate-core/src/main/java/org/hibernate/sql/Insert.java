@@ -21,7 +21,7 @@ public class Insert {
 	private Dialect dialect;
 	private String tableName;
 	private String comment;
-	private Map columns = new LinkedHashMap();
+	private Map<String, String> columns = new LinkedHashMap<>();
 
 	public Insert(Dialect dialect) {
 		this.dialect = dialect;
@@ -31,6 +31,18 @@ public class Insert {
 		return dialect;
 	}
 
+	protected String getTableName() {
+		return tableName;
+	}
+
+	protected String getComment() {
+		return comment;
+	}
+
+	protected Map<String, String> getColumns() {
+		return columns;
+	}
+
 	public Insert setComment(String comment) {
 		this.comment = comment;
 		return this;
@@ -0,0 +1,34 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.internal.util.StringHelper;
+
+/**
+ * An SQL <tt>INSERT</tt> statement inserting several rows, listing the values of each of them
+ *
+ * @see Dialect#supportsMultiRowInsert()
+ */
+public class MultiRowInsert extends Insert {
+	private int rowCount = 1;
+
+	public MultiRowInsert(Dialect dialect) {
+		super( dialect );
+	}
+
+	public MultiRowInsert setRowCount(int rowCount) {
+		this.rowCount = rowCount;
+		return this;
+	}
+
+	@Override
+	public String toStatementString() {
+		final String row = ", (" + StringHelper.join( ", ", getColumns().values().iterator() ) + ')';
+		return super.toStatementString() + StringHelper.repeat( row, rowCount - 1 );
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql;
+
+import java.util.Map;
+
+import org.hibernate.dialect.Dialect;
+
+/**
+ * An SQL statement inserting a row, or updating it when a row with the same primary key already exists, as
+ * rendered by {@link Dialect#getUpsertString}
+ */
+public class Upsert extends Insert {
+	private String[] primaryKeyColumnNames;
+
+	public Upsert(Dialect dialect) {
+		super( dialect );
+	}
+
+	public Upsert setPrimaryKeyColumnNames(String[] primaryKeyColumnNames) {
+		this.primaryKeyColumnNames = primaryKeyColumnNames;
+		return this;
+	}
+
+	@Override
+	public String toStatementString() {
+		final Map<String, String> columns = getColumns();
+		final String upsert = getDialect().getUpsertString(
+				getTableName(),
+				columns.keySet().toArray( new String[columns.size()] ),
+				columns.values().toArray( new String[columns.size()] ),
+				primaryKeyColumnNames
+		);
+		return getComment() == null ? upsert : "/* " + getComment() + " */ " + upsert;
+	}
+}
@@ -19,6 +19,15 @@ public interface CollectionStatistics extends Serializable {
 
 	long getFetchCount();
 
+	/**
+	 * The number of N+1 selects detected for this collection role
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+	 */
+	default long getNPlusOneSelectCount() {
+		return 0;
+	}
+
 	long getRecreateCount();
 
 	long getRemoveCount();
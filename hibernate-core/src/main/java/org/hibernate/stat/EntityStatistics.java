@@ -24,6 +24,15 @@ public interface EntityStatistics extends Serializable {
 
 	long getFetchCount();
 
+	/**
+	 * The number of N+1 selects detected for this entity
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+	 */
+	default long getNPlusOneSelectCount() {
+		return 0;
+	}
+
 	long getOptimisticFailureCount();
 
 }
@@ -35,4 +35,53 @@ public interface QueryStatistics extends Serializable {
 	long getExecutionTotalTime();
 
 	double getExecutionAvgTimeAsDouble();
+
+	/**
+	 * The execution time below which the given percentage of the executions of this query fall, accurate
+	 * within 25%.
+	 *
+	 * @param percentile The percentile, between 0 and 100
+	 *
+	 * @return The execution time percentile, in ms
+	 *
+	 * @since 5.2.11
+	 */
+	default long getExecutionTimePercentile(double percentile) {
+		return 0;
+	}
+
+	/**
+	 * The number of rows below which the given percentage of the executions of this query fall, accurate
+	 * within 25%.  As for {@link #getExecutionRowCount()}, iterate and scroll executions count as returning
+	 * no rows.
+	 *
+	 * @param percentile The percentile, between 0 and 100
+	 *
+	 * @return The row count percentile
+	 *
+	 * @since 5.2.11
+	 */
+	default long getExecutionRowCountPercentile(double percentile) {
+		return 0;
+	}
+
+	/**
+	 * The number of times the compiled plan of this query was found in the
+	 * {@link org.hibernate.engine.query.spi.QueryPlanCache}
+	 *
+	 * @since 5.2.11
+	 */
+	default long getPlanCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of times this query had to be compiled because its plan was not in the
+	 * {@link org.hibernate.engine.query.spi.QueryPlanCache}
+	 *
+	 * @since 5.2.11
+	 */
+	default long getPlanCacheMissCount() {
+		return 0;
+	}
 }
@@ -62,6 +62,19 @@ public interface Statistics {
 	 */
 	QueryStatistics getQueryStatistics(String queryString);
 
+	/**
+	 * Statistics of a SQL query generated by Hibernate to load entities or collections, by id or by owner,
+	 * as opposed to an HQL, Criteria or native query.
+	 *
+	 * @param sql The SQL query
+	 * @return QueryStatistics, or {@code null} if loader queries are not recorded
+	 *
+	 * @since 5.2.11
+	 */
+	default QueryStatistics getLoaderQueryStatistics(String sql) {
+		return null;
+	}
+
     /**
      * Get global number of entity deletes
 	 * @return entity deletion count
@@ -256,6 +269,15 @@ public interface Statistics {
 	 */
 	String[] getQueries();
 
+	/**
+	 * Get all executed SQL queries generated by Hibernate to load entities or collections
+	 *
+	 * @see #getLoaderQueryStatistics(String)
+	 */
+	default String[] getLoaderQueries() {
+		return new String[0];
+	}
+
 	/**
 	 * Get the names of all entities
 	 */
@@ -291,6 +313,83 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of prepared statements that were served from the PreparedStatement cache
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getPreparedStatementCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of cacheable prepared statements that were *not* found in the PreparedStatement cache
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getPreparedStatementCacheMissCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of N+1 selects detected, see {@link EntityStatistics#getNPlusOneSelectCount()} and
+	 * {@link CollectionStatistics#getNPlusOneSelectCount()} for the details
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+	 */
+	default long getNPlusOneSelectCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of HQL, collection filter and native update queries whose compiled plan was found in the
+	 * {@link org.hibernate.engine.query.spi.QueryPlanCache}
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE
+	 */
+	default long getQueryPlanCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of HQL, collection filter and native update queries which had to be compiled because their
+	 * plan was not in the {@link org.hibernate.engine.query.spi.QueryPlanCache}
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE
+	 */
+	default long getQueryPlanCacheMissCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of flushes which ordered their inserts
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ORDER_INSERTS
+	 */
+	default long getInsertOrderingCount() {
+		return 0;
+	}
+
+	/**
+	 * The cumulated time spent ordering inserts, in nanoseconds as ordering typically takes less than a millisecond
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ORDER_INSERTS
+	 */
+	default long getInsertOrderingTime() {
+		return 0;
+	}
+
+	/**
+	 * The number of static entity loaders built by entity persisters on first use
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#LAZY_PERSISTER_LOADERS
+	 *
+	 * @since 5.2.11
+	 */
+	default long getEntityLoaderCreationCount() {
+		return 0;
+	}
+
 	/**
 	 * The number of <tt>StaleObjectStateException</tt>s 
 	 * that occurred
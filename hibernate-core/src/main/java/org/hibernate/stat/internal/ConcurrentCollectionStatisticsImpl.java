@@ -25,6 +25,7 @@ public class ConcurrentCollectionStatisticsImpl extends CategorizedStatistics im
 	private	AtomicLong updateCount	 = new AtomicLong();
 	private	AtomicLong removeCount	 = new AtomicLong();
 	private	AtomicLong recreateCount = new AtomicLong();
+	private	AtomicLong nPlusOneSelectCount = new AtomicLong();
 
 	public long getLoadCount() {
 		return loadCount.get();
@@ -46,6 +47,10 @@ public class ConcurrentCollectionStatisticsImpl extends CategorizedStatistics im
 		return updateCount.get();
 	}
 
+	public long getNPlusOneSelectCount() {
+		return nPlusOneSelectCount.get();
+	}
+
 	public String toString() {
 		return new StringBuilder()
 				.append("CollectionStatistics")
@@ -54,6 +59,7 @@ public class ConcurrentCollectionStatisticsImpl extends CategorizedStatistics im
 				.append(",recreateCount=").append(this.recreateCount)
 				.append(",removeCount=").append(this.removeCount)
 				.append(",updateCount=").append(this.updateCount)
+				.append(",nPlusOneSelectCount=").append(this.nPlusOneSelectCount)
 				.append(']')
 				.toString();
 	}
@@ -77,4 +83,8 @@ public class ConcurrentCollectionStatisticsImpl extends CategorizedStatistics im
 	void incrementRemoveCount() {
 		removeCount.getAndIncrement();
 	}
+
+	void incrementNPlusOneSelectCount() {
+		nPlusOneSelectCount.getAndIncrement();
+	}
 }
@@ -27,6 +27,7 @@ public class ConcurrentEntityStatisticsImpl extends CategorizedStatistics implem
 	private	AtomicLong deleteCount			  =	new	AtomicLong();
 	private	AtomicLong fetchCount			  =	new	AtomicLong();
 	private	AtomicLong optimisticFailureCount =	new	AtomicLong();
+	private	AtomicLong nPlusOneSelectCount	  =	new	AtomicLong();
 
 	public long getDeleteCount() {
 		return deleteCount.get();
@@ -52,6 +53,10 @@ public class ConcurrentEntityStatisticsImpl extends CategorizedStatistics implem
 		return optimisticFailureCount.get();
 	}
 
+	public long getNPlusOneSelectCount() {
+		return nPlusOneSelectCount.get();
+	}
+
 	public String toString() {
 		return new StringBuilder()
 				.append("EntityStatistics")
@@ -61,6 +66,7 @@ public class ConcurrentEntityStatisticsImpl extends CategorizedStatistics implem
 				.append(",deleteCount=").append(this.deleteCount)
 				.append(",fetchCount=").append(this.fetchCount)
 				.append(",optimisticLockFailureCount=").append(this.optimisticFailureCount)
+				.append(",nPlusOneSelectCount=").append(this.nPlusOneSelectCount)
 				.append(']')
 				.toString();
 	}
@@ -88,4 +94,8 @@ public class ConcurrentEntityStatisticsImpl extends CategorizedStatistics implem
 	void incrementOptimisticFailureCount() {
 		optimisticFailureCount.getAndIncrement();
 	}
+
+	void incrementNPlusOneSelectCount() {
+		nPlusOneSelectCount.getAndIncrement();
+	}
 }
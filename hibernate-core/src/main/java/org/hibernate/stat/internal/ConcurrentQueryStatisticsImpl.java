@@ -7,9 +7,7 @@
 package org.hibernate.stat.internal;
 
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.stat.QueryStatistics;
 
@@ -21,23 +19,20 @@ import org.hibernate.stat.QueryStatistics;
  * @author Alex Snaps
  */
 public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics implements QueryStatistics {
-	private final AtomicLong cacheHitCount = new AtomicLong();
-	private final AtomicLong cacheMissCount = new AtomicLong();
-	private final AtomicLong cachePutCount = new AtomicLong();
-	private final AtomicLong executionCount = new AtomicLong();
-	private final AtomicLong executionRowCount = new AtomicLong();
+	private final LongAdder cacheHitCount = new LongAdder();
+	private final LongAdder cacheMissCount = new LongAdder();
+	private final LongAdder cachePutCount = new LongAdder();
+	private final LongAdder planCacheHitCount = new LongAdder();
+	private final LongAdder planCacheMissCount = new LongAdder();
+	private final LongAdder executionCount = new LongAdder();
+	private final LongAdder executionRowCount = new LongAdder();
 	private final AtomicLong executionMaxTime = new AtomicLong();
 	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
-	private final AtomicLong totalExecutionTime = new AtomicLong();
+	private final LongAdder totalExecutionTime = new LongAdder();
 
-	private final Lock readLock;
-	private final Lock writeLock;
-
-	{
-		ReadWriteLock lock = new ReentrantReadWriteLock();
-		readLock = lock.readLock();
-		writeLock = lock.writeLock();
-	}
+	// in ms, like the other execution times
+	private final LatencyHistogram executionTimeHistogram = new LatencyHistogram();
+	private final LatencyHistogram executionRowCountHistogram = new LatencyHistogram();
 
 	ConcurrentQueryStatisticsImpl(String query) {
 		super(query);
@@ -47,22 +42,22 @@ public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics impleme
 	 * queries executed to the DB
 	 */
 	public long getExecutionCount() {
-		return executionCount.get();
+		return executionCount.sum();
 	}
 
 	/**
 	 * Queries retrieved successfully from the cache
 	 */
 	public long getCacheHitCount() {
-		return cacheHitCount.get();
+		return cacheHitCount.sum();
 	}
 
 	public long getCachePutCount() {
-		return cachePutCount.get();
+		return cachePutCount.sum();
 	}
 
 	public long getCacheMissCount() {
-		return cacheMissCount.get();
+		return cacheMissCount.sum();
 	}
 
 	/**
@@ -75,7 +70,7 @@ public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics impleme
 	 *         is not known at execution time.
 	 */
 	public long getExecutionRowCount() {
-		return executionRowCount.get();
+		return executionRowCount.sum();
 	}
 
 	/**
@@ -89,21 +84,14 @@ public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics impleme
 	 * average time in ms as double taken by the execution of this query onto the DB
 	 */
 	public double getExecutionAvgTimeAsDouble() {
-		// We write lock here to be sure that we always calculate the average time
-		// with all updates from the executed applied: executionCount and totalExecutionTime
-		// both used in the calculation
-		writeLock.lock();
-		try {
-			double avgExecutionTime = 0;
-			if ( executionCount.get() > 0 ) {
-				avgExecutionTime = totalExecutionTime.get() / (double) executionCount
-						.get();
-			}
-			return avgExecutionTime;
-		}
-		finally {
-			writeLock.unlock();
+		// the count is read first: an execution being recorded concurrently may then add its time but not its
+		// count, which is negligible as opposed to reading a count without its time for the first executions
+		final long count = executionCount.sum();
+		double avgExecutionTime = 0;
+		if ( count > 0 ) {
+			avgExecutionTime = totalExecutionTime.sum() / (double) count;
 		}
+		return avgExecutionTime;
 	}
 
 	/**
@@ -124,7 +112,27 @@ public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics impleme
 	 * total time in ms taken by the execution of this query onto the DB
 	 */
 	public long getExecutionTotalTime() {
-		return totalExecutionTime.get();
+		return totalExecutionTime.sum();
+	}
+
+	@Override
+	public long getExecutionTimePercentile(double percentile) {
+		return executionTimeHistogram.getPercentile( percentile );
+	}
+
+	@Override
+	public long getExecutionRowCountPercentile(double percentile) {
+		return executionRowCountHistogram.getPercentile( percentile );
+	}
+
+	@Override
+	public long getPlanCacheHitCount() {
+		return planCacheHitCount.sum();
+	}
+
+	@Override
+	public long getPlanCacheMissCount() {
+		return planCacheMissCount.sum();
 	}
 
 	/**
@@ -134,20 +142,14 @@ public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics impleme
 	 * @param time time taken
 	 */
 	void executed(long rows, long time) {
-		// read lock is enough, concurrent updates are supported by the underlying type AtomicLong
-		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
-		readLock.lock();
-		try {
-			// Less chances for a context switch
-			for (long old = executionMinTime.get(); (time < old) && !executionMinTime.compareAndSet(old, time); old = executionMinTime.get()) {}
-			for (long old = executionMaxTime.get(); (time > old) && !executionMaxTime.compareAndSet(old, time); old = executionMaxTime.get()) {}
-			executionCount.getAndIncrement();
-			executionRowCount.addAndGet(rows);
-			totalExecutionTime.addAndGet(time);
-		}
-		finally {
-			readLock.unlock();
-		}
+		// lock-free: concurrent executions only contend on the min/max updates, and only when they change them
+		for (long old = executionMinTime.get(); (time < old) && !executionMinTime.compareAndSet(old, time); old = executionMinTime.get()) {}
+		for (long old = executionMaxTime.get(); (time > old) && !executionMaxTime.compareAndSet(old, time); old = executionMaxTime.get()) {}
+		totalExecutionTime.add( time );
+		executionCount.increment();
+		executionRowCount.add( rows );
+		executionTimeHistogram.record( time );
+		executionRowCountHistogram.record( rows );
 	}
 
 	public String toString() {
@@ -160,18 +162,29 @@ public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics impleme
 				+ ",executionAvgTime=" + this.getExecutionAvgTime()
 				+ ",executionMaxTime=" + this.executionMaxTime
 				+ ",executionMinTime=" + this.executionMinTime
+				+ ",executionTime99thPercentile=" + this.getExecutionTimePercentile( 99 )
+				+ ",planCacheHitCount=" + this.planCacheHitCount
+				+ ",planCacheMissCount=" + this.planCacheMissCount
 				+ ']';
 	}
 
 	void incrementCacheHitCount() {
-		cacheHitCount.getAndIncrement();
+		cacheHitCount.increment();
 	}
 
 	void incrementCacheMissCount() {
-		cacheMissCount.getAndIncrement();
+		cacheMissCount.increment();
 	}
 
 	void incrementCachePutCount() {
-		cachePutCount.getAndIncrement();
+		cachePutCount.increment();
+	}
+
+	void incrementPlanCacheHitCount() {
+		planCacheHitCount.increment();
+	}
+
+	void incrementPlanCacheMissCount() {
+		planCacheMissCount.increment();
 	}
 }
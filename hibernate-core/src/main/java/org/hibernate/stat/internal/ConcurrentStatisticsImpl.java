@@ -19,6 +19,7 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.service.Service;
+import org.hibernate.service.spi.Manageable;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.internal.CoreLogging.messageLogger;
@@ -29,7 +30,7 @@ import static org.hibernate.internal.CoreLogging.messageLogger;
  * @author Alex Snaps
  */
 @SuppressWarnings({ "unchecked" })
-public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service {
+public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service, Manageable, StatisticsMXBean {
 	private static final CoreMessageLogger LOG = messageLogger( ConcurrentStatisticsImpl.class );
 
 	private SessionFactoryImplementor sessionFactory;
@@ -72,11 +73,23 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 	private AtomicLong queryCacheHitCount = new AtomicLong();
 	private AtomicLong queryCacheMissCount = new AtomicLong();
 	private AtomicLong queryCachePutCount = new AtomicLong();
+	private AtomicLong queryPlanCacheHitCount = new AtomicLong();
+	private AtomicLong queryPlanCacheMissCount = new AtomicLong();
 
 	private AtomicLong updateTimestampsCacheHitCount = new AtomicLong();
 	private AtomicLong updateTimestampsCacheMissCount = new AtomicLong();
 	private AtomicLong updateTimestampsCachePutCount = new AtomicLong();
 
+	private AtomicLong preparedStatementCacheHitCount = new AtomicLong();
+	private AtomicLong preparedStatementCacheMissCount = new AtomicLong();
+
+	private AtomicLong nPlusOneSelectCount = new AtomicLong();
+
+	private AtomicLong insertOrderingCount = new AtomicLong();
+	private AtomicLong insertOrderingTime = new AtomicLong();
+
+	private AtomicLong entityLoaderCreationCount = new AtomicLong();
+
 	private AtomicLong committedTransactionCount = new AtomicLong();
 	private AtomicLong transactionCount = new AtomicLong();
 
@@ -87,6 +100,7 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 	private final ConcurrentMap<String,ConcurrentCollectionStatisticsImpl> collectionStatistics = new ConcurrentHashMap();
 	private final ConcurrentMap<String,ConcurrentSecondLevelCacheStatisticsImpl> secondLevelCacheStatistics = new ConcurrentHashMap<>();
 	private final ConcurrentMap<String,ConcurrentQueryStatisticsImpl> queryStatistics = new ConcurrentHashMap();
+	private final ConcurrentMap<String,ConcurrentQueryStatisticsImpl> loaderQueryStatistics = new ConcurrentHashMap<>();
 
 	@SuppressWarnings({ "UnusedDeclaration" })
 	public ConcurrentStatisticsImpl() {
@@ -139,11 +153,23 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		queryExecutionMaxTimeQueryString = null;
 		queryCacheMissCount.set( 0 );
 		queryCachePutCount.set( 0 );
+		queryPlanCacheHitCount.set( 0 );
+		queryPlanCacheMissCount.set( 0 );
 
 		updateTimestampsCacheMissCount.set( 0 );
 		updateTimestampsCacheHitCount.set( 0 );
 		updateTimestampsCachePutCount.set( 0 );
 
+		preparedStatementCacheHitCount.set( 0 );
+		preparedStatementCacheMissCount.set( 0 );
+
+		nPlusOneSelectCount.set( 0 );
+
+		insertOrderingCount.set( 0 );
+		insertOrderingTime.set( 0 );
+
+		entityLoaderCreationCount.set( 0 );
+
 		transactionCount.set( 0 );
 		committedTransactionCount.set( 0 );
 
@@ -153,6 +179,7 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		entityStatistics.clear();
 		collectionStatistics.clear();
 		queryStatistics.clear();
+		loaderQueryStatistics.clear();
 		naturalIdCacheStatistics.clear();
 
 		startTime = System.currentTimeMillis();
@@ -184,6 +211,12 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void entityNPlusOneSelect(String entityName) {
+		nPlusOneSelectCount.getAndIncrement();
+		getEntityStatistics( entityName ).incrementNPlusOneSelectCount();
+	}
+
 	/**
 	 * find entity statistics per name
 	 *
@@ -250,6 +283,12 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void collectionNPlusOneSelect(String role) {
+		nPlusOneSelectCount.getAndIncrement();
+		getCollectionStatistics( role ).incrementNPlusOneSelectCount();
+	}
+
 	public void updateCollection(String role) {
 		collectionUpdateCount.getAndIncrement();
 		getCollectionStatistics( role ).incrementUpdateCount();
@@ -408,6 +447,30 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 			qs.executed( rows, time );
 		}
 	}
+
+	@Override
+	public void loaderQueryExecuted(String sql, int rows, long time) {
+		if ( sql != null ) {
+			getLoaderQueryStatistics( sql ).executed( rows, time );
+		}
+	}
+
+	@Override
+	public void queryPlanCacheHit(String query) {
+		queryPlanCacheHitCount.getAndIncrement();
+		if ( query != null ) {
+			getQueryStatistics( query ).incrementPlanCacheHitCount();
+		}
+	}
+
+	@Override
+	public void queryPlanCacheMiss(String query) {
+		queryPlanCacheMissCount.getAndIncrement();
+		if ( query != null ) {
+			getQueryStatistics( query ).incrementPlanCacheMissCount();
+		}
+	}
+
 	@Override
 	public void queryCacheHit(String hql, String regionName) {
 		queryCacheHitCount.getAndIncrement();
@@ -478,6 +541,22 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		return qs;
 	}
 
+	/**
+	 * Query statistics from SQL generated to load entities or collections
+	 *
+	 * @param sql The SQL query
+	 *
+	 * @return QueryStatistics
+	 */
+	@Override
+	public ConcurrentQueryStatisticsImpl getLoaderQueryStatistics(String sql) {
+		ConcurrentQueryStatisticsImpl qs = loaderQueryStatistics.get( sql );
+		if ( qs == null ) {
+			qs = loaderQueryStatistics.computeIfAbsent( sql, ConcurrentQueryStatisticsImpl::new );
+		}
+		return qs;
+	}
+
 	/**
 	 * @return entity deletion count
 	 */
@@ -534,6 +613,14 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		return queryCachePutCount.get();
 	}
 	@Override
+	public long getQueryPlanCacheHitCount() {
+		return queryPlanCacheHitCount.get();
+	}
+	@Override
+	public long getQueryPlanCacheMissCount() {
+		return queryPlanCacheMissCount.get();
+	}
+	@Override
 	public long getUpdateTimestampsCacheHitCount() {
 		return updateTimestampsCacheHitCount.get();
 	}
@@ -758,6 +845,14 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		return ArrayHelper.toStringArray( queryStatistics.keySet() );
 	}
 
+	/**
+	 * Get all executed SQL queries generated to load entities or collections
+	 */
+	@Override
+	public String[] getLoaderQueries() {
+		return ArrayHelper.toStringArray( loaderQueryStatistics.keySet() );
+	}
+
 	/**
 	 * Get the names of all entities
 	 */
@@ -824,6 +919,47 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		return closeStatementCount.get();
 	}
 	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.getAndIncrement();
+	}
+	@Override
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount.getAndIncrement();
+	}
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.get();
+	}
+	@Override
+	public long getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount.get();
+	}
+	@Override
+	public long getNPlusOneSelectCount() {
+		return nPlusOneSelectCount.get();
+	}
+	@Override
+	public void insertsOrdered(long time) {
+		insertOrderingCount.getAndIncrement();
+		insertOrderingTime.addAndGet( time );
+	}
+	@Override
+	public long getInsertOrderingCount() {
+		return insertOrderingCount.get();
+	}
+	@Override
+	public long getInsertOrderingTime() {
+		return insertOrderingTime.get();
+	}
+	@Override
+	public void entityLoaderCreated(String entityName) {
+		entityLoaderCreationCount.getAndIncrement();
+	}
+	@Override
+	public long getEntityLoaderCreationCount() {
+		return entityLoaderCreationCount.get();
+	}
+	@Override
 	public long getPrepareStatementCount() {
 		return prepareStatementCount.get();
 	}
@@ -837,6 +973,73 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		return optimisticFailureCount.get();
 	}
 
+	@Override
+	public long getQueryExecutionCount(String query) {
+		final ConcurrentQueryStatisticsImpl qs = findQueryStatistics( query );
+		return qs == null ? 0 : qs.getExecutionCount();
+	}
+
+	@Override
+	public long getQueryExecutionTotalTime(String query) {
+		final ConcurrentQueryStatisticsImpl qs = findQueryStatistics( query );
+		return qs == null ? 0 : qs.getExecutionTotalTime();
+	}
+
+	@Override
+	public long getQueryExecutionMaxTime(String query) {
+		final ConcurrentQueryStatisticsImpl qs = findQueryStatistics( query );
+		return qs == null ? 0 : qs.getExecutionMaxTime();
+	}
+
+	@Override
+	public long getQueryExecutionTimePercentile(String query, double percentile) {
+		final ConcurrentQueryStatisticsImpl qs = findQueryStatistics( query );
+		return qs == null ? 0 : qs.getExecutionTimePercentile( percentile );
+	}
+
+	@Override
+	public long getQueryExecutionRowCountPercentile(String query, double percentile) {
+		final ConcurrentQueryStatisticsImpl qs = findQueryStatistics( query );
+		return qs == null ? 0 : qs.getExecutionRowCountPercentile( percentile );
+	}
+
+	@Override
+	public long getQueryPlanCacheHitCount(String query) {
+		final ConcurrentQueryStatisticsImpl qs = findQueryStatistics( query );
+		return qs == null ? 0 : qs.getPlanCacheHitCount();
+	}
+
+	@Override
+	public long getQueryPlanCacheMissCount(String query) {
+		final ConcurrentQueryStatisticsImpl qs = findQueryStatistics( query );
+		return qs == null ? 0 : qs.getPlanCacheMissCount();
+	}
+
+	/**
+	 * Unlike {@link #getQueryStatistics}, does not create statistics for unknown queries
+	 */
+	private ConcurrentQueryStatisticsImpl findQueryStatistics(String query) {
+		final ConcurrentQueryStatisticsImpl qs = queryStatistics.get( query );
+		return qs == null ? loaderQueryStatistics.get( query ) : qs;
+	}
+
+	@Override
+	public String getManagementDomain() {
+		// use Hibernate default domain
+		return null;
+	}
+
+	@Override
+	public String getManagementServiceType() {
+		// use Hibernate default scheme
+		return null;
+	}
+
+	@Override
+	public Object getManagementBean() {
+		return this;
+	}
+
 	@Override
 	public String toString() {
 		return new StringBuilder()
@@ -873,9 +1076,17 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 				.append( ",query cache puts=" ).append( queryCachePutCount )
 				.append( ",query cache hits=" ).append( queryCacheHitCount )
 				.append( ",query cache misses=" ).append( queryCacheMissCount )
+				.append( ",query plan cache hits=" ).append( queryPlanCacheHitCount )
+				.append( ",query plan cache misses=" ).append( queryPlanCacheMissCount )
 				.append(",update timestamps cache puts=").append(updateTimestampsCachePutCount)
 				.append(",update timestamps cache hits=").append(updateTimestampsCacheHitCount)
 				.append(",update timestamps cache misses=").append(updateTimestampsCacheMissCount)
+				.append( ",prepared statement cache hits=" ).append( preparedStatementCacheHitCount )
+				.append( ",prepared statement cache misses=" ).append( preparedStatementCacheMissCount )
+				.append( ",N+1 selects=" ).append( nPlusOneSelectCount )
+				.append( ",insert orderings=" ).append( insertOrderingCount )
+				.append( ",insert ordering time=" ).append( insertOrderingTime )
+				.append( ",entity loaders created=" ).append( entityLoaderCreationCount )
 				.append( ",max query time=" ).append( queryExecutionMaxTime )
 				.append( ']' )
 				.toString();
@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values, such as durations or row counts, in whatever unit they are
+ * recorded: the query statistics record execution times in milliseconds, the JDBC instrumentation in nanoseconds.
+ * Values are counted in logarithmic buckets, each power of two being split into {@value #SUB_BUCKETS} linear
+ * sub-buckets, so that recording never allocates and percentiles are accurate within 25%; values below
+ * {@value #SUB_BUCKETS} are counted exactly.
+ *
+ * @since 5.2.11
+ */
+public class LatencyHistogram implements Serializable {
+	private static final int SUB_BUCKET_BITS = 2;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray( 64 * SUB_BUCKETS );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	public void record(long value) {
+		if ( value < 0 ) {
+			value = 0;
+		}
+		buckets.incrementAndGet( bucketIndex( value ) );
+		count.increment();
+		sum.add( value );
+
+		long currentMax = max.get();
+		while ( value > currentMax && !max.compareAndSet( currentMax, value ) ) {
+			currentMax = max.get();
+		}
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getSum() {
+		return sum.sum();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	public long getMean() {
+		final long count = getCount();
+		return count == 0 ? 0 : getSum() / count;
+	}
+
+	/**
+	 * @param percentile The percentile, between 0 and 100
+	 *
+	 * @return The (upper bound of the bucket of the) value below which the given percentage of the recorded
+	 * values fall, or 0 if nothing was recorded
+	 */
+	public long getPercentile(double percentile) {
+		final long count = getCount();
+		if ( count == 0 ) {
+			return 0;
+		}
+		final long rank = Math.max( 1, (long) Math.ceil( count * Math.min( 100d, Math.max( 0d, percentile ) ) / 100d ) );
+		long seen = 0;
+		for ( int i = 0; i < buckets.length(); i++ ) {
+			seen += buckets.get( i );
+			if ( seen >= rank ) {
+				return Math.min( bucketUpperBound( i ), getMax() );
+			}
+		}
+		return getMax();
+	}
+
+	public void clear() {
+		for ( int i = 0; i < buckets.length(); i++ ) {
+			buckets.set( i, 0 );
+		}
+		count.reset();
+		sum.reset();
+		max.set( 0 );
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < SUB_BUCKETS ) {
+			return (int) value;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros( value );
+		final int subBucket = (int) ( value >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKETS - 1 );
+		return ( exponent - SUB_BUCKET_BITS + 1 ) * SUB_BUCKETS + subBucket;
+	}
+
+	static long bucketUpperBound(int index) {
+		if ( index < SUB_BUCKETS ) {
+			return index;
+		}
+		final int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		final long subBucket = index % SUB_BUCKETS;
+		final long width = 1L << ( exponent - SUB_BUCKET_BITS );
+		return ( ( SUB_BUCKETS + subBucket ) << ( exponent - SUB_BUCKET_BITS ) ) + width - 1;
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.hibernate.stat.spi.StatisticsReporter;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link StatisticsReporter} logging, at INFO level, the statistics of the queries which took the most time
+ * overall, loader queries included.
+ */
+public class LoggingStatisticsReporter implements StatisticsReporter {
+	private static final Logger LOG = CoreLogging.logger( LoggingStatisticsReporter.class );
+
+	private static final int MAX_QUERIES = 10;
+
+	@Override
+	public void report(Statistics statistics) {
+		if ( !LOG.isInfoEnabled() ) {
+			return;
+		}
+
+		final List<ReportedQuery> queries = new ArrayList<>();
+		for ( String query : statistics.getQueries() ) {
+			queries.add( new ReportedQuery( query, statistics.getQueryStatistics( query ) ) );
+		}
+		for ( String sql : statistics.getLoaderQueries() ) {
+			queries.add( new ReportedQuery( sql, statistics.getLoaderQueryStatistics( sql ) ) );
+		}
+		queries.sort( (q1, q2) -> Long.compare( q2.totalTime, q1.totalTime ) );
+
+		LOG.infof(
+				"Queries executed: %s, query plan cache hits: %s, query plan cache misses: %s",
+				statistics.getQueryExecutionCount(),
+				statistics.getQueryPlanCacheHitCount(),
+				statistics.getQueryPlanCacheMissCount()
+		);
+		for ( ReportedQuery query : queries.subList( 0, Math.min( MAX_QUERIES, queries.size() ) ) ) {
+			final QueryStatistics qs = query.statistics;
+			LOG.infof(
+					"%s ms in %s executions (p50: %s ms, p95: %s ms, p99: %s ms, max: %s ms; p95 rows: %s; plan cache hits: %s, misses: %s): %s",
+					qs.getExecutionTotalTime(),
+					qs.getExecutionCount(),
+					qs.getExecutionTimePercentile( 50 ),
+					qs.getExecutionTimePercentile( 95 ),
+					qs.getExecutionTimePercentile( 99 ),
+					qs.getExecutionMaxTime(),
+					qs.getExecutionRowCountPercentile( 95 ),
+					qs.getPlanCacheHitCount(),
+					qs.getPlanCacheMissCount(),
+					query.query
+			);
+		}
+	}
+
+	private static class ReportedQuery {
+		private final String query;
+		private final QueryStatistics statistics;
+		// the statistics keep changing while being sorted
+		private final long totalTime;
+
+		private ReportedQuery(String query, QueryStatistics statistics) {
+			this.query = query;
+			this.statistics = statistics;
+			this.totalTime = statistics.getExecutionTotalTime();
+		}
+	}
+}
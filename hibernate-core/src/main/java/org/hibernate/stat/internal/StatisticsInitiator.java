@@ -6,16 +6,24 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.jmx.spi.JmxService;
+import org.hibernate.service.spi.Manageable;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 import org.hibernate.stat.spi.StatisticsFactory;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.stat.spi.StatisticsReporter;
 
 import org.jboss.logging.Logger;
 
@@ -43,8 +51,30 @@ public class StatisticsInitiator implements SessionFactoryServiceInitiator<Stati
 			SessionFactoryImplementor sessionFactory,
 			SessionFactoryOptions sessionFactoryOptions,
 			ServiceRegistryImplementor registry) {
-		final Object configValue = registry.getService( ConfigurationService.class ).getSettings().get( STATS_BUILDER );
-		return initiateServiceInternal( sessionFactory, configValue, registry );
+		final Map settings = registry.getService( ConfigurationService.class ).getSettings();
+		final StatisticsImplementor statistics = initiateServiceInternal(
+				sessionFactory,
+				settings.get( STATS_BUILDER ),
+				registry
+		);
+
+		if ( statistics instanceof Manageable ) {
+			registry.getService( JmxService.class ).registerService(
+					(Manageable) statistics,
+					StatisticsImplementor.class
+			);
+		}
+
+		final StatisticsReporter reporter = registry.getService( StrategySelector.class ).resolveStrategy(
+				StatisticsReporter.class,
+				settings.get( AvailableSettings.STATISTICS_REPORTER )
+		);
+		if ( reporter != null ) {
+			final long interval = ConfigurationHelper.getLong( AvailableSettings.STATISTICS_REPORT_INTERVAL, settings, 60 );
+			sessionFactory.addObserver( new StatisticsReportingObserver( reporter, statistics, interval ) );
+			LOG.debugf( "Statistics reported by %s every %s seconds", reporter, interval );
+		}
+		return statistics;
 	}
 
 	private StatisticsImplementor initiateServiceInternal(
@@ -0,0 +1,37 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+/**
+ * The ConcurrentStatisticsImpl JMX management interface, focused on queries.  Queries are designated by their
+ * query string, as returned by {@link #getQueries()} and {@link #getLoaderQueries()}.  All times are in
+ * milliseconds, percentiles are given between 0 and 100.
+ */
+public interface StatisticsMXBean {
+	boolean isStatisticsEnabled();
+	void setStatisticsEnabled(boolean enabled);
+
+	long getQueryExecutionCount();
+	long getQueryExecutionMaxTime();
+	String getQueryExecutionMaxTimeQueryString();
+	long getQueryCacheHitCount();
+	long getQueryCacheMissCount();
+	long getQueryPlanCacheHitCount();
+	long getQueryPlanCacheMissCount();
+
+	String[] getQueries();
+	String[] getLoaderQueries();
+	long getQueryExecutionCount(String query);
+	long getQueryExecutionTotalTime(String query);
+	long getQueryExecutionMaxTime(String query);
+	long getQueryExecutionTimePercentile(String query, double percentile);
+	long getQueryExecutionRowCountPercentile(String query, double percentile);
+	long getQueryPlanCacheHitCount(String query);
+	long getQueryPlanCacheMissCount(String query);
+
+	void clear();
+}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.stat.Statistics;
+import org.hibernate.stat.spi.StatisticsReporter;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Hands the statistics to a {@link StatisticsReporter} at a fixed interval, and one last time when the
+ * SessionFactory is closing.
+ */
+public class StatisticsReportingObserver implements SessionFactoryObserver {
+	private static final Logger LOG = CoreLogging.logger( StatisticsReportingObserver.class );
+
+	private final StatisticsReporter reporter;
+	private final Statistics statistics;
+	private final ScheduledExecutorService executorService;
+
+	/**
+	 * Constructs a StatisticsReportingObserver, starting the periodic reports if an interval is given
+	 *
+	 * @param reporter The reporter
+	 * @param statistics The statistics to report
+	 * @param intervalSeconds The interval between reports, in seconds, or 0 to only report on close
+	 */
+	public StatisticsReportingObserver(StatisticsReporter reporter, Statistics statistics, long intervalSeconds) {
+		this.reporter = reporter;
+		this.statistics = statistics;
+		if ( intervalSeconds > 0 ) {
+			executorService = Executors.newSingleThreadScheduledExecutor(
+					runnable -> {
+						final Thread thread = new Thread( runnable, "hibernate-statistics-reporter" );
+						thread.setDaemon( true );
+						return thread;
+					}
+			);
+			executorService.scheduleWithFixedDelay( this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS );
+		}
+		else {
+			executorService = null;
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		if ( executorService != null ) {
+			executorService.shutdownNow();
+		}
+		report();
+	}
+
+	private void report() {
+		try {
+			reporter.report( statistics );
+		}
+		catch (RuntimeException e) {
+			// a failure must not cancel the next reports
+			LOG.warnf( e, "Unable to report statistics using %s", reporter );
+		}
+	}
+}
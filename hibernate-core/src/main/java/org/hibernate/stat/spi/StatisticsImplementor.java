@@ -46,6 +46,38 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback about a prepared statement being served from the PreparedStatement cache.
+	 */
+	default void preparedStatementCacheHit() {
+	}
+
+	/**
+	 * Callback about a cacheable prepared statement not being found in the PreparedStatement cache.
+	 */
+	default void preparedStatementCacheMiss() {
+	}
+
+	/**
+	 * Callback about the insert actions being ordered during a flush.
+	 *
+	 * @param time The time taken to order the insert actions, in nanoseconds
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ORDER_INSERTS
+	 */
+	default void insertsOrdered(long time) {
+	}
+
+	/**
+	 * Callback about an entity persister building one of its static loaders on first use.
+	 *
+	 * @param entityName The name of the entity whose loader was built
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#LAZY_PERSISTER_LOADERS
+	 */
+	default void entityLoaderCreated(String entityName) {
+	}
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -69,6 +101,14 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchEntity(String entityName);
 
+	/**
+	 * Callback about an N+1 select being detected for an entity.
+	 *
+	 * @param entityName The name of the entity repeatedly fetched.
+	 */
+	default void entityNPlusOneSelect(String entityName) {
+	}
+
 	/**
 	 * Callback about an entity being updated.
 	 *
@@ -113,6 +153,14 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchCollection(String role);
 
+	/**
+	 * Callback about an N+1 select being detected for a collection.
+	 *
+	 * @param role The role of the collection repeatedly fetched.
+	 */
+	default void collectionNPlusOneSelect(String role) {
+	}
+
 	/**
 	 * Callback indicating a collection was updated.
 	 *
@@ -217,6 +265,31 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryExecuted(String hql, int rows, long time);
 
+	/**
+	 * Callback indicating execution of a sql query generated to load entities or collections
+	 *
+	 * @param sql The query
+	 * @param rows Number of rows returned
+	 * @param time execution time
+	 */
+	default void loaderQueryExecuted(String sql, int rows, long time) {
+	}
+
+	/**
+	 * Callback indicating the compiled plan of a query was found in the query plan cache
+	 *
+	 * @param query The query
+	 */
+	default void queryPlanCacheHit(String query) {
+	}
+
+	/**
+	 * Callback indicating a query was compiled because its plan was not in the query plan cache
+	 *
+	 * @param query The query
+	 */
+	default void queryPlanCacheMiss(String query) {
+	}
 
 	/**
 	 * Callback indicating a hit to the timestamp cache
@@ -0,0 +1,27 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.spi;
+
+import org.hibernate.stat.Statistics;
+
+/**
+ * Periodically receives the {@link Statistics} of a SessionFactory, for example to publish them to a monitoring
+ * system.  Reports are made from a dedicated thread, while the statistics keep being updated.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATISTICS_REPORTER
+ * @see org.hibernate.cfg.AvailableSettings#STATISTICS_REPORT_INTERVAL
+ *
+ * @since 5.2.11
+ */
+public interface StatisticsReporter {
+	/**
+	 * Report the current statistics.
+	 *
+	 * @param statistics The statistics of the SessionFactory
+	 */
+	void report(Statistics statistics);
+}
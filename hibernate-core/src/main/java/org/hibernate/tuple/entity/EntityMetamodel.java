@@ -14,6 +14,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.EntityMode;
 import org.hibernate.HibernateException;
@@ -23,6 +25,7 @@ import org.hibernate.cfg.NotYetImplementedException;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.CascadeStyles;
+import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.ValueInclusion;
 import org.hibernate.internal.CoreMessageLogger;
@@ -104,6 +107,7 @@ public class EntityMetamodel implements Serializable {
 
 	private boolean lazy; //not final because proxy factory creation can fail
 	private final boolean hasCascades;
+	private final ConcurrentMap<CascadingAction, int[]> cascadingPropertyIndexes = new ConcurrentHashMap<>();
 	private final boolean mutable;
 	private final boolean isAbstract;
 	private final boolean selectBeforeUpdate;
@@ -952,6 +956,37 @@ public class EntityMetamodel implements Serializable {
 		return hasCascades;
 	}
 
+	/**
+	 * The cascade plan of this entity for the given action: the indexes of the properties which a cascade of the
+	 * action has to visit, either to cascade to them, to check them when not cascading, or to delete one-to-one
+	 * orphans.  Computed on first use for each action.
+	 *
+	 * @param action The cascading action
+	 *
+	 * @return The property indexes, empty if the action has nothing to do for this entity
+	 */
+	public int[] getCascadingPropertyIndexes(CascadingAction action) {
+		return cascadingPropertyIndexes.computeIfAbsent( action, this::determineCascadingPropertyIndexes );
+	}
+
+	private int[] determineCascadingPropertyIndexes(CascadingAction action) {
+		if ( !hasCascades && !action.requiresNoCascadeChecking() ) {
+			return ArrayHelper.EMPTY_INT_ARRAY;
+		}
+		final List<Integer> indexes = new ArrayList<>();
+		for ( int i = 0; i < propertySpan; i++ ) {
+			final CascadeStyle style = cascadeStyles[i];
+			final boolean logicalOneToOneOrphanRemoval = action.deleteOrphans()
+					&& style.hasOrphanDelete()
+					&& propertyTypes[i].isEntityType()
+					&& ( (EntityType) propertyTypes[i] ).isLogicalOneToOne();
+			if ( style.doCascade( action ) || action.requiresNoCascadeChecking() || logicalOneToOneOrphanRemoval ) {
+				indexes.add( i );
+			}
+		}
+		return ArrayHelper.toIntArray( indexes );
+	}
+
 	public boolean isMutable() {
 		return mutable;
 	}
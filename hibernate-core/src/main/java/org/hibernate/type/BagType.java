@@ -11,6 +11,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 import org.hibernate.HibernateException;
+import org.hibernate.collection.internal.CompactNumericList;
+import org.hibernate.collection.internal.CompactNumericList.NumericKind;
 import org.hibernate.collection.internal.PersistentBag;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -44,4 +46,12 @@ public class BagType extends CollectionType {
 		return anticipatedSize <= 0 ? new ArrayList() : new ArrayList( anticipatedSize + 1 );
 	}
 
+	@Override
+	public Object instantiate(CollectionPersister persister, int anticipatedSize) {
+		final NumericKind numericKind = NumericKind.fromType( persister.getElementType() );
+		return numericKind == null
+				? instantiate( anticipatedSize )
+				: new CompactNumericList( numericKind, anticipatedSize < 0 ? -1 : anticipatedSize + 1 );
+	}
+
 }
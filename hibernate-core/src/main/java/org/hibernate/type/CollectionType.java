@@ -26,6 +26,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.collection.internal.AbstractPersistentCollection;
+import org.hibernate.collection.internal.CompactNumericSet;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.jdbc.Size;
 import org.hibernate.engine.spi.CollectionEntry;
@@ -577,7 +578,14 @@ public abstract class CollectionType extends AbstractType implements Association
 		Serializable resultSnapshot = result.getStoredSnapshot();
 		Serializable targetSnapshot;
 
-		if ( originalSnapshot instanceof List ) {
+		if ( originalSnapshot instanceof CompactNumericSet ) {
+			// numbers are immutable, the elements do not need to be replaced
+			targetSnapshot = new CompactNumericSet(
+					( (CompactNumericSet) originalSnapshot ).getKind(),
+					(CompactNumericSet) originalSnapshot
+			);
+		}
+		else if ( originalSnapshot instanceof List ) {
 			targetSnapshot = new ArrayList(
 					( (List) originalSnapshot ).size() );
 			for ( Object obj : (List) originalSnapshot ) {
@@ -661,6 +669,21 @@ public abstract class CollectionType extends AbstractType implements Association
 	 */
 	public abstract Object instantiate(int anticipatedSize);
 
+	/**
+	 * Instantiate an empty instance of the "underlying" collection (not a wrapper)
+	 * of the given persister, with the given anticipated size.  By default the
+	 * same as {@link #instantiate(int)}, collection types may choose a more
+	 * compact storage for the element type of the persister.
+	 *
+	 * @param persister The persister of the collection
+	 * @param anticipatedSize The anticipated size of the instaniated collection
+	 * after we are done populating it.
+	 * @return A newly instantiated collection to be wrapped.
+	 */
+	public Object instantiate(CollectionPersister persister, int anticipatedSize) {
+		return instantiate( anticipatedSize );
+	}
+
 	@Override
 	public Object replace(
 			final Object original,
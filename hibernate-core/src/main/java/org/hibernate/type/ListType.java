@@ -10,6 +10,8 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.collection.internal.CompactNumericList;
+import org.hibernate.collection.internal.CompactNumericList.NumericKind;
 import org.hibernate.collection.internal.PersistentList;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -41,6 +43,14 @@ public class ListType extends CollectionType {
 		return anticipatedSize <= 0 ? new ArrayList() : new ArrayList( anticipatedSize + 1 );
 	}
 
+	@Override
+	public Object instantiate(CollectionPersister persister, int anticipatedSize) {
+		final NumericKind numericKind = NumericKind.fromType( persister.getElementType() );
+		return numericKind == null
+				? instantiate( anticipatedSize )
+				: new CompactNumericList( numericKind, anticipatedSize < 0 ? -1 : anticipatedSize + 1 );
+	}
+
 	@Override
 	public Object indexOf(Object collection, Object element) {
 		List list = (List) collection;
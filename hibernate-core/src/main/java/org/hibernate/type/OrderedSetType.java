@@ -7,6 +7,8 @@
 package org.hibernate.type;
 import java.util.LinkedHashSet;
 
+import org.hibernate.persister.collection.CollectionPersister;
+
 /**
  * A specialization of the set type, with (resultset-based) ordering.
  */
@@ -23,4 +25,10 @@ public class OrderedSetType extends SetType {
 				: new LinkedHashSet();
 	}
 
+	@Override
+	public Object instantiate(CollectionPersister persister, int anticipatedSize) {
+		// the elements keep the order they were loaded in
+		return instantiate( anticipatedSize );
+	}
+
 }
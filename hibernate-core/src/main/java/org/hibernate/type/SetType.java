@@ -9,6 +9,8 @@ package org.hibernate.type;
 import java.io.Serializable;
 import java.util.HashSet;
 
+import org.hibernate.collection.internal.CompactNumericList.NumericKind;
+import org.hibernate.collection.internal.CompactNumericSet;
 import org.hibernate.collection.internal.PersistentSet;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -41,5 +43,13 @@ public class SetType extends CollectionType {
 				? new HashSet()
 				: new HashSet( anticipatedSize + (int)( anticipatedSize * .75f ), .75f );
 	}
+
+	@Override
+	public Object instantiate(CollectionPersister persister, int anticipatedSize) {
+		final NumericKind numericKind = NumericKind.fromType( persister.getElementType() );
+		return numericKind == null
+				? instantiate( anticipatedSize )
+				: new CompactNumericSet( numericKind, anticipatedSize );
+	}
 	
 }
@@ -39,6 +39,11 @@ public class SortedSetType extends SetType {
 		return new TreeSet(comparator);
 	}
 
+	@Override
+	public Object instantiate(CollectionPersister persister, int anticipatedSize) {
+		return instantiate( anticipatedSize );
+	}
+
 	@Override
 	public PersistentCollection wrap(SharedSessionContractImplementor session, Object collection) {
 		return new PersistentSortedSet( session, (java.util.SortedSet) collection );
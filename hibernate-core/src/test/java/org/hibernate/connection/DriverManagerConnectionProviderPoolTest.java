@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.connection;
+
+import java.sql.Connection;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.internal.PooledConnections;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the pool behind {@link DriverManagerConnectionProviderImpl}.
+ */
+public class DriverManagerConnectionProviderPoolTest extends BaseUnitTestCase {
+	private DriverManagerConnectionProviderImpl connectionProvider;
+
+	@Before
+	public void setUp() {
+		final Properties properties = ConnectionProviderBuilder.getConnectionProviderProperties( "pool" );
+		properties.put( AvailableSettings.POOL_SIZE, "2" );
+		properties.put( DriverManagerConnectionProviderImpl.MAX_WAIT, "200" );
+		properties.put( DriverManagerConnectionProviderImpl.LEAK_DETECTION_THRESHOLD, "1" );
+
+		connectionProvider = new DriverManagerConnectionProviderImpl();
+		connectionProvider.configure( properties );
+	}
+
+	@After
+	public void tearDown() {
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testConnectionsAreReused() throws Exception {
+		final Connection connection = connectionProvider.getConnection();
+		connectionProvider.closeConnection( connection );
+		assertSame( connection, connectionProvider.getConnection() );
+		connectionProvider.closeConnection( connection );
+
+		final PooledConnections pool = connectionProvider.getPool();
+		assertEquals( 2, pool.getBorrowCount() );
+		assertEquals( 1, pool.getTotalConnections() );
+		assertEquals( 1, pool.getIdleConnections() );
+		assertEquals( 0, pool.getActiveConnections() );
+	}
+
+	@Test
+	public void testBorrowTimesOutWhenExhausted() throws Exception {
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+		try {
+			connectionProvider.getConnection();
+			fail( "Expecting the pool to be exhausted" );
+		}
+		catch (HibernateException expected) {
+		}
+		finally {
+			connectionProvider.closeConnection( first );
+			connectionProvider.closeConnection( second );
+		}
+
+		final PooledConnections pool = connectionProvider.getPool();
+		assertEquals( 1, pool.getTimeoutCount() );
+		assertEquals( 2, pool.getTotalConnections() );
+		assertTrue( pool.getMaxWaitTime() >= 200 );
+	}
+
+	@Test
+	public void testReturnedConnectionIsHandedOffToWaitingThread() throws Exception {
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+
+		final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> {
+			try {
+				return connectionProvider.getConnection();
+			}
+			catch (Exception e) {
+				throw new RuntimeException( e );
+			}
+		} );
+		connectionProvider.closeConnection( first );
+
+		final Connection handedOff = waiting.get( 1, TimeUnit.SECONDS );
+		assertSame( first, handedOff );
+		connectionProvider.closeConnection( handedOff );
+		connectionProvider.closeConnection( second );
+		assertEquals( 0, connectionProvider.getPool().getTimeoutCount() );
+	}
+
+	@Test
+	public void testLeakDetection() throws Exception {
+		final Connection connection = connectionProvider.getConnection();
+		Thread.sleep( 10 );
+		connectionProvider.getPool().validate();
+		connectionProvider.getPool().validate();
+		connectionProvider.closeConnection( connection );
+
+		assertEquals( 1, connectionProvider.getPool().getLeakCount() );
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.engine.jdbc.connections.internal.ReadReplicaConnectionProviderImpl;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.NonContextualJdbcConnectionAccess;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ReadReplicaConnectionProviderImpl}.
+ */
+public class ReadReplicaConnectionProviderTest extends BaseUnitTestCase {
+	private static final String PRIMARY_URL = String.format( ConnectionProviderBuilder.URL, "primary" );
+	private static final String REPLICA_URL = String.format( ConnectionProviderBuilder.URL, "replica" );
+
+	private ReadReplicaConnectionProviderImpl connectionProvider;
+
+	@After
+	public void tearDown() {
+		if ( connectionProvider != null ) {
+			connectionProvider.stop();
+		}
+	}
+
+	private void configure(String lagQuery) {
+		configure( lagQuery, "30" );
+	}
+
+	private void configure(String lagQuery, String maxLag) {
+		final Properties properties = ConnectionProviderBuilder.getConnectionProviderProperties( "primary" );
+		properties.put( ReadReplicaConnectionProviderImpl.REPLICA_URLS, REPLICA_URL );
+		properties.put( ReadReplicaConnectionProviderImpl.HEALTH_CHECK_INTERVAL, "0" );
+		properties.put( ReadReplicaConnectionProviderImpl.MAX_LAG, maxLag );
+		if ( lagQuery != null ) {
+			properties.put( ReadReplicaConnectionProviderImpl.LAG_QUERY, lagQuery );
+		}
+		connectionProvider = new ReadReplicaConnectionProviderImpl();
+		connectionProvider.configure( properties );
+	}
+
+	@Test
+	public void testReadOnlyConnectionsUseReplica() throws Exception {
+		configure( "select 0" );
+
+		assertEquals( PRIMARY_URL, url( connectionProvider.getConnection() ) );
+		assertEquals( REPLICA_URL, url( connectionProvider.getReadOnlyConnection() ) );
+
+		connectionProvider.checkReplicas();
+		assertTrue( connectionProvider.isReplicaAvailable( REPLICA_URL ) );
+	}
+
+	@Test
+	public void testLaggingReplicaFallsBackToPrimary() throws Exception {
+		configure( "select 60" );
+
+		connectionProvider.checkReplicas();
+		assertFalse( connectionProvider.isReplicaAvailable( REPLICA_URL ) );
+		assertEquals( PRIMARY_URL, url( connectionProvider.getReadOnlyConnection() ) );
+	}
+
+	@Test
+	public void testFractionalMaxLag() throws Exception {
+		configure( "select 0.25", "0.5" );
+		connectionProvider.checkReplicas();
+		assertTrue( connectionProvider.isReplicaAvailable( REPLICA_URL ) );
+		connectionProvider.stop();
+
+		configure( "select 0.75", "0.5" );
+		connectionProvider.checkReplicas();
+		assertFalse( connectionProvider.isReplicaAvailable( REPLICA_URL ) );
+	}
+
+	@Test
+	public void testReadOnlySessionsAreRouted() throws Exception {
+		configure( null );
+
+		final SessionImplementor session = Mockito.mock( SessionImplementor.class );
+		final NonContextualJdbcConnectionAccess connectionAccess = new NonContextualJdbcConnectionAccess(
+				new BaseSessionEventListener(),
+				connectionProvider,
+				session
+		);
+
+		when( session.isDefaultReadOnly() ).thenReturn( true );
+		assertEquals( REPLICA_URL, url( connectionAccess.obtainConnection() ) );
+
+		when( session.isDefaultReadOnly() ).thenReturn( false );
+		assertEquals( PRIMARY_URL, url( connectionAccess.obtainConnection() ) );
+	}
+
+	@Test
+	public void testReadOnlyQueriesAreRouted() throws Exception {
+		configure( null );
+
+		final SessionImplementor session = Mockito.mock( SessionImplementor.class );
+		final NonContextualJdbcConnectionAccess connectionAccess = new NonContextualJdbcConnectionAccess(
+				new BaseSessionEventListener(),
+				connectionProvider,
+				session
+		);
+
+		connectionAccess.setReadOnlyQuery( true );
+		assertEquals( REPLICA_URL, url( connectionAccess.obtainConnection() ) );
+
+		connectionAccess.setReadOnlyQuery( false );
+		assertEquals( PRIMARY_URL, url( connectionAccess.obtainConnection() ) );
+	}
+
+	@Test
+	public void testWritingSessionsUsePrimary() throws Exception {
+		configure( null );
+
+		final SessionImplementor session = Mockito.mock( SessionImplementor.class );
+		when( session.isDefaultReadOnly() ).thenReturn( true );
+		final NonContextualJdbcConnectionAccess connectionAccess = new NonContextualJdbcConnectionAccess(
+				new BaseSessionEventListener(),
+				connectionProvider,
+				session
+		);
+
+		final Connection connection = connectionAccess.obtainConnection();
+		assertTrue( connectionAccess.isHoldingReadOnlyConnection() );
+		connectionAccess.releaseConnection( connection );
+		assertFalse( connectionAccess.isHoldingReadOnlyConnection() );
+
+		connectionAccess.requirePrimaryConnection();
+		assertEquals( PRIMARY_URL, url( connectionAccess.obtainConnection() ) );
+		assertFalse( connectionAccess.isHoldingReadOnlyConnection() );
+	}
+
+	private String url(Connection connection) throws SQLException {
+		try {
+			return connection.getMetaData().getURL();
+		}
+		finally {
+			connectionProvider.closeConnection( connection );
+		}
+	}
+}
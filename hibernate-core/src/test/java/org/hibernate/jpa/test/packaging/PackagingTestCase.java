@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.hibernate.boot.archive.scan.spi.ScanIndex;
 import org.hibernate.jpa.test.Cat;
 import org.hibernate.jpa.test.Distributor;
 import org.hibernate.jpa.test.Item;
@@ -47,6 +48,7 @@ import org.junit.Before;
 import org.jboss.shrinkwrap.api.ArchivePath;
 import org.jboss.shrinkwrap.api.ArchivePaths;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
 import org.jboss.shrinkwrap.api.exporter.ExplodedExporter;
 import org.jboss.shrinkwrap.api.exporter.ZipExporter;
 import org.jboss.shrinkwrap.api.spec.JavaArchive;
@@ -139,6 +141,10 @@ public abstract class PackagingTestCase extends BaseCoreFunctionalTestCase {
 	}
 
 	protected File buildDefaultPar() {
+		return buildDefaultPar( null );
+	}
+
+	protected File buildDefaultPar(byte[] scanIndex) {
 		String fileName = "defaultpar.par";
 		JavaArchive archive = ShrinkWrap.create(  JavaArchive.class, fileName );
 		archive.addClasses(
@@ -162,6 +168,10 @@ public abstract class PackagingTestCase extends BaseCoreFunctionalTestCase {
 		path = ArchivePaths.create( "org/hibernate/jpa/test/pack/defaultpar/package-info.class" );
 		archive.addAsResource( "org/hibernate/jpa/test/pack/defaultpar/package-info.class", path );
 
+		if ( scanIndex != null ) {
+			archive.add( new ByteArrayAsset( scanIndex ), ArchivePaths.create( ScanIndex.INDEX_RESOURCE_NAME ) );
+		}
+
 
 		File testPackage = new File( packageTargetDir, fileName );
 		archive.as( ZipExporter.class ).exportTo ( testPackage, true );
@@ -6,8 +6,11 @@
  */
 package org.hibernate.jpa.test.packaging;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.HashMap;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Persistence;
@@ -18,6 +21,7 @@ import org.hibernate.boot.archive.scan.internal.StandardScanner;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
 import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanIndex;
 import org.hibernate.boot.archive.scan.spi.ScanOptions;
 import org.hibernate.boot.archive.scan.spi.ScanResult;
 import org.hibernate.boot.archive.scan.spi.Scanner;
@@ -26,7 +30,14 @@ import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
 import org.hibernate.jpa.boot.internal.StandardJpaScanEnvironmentImpl;
 import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
 import org.hibernate.jpa.test.pack.defaultpar.ApplicationServer;
+import org.hibernate.jpa.test.pack.defaultpar.IncrementListener;
+import org.hibernate.jpa.test.pack.defaultpar.Lighter;
+import org.hibernate.jpa.test.pack.defaultpar.Money;
+import org.hibernate.jpa.test.pack.defaultpar.Mouse;
+import org.hibernate.jpa.test.pack.defaultpar.OtherIncrementListener;
 import org.hibernate.jpa.test.pack.defaultpar.Version;
+import org.hibernate.jpa.test.pack.explodedpar.Carpet;
+import org.hibernate.jpa.test.pack.explodedpar.Elephant;
 
 import org.junit.Test;
 
@@ -69,6 +80,112 @@ public class ScannerTest extends PackagingTestCase {
 		}
 	}
 
+	@Test
+	public void testIndexedScanner() throws Exception {
+		final ScanIndex scanIndex = new ScanIndex();
+		indexClass( scanIndex, ApplicationServer.class, ClassDescriptor.Categorization.MODEL );
+		indexClass( scanIndex, Version.class, ClassDescriptor.Categorization.MODEL );
+		// categorized differently than scanning would, to tell that the index was used
+		indexClass( scanIndex, Money.class, ClassDescriptor.Categorization.OTHER );
+		for ( Class otherClass : new Class[] { Lighter.class, Mouse.class, IncrementListener.class, OtherIncrementListener.class } ) {
+			indexClass( scanIndex, otherClass, ClassDescriptor.Categorization.OTHER );
+		}
+
+		ScanResult scanResult = scanIndexedPar( scanIndex );
+
+		assertEquals( 2, scanResult.getLocatedClasses().size() );
+		assertClassesContained( scanResult, ApplicationServer.class );
+		assertClassesContained( scanResult, Version.class );
+		assertEquals( 2, scanResult.getLocatedMappingFiles().size() );
+	}
+
+	@Test
+	public void testStaleIndexEntriesAreScanned() throws Exception {
+		final ScanIndex scanIndex = new ScanIndex();
+		// a class file changed since the index was written
+		scanIndex.addClass( Money.class.getName(), ClassDescriptor.Categorization.OTHER, 0L );
+		indexClass( scanIndex, ApplicationServer.class, ClassDescriptor.Categorization.MODEL );
+		// Version is missing from the index, e.g. added after the index was written
+
+		ScanResult scanResult = scanIndexedPar( scanIndex );
+
+		assertEquals( 3, scanResult.getLocatedClasses().size() );
+		assertClassesContained( scanResult, Money.class );
+		assertClassesContained( scanResult, Version.class );
+	}
+
+	@Test
+	public void testIndexedExplodedScannerComparesFileMetadata() throws Exception {
+		File explodedPar = buildExplodedPar();
+		final File carpetFile = new File( explodedPar, Carpet.class.getName().replace( '.', '/' ) + ".class" );
+		final File elephantFile = new File( explodedPar, Elephant.class.getName().replace( '.', '/' ) + ".class" );
+
+		final ScanIndex scanIndex = new ScanIndex();
+		// modified since the index was written: read and, as the checksum differs, parsed
+		scanIndex.addClass(
+				Carpet.class.getName(),
+				ClassDescriptor.Categorization.OTHER,
+				0L,
+				carpetFile.length(),
+				carpetFile.lastModified() - 10000L
+		);
+		// same size and modification time: categorized through the index without comparing the checksum
+		scanIndex.addClass(
+				Elephant.class.getName(),
+				ClassDescriptor.Categorization.MODEL,
+				0L,
+				elephantFile.length(),
+				elephantFile.lastModified()
+		);
+		try (OutputStream stream = new FileOutputStream( new File( explodedPar, ScanIndex.INDEX_RESOURCE_NAME ) )) {
+			scanIndex.write( stream );
+		}
+		addPackageToClasspath( explodedPar );
+
+		PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( explodedPar.toURL() );
+		ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+		ScanResult scanResult = new StandardScanner().scan( env, options, StandardScanParameters.INSTANCE );
+
+		assertEquals( 2, scanResult.getLocatedClasses().size() );
+		assertClassesContained( scanResult, Carpet.class );
+		assertClassesContained( scanResult, Elephant.class );
+	}
+
+	private void indexClass(ScanIndex scanIndex, Class indexedClass, ClassDescriptor.Categorization categorization)
+			throws Exception {
+		final String resourceName = indexedClass.getName().replace( '.', '/' ) + ".class";
+		try (InputStream stream = getClass().getClassLoader().getResourceAsStream( resourceName )) {
+			scanIndex.addClass( indexedClass.getName(), categorization, ScanIndex.checksum( stream ) );
+		}
+	}
+
+	private ScanResult scanIndexedPar(ScanIndex scanIndex) throws Exception {
+		final ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+		scanIndex.write( indexBytes );
+
+		File defaultPar = buildDefaultPar( indexBytes.toByteArray() );
+		addPackageToClasspath( defaultPar );
+
+		PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( defaultPar.toURL() );
+		ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+		return new StandardScanner().scan( env, options, StandardScanParameters.INSTANCE );
+	}
+
+	@Test
+	public void testIndexFromOtherVersionIgnored() throws Exception {
+		File defaultPar = buildDefaultPar( "#hibernate-scan-index 0.0.0\nMODEL 0 -1 -1 org.hibernate.Dummy\n".getBytes( "UTF-8" ) );
+		addPackageToClasspath( defaultPar );
+
+		PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( defaultPar.toURL() );
+		ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+		ScanResult scanResult = new StandardScanner().scan( env, options, StandardScanParameters.INSTANCE );
+
+		assertEquals( 3, scanResult.getLocatedClasses().size() );
+	}
+
 	private void assertClassesContained(ScanResult scanResult, Class classToCheckFor) {
 		for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
 			if ( classDescriptor.getName().equals( classToCheckFor.getName() ) ) {
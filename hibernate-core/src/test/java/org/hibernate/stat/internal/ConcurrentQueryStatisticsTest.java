@@ -42,5 +42,10 @@ public class ConcurrentQueryStatisticsTest extends BaseUnitTestCase {
 		assertEquals( 12, stats.getExecutionMaxTime() );
 		assertEquals( 11, stats.getExecutionAvgTime() );
 		assertEquals( 11.5, stats.getExecutionAvgTimeAsDouble(), 0.1 );
+
+		assertEquals( 11, stats.getExecutionTimePercentile( 50 ) );
+		assertEquals( 12, stats.getExecutionTimePercentile( 100 ) );
+		assertEquals( 200, stats.getExecutionRowCountPercentile( 50 ), 50 );
+		assertEquals( 1000, stats.getExecutionRowCountPercentile( 100 ) );
 	}
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testBucketsCoverAllValues() {
+		long previousUpperBound = -1;
+		for ( int i = 0; i <= LatencyHistogram.bucketIndex( Long.MAX_VALUE ); i++ ) {
+			final long upperBound = LatencyHistogram.bucketUpperBound( i );
+			assertEquals( i, LatencyHistogram.bucketIndex( previousUpperBound + 1 ) );
+			assertEquals( i, LatencyHistogram.bucketIndex( upperBound ) );
+			previousUpperBound = upperBound;
+		}
+		assertEquals( Long.MAX_VALUE, previousUpperBound );
+	}
+
+	@Test
+	public void testPercentiles() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals( 0, histogram.getPercentile( 50 ) );
+
+		for ( int i = 1; i <= 1000; i++ ) {
+			histogram.record( i * 1000L );
+		}
+		assertEquals( 1000, histogram.getCount() );
+		assertEquals( 1000000, histogram.getMax() );
+		assertEquals( 500500, histogram.getMean() );
+		assertAccurate( 500000, histogram.getPercentile( 50 ) );
+		assertAccurate( 990000, histogram.getPercentile( 99 ) );
+		assertEquals( 1000000, histogram.getPercentile( 100 ) );
+
+		histogram.clear();
+		assertEquals( 0, histogram.getCount() );
+		assertEquals( 0, histogram.getPercentile( 99 ) );
+	}
+
+	private static void assertAccurate(long expected, long actual) {
+		assertTrue( "Expected about " + expected + " but was " + actual, actual >= expected && actual <= expected * 1.25 );
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.jdbc.batch.internal.AbstractBatchImpl;
+import org.hibernate.engine.jdbc.batch.internal.PipelinedBatchingBatch;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link PipelinedBatchingBatch}, enabled through {@link AvailableSettings#STATEMENT_BATCH_PIPELINING}.
+ */
+public class PipelinedBatchingBatchTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { User.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_PIPELINING, "true" );
+		// disable in-vm nullability checking (so we can force in-db not-null constraint violations)
+		configuration.setProperty( AvailableSettings.CHECK_NULLABILITY, "false" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testInsertion() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 23; i++ ) {
+				session.persist( new User( i, "user " + i ) );
+			}
+			session.flush();
+			assertEquals( PipelinedBatchingBatch.class, currentBatch( session ).getClass() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					23L,
+					session.createQuery( "select count(u) from User u" ).uniqueResult()
+			);
+			for ( User user : session.createQuery( "from User", User.class ).list() ) {
+				user.setName( user.getName().toUpperCase() );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					23L,
+					session.createQuery( "select count(u) from User u where u.name like 'USER%'" ).uniqueResult()
+			);
+		} );
+	}
+
+	@Test
+	public void testFailureIsReported() throws Exception {
+		Session session = openSession();
+		session.getTransaction().begin();
+		try {
+			session.persist( new User( 1, "ok" ) );
+			session.persist( new User( 2, null ) );
+			for ( int i = 3; i <= 12; i++ ) {
+				session.persist( new User( i, "ok" ) );
+			}
+			session.flush();
+			fail( "Expecting failed flush" );
+		}
+		catch (Exception expected) {
+			final Batch batch = currentBatch( session );
+			final Field field = AbstractBatchImpl.class.getDeclaredField( "statements" );
+			field.setAccessible( true );
+			assertEquals( 0, ( (Map) field.get( batch ) ).size() );
+		}
+		finally {
+			session.getTransaction().rollback();
+			session.close();
+		}
+	}
+
+	private static Batch currentBatch(Session session) {
+		try {
+			final SessionImplementor sessionImplementor = (SessionImplementor) session;
+			final Field field = sessionImplementor.getJdbcCoordinator().getClass().getDeclaredField( "currentBatch" );
+			field.setAccessible( true );
+			return (Batch) field.get( sessionImplementor.getJdbcCoordinator() );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	@Entity( name = "User" )
+	@Table( name = "`USER`" )
+	public static class User {
+		private Integer id;
+		private String name;
+
+		public User() {
+		}
+
+		public User(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@Column( nullable = false )
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -34,6 +34,7 @@ import org.hibernate.test.bytecode.enhancement.dirty.DirtyTrackingTestTask;
 import org.hibernate.test.bytecode.enhancement.eviction.EvictionTestTask;
 import org.hibernate.test.bytecode.enhancement.extended.ExtendedAssociationManagementTestTasK;
 import org.hibernate.test.bytecode.enhancement.extended.ExtendedEnhancementTestTask;
+import org.hibernate.test.bytecode.enhancement.flush.IncrementalFlushTestTask;
 import org.hibernate.test.bytecode.enhancement.inherited.InheritedTestTask;
 import org.hibernate.test.bytecode.enhancement.join.HHH3949TestTask1;
 import org.hibernate.test.bytecode.enhancement.join.HHH3949TestTask2;
@@ -53,6 +54,7 @@ import org.hibernate.test.bytecode.enhancement.lazy.basic.LazyBasicFieldAccessTe
 import org.hibernate.test.bytecode.enhancement.lazy.basic.LazyBasicPropertyAccessTestTask;
 import org.hibernate.test.bytecode.enhancement.lazy.cache.LazyInCacheTestTask;
 import org.hibernate.test.bytecode.enhancement.lazy.group.LazyGroupAccessTestTask;
+import org.hibernate.test.bytecode.enhancement.lazy.group.LazyGroupBatchLoadingTestTask;
 import org.hibernate.test.bytecode.enhancement.lazy.group.LazyGroupUpdateTestTask;
 import org.hibernate.test.bytecode.enhancement.lazy.group.SimpleLazyGroupUpdateTestTask;
 import org.hibernate.test.bytecode.enhancement.lazyCache.InitFromCacheTestTask;
@@ -198,6 +200,11 @@ public class EnhancerTest extends BaseUnitTestCase {
 		EnhancerTestUtils.runEnhancerTestTask( SimpleLazyGroupUpdateTestTask.class );
 	}
 
+	@Test
+	public void testLazyGroupsBatchLoading() {
+		EnhancerTestUtils.runEnhancerTestTask( LazyGroupBatchLoadingTestTask.class );
+	}
+
 	@Test
 	@TestForIssue( jiraKey = "HHH-11506" )
 	public void testLazyGroupsUpdateWithoutDirtyChecking() {
@@ -311,4 +318,9 @@ public class EnhancerTest extends BaseUnitTestCase {
 	public void testInitFromCache() {
 		EnhancerTestUtils.runEnhancerTestTask( InitFromCacheTestTask.class );
 	}
+
+	@Test
+	public void testIncrementalFlush() {
+		EnhancerTestUtils.runEnhancerTestTask( IncrementalFlushTestTask.class );
+	}
 }
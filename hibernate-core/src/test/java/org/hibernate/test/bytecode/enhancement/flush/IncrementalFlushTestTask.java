@@ -0,0 +1,164 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.test.bytecode.enhancement.AbstractEnhancerTestTask;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that incremental flushes only process the touched entities, write the changes of the touched entities
+ * and collections, and leave the collections of the untouched entities as they are.
+ */
+public class IncrementalFlushTestTask extends AbstractEnhancerTestTask {
+
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {Item.class};
+	}
+
+	public void prepare() {
+		Configuration cfg = new Configuration();
+		cfg.setProperty( AvailableSettings.INCREMENTAL_FLUSH, "true" );
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		super.prepare( cfg );
+
+		doInHibernate( this::getFactory, session -> {
+			session.persist( new Item( 1L, "first", "a", "b" ) );
+			session.persist( new Item( 2L, "second", "c" ) );
+			session.persist( new Item( 3L, "third", "d", "e" ) );
+		} );
+	}
+
+	public void execute() {
+		final Statistics statistics = getFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::getFactory, session -> {
+			List<Item> items = session.createQuery( "from Item i order by i.id", Item.class ).list();
+			items.get( 0 ).setName( "renamed" );
+			items.get( 1 ).getTags().add( "f" );
+
+			// auto flushed
+			assertEquals(
+					1L,
+					(long) session.createQuery( "select count(i) from Item i where i.name = 'renamed'", Long.class )
+							.uniqueResult()
+			);
+			assertEquals(
+					6L,
+					(long) session.createQuery( "select count(t) from Item i join i.tags t", Long.class )
+							.uniqueResult()
+			);
+
+			// nothing changed since the previous flush
+			session.createQuery( "from Item" ).list();
+		} );
+
+		assertEquals( 1, statistics.getEntityUpdateCount() );
+		assertEquals( 1, statistics.getCollectionUpdateCount() );
+		assertEquals( 0, statistics.getCollectionRemoveCount() );
+
+		doInHibernate( this::getFactory, session -> {
+			assertEquals( 2, session.get( Item.class, 1L ).getTags().size() );
+			assertEquals( 2, session.get( Item.class, 2L ).getTags().size() );
+			assertEquals( 2, session.get( Item.class, 3L ).getTags().size() );
+		} );
+
+		assertUntouchedEntitiesAreSkipped();
+		assertCustomInterceptorDisablesSkipping();
+	}
+
+	private void assertUntouchedEntitiesAreSkipped() {
+		final FlushCounter flushCounter = new FlushCounter();
+		final Session session = getFactory().withOptions().eventListeners( flushCounter ).openSession();
+		try {
+			session.beginTransaction();
+			List<Item> items = session.createQuery( "from Item i order by i.id", Item.class ).list();
+			items.get( 0 ).setName( "touched" );
+			items.get( 2 ).getTags().add( "g" );
+
+			session.createQuery( "from Item" ).list();
+			// the renamed item and the owner of the changed tags
+			assertEquals( 2, flushCounter.lastFlushedEntities() );
+
+			session.createQuery( "from Item" ).list();
+			assertEquals( 0, flushCounter.lastFlushedEntities() );
+
+			items.get( 1 ).setName( "touched too" );
+			session.createQuery( "from Item" ).list();
+			assertEquals( 1, flushCounter.lastFlushedEntities() );
+
+			session.getTransaction().commit();
+		}
+		finally {
+			session.close();
+		}
+
+		doInHibernate( this::getFactory, s -> {
+			assertEquals( "touched", s.get( Item.class, 1L ).getName() );
+			assertEquals( "touched too", s.get( Item.class, 2L ).getName() );
+			assertEquals( 3, s.get( Item.class, 3L ).getTags().size() );
+		} );
+	}
+
+	private void assertCustomInterceptorDisablesSkipping() {
+		final FlushCounter flushCounter = new FlushCounter();
+		final Session session = getFactory().withOptions()
+				.interceptor( new EmptyInterceptor() {
+				} )
+				.eventListeners( flushCounter )
+				.openSession();
+		try {
+			session.beginTransaction();
+			session.createQuery( "from Item" ).list();
+
+			// the interceptor could find any of them dirty
+			session.createQuery( "from Item" ).list();
+			assertEquals( 3, flushCounter.lastFlushedEntities() );
+
+			session.getTransaction().commit();
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	/**
+	 * Records the number of entities processed by each flush, that is the number of FlushEntityEvents
+	 */
+	private static class FlushCounter extends BaseSessionEventListener {
+		private final List<Integer> flushedEntities = new ArrayList<>();
+
+		@Override
+		public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+			flushedEntities.add( numberOfEntities );
+		}
+
+		@Override
+		public void flushEnd(int numberOfEntities, int numberOfCollections) {
+			flushedEntities.add( numberOfEntities );
+		}
+
+		private int lastFlushedEntities() {
+			return flushedEntities.get( flushedEntities.size() - 1 );
+		}
+	}
+
+	protected void cleanup() {
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Entity
+public class Item {
+
+	@Id
+	private Long id;
+
+	private String name;
+
+	@ElementCollection
+	private List<String> tags = new ArrayList<>();
+
+	public Item() {
+	}
+
+	public Item(Long id, String name, String... tags) {
+		this.id = id;
+		this.name = name;
+		for ( String tag : tags ) {
+			this.tags.add( tag );
+		}
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public List<String> getTags() {
+		return tags;
+	}
+}
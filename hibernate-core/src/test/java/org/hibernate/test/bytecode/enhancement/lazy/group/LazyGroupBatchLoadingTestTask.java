@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.test.bytecode.enhancement.lazy.group;
+
+import java.util.List;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+
+import org.hibernate.testing.bytecode.enhancement.EnhancerTestUtils;
+import org.hibernate.test.bytecode.enhancement.AbstractEnhancerTestTask;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Checks that initializing a lazy attribute of one entity also initializes the
+ * same attribute of other managed entities of the same type, up to the batch size.
+ */
+public class LazyGroupBatchLoadingTestTask extends AbstractEnhancerTestTask {
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Document.class };
+	}
+
+	@Override
+	public void prepare() {
+		Configuration cfg = new Configuration();
+		cfg.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		super.prepare( cfg );
+
+		Session s = getFactory().openSession();
+		s.beginTransaction();
+
+		for ( int i = 1; i <= 7; i++ ) {
+			s.save( new Document( i, "doc " + i, "body of doc " + i ) );
+		}
+
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Override
+	public void execute() {
+		Session s = getFactory().openSession();
+		s.beginTransaction();
+
+		List<Document> documents = s.createQuery( "from Document d order by d.id", Document.class ).list();
+		assertEquals( 7, documents.size() );
+		for ( Document document : documents ) {
+			assertNull( EnhancerTestUtils.getFieldByReflection( document, "body" ) );
+		}
+
+		getFactory().getStatistics().clear();
+
+		// batch size is 5, so the first access initializes 5 documents...
+		assertEquals( "body of doc 1", documents.get( 0 ).getBody() );
+		assertEquals( 1, getFactory().getStatistics().getPrepareStatementCount() );
+		assertEquals( 5, countInitialized( documents ) );
+
+		// ...and a second one the remaining 2
+		for ( int i = 0; i < documents.size(); i++ ) {
+			assertEquals( "body of doc " + ( i + 1 ), documents.get( i ).getBody() );
+		}
+		assertEquals( 2, getFactory().getStatistics().getPrepareStatementCount() );
+		assertEquals( 7, countInitialized( documents ) );
+
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private int countInitialized(List<Document> documents) {
+		int count = 0;
+		for ( Document document : documents ) {
+			if ( EnhancerTestUtils.getFieldByReflection( document, "body" ) != null ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Override
+	protected void cleanup() {
+		Session s = getFactory().openSession();
+		s.beginTransaction();
+
+		s.createQuery( "delete Document" ).executeUpdate();
+
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Entity( name = "Document" )
+	@BatchSize( size = 5 )
+	public static class Document {
+		@Id
+		Integer id;
+		String name;
+		@Basic(fetch = FetchType.LAZY)
+		String body;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String name, String body) {
+			this.id = id;
+			this.name = name;
+			this.body = body;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getBody() {
+			return body;
+		}
+
+		public void setBody(String body) {
+			this.body = body;
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cascade;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the cascade plans, which restrict cascades to the properties an action has something to do with.
+ */
+public class CascadePlanTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Invoice.class, InvoiceLine.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testCascadePlans() {
+		final EntityPersister invoicePersister = sessionFactory().getMetamodel().entityPersister( Invoice.class );
+		final EntityPersister linePersister = sessionFactory().getMetamodel().entityPersister( InvoiceLine.class );
+		final int linesIndex = invoicePersister.getEntityMetamodel().getPropertyIndex( "lines" );
+
+		assertArrayEquals(
+				new int[] { linesIndex },
+				invoicePersister.getEntityMetamodel().getCascadingPropertyIndexes( CascadingActions.SAVE_UPDATE )
+		);
+		assertSame(
+				invoicePersister.getEntityMetamodel().getCascadingPropertyIndexes( CascadingActions.SAVE_UPDATE ),
+				invoicePersister.getEntityMetamodel().getCascadingPropertyIndexes( CascadingActions.SAVE_UPDATE )
+		);
+		assertEquals( 0, linePersister.getEntityMetamodel().getCascadingPropertyIndexes( CascadingActions.SAVE_UPDATE ).length );
+
+		// non cascaded associations are checked for transient references
+		assertEquals(
+				linePersister.getPropertyTypes().length,
+				linePersister.getEntityMetamodel().getCascadingPropertyIndexes( CascadingActions.PERSIST_ON_FLUSH ).length
+		);
+	}
+
+	@Test
+	public void testCascade() {
+		doInHibernate( this::sessionFactory, session -> {
+			Invoice invoice = new Invoice( 1L );
+			invoice.addLine( new InvoiceLine( 1L, "book" ) );
+			invoice.addLine( new InvoiceLine( 2L, "pen" ) );
+			session.persist( invoice );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Invoice invoice = session.get( Invoice.class, 1L );
+			assertEquals( 2, invoice.lines.size() );
+			invoice.addLine( new InvoiceLine( 3L, "ink" ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 3, session.createQuery( "from InvoiceLine" ).list().size() );
+		} );
+	}
+
+	@Entity(name = "Invoice")
+	public static class Invoice {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "invoice", cascade = CascadeType.ALL)
+		private List<InvoiceLine> lines = new ArrayList<>();
+
+		public Invoice() {
+		}
+
+		public Invoice(Long id) {
+			this.id = id;
+		}
+
+		public void addLine(InvoiceLine line) {
+			lines.add( line );
+			line.invoice = this;
+		}
+	}
+
+	@Entity(name = "InvoiceLine")
+	public static class InvoiceLine {
+		@Id
+		private Long id;
+
+		private String product;
+
+		@ManyToOne
+		private Invoice invoice;
+
+		public InvoiceLine() {
+		}
+
+		public InvoiceLine(Long id, String product) {
+			this.id = id;
+			this.product = product;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.collection.bag;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the in place updates of bags without an identifier, which only delete and insert the rows of the elements
+ * whose number of occurrences changed, by statements writing several rows.
+ */
+@RequiresDialectFeature(DialectChecks.SupportsMultiRowInsert.class)
+public class InPlaceBagUpdateTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final String DELETE_ALL = "delete from article_tag where article_id=?";
+	private static final String DELETE_ROWS = "delete from article_tag where article_id=? and tag in (?, ?)";
+	private static final String INSERT_ROW = "insert into article_tag (article_id, tag) values (?, ?)";
+	private static final String INSERT_ROWS = "insert into article_tag (article_id, tag) values (?, ?), (?, ?)";
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Article.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.IN_PLACE_BAG_UPDATES, "true" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Before
+	public void createData() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Article article = new Article( 1L );
+			article.tags.addAll( Arrays.asList( "java", "sql", "sql", "jdbc" ) );
+			session.persist( article );
+		} );
+	}
+
+	@Test
+	public void testAddElements() throws SQLException {
+		connectionProvider.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final Article article = session.get( Article.class, 1L );
+			article.tags.add( "orm" );
+			article.tags.add( "java" );
+		} );
+
+		assertTrue( connectionProvider.getPreparedStatements( DELETE_ALL ).isEmpty() );
+		assertTrue( connectionProvider.getPreparedStatements( DELETE_ROWS ).isEmpty() );
+		final List<PreparedStatement> inserts = connectionProvider.getPreparedStatements( INSERT_ROWS );
+		assertEquals( 1, inserts.size() );
+		verify( inserts.get( 0 ), times( 1 ) ).executeUpdate();
+
+		assertTags( "java", "java", "jdbc", "orm", "sql", "sql" );
+	}
+
+	@Test
+	public void testRemoveElements() throws SQLException {
+		connectionProvider.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final Article article = session.get( Article.class, 1L );
+			article.tags.remove( "java" );
+			article.tags.remove( "sql" );
+		} );
+
+		assertTrue( connectionProvider.getPreparedStatements( DELETE_ALL ).isEmpty() );
+		final List<PreparedStatement> deletes = connectionProvider.getPreparedStatements( DELETE_ROWS );
+		assertEquals( 1, deletes.size() );
+		verify( deletes.get( 0 ), times( 1 ) ).executeUpdate();
+		// the rows of an element cannot be told apart, the remaining occurrence is inserted again
+		final List<PreparedStatement> inserts = connectionProvider.getPreparedStatements( INSERT_ROW );
+		assertEquals( 1, inserts.size() );
+		verify( inserts.get( 0 ), times( 1 ) ).executeUpdate();
+
+		assertTags( "jdbc", "sql" );
+	}
+
+	private void assertTags(String... expected) {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<String> tags = new ArrayList<>( session.get( Article.class, 1L ).tags );
+			Collections.sort( tags );
+			assertEquals( Arrays.asList( expected ), tags );
+		} );
+	}
+
+	@Entity(name = "Article")
+	public static class Article {
+		@Id
+		private Long id;
+
+		@ElementCollection
+		@CollectionTable(name = "article_tag", joinColumns = @JoinColumn(name = "article_id"))
+		@Column(name = "tag")
+		private List<String> tags = new ArrayList<>();
+
+		public Article() {
+		}
+
+		public Article(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.collection.basic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OrderColumn;
+
+import org.hibernate.collection.internal.CompactNumericList;
+import org.hibernate.collection.internal.CompactNumericSet;
+import org.hibernate.collection.spi.PersistentCollection;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the bags, lists and sets of numeric basic elements, which are stored and snapshotted as a
+ * {@link CompactNumericList} or a {@link CompactNumericSet}.
+ */
+public class CompactNumericCollectionTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Shipment.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testLoadAndUpdate() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Shipment shipment = new Shipment( 1L );
+			shipment.parcelIds.addAll( Arrays.asList( 10L, 20L, 30L ) );
+			shipment.weights.addAll( Arrays.asList( 5, 7 ) );
+			shipment.zoneIds.addAll( Arrays.asList( 1, 2, 3 ) );
+			session.persist( shipment );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Shipment shipment = session.get( Shipment.class, 1L );
+			assertEquals( Arrays.asList( 10L, 20L, 30L ), shipment.parcelIds );
+			assertEquals( Arrays.asList( 5, 7 ), shipment.weights );
+			assertTrue( ( (PersistentCollection) shipment.parcelIds ).getStoredSnapshot() instanceof CompactNumericList );
+			assertTrue( ( (PersistentCollection) shipment.weights ).getStoredSnapshot() instanceof CompactNumericList );
+			assertEquals( new HashSet<>( Arrays.asList( 1, 2, 3 ) ), shipment.zoneIds );
+			assertTrue( ( (PersistentCollection) shipment.zoneIds ).getStoredSnapshot() instanceof CompactNumericSet );
+
+			shipment.parcelIds.remove( 20L );
+			shipment.parcelIds.add( 40L );
+			shipment.weights.set( 0, 6 );
+			shipment.zoneIds.remove( 2 );
+			shipment.zoneIds.add( 4 );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Shipment shipment = session.get( Shipment.class, 1L );
+			final List<Long> parcelIds = new ArrayList<>( shipment.parcelIds );
+			parcelIds.sort( null );
+			assertEquals( Arrays.asList( 10L, 30L, 40L ), parcelIds );
+			assertEquals( Arrays.asList( 6, 7 ), shipment.weights );
+			assertEquals( new HashSet<>( Arrays.asList( 1, 3, 4 ) ), shipment.zoneIds );
+		} );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testCompactNumericSet() {
+		final CompactNumericSet set = new CompactNumericSet( CompactNumericList.NumericKind.INTEGER, -1 );
+		final Set<Integer> expected = new HashSet<>();
+		for ( int i = 0; i < 1000; i++ ) {
+			assertTrue( set.add( i * 31 ) );
+			expected.add( i * 31 );
+		}
+		assertFalse( set.add( 31 ) );
+		assertTrue( set.add( null ) );
+		expected.add( null );
+		assertEquals( expected, set );
+		assertEquals( expected.hashCode(), set.hashCode() );
+		assertFalse( set.contains( 31L ) );
+
+		for ( int i = 0; i < 1000; i += 2 ) {
+			assertTrue( set.remove( i * 31 ) );
+			expected.remove( i * 31 );
+		}
+		assertFalse( set.remove( 0 ) );
+		final Iterator iterator = set.iterator();
+		while ( iterator.hasNext() ) {
+			if ( iterator.next() == null ) {
+				iterator.remove();
+			}
+		}
+		expected.remove( null );
+		assertEquals( expected, set );
+
+		final CompactNumericSet copy = new CompactNumericSet( CompactNumericList.NumericKind.INTEGER, set );
+		assertEquals( set, copy );
+		copy.clear();
+		assertTrue( copy.isEmpty() );
+		assertEquals( 500, set.size() );
+	}
+
+	@Test
+	public void testCompactNumericList() {
+		final CompactNumericList list = new CompactNumericList( CompactNumericList.NumericKind.INTEGER, -1 );
+		for ( int i = 0; i < 20; i++ ) {
+			list.add( i );
+		}
+		list.add( 5, null );
+		assertEquals( 21, list.size() );
+		assertNull( list.get( 5 ) );
+		assertEquals( 5, list.indexOf( null ) );
+		assertEquals( 6, list.indexOf( 5 ) );
+		assertEquals( -1, list.indexOf( 5L ) );
+
+		list.remove( 5 );
+		assertEquals( -1, list.indexOf( null ) );
+		list.subList( 0, 10 ).clear();
+		assertEquals( 10, list.size() );
+		assertEquals( 10, list.get( 0 ) );
+
+		final CompactNumericList copy = new CompactNumericList( CompactNumericList.NumericKind.INTEGER, list );
+		assertEquals( list, copy );
+	}
+
+	@Entity(name = "Shipment")
+	public static class Shipment {
+		@Id
+		private Long id;
+
+		@ElementCollection
+		private List<Long> parcelIds = new ArrayList<>();
+
+		@ElementCollection
+		@OrderColumn
+		private List<Integer> weights = new ArrayList<>();
+
+		@ElementCollection
+		private Set<Integer> zoneIds = new HashSet<>();
+
+		public Shipment() {
+		}
+
+		public Shipment(Long id) {
+			this.id = id;
+		}
+	}
+}
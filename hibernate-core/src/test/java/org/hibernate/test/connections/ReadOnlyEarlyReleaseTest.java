@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.connections;
+
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#RELEASE_CONNECTION_AFTER_READ_ONLY_STATEMENT}.
+ */
+public class ReadOnlyEarlyReleaseTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.RELEASE_CONNECTION_AFTER_READ_ONLY_STATEMENT, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testConnectionIsReleasedAfterEachStatement() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Item( 1 ) );
+			session.persist( new Item( 2 ) );
+		} );
+
+		try (Session session = openSession()) {
+			session.setDefaultReadOnly( true );
+
+			assertEquals( 2, session.createQuery( "from Item" ).list().size() );
+			assertFalse( isPhysicallyConnected( session ) );
+
+			try (ScrollableResults results = session.createQuery( "from Item" ).scroll()) {
+				assertTrue( results.next() );
+				// the ResultSet is still open
+				assertTrue( isPhysicallyConnected( session ) );
+			}
+
+			assertEquals( 2, session.createQuery( "from Item" ).list().size() );
+			assertFalse( isPhysicallyConnected( session ) );
+		}
+	}
+
+	@Test
+	public void testConnectionIsHeldOtherwise() {
+		try (Session session = openSession()) {
+			session.createQuery( "from Item" ).list();
+			assertTrue( isPhysicallyConnected( session ) );
+		}
+
+		try (Session session = openSession()) {
+			session.setDefaultReadOnly( true );
+			session.getTransaction().begin();
+			try {
+				final List items = session.createQuery( "from Item" ).list();
+				assertEquals( 0, items.size() );
+				assertTrue( isPhysicallyConnected( session ) );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+	}
+
+	private static boolean isPhysicallyConnected(Session session) {
+		return ( (SessionImplementor) session ).getJdbcCoordinator().getLogicalConnection().isPhysicallyConnected();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+
+		public Item() {
+		}
+
+		public Item(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,308 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.extralazy;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.CascadeType;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderColumn;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.LazyCollection;
+import org.hibernate.annotations.LazyCollectionOption;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the paged iteration of extra-lazy collections, which reads the rows page by page rather than initializing
+ * the collection.
+ */
+public class ExtraLazyPagedIterationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Shop.class, ShopItem.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.EXTRA_LAZY_PAGE_SIZE, "2" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void createData() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Shop shop = new Shop( 1L );
+			for ( int i = 0; i < 5; i++ ) {
+				final ShopItem item = new ShopItem( (long) i, "item " + i );
+				shop.items.add( item );
+				shop.tags.add( "tag " + i );
+				shop.labels.add( "label " + i );
+				shop.stock.put( "item " + i, i );
+			}
+			session.persist( shop );
+		} );
+	}
+
+	@After
+	public void cleanupData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.delete( session.get( Shop.class, 1L ) );
+		} );
+	}
+
+	@Test
+	public void testPagedIterationOfBag() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Shop shop = session.get( Shop.class, 1L );
+			sessionFactory().getStatistics().clear();
+
+			final Set<String> tags = new HashSet<>();
+			for ( String tag : shop.tags ) {
+				tags.add( tag );
+			}
+
+			assertEquals( 5, tags.size() );
+			assertFalse( Hibernate.isInitialized( shop.tags ) );
+			// pages of 2, 2 and 1 tags
+			assertEquals( 3, sessionFactory().getStatistics().getPrepareStatementCount() );
+		} );
+	}
+
+	@Test
+	public void testPagedIterationOfSet() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Shop shop = session.get( Shop.class, 1L );
+			sessionFactory().getStatistics().clear();
+
+			final Set<String> names = new HashSet<>();
+			for ( ShopItem item : shop.items ) {
+				names.add( item.name );
+			}
+
+			assertEquals( 5, names.size() );
+			assertFalse( Hibernate.isInitialized( shop.items ) );
+			// pages of 2, 2 and 1 items, each page loading its items by a single select
+			assertEquals( 6, sessionFactory().getStatistics().getPrepareStatementCount() );
+			// the items of all the pages are still managed, along with the shop
+			assertEquals( 6, session.getStatistics().getEntityCount() );
+		} );
+	}
+
+	@Test
+	public void testPagedIterationOfList() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Shop shop = session.get( Shop.class, 1L );
+
+			final List<String> labels = new ArrayList<>();
+			for ( String label : shop.labels ) {
+				labels.add( label );
+			}
+
+			assertEquals( 5, labels.size() );
+			for ( int i = 0; i < 5; i++ ) {
+				assertEquals( "label " + i, labels.get( i ) );
+			}
+			assertFalse( Hibernate.isInitialized( shop.labels ) );
+		} );
+	}
+
+	@Test
+	public void testPagedIterationOfListWithMissingIndexes() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createNativeQuery( "delete from Shop_labels where labels_ORDER = 2" ).executeUpdate();
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Shop shop = session.get( Shop.class, 1L );
+
+			final List<String> labels = new ArrayList<>();
+			for ( String label : shop.labels ) {
+				labels.add( label );
+			}
+
+			assertEquals( 5, labels.size() );
+			assertEquals( "label 1", labels.get( 1 ) );
+			assertNull( labels.get( 2 ) );
+			assertEquals( "label 3", labels.get( 3 ) );
+		} );
+	}
+
+	@Test
+	public void testPagedIterationOfMap() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Shop shop = session.get( Shop.class, 1L );
+
+			final Map<String, Integer> stock = new HashMap<>();
+			for ( Map.Entry<String, Integer> entry : shop.stock.entrySet() ) {
+				stock.put( entry.getKey(), entry.getValue() );
+			}
+
+			assertEquals( 5, stock.size() );
+			assertEquals( 3, stock.get( "item 3" ).intValue() );
+			assertFalse( Hibernate.isInitialized( shop.stock ) );
+		} );
+	}
+
+	@Test
+	public void testPagedIteratorIsReadOnly() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Shop shop = session.get( Shop.class, 1L );
+
+			final Iterator<String> iterator = shop.tags.iterator();
+			iterator.next();
+			try {
+				iterator.remove();
+				fail( "Paged iterators do not support remove" );
+			}
+			catch (UnsupportedOperationException expected) {
+			}
+		} );
+	}
+
+	@Test
+	public void testInitializedCollectionIsNotPaged() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Shop shop = session.get( Shop.class, 1L );
+			Hibernate.initialize( shop.tags );
+
+			final Iterator<String> iterator = shop.tags.iterator();
+			iterator.next();
+			iterator.remove();
+			assertEquals( 4, shop.tags.size() );
+			assertTrue( Hibernate.isInitialized( shop.tags ) );
+		} );
+	}
+
+	@Test
+	public void testCollectionWithQueuedOperationsIsNotPaged() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Shop shop = session.get( Shop.class, 1L );
+			shop.stock.put( "item 5", 5 );
+			assertFalse( Hibernate.isInitialized( shop.stock ) );
+			sessionFactory().getStatistics().clear();
+
+			final Map<String, Integer> stock = new HashMap<>();
+			for ( Map.Entry<String, Integer> entry : shop.stock.entrySet() ) {
+				stock.put( entry.getKey(), entry.getValue() );
+			}
+
+			assertEquals( 6, stock.size() );
+			assertTrue( Hibernate.isInitialized( shop.stock ) );
+			// the queued put is applied to the initialized map rather than flushed
+			assertEquals( 0, sessionFactory().getStatistics().getFlushCount() );
+		} );
+	}
+
+	@Test
+	public void testRemoveIfInitializesCollection() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Shop shop = session.get( Shop.class, 1L );
+
+			assertTrue( shop.tags.removeIf( tag -> tag.endsWith( "1" ) ) );
+			assertTrue( shop.labels.removeIf( label -> label.endsWith( "1" ) ) );
+			assertTrue( Hibernate.isInitialized( shop.tags ) );
+			assertTrue( Hibernate.isInitialized( shop.labels ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Shop shop = session.get( Shop.class, 1L );
+			assertEquals( 4, shop.tags.size() );
+			assertFalse( shop.tags.contains( "tag 1" ) );
+			assertEquals( 4, shop.labels.size() );
+			assertEquals( "label 2", shop.labels.get( 1 ) );
+		} );
+	}
+
+	@Test
+	public void testRemoveFromEntrySetInitializesMap() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Shop shop = session.get( Shop.class, 1L );
+
+			assertTrue( shop.stock.entrySet().removeIf( entry -> entry.getValue() < 2 ) );
+			assertTrue( Hibernate.isInitialized( shop.stock ) );
+			assertTrue( shop.stock.entrySet().remove( new AbstractMap.SimpleImmutableEntry<>( "item 4", 4 ) ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Shop shop = session.get( Shop.class, 1L );
+			assertEquals( 2, shop.stock.size() );
+			assertTrue( shop.stock.containsKey( "item 2" ) );
+			assertTrue( shop.stock.containsKey( "item 3" ) );
+		} );
+	}
+
+	@Entity(name = "Shop")
+	public static class Shop {
+		@Id
+		private Long id;
+
+		@OneToMany(cascade = CascadeType.ALL)
+		@JoinColumn(name = "shop_id")
+		@LazyCollection(LazyCollectionOption.EXTRA)
+		private Set<ShopItem> items = new HashSet<>();
+
+		@ElementCollection
+		@LazyCollection(LazyCollectionOption.EXTRA)
+		private List<String> tags = new ArrayList<>();
+
+		@ElementCollection
+		@OrderColumn
+		@LazyCollection(LazyCollectionOption.EXTRA)
+		private List<String> labels = new ArrayList<>();
+
+		@ElementCollection
+		@LazyCollection(LazyCollectionOption.EXTRA)
+		private Map<String, Integer> stock = new HashMap<>();
+
+		public Shop() {
+		}
+
+		public Shop(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "ShopItem")
+	public static class ShopItem {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public ShopItem() {
+		}
+
+		public ShopItem(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.flush;
+
+import java.util.Iterator;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Automatic flushes are skipped, dirty checking included, when the changes cannot affect the query spaces.
+ */
+public class AutoFlushQuerySpacesCheckTest extends BaseCoreFunctionalTestCase {
+
+	private final PreFlushCountingInterceptor interceptor = new PreFlushCountingInterceptor();
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.AUTO_FLUSH_CHECK_QUERY_SPACES, "true" );
+		cfg.setInterceptor( interceptor );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Customer.class, Product.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testUnrelatedChangeIsNotFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Customer( 1, "John" ) );
+			session.persist( new Product( 1, "Book" ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Customer customer = session.get( Customer.class, 1 );
+			session.get( Product.class, 1 );
+			customer.name = "Jane";
+
+			interceptor.preFlushCount = 0;
+			assertEquals( 1, session.createQuery( "from Product" ).list().size() );
+			assertEquals( 0, interceptor.preFlushCount );
+
+			assertEquals( 1, session.createQuery( "from Customer c where c.name = 'Jane'" ).list().size() );
+			assertEquals( 1, interceptor.preFlushCount );
+		} );
+	}
+
+	@Test
+	public void testQueuedActionIsFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Product( 2, "Pen" ) );
+
+			interceptor.preFlushCount = 0;
+			assertEquals( 0, session.createQuery( "from Customer" ).list().size() );
+			assertEquals( 0, interceptor.preFlushCount );
+
+			assertEquals( 1, session.createQuery( "from Product" ).list().size() );
+			assertEquals( 1, interceptor.preFlushCount );
+		} );
+	}
+
+	@Test
+	public void testQueryWithoutQuerySpacesIsPrecededByFlush() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Customer( 3, "John" ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Customer customer = session.get( Customer.class, 3 );
+			customer.name = "Jane";
+
+			interceptor.preFlushCount = 0;
+			// the tables read by the native query are unknown
+			session.createNativeQuery( "select count(*) from Product" ).getSingleResult();
+			assertEquals( 1, interceptor.preFlushCount );
+		} );
+	}
+
+	public static class PreFlushCountingInterceptor extends EmptyInterceptor {
+		private int preFlushCount;
+
+		@Override
+		public void preFlush(Iterator entities) {
+			preFlushCount++;
+		}
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.insertordering;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToOne;
+import javax.persistence.SequenceGenerator;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Department and Employee reference each other, so their inserts are ordered from the references between the
+ * actual instances.
+ */
+public class InsertOrderingWithCyclicManyToOne extends BaseNonConfigCoreFunctionalTestCase {
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Department.class, Employee.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( Environment.ORDER_INSERTS, "true" );
+		settings.put( Environment.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( Environment.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testBatching() throws SQLException {
+		sessionFactory().getStatistics().clear();
+		doInHibernate( this::sessionFactory, session -> {
+			Department headquarters = new Department();
+			session.persist( headquarters );
+
+			Employee ceo = new Employee( headquarters );
+			session.persist( ceo );
+			session.persist( new Employee( headquarters ) );
+			session.persist( new Employee( headquarters ) );
+
+			Department sales = new Department();
+			sales.manager = ceo;
+			session.persist( sales );
+			session.persist( new Employee( sales ) );
+
+			connectionProvider.clear();
+		} );
+
+		// headquarters, its employees, sales, then its employee
+		List<PreparedStatement> departmentPreparedStatements = connectionProvider.getPreparedStatements(
+				"insert into Department (manager_id, id) values (?, ?)" );
+		assertEquals( 2, departmentPreparedStatements.size() );
+		verify( departmentPreparedStatements.get( 0 ), times( 1 ) ).addBatch();
+		verify( departmentPreparedStatements.get( 1 ), times( 1 ) ).addBatch();
+
+		List<PreparedStatement> employeePreparedStatements = connectionProvider.getPreparedStatements(
+				"insert into Employee (department_id, headOf_id, id) values (?, ?, ?)" );
+		assertEquals( 2, employeePreparedStatements.size() );
+		verify( employeePreparedStatements.get( 0 ), times( 3 ) ).addBatch();
+		verify( employeePreparedStatements.get( 0 ), times( 1 ) ).executeBatch();
+		verify( employeePreparedStatements.get( 1 ), times( 1 ) ).addBatch();
+		verify( employeePreparedStatements.get( 1 ), times( 1 ) ).executeBatch();
+
+		assertEquals( 1, sessionFactory().getStatistics().getInsertOrderingCount() );
+	}
+
+	@Test
+	public void testInverseOneToOneDoesNotSplitBatches() throws SQLException {
+		doInHibernate( this::sessionFactory, session -> {
+			Employee ceo = new Employee( null );
+			session.persist( ceo );
+
+			// the foreign key of this one-to-one is on the employee side
+			Department headquarters = new Department();
+			headquarters.head = ceo;
+			session.persist( headquarters );
+			session.persist( new Department() );
+
+			connectionProvider.clear();
+		} );
+
+		List<PreparedStatement> departmentPreparedStatements = connectionProvider.getPreparedStatements(
+				"insert into Department (manager_id, id) values (?, ?)" );
+		assertEquals( 1, departmentPreparedStatements.size() );
+		verify( departmentPreparedStatements.get( 0 ), times( 2 ) ).addBatch();
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		@SequenceGenerator(name = "ID", sequenceName = "DEPARTMENT_SEQ")
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ID")
+		private Long id;
+
+		@ManyToOne
+		private Employee manager;
+
+		@OneToOne(mappedBy = "headOf")
+		private Employee head;
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		@SequenceGenerator(name = "ID", sequenceName = "EMPLOYEE_SEQ")
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ID")
+		private Long id;
+
+		@ManyToOne
+		private Department department;
+
+		@OneToOne
+		private Department headOf;
+
+		public Employee() {
+		}
+
+		public Employee(Department department) {
+			this.department = department;
+		}
+	}
+}
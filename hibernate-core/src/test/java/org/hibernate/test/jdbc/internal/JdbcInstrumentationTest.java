@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc.internal;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.jdbc.internal.HistogramJdbcInstrumentation;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link HistogramJdbcInstrumentation}, enabled through {@link AvailableSettings#JDBC_INSTRUMENTATION}.
+ */
+public class JdbcInstrumentationTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.JDBC_INSTRUMENTATION, HistogramJdbcInstrumentation.SHORT_NAME );
+		cfg.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testTimingsAreRecorded() {
+		final HistogramJdbcInstrumentation instrumentation = (HistogramJdbcInstrumentation) sessionFactory()
+				.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getJdbcInstrumentation();
+		instrumentation.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+
+		assertEquals( 2, instrumentation.getBatchExecutionCount() );
+		assertEquals( 5, instrumentation.getBatchSizePercentile( 50 ) );
+		assertTrue( instrumentation.getConnectionAcquisitionCount() > 0 );
+		assertTrue( instrumentation.getStatementPrepareCount() > 0 );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 10, session.createQuery( "from Item" ).list().size() );
+			assertEquals( 10, session.createQuery( "from Item" ).list().size() );
+		} );
+
+		String querySql = null;
+		for ( String sql : instrumentation.getStatements() ) {
+			if ( sql.startsWith( "select" ) ) {
+				querySql = sql;
+			}
+		}
+		assertEquals( 2, instrumentation.getStatementExecutionCount( querySql ) );
+		assertEquals( 20, instrumentation.getStatementRowsFetched( querySql ) );
+		assertTrue( instrumentation.getStatementExecutionTimePercentile( querySql, 99 ) > 0 );
+		assertTrue( instrumentation.getConnectionHoldTimePercentile( 50 ) > 0 );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
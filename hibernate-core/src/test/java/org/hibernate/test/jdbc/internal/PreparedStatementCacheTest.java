@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
+import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the PreparedStatement cache enabled through {@link AvailableSettings#STATEMENT_CACHE_SIZE}.
+ */
+public class PreparedStatementCacheTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.STATEMENT_CACHE_SIZE, "2" );
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		cfg.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "0" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testStatementsAreReused() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+
+		assertEquals( 1, statistics.getPreparedStatementCacheMissCount() );
+		assertEquals( 9, statistics.getPreparedStatementCacheHitCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "item 3", session.get( Item.class, 3 ).name );
+			assertEquals( "item 4", session.get( Item.class, 4 ).name );
+		} );
+
+		assertEquals( 2, statistics.getPreparedStatementCacheMissCount() );
+		assertEquals( 10, statistics.getPreparedStatementCacheHitCount() );
+	}
+
+	@Test
+	public void testStatementsAreClosedWithTheConnection() {
+		final String[] sql = {
+				"select i.id from Item i where i.id = ?",
+				"select i.name from Item i where i.id = ?",
+				"select i.id, i.name from Item i where i.id = ?"
+		};
+
+		doInHibernate( this::sessionFactory, session -> {
+			final JdbcCoordinator jdbcCoordinator = ( (SessionImplementor) session ).getJdbcCoordinator();
+			final PreparedStatementCache statementCache =
+					( (ResourceRegistryStandardImpl) jdbcCoordinator.getResourceRegistry() ).getStatementCache();
+
+			final PreparedStatement first = jdbcCoordinator.getStatementPreparer().prepareStatement( sql[0] );
+			jdbcCoordinator.getResourceRegistry().release( first );
+			assertSame( first, jdbcCoordinator.getStatementPreparer().prepareStatement( sql[0] ) );
+			jdbcCoordinator.getResourceRegistry().release( first );
+
+			// the cache is bounded, so preparing two more evicts (and closes) the least recently used
+			for ( int i = 1; i < sql.length; i++ ) {
+				jdbcCoordinator.getResourceRegistry().release(
+						jdbcCoordinator.getStatementPreparer().prepareStatement( sql[i] )
+				);
+			}
+			assertEquals( 2, statementCache.size() );
+			try {
+				assertTrue( first.isClosed() );
+			}
+			catch (SQLException e) {
+				throw new RuntimeException( e );
+			}
+			assertNotSame( first, jdbcCoordinator.getStatementPreparer().prepareStatement( sql[0] ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final PreparedStatementCache statementCache =
+					( (ResourceRegistryStandardImpl) ( (SessionImplementor) session ).getJdbcCoordinator().getResourceRegistry() ).getStatementCache();
+			assertEquals( 0, statementCache.size() );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
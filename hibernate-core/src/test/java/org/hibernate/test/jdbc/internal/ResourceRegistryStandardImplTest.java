@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.hibernate.HibernateException;
+import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for the bookkeeping of {@link ResourceRegistryStandardImpl}.
+ */
+public class ResourceRegistryStandardImplTest extends BaseUnitTestCase {
+
+	@Test
+	public void testStatementIsReleasedWithItsLastResultSet() throws Exception {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement statement = mock( Statement.class );
+		final ResultSet first = mock( ResultSet.class );
+		final ResultSet second = mock( ResultSet.class );
+
+		registry.register( statement, false );
+		registry.register( first, statement );
+		registry.register( second, statement );
+		registry.register( second, statement );
+
+		registry.release( first, statement );
+		assertTrue( registry.hasRegisteredResources() );
+		registry.release( second, statement );
+		assertFalse( registry.hasRegisteredResources() );
+
+		verify( first ).close();
+		verify( second ).close();
+		verify( statement, never() ).close();
+	}
+
+	@Test
+	public void testManyStatements() throws Exception {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement[] statements = new Statement[10];
+		final ResultSet[] resultSets = new ResultSet[statements.length];
+		for ( int i = 0; i < statements.length; i++ ) {
+			statements[i] = mock( Statement.class );
+			resultSets[i] = mock( ResultSet.class );
+			registry.register( statements[i], false );
+			registry.register( resultSets[i], statements[i] );
+		}
+
+		try {
+			registry.register( statements[7], false );
+			fail( "Expecting the statement to be already registered" );
+		}
+		catch (HibernateException expected) {
+		}
+
+		registry.release( statements[2] );
+		verify( resultSets[2] ).close();
+		verify( statements[2] ).close();
+
+		registry.releaseResources();
+		assertFalse( registry.hasRegisteredResources() );
+		for ( int i = 0; i < statements.length; i++ ) {
+			verify( resultSets[i] ).close();
+			verify( statements[i] ).close();
+		}
+	}
+
+	@Test
+	public void testUnassociatedResultSets() throws Exception {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final ResultSet resultSet = mock( ResultSet.class );
+
+		registry.register( resultSet, null );
+		assertTrue( registry.hasRegisteredResources() );
+		registry.releaseResources();
+		assertFalse( registry.hasRegisteredResources() );
+		verify( resultSet ).close();
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc.internal;
+
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SlowQueryLogger;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link SlowQueryLogger}, enabled through {@link AvailableSettings#LOG_SLOW_QUERY}.
+ */
+@RequiresDialect(H2Dialect.class)
+public class SlowQueryLoggerTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.LOG_SLOW_QUERY, "50" );
+		cfg.setProperty( AvailableSettings.LOG_SLOW_QUERY_EXPLAIN_COUNT, "1" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testSlowQueriesAreAggregated() {
+		final SlowQueryLogger slowQueryLogger = sessionFactory().getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getSlowQueryLogger();
+		assertNotNull( slowQueryLogger );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.createNativeQuery( "create alias if not exists sleep for \"java.lang.Thread.sleep\"" ).executeUpdate();
+			session.persist( new Item( 1, "first" ) );
+			session.persist( new Item( 2, "second" ) );
+		} );
+		slowQueryLogger.clear();
+
+		try {
+			doInHibernate( this::sessionFactory, session -> {
+				for ( int i = 0; i < 2; i++ ) {
+					session.createQuery( "from Item i where i.name = :name and sleep(100) is null" )
+							.setParameter( "name", "first" )
+							.list();
+				}
+				session.createQuery( "from Item" ).list();
+			} );
+
+			final List<SlowQueryLogger.SlowQuery> slowQueries = slowQueryLogger.getSlowQueries();
+			assertEquals( 1, slowQueries.size() );
+			final SlowQueryLogger.SlowQuery slowQuery = slowQueries.get( 0 );
+			assertEquals( 2, slowQuery.getCount() );
+			assertTrue( slowQuery.getMaxExecutionTime() >= 100_000_000L );
+			assertNotNull( slowQuery.getQueryPlan() );
+		}
+		finally {
+			doInHibernate( this::sessionFactory, session -> {
+				session.createNativeQuery( "drop alias if exists sleep" ).executeUpdate();
+			} );
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.metamodel;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that entity persisters build their static loaders on first use when asked to.
+ */
+public class LazyPersisterLoadersTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.LAZY_PERSISTER_LOADERS, "true" );
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testLoadersAreBuiltOnFirstUse() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Product( 1, "Chair" ) );
+		} );
+		assertEquals( 0, statistics.getEntityLoaderCreationCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Product product = session.get( Product.class, 1 );
+			assertEquals( "Chair", product.name );
+		} );
+		// the LockMode.NONE loader
+		assertEquals( 1, statistics.getEntityLoaderCreationCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Chair", session.get( Product.class, 1 ).name );
+		} );
+		assertEquals( 1, statistics.getEntityLoaderCreationCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Product product = session.get( Product.class, 1, new LockOptions( LockMode.PESSIMISTIC_WRITE ) );
+			assertEquals( "Chair", product.name );
+		} );
+		// the LockMode.PESSIMISTIC_WRITE loader
+		assertEquals( 2, statistics.getEntityLoaderCreationCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Product product = (Product) session.merge( new Product( 1, "Table" ) );
+			assertEquals( "Table", product.name );
+		} );
+		// the merge loader
+		assertEquals( 3, statistics.getEntityLoaderCreationCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Product product = session.get( Product.class, 1 );
+			session.refresh( product );
+			assertEquals( "Table", product.name );
+		} );
+		// the refresh loader
+		assertEquals( 4, statistics.getEntityLoaderCreationCount() );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		Integer id;
+		String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,363 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.metamodel;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.ElementCollection;
+import javax.persistence.Embeddable;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+import javax.persistence.ManyToMany;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.OneToOne;
+import javax.persistence.OrderColumn;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that persisters post-instantiated concurrently are fully usable, with a model whose loaders join
+ * across hierarchies and collections: many-to-one, one-to-one, one-to-many, many-to-many, indexed and element
+ * collections, single table and joined inheritance.
+ */
+public class ParallelPersisterInitializationTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.PARALLEL_PERSISTER_INITIALIZATION, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] {
+				Owner.class,
+				Pet.class,
+				Dog.class,
+				Clinic.class,
+				Vet.class,
+				Visit.class,
+				Treatment.class,
+				Invoice.class,
+				Staff.class,
+				Nurse.class,
+				Receptionist.class
+		};
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testPersistersAreUsable() {
+		assertNotNull( sessionFactory().getMetamodel().entityPersister( Dog.class ) );
+		assertNotNull( sessionFactory().getMetamodel().collectionPersister( Owner.class.getName() + ".pets" ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Owner owner = new Owner( 1, "Jane" );
+			Pet cat = new Pet( 1, "Tom", owner );
+			Dog dog = new Dog( 2, "Rex", owner, true );
+			owner.pets.add( cat );
+			owner.pets.add( dog );
+			session.persist( owner );
+			session.persist( cat );
+			session.persist( dog );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Owner owner = session.get( Owner.class, 1 );
+			assertEquals( 2, owner.pets.size() );
+			Dog dog = session.get( Dog.class, 2 );
+			assertTrue( dog.barks );
+			assertEquals( "Jane", dog.owner.name );
+		} );
+	}
+
+	@Test
+	public void testAssociationsAcrossHierarchiesAreUsable() {
+		assertEquals( 11, sessionFactory().getMetamodel().entityPersisters().size() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Owner owner = new Owner( 10, "John" );
+			Dog dog = new Dog( 11, "Rex", owner, false );
+			owner.pets.add( dog );
+			Clinic clinic = new Clinic( 1, "Downtown", new Address( "Main Street", "Springfield" ) );
+			clinic.phones.add( "555-0100" );
+			clinic.phones.add( "555-0101" );
+			Vet vet = new Vet( 1, "Dr. Smith", clinic );
+			vet.patients.add( dog );
+			clinic.vets.add( vet );
+			Nurse nurse = new Nurse( 1, "Ann", clinic, "night" );
+			Receptionist receptionist = new Receptionist( 2, "Bob", clinic, 3 );
+			Visit visit = new Visit( 1, dog, vet, clinic );
+			visit.treatments.add( new Treatment( 1, "Vaccine", visit ) );
+			visit.treatments.add( new Treatment( 2, "Check-up", visit ) );
+			Invoice invoice = new Invoice( 1, 120, visit );
+			visit.invoice = invoice;
+
+			session.persist( owner );
+			session.persist( dog );
+			session.persist( clinic );
+			session.persist( vet );
+			session.persist( nurse );
+			session.persist( receptionist );
+			session.persist( visit );
+			visit.treatments.forEach( session::persist );
+			session.persist( invoice );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Visit visit = session.get( Visit.class, 1 );
+			assertEquals( "Rex", visit.pet.name );
+			assertEquals( "John", visit.pet.owner.name );
+			assertEquals( "Dr. Smith", visit.vet.name );
+			assertEquals( "Springfield", visit.clinic.address.city );
+			assertEquals( 2, visit.clinic.phones.size() );
+			assertEquals( "Check-up", visit.treatments.get( 1 ).name );
+			assertEquals( 120, visit.invoice.amount );
+			assertEquals( 1, visit.vet.patients.size() );
+			assertEquals( 1, visit.clinic.vets.size() );
+
+			List<Staff> staff = session.createQuery( "from Staff s where s.clinic.name = 'Downtown' order by s.id", Staff.class )
+					.list();
+			assertEquals( 2, staff.size() );
+			assertEquals( "night", ( (Nurse) staff.get( 0 ) ).shift );
+			assertEquals( 3, ( (Receptionist) staff.get( 1 ) ).desk );
+
+			Invoice invoice = session.get( Invoice.class, 1 );
+			assertEquals( 2, invoice.visit.treatments.size() );
+		} );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "owner")
+		Set<Pet> pets = new HashSet<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	public static class Pet {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Pet {
+		boolean barks;
+
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name, Owner owner, boolean barks) {
+			super( id, name, owner );
+			this.barks = barks;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		String street;
+		String city;
+
+		public Address() {
+		}
+
+		public Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+	}
+
+	@Entity(name = "Clinic")
+	public static class Clinic {
+		@Id
+		Integer id;
+		String name;
+		Address address;
+		@ElementCollection
+		Set<String> phones = new HashSet<>();
+		@OneToMany(mappedBy = "clinic")
+		Set<Vet> vets = new HashSet<>();
+
+		public Clinic() {
+		}
+
+		public Clinic(Integer id, String name, Address address) {
+			this.id = id;
+			this.name = name;
+			this.address = address;
+		}
+	}
+
+	@Entity(name = "Vet")
+	public static class Vet {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Clinic clinic;
+		@ManyToMany
+		Set<Pet> patients = new HashSet<>();
+
+		public Vet() {
+		}
+
+		public Vet(Integer id, String name, Clinic clinic) {
+			this.id = id;
+			this.name = name;
+			this.clinic = clinic;
+		}
+	}
+
+	@Entity(name = "Visit")
+	public static class Visit {
+		@Id
+		Integer id;
+		@ManyToOne
+		Pet pet;
+		@ManyToOne
+		Vet vet;
+		@ManyToOne
+		Clinic clinic;
+		@OneToMany(mappedBy = "visit")
+		@OrderColumn
+		List<Treatment> treatments = new ArrayList<>();
+		@OneToOne(mappedBy = "visit")
+		Invoice invoice;
+
+		public Visit() {
+		}
+
+		public Visit(Integer id, Pet pet, Vet vet, Clinic clinic) {
+			this.id = id;
+			this.pet = pet;
+			this.vet = vet;
+			this.clinic = clinic;
+		}
+	}
+
+	@Entity(name = "Treatment")
+	public static class Treatment {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Visit visit;
+
+		public Treatment() {
+		}
+
+		public Treatment(Integer id, String name, Visit visit) {
+			this.id = id;
+			this.name = name;
+			this.visit = visit;
+		}
+	}
+
+	@Entity(name = "Invoice")
+	public static class Invoice {
+		@Id
+		Integer id;
+		int amount;
+		@OneToOne
+		Visit visit;
+
+		public Invoice() {
+		}
+
+		public Invoice(Integer id, int amount, Visit visit) {
+			this.id = id;
+			this.amount = amount;
+			this.visit = visit;
+		}
+	}
+
+	@Entity(name = "Staff")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Staff {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Clinic clinic;
+
+		public Staff() {
+		}
+
+		public Staff(Integer id, String name, Clinic clinic) {
+			this.id = id;
+			this.name = name;
+			this.clinic = clinic;
+		}
+	}
+
+	@Entity(name = "Nurse")
+	public static class Nurse extends Staff {
+		String shift;
+
+		public Nurse() {
+		}
+
+		public Nurse(Integer id, String name, Clinic clinic, String shift) {
+			super( id, name, clinic );
+			this.shift = shift;
+		}
+	}
+
+	@Entity(name = "Receptionist")
+	public static class Receptionist extends Staff {
+		int desk;
+
+		public Receptionist() {
+		}
+
+		public Receptionist(Integer id, String name, Clinic clinic, int desk) {
+			super( id, name, clinic );
+			this.desk = desk;
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.ops;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests {@link org.hibernate.Session#mergeAll}, which loads the persistent instances of the merged detached
+ * instances in batches.
+ */
+public class MergeAllTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class, Shelf.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void createData() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				session.persist( new Product( i, "product " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testMergeAll() {
+		final List<Product> detached = new ArrayList<>();
+		for ( long i = 1; i <= 5; i++ ) {
+			detached.add( new Product( i, "renamed " + i ) );
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			sessionFactory().getStatistics().clear();
+			final List<Product> merged = session.mergeAll( detached );
+
+			assertEquals( 1, sessionFactory().getStatistics().getPrepareStatementCount() );
+			assertEquals( 5, merged.size() );
+			for ( int i = 0; i < 5; i++ ) {
+				assertEquals( detached.get( i ).id, merged.get( i ).id );
+				assertTrue( session.contains( merged.get( i ) ) );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				assertEquals( "renamed " + i, session.get( Product.class, i ).name );
+			}
+		} );
+	}
+
+	@Test
+	public void testMergeAllWithManagedAndTransientInstances() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Product managed = session.get( Product.class, 1L );
+			final Product transientProduct = new Product( 6L, "product 6" );
+			final Product detached = new Product( 2L, "renamed 2" );
+
+			final List<Product> merged = session.mergeAll( Arrays.asList( managed, transientProduct, detached ) );
+
+			assertSame( managed, merged.get( 0 ) );
+			assertEquals( "product 6", merged.get( 1 ).name );
+			assertTrue( session.contains( merged.get( 1 ) ) );
+			assertEquals( "renamed 2", merged.get( 2 ).name );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 6, session.createQuery( "from Product" ).list().size() );
+			assertEquals( "renamed 2", session.get( Product.class, 2L ).name );
+		} );
+	}
+
+	@Test
+	public void testMergeAllWithEmbeddedCompositeIdentifiers() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Shelf( "A", 1, 10 ) );
+			session.persist( new Shelf( "A", 2, 20 ) );
+		} );
+
+		final List<Shelf> detached = Arrays.asList( new Shelf( "A", 1, 15 ), new Shelf( "A", 2, 25 ) );
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Shelf> merged = session.mergeAll( detached );
+
+			for ( int i = 0; i < 2; i++ ) {
+				assertFalse( session.contains( detached.get( i ) ) );
+				assertTrue( session.contains( merged.get( i ) ) );
+				assertEquals( detached.get( i ).capacity, merged.get( i ).capacity );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 15, session.get( Shelf.class, new Shelf( "A", 1, 0 ) ).capacity );
+			assertEquals( 25, session.get( Shelf.class, new Shelf( "A", 2, 0 ) ).capacity );
+		} );
+	}
+
+	@Test
+	public void testMergeAllOfUnknownEntity() {
+		doInHibernate( this::sessionFactory, session -> {
+			try {
+				session.mergeAll( Arrays.asList( "not an entity", "nor this" ) );
+				fail( "Merging instances of an unknown entity should fail" );
+			}
+			catch (IllegalArgumentException expected) {
+			}
+		} );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Shelf")
+	public static class Shelf implements Serializable {
+		@Id
+		private String aisle;
+
+		@Id
+		private int position;
+
+		private int capacity;
+
+		public Shelf() {
+		}
+
+		public Shelf(String aisle, int position, int capacity) {
+			this.aisle = aisle;
+			this.position = position;
+			this.capacity = capacity;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof Shelf ) ) {
+				return false;
+			}
+			final Shelf shelf = (Shelf) o;
+			return position == shelf.position && Objects.equals( aisle, shelf.aisle );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( aisle, position );
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.proxy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyFactory;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that proxy classes generated at build time by {@link ByteBuddyProxyFactory#buildPregeneratedProxy}
+ * are picked up at runtime instead of generating the proxy class again.
+ */
+public class PregeneratedProxyTest extends BaseUnitTestCase {
+
+	@Test
+	public void testPregeneratedProxyIsUsed() throws Exception {
+		final byte[] proxyBytes = ByteBuddyProxyFactory.buildPregeneratedProxy( Book.class );
+		final IsolatingClassLoader classLoader = new IsolatingClassLoader( proxyBytes );
+		final Class entityClass = classLoader.loadClass( Book.class.getName() );
+		assertSame( classLoader, entityClass.getClassLoader() );
+
+		final Class proxyClass = ByteBuddyProxyFactory.buildProxy( entityClass, new Class[] { HibernateProxy.class } );
+
+		assertEquals( ByteBuddyProxyFactory.getPregeneratedProxyClassName( entityClass ), proxyClass.getName() );
+		assertSame( classLoader, proxyClass.getClassLoader() );
+		assertSame( entityClass, proxyClass.getSuperclass() );
+		assertTrue( classLoader.proxyDefined );
+	}
+
+	@Test
+	public void testProxyIsGeneratedWithoutPregeneratedClass() throws Exception {
+		final IsolatingClassLoader classLoader = new IsolatingClassLoader( null );
+		final Class entityClass = classLoader.loadClass( Book.class.getName() );
+
+		final Class proxyClass = ByteBuddyProxyFactory.buildProxy( entityClass, new Class[] { HibernateProxy.class } );
+
+		assertNotEquals( ByteBuddyProxyFactory.getPregeneratedProxyClassName( entityClass ), proxyClass.getName() );
+		assertSame( entityClass, proxyClass.getSuperclass() );
+	}
+
+	/**
+	 * Defines its own copy of {@link Book}, so that the proxy class cache does not hold a proxy for it yet,
+	 * along with the pre-generated proxy class if any.
+	 */
+	private static class IsolatingClassLoader extends ClassLoader {
+		private final byte[] proxyBytes;
+		private boolean proxyDefined;
+
+		private IsolatingClassLoader(byte[] proxyBytes) {
+			super( PregeneratedProxyTest.class.getClassLoader() );
+			this.proxyBytes = proxyBytes;
+		}
+
+		@Override
+		protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			Class<?> loaded = findLoadedClass( name );
+			if ( loaded == null ) {
+				if ( name.equals( Book.class.getName() ) ) {
+					final byte[] bytes = readClass( name );
+					loaded = defineClass( name, bytes, 0, bytes.length );
+				}
+				else if ( name.equals( ByteBuddyProxyFactory.getPregeneratedProxyClassName( Book.class ) ) ) {
+					if ( proxyBytes == null ) {
+						throw new ClassNotFoundException( name );
+					}
+					loaded = defineClass( name, proxyBytes, 0, proxyBytes.length );
+					proxyDefined = true;
+				}
+				else {
+					return super.loadClass( name, resolve );
+				}
+			}
+			if ( resolve ) {
+				resolveClass( loaded );
+			}
+			return loaded;
+		}
+
+		private byte[] readClass(String name) throws ClassNotFoundException {
+			try (InputStream stream = getParent().getResourceAsStream( name.replace( '.', '/' ) + ".class" )) {
+				final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				final byte[] buffer = new byte[4096];
+				int read;
+				while ( ( read = stream.read( buffer ) ) != -1 ) {
+					bytes.write( buffer, 0, read );
+				}
+				return bytes.toByteArray();
+			}
+			catch (IOException e) {
+				throw new ClassNotFoundException( name, e );
+			}
+		}
+	}
+
+	public static class Book {
+		private Long id;
+
+		public Book() {
+		}
+
+		public Long getId() {
+			return id;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stateless;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the write queue of the StatelessSession, which executes the interleaved writes of different entities as
+ * one JDBC batch per entity.
+ */
+public class StatelessWriteQueueTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.ORDER_INSERTS, "true" );
+		settings.put( AvailableSettings.ORDER_UPDATES, "true" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.STATELESS_WRITE_QUEUE_SIZE, "100" );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testInterleavedWrites() throws SQLException {
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			final Transaction transaction = session.beginTransaction();
+			connectionProvider.clear();
+			for ( long i = 1; i <= 5; i++ ) {
+				final Author author = new Author( i, "author " + i );
+				session.insert( author );
+				session.insert( new Book( i, "book " + i, author ) );
+			}
+			transaction.commit();
+		}
+
+		List<PreparedStatement> authorPreparedStatements = connectionProvider.getPreparedStatements(
+				"insert into Author (name, id) values (?, ?)" );
+		assertEquals( 1, authorPreparedStatements.size() );
+		verify( authorPreparedStatements.get( 0 ), times( 5 ) ).addBatch();
+
+		List<PreparedStatement> bookPreparedStatements = connectionProvider.getPreparedStatements(
+				"insert into Book (author_id, title, id) values (?, ?, ?)" );
+		assertEquals( 1, bookPreparedStatements.size() );
+		verify( bookPreparedStatements.get( 0 ), times( 5 ) ).addBatch();
+
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			final Transaction transaction = session.beginTransaction();
+			connectionProvider.clear();
+			// a read executes the queued writes
+			final List<Author> authors = session.createQuery( "from Author" ).list();
+			for ( Author author : authors ) {
+				author.name = "renamed " + author.id;
+				session.update( author );
+				session.update( new Book( author.id, "renamed " + author.id, author ) );
+			}
+			transaction.commit();
+		}
+
+		assertEquals( 1, connectionProvider.getPreparedStatements( "update Author set name=? where id=?" ).size() );
+		assertEquals(
+				1,
+				connectionProvider.getPreparedStatements( "update Book set author_id=?, title=? where id=?" ).size()
+		);
+	}
+
+	@Test
+	public void testQueuedWritesAreExecutedBeforeQueries() {
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			final Transaction transaction = session.beginTransaction();
+			session.insert( new Author( 1L, "author" ) );
+			assertEquals( 1, session.createQuery( "from Author" ).list().size() );
+
+			session.delete( new Author( 1L, "author" ) );
+			session.flush();
+			assertEquals( 0, session.createQuery( "from Author" ).list().size() );
+			transaction.commit();
+		}
+	}
+
+	@Test
+	public void testQueuedWritesAreExecutedBeforeLoadingAssociations() {
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			final Transaction transaction = session.beginTransaction();
+			final Author author = new Author( 1L, "author" );
+			session.insert( author );
+			session.insert( new Book( 1L, "book", author ) );
+			session.flush();
+
+			session.update( new Author( 1L, "renamed" ) );
+			// the author of the book is loaded by a select of its own
+			final Book book = (Book) session.createQuery( "from Book" ).uniqueResult();
+			assertEquals( "renamed", book.author.name );
+			transaction.commit();
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
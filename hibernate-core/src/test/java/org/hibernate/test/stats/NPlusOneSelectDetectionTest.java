@@ -0,0 +1,188 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for the N+1 select detection, enabled through {@link AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD}.
+ */
+public class NPlusOneSelectDetectionTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		cfg.setProperty( AvailableSettings.N_PLUS_ONE_SELECT_THRESHOLD, "3" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Department.class, Employee.class, Project.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void createData() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 5; i++ ) {
+				final Department department = new Department( i );
+				session.persist( department );
+				final Project project = new Project( i );
+				session.persist( project );
+				session.persist( new Employee( i, department, project ) );
+			}
+		} );
+		sessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testLazyToOneInLoop() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Employee employee : session.createQuery( "from Employee", Employee.class ).list() ) {
+				// initializes the proxy, then the collection
+				employee.department.getEmployees().size();
+			}
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertEquals( 2, statistics.getNPlusOneSelectCount() );
+		assertEquals( 1, statistics.getEntityStatistics( Department.class.getName() ).getNPlusOneSelectCount() );
+		assertEquals(
+				1,
+				statistics.getCollectionStatistics( Department.class.getName() + ".employees" ).getNPlusOneSelectCount()
+		);
+	}
+
+	@Test
+	public void testJoinFetch() {
+		doInHibernate( this::sessionFactory, session -> {
+			final String query = "from Employee e join fetch e.department d join fetch d.employees";
+			for ( Employee employee : session.createQuery( query, Employee.class ).list() ) {
+				employee.department.getEmployees().size();
+			}
+		} );
+
+		assertEquals( 0, sessionFactory().getStatistics().getNPlusOneSelectCount() );
+	}
+
+	@Test
+	public void testBelowThreshold() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Employee employee : session.createQuery( "from Employee e where e.id < 2", Employee.class ).list() ) {
+				employee.department.getEmployees().size();
+			}
+		} );
+
+		assertEquals( 0, sessionFactory().getStatistics().getNPlusOneSelectCount() );
+	}
+
+	@Test
+	public void testBatchFetchedAssociationNotReported() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Employee employee : session.createQuery( "from Employee", Employee.class ).list() ) {
+				// initializes the proxy, then the collection, along with those of another employee
+				employee.project.getMembers().size();
+			}
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		// enough loads from the same call site to reach the threshold
+		assertEquals( 3, statistics.getEntityStatistics( Project.class.getName() ).getFetchCount() );
+		assertEquals( 3, statistics.getCollectionStatistics( Project.class.getName() + ".members" ).getFetchCount() );
+		assertEquals( 0, statistics.getNPlusOneSelectCount() );
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "department")
+		private Set<Employee> employees = new HashSet<>();
+
+		public Department() {
+		}
+
+		public Department(Integer id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Set<Employee> getEmployees() {
+			return employees;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Project project;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department, Project project) {
+			this.id = id;
+			this.department = department;
+			this.project = project;
+		}
+	}
+
+	@Entity(name = "Project")
+	@BatchSize(size = 2)
+	public static class Project {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "project")
+		@BatchSize(size = 2)
+		private Set<Employee> members = new HashSet<>();
+
+		public Project() {
+		}
+
+		public Project(Integer id) {
+			this.id = id;
+		}
+
+		public Set<Employee> getMembers() {
+			return members;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.hibernate.stat.spi.StatisticsReporter;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the query plan cache, loader query and distribution statistics of {@link QueryStatistics}.
+ */
+public class QueryStatisticsTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		cfg.getProperties().put( AvailableSettings.STATISTICS_REPORTER, new CollectingStatisticsReporter() );
+		cfg.setProperty( AvailableSettings.STATISTICS_REPORT_INTERVAL, "0" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void createData() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+		sessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testHqlQuery() {
+		final String query = "from Item i where i.id < :id";
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( query ).setParameter( "id", 1 ).list();
+			session.createQuery( query ).setParameter( "id", 3 ).list();
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( query );
+		assertEquals( 2, queryStatistics.getExecutionCount() );
+		assertEquals( 3, queryStatistics.getExecutionRowCountPercentile( 100 ) );
+		assertEquals( 1, queryStatistics.getExecutionRowCountPercentile( 50 ) );
+		assertTrue( queryStatistics.getExecutionTimePercentile( 99 ) <= queryStatistics.getExecutionMaxTime() );
+
+		// the plan may have been cached by another test
+		assertTrue( queryStatistics.getPlanCacheMissCount() <= 1 );
+		assertTrue( queryStatistics.getPlanCacheHitCount() >= 1 );
+		assertEquals(
+				statistics.getQueryPlanCacheHitCount() + statistics.getQueryPlanCacheMissCount(),
+				queryStatistics.getPlanCacheHitCount() + queryStatistics.getPlanCacheMissCount()
+		);
+	}
+
+	@Test
+	public void testLoaderQuery() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Item.class, 1 );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertEquals( 0, statistics.getQueries().length );
+		assertEquals( 1, statistics.getLoaderQueries().length );
+		final QueryStatistics queryStatistics = statistics.getLoaderQueryStatistics( statistics.getLoaderQueries()[0] );
+		assertEquals( 1, queryStatistics.getExecutionCount() );
+		assertEquals( 1, queryStatistics.getExecutionRowCount() );
+	}
+
+	@Test
+	public void testReporterIsCalledOnClose() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "from Item" ).list();
+		} );
+		final CollectingStatisticsReporter reporter = (CollectingStatisticsReporter) sessionFactory().getProperties()
+				.get( AvailableSettings.STATISTICS_REPORTER );
+
+		// closing the SessionFactory triggers the final report
+		rebuildSessionFactory();
+		assertEquals( 1, reporter.executionCounts.size() );
+		assertEquals( 1L, (long) reporter.executionCounts.get( 0 ) );
+	}
+
+	public static class CollectingStatisticsReporter implements StatisticsReporter {
+		private final List<Long> executionCounts = new ArrayList<>();
+
+		@Override
+		public void report(Statistics statistics) {
+			executionCounts.add( statistics.getQueryExecutionCount() );
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
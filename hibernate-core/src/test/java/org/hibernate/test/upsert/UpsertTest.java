@@ -0,0 +1,185 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.upsert;
+
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.EntityExistsException;
+import javax.persistence.Id;
+import javax.persistence.PersistenceException;
+import javax.persistence.Version;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the upserts of {@link org.hibernate.Session} and {@link StatelessSession}, which insert or update a row
+ * with a single statement.
+ */
+@RequiresDialectFeature(DialectChecks.SupportsUpsert.class)
+public class UpsertTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Measurement.class, Gauge.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testSessionUpsert() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Measurement( 1L, 10 ) );
+		} );
+
+		sessionFactory().getStatistics().clear();
+		doInHibernate( this::sessionFactory, session -> {
+			session.upsert( new Measurement( 1L, 11 ) );
+			session.upsert( new Measurement( 2L, 20 ) );
+		} );
+		assertEquals( 0, sessionFactory().getStatistics().getEntityLoadCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 11, session.get( Measurement.class, 1L ).reading );
+			assertEquals( 20, session.get( Measurement.class, 2L ).reading );
+		} );
+	}
+
+	@Test
+	public void testSessionUpsertIsFlushedBeforeQueries() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.upsert( new Measurement( 1L, 10 ) );
+			final Long count = session.createQuery( "select count(m) from Measurement m", Long.class )
+					.getSingleResult();
+			assertEquals( 1L, count.longValue() );
+		} );
+	}
+
+	@Test
+	public void testSessionUpsertEvictsTheCachedEntity() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Measurement( 1L, 10 ) );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Measurement.class, 1L );
+		} );
+		assertTrue( sessionFactory().getCache().containsEntity( Measurement.class, 1L ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.upsert( new Measurement( 1L, 11 ) );
+		} );
+		assertFalse( sessionFactory().getCache().containsEntity( Measurement.class, 1L ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 11, session.get( Measurement.class, 1L ).reading );
+		} );
+	}
+
+	@Test
+	public void testUpsertOfVersionedEntityIsRejected() {
+		doInHibernate( this::sessionFactory, session -> {
+			try {
+				session.upsert( new Gauge( 1L ) );
+				fail( "The version of the existing row would not be checked" );
+			}
+			catch (PersistenceException expected) {
+			}
+		} );
+	}
+
+	@Test
+	public void testSessionUpsertOfManagedIdentifier() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Measurement( 1L, 10 ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Measurement.class, 1L );
+			try {
+				session.upsert( new Measurement( 1L, 11 ) );
+				fail( "An instance with the same identifier is associated with the session" );
+			}
+			catch (EntityExistsException expected) {
+			}
+		} );
+	}
+
+	@Test
+	public void testStatelessSessionUpsert() {
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			final Transaction transaction = session.beginTransaction();
+			session.insert( new Measurement( 1L, 10 ) );
+			session.upsert( new Measurement( 1L, 12 ) );
+			session.upsert( new Measurement( 3L, 30 ) );
+			transaction.commit();
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 12, session.get( Measurement.class, 1L ).reading );
+			assertEquals( 30, session.get( Measurement.class, 3L ).reading );
+		} );
+	}
+
+	@Entity(name = "Measurement")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Measurement {
+		@Id
+		private Long id;
+
+		private int reading;
+
+		public Measurement() {
+		}
+
+		public Measurement(Long id, int reading) {
+			this.id = id;
+			this.reading = reading;
+		}
+	}
+
+	@Entity(name = "Gauge")
+	public static class Gauge {
+		@Id
+		private Long id;
+
+		@Version
+		private int version;
+
+		public Gauge() {
+		}
+
+		public Gauge(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -229,4 +229,16 @@ abstract public class DialectChecks {
 			return dialect.supportsSkipLocked();
 		}
 	}
+
+	public static class SupportsUpsert implements DialectCheck {
+		public boolean isMatch(Dialect dialect) {
+			return dialect.supportsUpsert();
+		}
+	}
+
+	public static class SupportsMultiRowInsert implements DialectCheck {
+		public boolean isMatch(Dialect dialect) {
+			return dialect.supportsMultiRowInsert();
+		}
+	}
 }
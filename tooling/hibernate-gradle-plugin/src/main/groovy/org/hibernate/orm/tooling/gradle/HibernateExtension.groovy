@@ -30,6 +30,19 @@ class HibernateExtension {
 	 */
 	protected EnhanceExtension enhance
 
+	/**
+	 * Whether to generate the ByteBuddy proxy classes of the entities at build time, so that
+	 * they do not need to be generated when the SessionFactory is built.  Default is false.
+	 */
+	def boolean pregenerateProxies = false
+
+	/**
+	 * Whether to write an index of the entities, embeddables, mapped superclasses and converters
+	 * into the compiled classes, so that JPA archive scanning does not need to read every class
+	 * file when the SessionFactory is built.  Default is false.
+	 */
+	def boolean generateScanIndex = false
+
 	HibernateExtension(Project project) {
 		this.project = project
 		this.sourceSet( project.getConvention().getPlugin( JavaPluginConvention ).sourceSets.main )
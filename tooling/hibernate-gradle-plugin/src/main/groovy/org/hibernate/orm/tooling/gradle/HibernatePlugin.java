@@ -12,11 +12,16 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.lang.reflect.Modifier;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.List;
+import javax.persistence.Converter;
+import javax.persistence.Embeddable;
+import javax.persistence.Entity;
+import javax.persistence.MappedSuperclass;
 
 import org.gradle.api.Action;
 import org.gradle.api.GradleException;
@@ -29,12 +34,16 @@ import org.gradle.api.logging.Logger;
 import org.gradle.api.logging.Logging;
 import org.gradle.api.tasks.SourceSet;
 
+import org.hibernate.annotations.Proxy;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanIndex;
 import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
 import org.hibernate.cfg.Environment;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyFactory;
 
 /**
  * The Hibernate Gradle plugin.  Adds Hibernate build-time capabilities into your Gradle-based build.
@@ -61,6 +70,12 @@ public class HibernatePlugin implements Plugin<Project> {
 						if ( hibernateExtension.enhance != null ) {
 							applyEnhancement( project, hibernateExtension );
 						}
+						if ( hibernateExtension.pregenerateProxies ) {
+							applyProxyPregeneration( project, hibernateExtension );
+						}
+						if ( hibernateExtension.generateScanIndex ) {
+							applyScanIndexGeneration( project, hibernateExtension );
+						}
 					}
 				}
 		);
@@ -143,6 +158,150 @@ public class HibernatePlugin implements Plugin<Project> {
 		}
 	}
 
+	private void applyProxyPregeneration(final Project project, final HibernateExtension hibernateExtension) {
+		for ( final SourceSet sourceSet : hibernateExtension.getSourceSets() ) {
+			project.getLogger().debug( "Applying Hibernate proxy generation action to SourceSet.{}", sourceSet.getName() );
+
+			final Task compileTask = project.getTasks().findByName( sourceSet.getCompileJavaTaskName() );
+			compileTask.doLast(
+					new Action<Task>() {
+						@Override
+						public void execute(Task task) {
+							project.getLogger().debug( "Starting Hibernate proxy generation on SourceSet.{}", sourceSet.getName() );
+
+							// built after enhancement (if any) so that proxies extend the enhanced classes
+							final ClassLoader classLoader = toClassLoader( sourceSet.getRuntimeClasspath() );
+							final File classesDir = sourceSet.getOutput().getClassesDir();
+
+							final FileTree fileTree = project.fileTree( classesDir );
+							for ( File file : fileTree ) {
+								if ( !file.getName().endsWith( ".class" )
+										|| file.getName().endsWith( ByteBuddyProxyFactory.PREGENERATED_PROXY_SUFFIX + ".class" ) ) {
+									continue;
+								}
+
+								final String className = toClassName( classesDir, file );
+								final Class<?> entityClass = loadClass( className, classLoader );
+								if ( !isProxyableEntity( entityClass ) ) {
+									continue;
+								}
+
+								final File proxyFile = new File(
+										classesDir,
+										ByteBuddyProxyFactory.getPregeneratedProxyClassName( entityClass )
+												.replace( '.', File.separatorChar ) + ".class"
+								);
+								writeOutFile( ByteBuddyProxyFactory.buildPregeneratedProxy( entityClass ), proxyFile );
+								logger.info( "Successfully generated proxy class [" + proxyFile + "]" );
+							}
+						}
+					}
+			);
+		}
+	}
+
+	private void applyScanIndexGeneration(final Project project, final HibernateExtension hibernateExtension) {
+		for ( final SourceSet sourceSet : hibernateExtension.getSourceSets() ) {
+			project.getLogger().debug( "Applying Hibernate scan index generation action to SourceSet.{}", sourceSet.getName() );
+
+			final Task compileTask = project.getTasks().findByName( sourceSet.getCompileJavaTaskName() );
+			compileTask.doLast(
+					new Action<Task>() {
+						@Override
+						public void execute(Task task) {
+							project.getLogger().debug( "Starting Hibernate scan index generation on SourceSet.{}", sourceSet.getName() );
+
+							final ClassLoader classLoader = toClassLoader( sourceSet.getRuntimeClasspath() );
+							final File classesDir = sourceSet.getOutput().getClassesDir();
+
+							final ScanIndex scanIndex = new ScanIndex();
+							final FileTree fileTree = project.fileTree( classesDir );
+							for ( File file : fileTree ) {
+								if ( !file.getName().endsWith( ".class" ) || file.getName().equals( "package-info.class" ) ) {
+									continue;
+								}
+
+								final String className = toClassName( classesDir, file );
+								scanIndex.addClass(
+										className,
+										categorize( loadClass( className, classLoader ) ),
+										checksum( file ),
+										file.length(),
+										file.lastModified()
+								);
+							}
+
+							final File indexFile = new File( classesDir, ScanIndex.INDEX_RESOURCE_NAME );
+							if ( !indexFile.getParentFile().exists() && !indexFile.getParentFile().mkdirs() ) {
+								throw new GradleException( "Unable to create directory for scan index : " + indexFile.getParentFile() );
+							}
+							final ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+							try {
+								scanIndex.write( indexBytes );
+							}
+							catch (IOException e) {
+								throw new GradleException( "Unable to generate scan index : " + indexFile, e );
+							}
+							writeOutFile( indexBytes.toByteArray(), indexFile );
+							logger.info( "Successfully generated scan index [" + indexFile + "] : " + scanIndex.getIndexedClassesByName().size() + " classes" );
+						}
+					}
+			);
+		}
+	}
+
+	private long checksum(File file) {
+		try {
+			final FileInputStream inputStream = new FileInputStream( file );
+			try {
+				return ScanIndex.checksum( inputStream );
+			}
+			finally {
+				inputStream.close();
+			}
+		}
+		catch (IOException e) {
+			throw new GradleException( "Unable to read class file for scan index : " + file.getAbsolutePath(), e );
+		}
+	}
+
+	private ClassDescriptor.Categorization categorize(Class<?> javaClass) {
+		if ( javaClass.isAnnotationPresent( Entity.class )
+				|| javaClass.isAnnotationPresent( MappedSuperclass.class )
+				|| javaClass.isAnnotationPresent( Embeddable.class ) ) {
+			return ClassDescriptor.Categorization.MODEL;
+		}
+		if ( javaClass.isAnnotationPresent( Converter.class ) ) {
+			return ClassDescriptor.Categorization.CONVERTER;
+		}
+		return ClassDescriptor.Categorization.OTHER;
+	}
+
+	private Class<?> loadClass(String className, ClassLoader classLoader) {
+		try {
+			return classLoader.loadClass( className );
+		}
+		catch (ClassNotFoundException e) {
+			throw new GradleException( "Unable to load class for proxy generation : " + className, e );
+		}
+	}
+
+	private boolean isProxyableEntity(Class<?> javaClass) {
+		if ( !javaClass.isAnnotationPresent( Entity.class ) || Modifier.isFinal( javaClass.getModifiers() ) ) {
+			return false;
+		}
+		final Proxy proxy = javaClass.getAnnotation( Proxy.class );
+		// custom proxy interfaces change the shape of the proxy; these are still generated at runtime
+		return proxy == null || ( proxy.lazy() && proxy.proxyClass() == void.class );
+	}
+
+	private String toClassName(File root, File javaClassFile) {
+		return javaClassFile.getAbsolutePath().substring(
+				root.getAbsolutePath().length() + 1,
+				javaClassFile.getAbsolutePath().length() - ".class".length()
+		).replace( File.separatorChar, '.' );
+	}
+
 	private ClassLoader toClassLoader(FileCollection runtimeClasspath) {
 		List<URL> urls = new ArrayList<URL>();
 		for ( File file : runtimeClasspath ) {
@@ -159,10 +318,7 @@ public class HibernatePlugin implements Plugin<Project> {
 
 	private byte[] doEnhancement(File root, File javaClassFile, Enhancer enhancer) {
 		try {
-			String className = javaClassFile.getAbsolutePath().substring(
-					root.getAbsolutePath().length() + 1,
-					javaClassFile.getAbsolutePath().length() - ".class".length()
-			).replace( File.separatorChar, '.' );
+			String className = toClassName( root, javaClassFile );
 			ByteArrayOutputStream originalBytes = new ByteArrayOutputStream();
 			FileInputStream fileInputStream = new FileInputStream( javaClassFile );
 			try {
@@ -182,29 +338,15 @@ public class HibernatePlugin implements Plugin<Project> {
 		}
 	}
 
-	private void writeOutEnhancedClass(byte[] enhancedBytecode, File file) {
-		try {
-			if ( file.delete() ) {
-				if ( !file.createNewFile() ) {
-					logger.error( "Unable to recreate class file [" + file.getName() + "]" );
-				}
-			}
-			else {
-				logger.error( "Unable to delete class file [" + file.getName() + "]" );
-			}
-		}
-		catch (IOException e) {
-			logger.warn( "Problem preparing class file for writing out enhancements [" + file.getName() + "]" );
-		}
-
+	private void writeOutFile(byte[] bytes, File file) {
 		try {
 			FileOutputStream outputStream = new FileOutputStream( file, false );
 			try {
-				outputStream.write( enhancedBytecode );
+				outputStream.write( bytes );
 				outputStream.flush();
 			}
 			catch (IOException e) {
-				throw new GradleException( "Error writing to enhanced class [" + file.getName() + "] to file [" + file.getAbsolutePath() + "]", e );
+				throw new GradleException( "Error writing [" + file.getName() + "] to file [" + file.getAbsolutePath() + "]", e );
 			}
 			finally {
 				try {
@@ -215,9 +357,26 @@ public class HibernatePlugin implements Plugin<Project> {
 			}
 		}
 		catch (FileNotFoundException e) {
-			throw new GradleException( "Error opening class file for writing : " + file.getAbsolutePath(), e );
+			throw new GradleException( "Error opening file for writing : " + file.getAbsolutePath(), e );
+		}
+	}
+
+	private void writeOutEnhancedClass(byte[] enhancedBytecode, File file) {
+		try {
+			if ( file.delete() ) {
+				if ( !file.createNewFile() ) {
+					logger.error( "Unable to recreate class file [" + file.getName() + "]" );
+				}
+			}
+			else {
+				logger.error( "Unable to delete class file [" + file.getName() + "]" );
+			}
+		}
+		catch (IOException e) {
+			logger.warn( "Problem preparing class file for writing out enhancements [" + file.getName() + "]" );
 		}
 
+		writeOutFile( enhancedBytecode, file );
 	}
 
 }
@@ -10,7 +10,9 @@ import org.gradle.testfixtures.ProjectBuilder
 
 import org.junit.Test
 
+import static org.junit.Assert.assertFalse
 import static org.junit.Assert.assertNotNull
+import static org.junit.Assert.assertTrue
 /**
  * Test what we can.  ProjectBuilder is better than nothing, but still quited limited in what
  * you can test (e.g. you cannot test task execution).
@@ -38,4 +40,26 @@ class HibernatePluginTest {
 			enableExtendedEnhancement = false
 		}
 	}
+
+	@Test
+	public void testHibernateExtensionProxyConfig() {
+		Project project = ProjectBuilder.builder().build()
+		project.plugins.apply 'org.hibernate.orm'
+
+		HibernateExtension extension = project.extensions.findByType( HibernateExtension.class )
+		assertFalse( extension.pregenerateProxies )
+		extension.pregenerateProxies = true
+		assertTrue( extension.pregenerateProxies )
+	}
+
+	@Test
+	public void testHibernateExtensionScanIndexConfig() {
+		Project project = ProjectBuilder.builder().build()
+		project.plugins.apply 'org.hibernate.orm'
+
+		HibernateExtension extension = project.extensions.findByType( HibernateExtension.class )
+		assertFalse( extension.generateScanIndex )
+		extension.generateScanIndex = true
+		assertTrue( extension.generateScanIndex )
+	}
 }